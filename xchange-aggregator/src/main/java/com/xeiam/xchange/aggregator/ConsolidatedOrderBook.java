@@ -0,0 +1,119 @@
+package com.xeiam.xchange.aggregator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+
+/**
+ * <p>
+ * DTO representing the order books of several venues for one currency pair, merged into a single depth ladder:
+ * </p>
+ * <ul>
+ * <li>asks are sorted by ascending price, bids by descending price, and levels at the same price keep the order in which the venues were added</li>
+ * <li>each level is a {@link VenueLimitOrder} tagged with the venue it was quoted on</li>
+ * <li>only {@link VenueStatus.State#LIVE} venues contribute levels, the status of every polled venue is available from {@link #getVenueStatuses()}</li>
+ * </ul>
+ */
+public final class ConsolidatedOrderBook {
+
+  private final CurrencyPair currencyPair;
+  private final Date timeStamp;
+  private final List<VenueLimitOrder> asks;
+  private final List<VenueLimitOrder> bids;
+  private final Map<String, VenueStatus> venueStatuses;
+
+  /**
+   * Constructor
+   *
+   * @param currencyPair The currency pair of the book
+   * @param timeStamp The time the snapshot was completed
+   * @param asks The merged asks, sorted by ascending price
+   * @param bids The merged bids, sorted by descending price
+   * @param venueStatuses The status of each polled venue, keyed by venue
+   */
+  public ConsolidatedOrderBook(CurrencyPair currencyPair, Date timeStamp, List<VenueLimitOrder> asks, List<VenueLimitOrder> bids,
+      Map<String, VenueStatus> venueStatuses) {
+
+    this.currencyPair = currencyPair;
+    this.timeStamp = timeStamp;
+    this.asks = Collections.unmodifiableList(asks);
+    this.bids = Collections.unmodifiableList(bids);
+    this.venueStatuses = Collections.unmodifiableMap(venueStatuses);
+  }
+
+  public CurrencyPair getCurrencyPair() {
+
+    return currencyPair;
+  }
+
+  public Date getTimeStamp() {
+
+    return timeStamp;
+  }
+
+  public List<VenueLimitOrder> getAsks() {
+
+    return asks;
+  }
+
+  public List<VenueLimitOrder> getBids() {
+
+    return bids;
+  }
+
+  /**
+   * @return The lowest ask across all live venues, null if there is none
+   */
+  public VenueLimitOrder getBestAsk() {
+
+    return asks.isEmpty() ? null : asks.get(0);
+  }
+
+  /**
+   * @return The highest bid across all live venues, null if there is none
+   */
+  public VenueLimitOrder getBestBid() {
+
+    return bids.isEmpty() ? null : bids.get(0);
+  }
+
+  public Map<String, VenueStatus> getVenueStatuses() {
+
+    return venueStatuses;
+  }
+
+  /**
+   * @return The venues whose orders are missing from this snapshot
+   */
+  public List<String> getStaleVenues() {
+
+    List<String> staleVenues = new ArrayList<String>();
+    for (VenueStatus venueStatus : venueStatuses.values()) {
+      if (venueStatus.isStale()) {
+        staleVenues.add(venueStatus.getVenue());
+      }
+    }
+    return staleVenues;
+  }
+
+  /**
+   * @return The merged ladder as a plain {@link OrderBook}
+   */
+  public OrderBook toOrderBook() {
+
+    return new OrderBook(timeStamp, new ArrayList<LimitOrder>(asks), new ArrayList<LimitOrder>(bids));
+  }
+
+  @Override
+  public String toString() {
+
+    return "ConsolidatedOrderBook [currencyPair=" + currencyPair + ", timeStamp=" + timeStamp + ", bestAsk=" + getBestAsk() + ", bestBid="
+        + getBestBid() + ", venueStatuses=" + venueStatuses.values() + "]";
+  }
+}
@@ -0,0 +1,281 @@
+package com.xeiam.xchange.aggregator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.xeiam.xchange.Exchange;
+import com.xeiam.xchange.ExchangeFactory;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.meta.ExchangeMetaData;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.service.polling.marketdata.AsyncPollingMarketDataService;
+import com.xeiam.xchange.service.polling.marketdata.AsyncPollingMarketDataServiceAdapter;
+import com.xeiam.xchange.utils.Assert;
+
+/**
+ * <p>
+ * Polls the same currency pair on several exchanges to provide the following:
+ * </p>
+ * <ul>
+ * <li>Parallel requests through each exchange's {@link AsyncPollingMarketDataService}, so a snapshot takes as long as the slowest venue rather than
+ * the sum of all of them</li>
+ * <li>A deadline per venue: a venue that does not answer in time, or fails, is reported stale in the snapshot instead of holding it up</li>
+ * <li>A {@link ConsolidatedOrderBook} with the best bid and offer across venues and a merged depth ladder tagged by venue</li>
+ * </ul>
+ * <p>
+ * Venues whose meta data lists currency pairs are only polled for the pairs they list. The aggregator is thread safe.
+ * </p>
+ */
+public class MarketDataAggregator {
+
+  private final Logger logger = LoggerFactory.getLogger(MarketDataAggregator.class);
+
+  private final List<Venue> venues = new CopyOnWriteArrayList<Venue>();
+  private final ConcurrentMap<CurrencyPair, ConsolidatedOrderBook> latestOrderBooks = new ConcurrentHashMap<CurrencyPair, ConsolidatedOrderBook>();
+
+  private final long defaultTimeoutNanos;
+  private final ExecutorService executor;
+
+  /**
+   * Constructor, the venues are polled through {@link Exchange#getAsyncPollingMarketDataService()}
+   *
+   * @param defaultTimeout The deadline of venues added without one
+   * @param timeUnit The unit of defaultTimeout
+   */
+  public MarketDataAggregator(long defaultTimeout, TimeUnit timeUnit) {
+
+    this(defaultTimeout, timeUnit, null);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param defaultTimeout The deadline of venues added without one
+   * @param timeUnit The unit of defaultTimeout
+   * @param executor The executor running the blocking market data calls of all venues, null to use each exchange's
+   *        {@link Exchange#getAsyncPollingMarketDataService()}
+   */
+  public MarketDataAggregator(long defaultTimeout, TimeUnit timeUnit, ExecutorService executor) {
+
+    Assert.isTrue(defaultTimeout > 0, "defaultTimeout must be positive");
+    this.defaultTimeoutNanos = timeUnit.toNanos(defaultTimeout);
+    this.executor = executor;
+  }
+
+  /**
+   * Creates an exchange with {@link ExchangeFactory} and adds it with the default deadline
+   *
+   * @param exchangeClassName the fully-qualified class name of the exchange
+   * @return the created exchange
+   */
+  public Exchange addExchange(String exchangeClassName) {
+
+    Exchange exchange = ExchangeFactory.INSTANCE.createExchange(exchangeClassName);
+    addExchange(exchange);
+    return exchange;
+  }
+
+  /**
+   * Adds a venue with the default deadline
+   */
+  public void addExchange(Exchange exchange) {
+
+    addVenue(exchange, defaultTimeoutNanos);
+  }
+
+  /**
+   * Adds a venue with its own deadline, e.g. a longer one for an exchange known to be slow
+   */
+  public void addExchange(Exchange exchange, long timeout, TimeUnit timeUnit) {
+
+    Assert.isTrue(timeout > 0, "timeout must be positive");
+    addVenue(exchange, timeUnit.toNanos(timeout));
+  }
+
+  private synchronized void addVenue(Exchange exchange, long timeoutNanos) {
+
+    Assert.notNull(exchange, "exchange cannot be null");
+    String name = getVenueName(exchange);
+    for (Venue venue : venues) {
+      Assert.isTrue(!venue.name.equals(name), "Venue " + name + " was already added");
+    }
+
+    AsyncPollingMarketDataService marketDataService = executor == null ? exchange.getAsyncPollingMarketDataService()
+        : new AsyncPollingMarketDataServiceAdapter(exchange.getPollingMarketDataService(), executor);
+    Assert.notNull(marketDataService, "Venue " + name + " has no polling market data service");
+    venues.add(new Venue(name, exchange, marketDataService, timeoutNanos));
+  }
+
+  /**
+   * @return the names of the venues in the order they were added
+   */
+  public List<String> getVenues() {
+
+    List<String> names = new ArrayList<String>();
+    for (Venue venue : venues) {
+      names.add(venue.name);
+    }
+    return names;
+  }
+
+  /**
+   * Polls the order book of all venues listing the currency pair in parallel and merges them. Returns when every venue has answered or passed its
+   * deadline.
+   *
+   * @param currencyPair The currency pair
+   * @param args Optional arguments passed to every venue's getOrderBook
+   * @return The consolidated snapshot, which also becomes {@link #getLatestOrderBook(CurrencyPair)}
+   * @throws InterruptedException if the calling thread is interrupted while waiting for the venues
+   */
+  public ConsolidatedOrderBook getOrderBook(CurrencyPair currencyPair, Object... args) throws InterruptedException {
+
+    long start = System.nanoTime();
+
+    final List<Venue> polled = new ArrayList<Venue>();
+    List<Future<OrderBook>> futures = new ArrayList<Future<OrderBook>>();
+    for (Venue venue : venues) {
+      if (venue.lists(currencyPair)) {
+        polled.add(venue);
+        futures.add(venue.marketDataService.getOrderBook(currencyPair, args));
+      }
+    }
+
+    // wait in deadline order, so a venue is never given more time than its own deadline while a slower one is being waited for
+    Integer[] byDeadline = new Integer[polled.size()];
+    for (int i = 0; i < byDeadline.length; i++) {
+      byDeadline[i] = i;
+    }
+    Arrays.sort(byDeadline, new Comparator<Integer>() {
+
+      @Override
+      public int compare(Integer o1, Integer o2) {
+
+        long t1 = polled.get(o1).timeoutNanos;
+        long t2 = polled.get(o2).timeoutNanos;
+        return t1 < t2 ? -1 : (t1 == t2 ? 0 : 1);
+      }
+    });
+
+    OrderBook[] orderBooks = new OrderBook[polled.size()];
+    VenueStatus[] statuses = new VenueStatus[polled.size()];
+    try {
+      for (int i : byDeadline) {
+        Venue venue = polled.get(i);
+        Future<OrderBook> future = futures.get(i);
+        long remaining = start + venue.timeoutNanos - System.nanoTime();
+        try {
+          orderBooks[i] = future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+          venue.lastUpdates.put(currencyPair, new Date());
+          statuses[i] = venue.status(currencyPair, VenueStatus.State.LIVE, start, null);
+        } catch (TimeoutException e) {
+          future.cancel(true);
+          logger.debug("{} timed out polling the {} order book", venue.name, currencyPair);
+          statuses[i] = venue.status(currencyPair, VenueStatus.State.TIMED_OUT, start, null);
+        } catch (ExecutionException e) {
+          logger.debug("{} failed to poll the {} order book", venue.name, currencyPair, e.getCause());
+          statuses[i] = venue.status(currencyPair, VenueStatus.State.FAILED, start, e.getCause());
+        }
+      }
+    } catch (InterruptedException e) {
+      for (Future<OrderBook> future : futures) {
+        future.cancel(true);
+      }
+      throw e;
+    }
+
+    List<VenueLimitOrder> asks = new ArrayList<VenueLimitOrder>();
+    List<VenueLimitOrder> bids = new ArrayList<VenueLimitOrder>();
+    Map<String, VenueStatus> venueStatuses = new LinkedHashMap<String, VenueStatus>();
+    for (int i = 0; i < polled.size(); i++) {
+      String name = polled.get(i).name;
+      venueStatuses.put(name, statuses[i]);
+      if (orderBooks[i] != null) {
+        addAll(name, orderBooks[i].getAsks(), asks);
+        addAll(name, orderBooks[i].getBids(), bids);
+      }
+    }
+    // the sort is stable, so venues quoting the same price stay in the order they were added
+    Collections.sort(asks);
+    Collections.sort(bids);
+
+    ConsolidatedOrderBook consolidatedOrderBook = new ConsolidatedOrderBook(currencyPair, new Date(), asks, bids, venueStatuses);
+    latestOrderBooks.put(currencyPair, consolidatedOrderBook);
+    return consolidatedOrderBook;
+  }
+
+  /**
+   * @return The last snapshot returned by {@link #getOrderBook(CurrencyPair, Object...)} for the currency pair, null if none
+   */
+  public ConsolidatedOrderBook getLatestOrderBook(CurrencyPair currencyPair) {
+
+    return latestOrderBooks.get(currencyPair);
+  }
+
+  private static void addAll(String venue, List<LimitOrder> limitOrders, List<VenueLimitOrder> merged) {
+
+    if (limitOrders == null) {
+      return;
+    }
+    for (LimitOrder limitOrder : limitOrders) {
+      merged.add(new VenueLimitOrder(venue, limitOrder));
+    }
+  }
+
+  private static String getVenueName(Exchange exchange) {
+
+    if (exchange.getExchangeSpecification() != null && exchange.getExchangeSpecification().getExchangeName() != null) {
+      return exchange.getExchangeSpecification().getExchangeName();
+    }
+    return exchange.getClass().getSimpleName();
+  }
+
+  private static final class Venue {
+
+    private final String name;
+    private final Exchange exchange;
+    private final AsyncPollingMarketDataService marketDataService;
+    private final long timeoutNanos;
+    private final ConcurrentMap<CurrencyPair, Date> lastUpdates = new ConcurrentHashMap<CurrencyPair, Date>();
+
+    private Venue(String name, Exchange exchange, AsyncPollingMarketDataService marketDataService, long timeoutNanos) {
+
+      this.name = name;
+      this.exchange = exchange;
+      this.marketDataService = marketDataService;
+      this.timeoutNanos = timeoutNanos;
+    }
+
+    private boolean lists(CurrencyPair currencyPair) {
+
+      ExchangeMetaData metaData = exchange.getMetaData();
+      if (metaData == null || metaData.getMarketMetaDataMap() == null || metaData.getMarketMetaDataMap().isEmpty()) {
+        return true;
+      }
+      return metaData.getMarketMetaDataMap().containsKey(currencyPair);
+    }
+
+    private VenueStatus status(CurrencyPair currencyPair, VenueStatus.State state, long start, Throwable cause) {
+
+      long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      return new VenueStatus(name, state, latencyMillis, lastUpdates.get(currencyPair), cause);
+    }
+  }
+}
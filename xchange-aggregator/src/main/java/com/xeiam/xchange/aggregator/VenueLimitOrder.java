@@ -0,0 +1,50 @@
+package com.xeiam.xchange.aggregator;
+
+import com.xeiam.xchange.dto.trade.LimitOrder;
+
+/**
+ * <p>
+ * DTO representing a limit order of a consolidated order book, tagged with the venue (exchange name) it was quoted on
+ * </p>
+ */
+public final class VenueLimitOrder extends LimitOrder {
+
+  private final String venue;
+
+  /**
+   * @param venue The exchange name the order was quoted on
+   * @param limitOrder The order as returned by the exchange's market data service
+   */
+  public VenueLimitOrder(String venue, LimitOrder limitOrder) {
+
+    super(limitOrder.getType(), limitOrder.getTradableAmount(), limitOrder.getCurrencyPair(), limitOrder.getId(), limitOrder.getTimestamp(),
+        limitOrder.getLimitPrice());
+    this.venue = venue;
+  }
+
+  /**
+   * @return The exchange name the order was quoted on
+   */
+  public String getVenue() {
+
+    return venue;
+  }
+
+  @Override
+  public int hashCode() {
+
+    return 31 * super.hashCode() + venue.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+
+    return super.equals(obj) && venue.equals(((VenueLimitOrder) obj).venue);
+  }
+
+  @Override
+  public String toString() {
+
+    return "VenueLimitOrder [venue=" + venue + ", " + super.toString() + "]";
+  }
+}
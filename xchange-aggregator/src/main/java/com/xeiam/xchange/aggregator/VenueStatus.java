@@ -0,0 +1,93 @@
+package com.xeiam.xchange.aggregator;
+
+import java.util.Date;
+
+/**
+ * <p>
+ * DTO representing the outcome of polling one venue for a {@link ConsolidatedOrderBook}
+ * </p>
+ */
+public final class VenueStatus {
+
+  public enum State {
+
+    /**
+     * The venue answered within its deadline and its orders are part of the snapshot
+     */
+    LIVE,
+
+    /**
+     * The venue did not answer within its deadline
+     */
+    TIMED_OUT,
+
+    /**
+     * The venue's market data service threw an exception
+     */
+    FAILED
+  }
+
+  private final String venue;
+  private final State state;
+  private final long latencyMillis;
+  private final Date lastUpdate;
+  private final Throwable cause;
+
+  /**
+   * Constructor
+   *
+   * @param venue The exchange name
+   * @param state The outcome of the poll
+   * @param latencyMillis The time the venue took to answer, or the time waited for it if it did not
+   * @param lastUpdate The time of the last successful poll of this venue for the currency pair, null if it never succeeded
+   * @param cause The exception thrown by a {@link State#FAILED} venue, null otherwise
+   */
+  public VenueStatus(String venue, State state, long latencyMillis, Date lastUpdate, Throwable cause) {
+
+    this.venue = venue;
+    this.state = state;
+    this.latencyMillis = latencyMillis;
+    this.lastUpdate = lastUpdate;
+    this.cause = cause;
+  }
+
+  public String getVenue() {
+
+    return venue;
+  }
+
+  public State getState() {
+
+    return state;
+  }
+
+  /**
+   * @return true if the venue's orders are missing from the snapshot
+   */
+  public boolean isStale() {
+
+    return state != State.LIVE;
+  }
+
+  public long getLatencyMillis() {
+
+    return latencyMillis;
+  }
+
+  public Date getLastUpdate() {
+
+    return lastUpdate;
+  }
+
+  public Throwable getCause() {
+
+    return cause;
+  }
+
+  @Override
+  public String toString() {
+
+    return "VenueStatus [venue=" + venue + ", state=" + state + ", latencyMillis=" + latencyMillis + ", lastUpdate=" + lastUpdate + ", cause=" + cause
+        + "]";
+  }
+}
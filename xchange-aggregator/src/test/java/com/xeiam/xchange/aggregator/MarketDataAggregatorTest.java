@@ -0,0 +1,180 @@
+package com.xeiam.xchange.aggregator;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.xeiam.xchange.BaseExchange;
+import com.xeiam.xchange.ExchangeSpecification;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.Ticker;
+import com.xeiam.xchange.dto.marketdata.Trades;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.service.polling.marketdata.MarketDataServiceUtils;
+import com.xeiam.xchange.service.polling.marketdata.PollingMarketDataService;
+
+import si.mazi.rescu.SynchronizedValueFactory;
+
+public class MarketDataAggregatorTest {
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @After
+  public void tearDown() {
+
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testMergedLadder() throws Exception {
+
+    MarketDataAggregator aggregator = new MarketDataAggregator(1, TimeUnit.SECONDS, executor);
+    aggregator.addExchange(new DummyExchange("A", 0, book("250.2", "250.6", "249.9", "249.5")));
+    aggregator.addExchange(new DummyExchange("B", 0, book("250.1", "250.2", "250.0", "249.9")));
+
+    ConsolidatedOrderBook orderBook = aggregator.getOrderBook(CurrencyPair.BTC_USD);
+
+    assertThat(orderBook.getBestAsk().getVenue()).isEqualTo("B");
+    assertThat(orderBook.getBestAsk().getLimitPrice()).isEqualTo(new BigDecimal("250.1"));
+    assertThat(orderBook.getBestBid().getVenue()).isEqualTo("B");
+    assertThat(orderBook.getBestBid().getLimitPrice()).isEqualTo(new BigDecimal("250.0"));
+    assertThat(orderBook.getAsks()).hasSize(4);
+    // equal prices keep the order the venues were added in
+    assertThat(orderBook.getAsks().get(1).getVenue()).isEqualTo("A");
+    assertThat(orderBook.getAsks().get(2).getVenue()).isEqualTo("B");
+    assertThat(orderBook.getBids().get(3).getLimitPrice()).isEqualTo(new BigDecimal("249.5"));
+    assertThat(orderBook.getStaleVenues()).isEmpty();
+    assertThat(aggregator.getLatestOrderBook(CurrencyPair.BTC_USD)).isSameAs(orderBook);
+  }
+
+  @Test
+  public void testLateAndFailingVenuesAreStale() throws Exception {
+
+    MarketDataAggregator aggregator = new MarketDataAggregator(200, TimeUnit.MILLISECONDS, executor);
+    aggregator.addExchange(new DummyExchange("Fast", 0, book("250.2", "250.6", "249.9", "249.5")));
+    aggregator.addExchange(new DummyExchange("Slow", 5000, book("200", "201", "199", "198")));
+    aggregator.addExchange(new DummyExchange("Broken", 0, null));
+
+    long start = System.nanoTime();
+    ConsolidatedOrderBook orderBook = aggregator.getOrderBook(CurrencyPair.BTC_USD);
+
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+    assertThat(orderBook.getStaleVenues()).containsExactly("Slow", "Broken");
+    assertThat(orderBook.getVenueStatuses().get("Fast").getState()).isEqualTo(VenueStatus.State.LIVE);
+    assertThat(orderBook.getVenueStatuses().get("Slow").getState()).isEqualTo(VenueStatus.State.TIMED_OUT);
+    assertThat(orderBook.getVenueStatuses().get("Broken").getState()).isEqualTo(VenueStatus.State.FAILED);
+    assertThat(orderBook.getVenueStatuses().get("Broken").getCause()).isInstanceOf(IOException.class);
+    assertThat(orderBook.getAsks()).hasSize(2);
+    assertThat(orderBook.getBestAsk().getVenue()).isEqualTo("Fast");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDuplicateVenue() {
+
+    MarketDataAggregator aggregator = new MarketDataAggregator(1, TimeUnit.SECONDS, executor);
+    aggregator.addExchange(new DummyExchange("A", 0, null));
+    aggregator.addExchange(new DummyExchange("A", 0, null));
+  }
+
+  private static OrderBook book(String ask1, String ask2, String bid1, String bid2) {
+
+    List<LimitOrder> asks = Arrays.asList(order(OrderType.ASK, ask1), order(OrderType.ASK, ask2));
+    List<LimitOrder> bids = Arrays.asList(order(OrderType.BID, bid1), order(OrderType.BID, bid2));
+    return new OrderBook(null, asks, bids);
+  }
+
+  private static LimitOrder order(OrderType type, String price) {
+
+    return new LimitOrder(type, BigDecimal.ONE, CurrencyPair.BTC_USD, null, null, new BigDecimal(price));
+  }
+
+  private static class DummyExchange extends BaseExchange {
+
+    private final String name;
+
+    DummyExchange(final String name, final long delayMillis, final OrderBook orderBook) {
+
+      this.name = name;
+      this.pollingMarketDataService = new PollingMarketDataService() {
+
+        @Override
+        public OrderBook getOrderBook(CurrencyPair currencyPair, Object... args) throws IOException {
+
+          if (orderBook == null) {
+            throw new IOException(name + " is down");
+          }
+          try {
+            Thread.sleep(delayMillis);
+          } catch (InterruptedException e) {
+            throw new IOException(e);
+          }
+          return orderBook;
+        }
+
+        @Override
+        public Ticker getTicker(CurrencyPair currencyPair, Object... args) {
+
+          throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Trades getTrades(CurrencyPair currencyPair, Object... args) {
+
+          throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<CurrencyPair, Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+          return MarketDataServiceUtils.getTickers(this, currencyPairs);
+        }
+
+        @Override
+        public Map<CurrencyPair, OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+          return MarketDataServiceUtils.getOrderBooks(this, currencyPairs, args);
+        }
+
+        @Override
+        @Deprecated
+        public List<CurrencyPair> getExchangeSymbols() {
+
+          return Arrays.asList(CurrencyPair.BTC_USD);
+        }
+      };
+    }
+
+    @Override
+    public ExchangeSpecification getExchangeSpecification() {
+
+      ExchangeSpecification exchangeSpecification = new ExchangeSpecification(getClass());
+      exchangeSpecification.setExchangeName(name);
+      return exchangeSpecification;
+    }
+
+    @Override
+    public ExchangeSpecification getDefaultExchangeSpecification() {
+
+      return getExchangeSpecification();
+    }
+
+    @Override
+    public SynchronizedValueFactory<Long> getNonceFactory() {
+
+      return null;
+    }
+  }
+}
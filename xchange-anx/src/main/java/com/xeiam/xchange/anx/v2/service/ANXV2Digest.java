@@ -40,10 +40,10 @@ public class ANXV2Digest extends BaseParamsDigest {
   public String digestParams(RestInvocation restInvocation) {
 
     Mac mac = getMac();
-    mac.update(restInvocation.getMethodPath().getBytes());
+    update(mac, restInvocation.getMethodPath());
     mac.update(new byte[] { 0 });
-    mac.update(restInvocation.getRequestBody().getBytes());
+    update(mac, restInvocation.getRequestBody());
 
-    return Base64.encodeBytes(mac.doFinal()).trim();
+    return doFinalBase64(mac);
   }
 }
\ No newline at end of file
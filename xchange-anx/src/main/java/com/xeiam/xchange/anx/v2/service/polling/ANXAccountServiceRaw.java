@@ -17,7 +17,6 @@ import com.xeiam.xchange.anx.v2.service.ANXV2Digest;
 import com.xeiam.xchange.utils.Assert;
 
 import si.mazi.rescu.HttpStatusIOException;
-import si.mazi.rescu.RestProxyFactory;
 
 public class ANXAccountServiceRaw extends ANXBasePollingService {
 
@@ -32,7 +31,7 @@ public class ANXAccountServiceRaw extends ANXBasePollingService {
     super(exchange);
 
     Assert.notNull(exchange.getExchangeSpecification().getSslUri(), "Exchange specification URI cannot be null");
-    this.anxV2 = RestProxyFactory.createProxy(ANXV2.class, exchange.getExchangeSpecification().getSslUri());
+    this.anxV2 = createPrivateProxy(ANXV2.class, exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = ANXV2Digest.createInstance(exchange.getExchangeSpecification().getSecretKey());
   }
 
@@ -1,8 +1,10 @@
 package com.xeiam.xchange.anx.v2.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.anx.v2.ANXAdapters;
@@ -14,6 +16,7 @@ import com.xeiam.xchange.dto.marketdata.Ticker;
 import com.xeiam.xchange.dto.marketdata.Trades;
 import com.xeiam.xchange.dto.trade.LimitOrder;
 import com.xeiam.xchange.exceptions.ExchangeException;
+import com.xeiam.xchange.service.polling.marketdata.MarketDataServiceUtils;
 import com.xeiam.xchange.service.polling.marketdata.PollingMarketDataService;
 
 /**
@@ -101,4 +104,16 @@ public class ANXMarketDataService extends ANXMarketDataServiceRaw implements Pol
 
   }
 
+  @Override
+  public Map<CurrencyPair, Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+    return MarketDataServiceUtils.getTickers(this, currencyPairs);
+  }
+
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+    return MarketDataServiceUtils.getOrderBooks(this, currencyPairs, args);
+  }
+
 }
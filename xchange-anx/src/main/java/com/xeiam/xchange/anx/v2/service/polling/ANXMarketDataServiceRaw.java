@@ -20,7 +20,6 @@ import com.xeiam.xchange.currency.CurrencyPair;
 import com.xeiam.xchange.utils.Assert;
 
 import si.mazi.rescu.HttpStatusIOException;
-import si.mazi.rescu.RestProxyFactory;
 
 public class ANXMarketDataServiceRaw extends ANXBasePollingService {
 
@@ -36,7 +35,7 @@ public class ANXMarketDataServiceRaw extends ANXBasePollingService {
     super(exchange);
 
     Assert.notNull(exchange.getExchangeSpecification().getSslUri(), "Exchange specification URI cannot be null");
-    this.anxV2 = RestProxyFactory.createProxy(ANXV2.class, exchange.getExchangeSpecification().getSslUri());
+    this.anxV2 = createPublicProxy(ANXV2.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public ANXTicker getANXTicker(CurrencyPair currencyPair) throws IOException {
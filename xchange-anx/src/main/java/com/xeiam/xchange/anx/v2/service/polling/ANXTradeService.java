@@ -2,12 +2,16 @@ package com.xeiam.xchange.anx.v2.service.polling;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.BaseExchange;
 import com.xeiam.xchange.anx.ANXUtils;
 import com.xeiam.xchange.anx.v2.ANXAdapters;
 import com.xeiam.xchange.anx.v2.ANXExchange;
 import com.xeiam.xchange.anx.v2.dto.trade.polling.ANXTradeResultWrapper;
+import com.xeiam.xchange.currency.CurrencyPair;
 import com.xeiam.xchange.dto.Order.OrderType;
 import com.xeiam.xchange.dto.trade.LimitOrder;
 import com.xeiam.xchange.dto.trade.MarketOrder;
@@ -15,6 +19,7 @@ import com.xeiam.xchange.dto.trade.OpenOrders;
 import com.xeiam.xchange.dto.trade.UserTrades;
 import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+import com.xeiam.xchange.service.polling.trade.TradeServiceUtils;
 import com.xeiam.xchange.service.polling.trade.params.DefaultTradeHistoryParamsTimeSpan;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamsTimeSpan;
@@ -39,7 +44,9 @@ public class ANXTradeService extends ANXTradeServiceRaw implements PollingTradeS
   @Override
   public OpenOrders getOpenOrders() throws IOException {
 
-    return new OpenOrders(ANXAdapters.adaptOrders(getANXOpenOrders()));
+    OpenOrders openOrders = new OpenOrders(ANXAdapters.adaptOrders(getANXOpenOrders()));
+    exchange.getOrderRegistry().register(openOrders);
+    return openOrders;
   }
 
   @Override
@@ -68,15 +75,42 @@ public class ANXTradeService extends ANXTradeServiceRaw implements PollingTradeS
     BigDecimal amount = limitOrder.getTradableAmount();
     BigDecimal price = limitOrder.getLimitPrice();
 
-    return placeANXLimitOrder(limitOrder.getCurrencyPair(), type, amount, price).getDataString();
+    String orderId = placeANXLimitOrder(limitOrder.getCurrencyPair(), type, amount, price).getDataString();
+    exchange.getOrderRegistry().register(orderId, limitOrder.getCurrencyPair(), limitOrder.getType());
+    return orderId;
   }
 
+  /**
+   * The pair of the order is only looked up on the exchange if it was placed elsewhere
+   */
   @Override
   public boolean cancelOrder(String orderId) throws IOException {
 
     Assert.notNull(orderId, "orderId cannot be null");
 
-    return cancelANXOrder(orderId, "BTC", "EUR").getResult().equals("success");
+    CurrencyPair currencyPair = exchange.getOrderRegistry().getCurrencyPair(orderId);
+    if (currencyPair == null) {
+      getOpenOrders();
+      currencyPair = exchange.getOrderRegistry().getCurrencyPair(orderId);
+      if (currencyPair == null) {
+        throw new ExchangeException("Unable to find order " + orderId);
+      }
+    }
+    String result = cancelANXOrder(orderId, currencyPair.base.getCurrencyCode(), currencyPair.counter.getCurrencyCode()).getResult();
+    exchange.getOrderRegistry().remove(orderId);
+    return result.equals("success");
+  }
+
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws IOException {
+
+    return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws IOException {
+
+    return TradeServiceUtils.cancelOrders(this, orderIds);
   }
 
   private UserTrades getTradeHistory(Long from, Long to) throws IOException {
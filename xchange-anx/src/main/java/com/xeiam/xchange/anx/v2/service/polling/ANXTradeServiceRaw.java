@@ -19,7 +19,6 @@ import com.xeiam.xchange.dto.trade.MarketOrder;
 import com.xeiam.xchange.utils.Assert;
 
 import si.mazi.rescu.HttpStatusIOException;
-import si.mazi.rescu.RestProxyFactory;
 
 public class ANXTradeServiceRaw extends ANXBasePollingService {
 
@@ -36,7 +35,7 @@ public class ANXTradeServiceRaw extends ANXBasePollingService {
     super(exchange);
 
     Assert.notNull(exchange.getExchangeSpecification().getSslUri(), "Exchange specification URI cannot be null");
-    this.anxV2 = RestProxyFactory.createProxy(ANXV2.class, exchange.getExchangeSpecification().getSslUri());
+    this.anxV2 = createPrivateProxy(ANXV2.class, exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = ANXV2Digest.createInstance(exchange.getExchangeSpecification().getSecretKey());
   }
 
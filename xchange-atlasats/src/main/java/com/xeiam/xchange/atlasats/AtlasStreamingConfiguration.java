@@ -1,5 +1,6 @@
 package com.xeiam.xchange.atlasats;
 
+import com.xeiam.xchange.service.streaming.EventQueueConfiguration;
 import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
 
 public class AtlasStreamingConfiguration implements ExchangeStreamingConfiguration {
@@ -14,6 +15,8 @@ public class AtlasStreamingConfiguration implements ExchangeStreamingConfigurati
 
   private boolean keepAlive;
 
+  private EventQueueConfiguration eventQueueConfiguration = EventQueueConfiguration.UNBOUNDED;
+
   public AtlasStreamingConfiguration(int maxReconnectAttempts, int reconnectWaitTimeInMs, int timeoutInMs, boolean encryptedChannel, boolean keepAlive) {
 
     super();
@@ -54,4 +57,15 @@ public class AtlasStreamingConfiguration implements ExchangeStreamingConfigurati
     return keepAlive;
   }
 
+  @Override
+  public EventQueueConfiguration getEventQueueConfiguration() {
+
+    return eventQueueConfiguration;
+  }
+
+  public void setEventQueueConfiguration(EventQueueConfiguration eventQueueConfiguration) {
+
+    this.eventQueueConfiguration = eventQueueConfiguration;
+  }
+
 }
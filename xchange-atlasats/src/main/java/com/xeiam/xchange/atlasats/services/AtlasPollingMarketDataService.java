@@ -2,6 +2,7 @@ package com.xeiam.xchange.atlasats.services;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Map;
 
 import com.xeiam.xchange.ExchangeException;
 import com.xeiam.xchange.ExchangeSpecification;
@@ -13,6 +14,7 @@ import com.xeiam.xchange.dto.marketdata.Ticker;
 import com.xeiam.xchange.dto.marketdata.Trades;
 import com.xeiam.xchange.service.polling.BasePollingExchangeService;
 import com.xeiam.xchange.service.polling.PollingMarketDataService;
+import com.xeiam.xchange.service.polling.marketdata.MarketDataServiceUtils;
 
 public class AtlasPollingMarketDataService extends BasePollingExchangeService implements PollingMarketDataService {
 
@@ -49,4 +51,16 @@ public class AtlasPollingMarketDataService extends BasePollingExchangeService im
     return null;
   }
 
+  @Override
+  public Map<CurrencyPair, Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+    return MarketDataServiceUtils.getTickers(this, currencyPairs);
+  }
+
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+    return MarketDataServiceUtils.getOrderBooks(this, currencyPairs, args);
+  }
+
 }
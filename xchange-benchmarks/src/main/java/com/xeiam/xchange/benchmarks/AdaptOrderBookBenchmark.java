@@ -0,0 +1,137 @@
+package com.xeiam.xchange.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.xeiam.xchange.bitstamp.BitstampAdapters;
+import com.xeiam.xchange.bitstamp.dto.marketdata.BitstampOrderBook;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.kraken.KrakenAdapters;
+import com.xeiam.xchange.kraken.dto.marketdata.results.KrakenDepthResult;
+import com.xeiam.xchange.okcoin.OkCoinAdapters;
+import com.xeiam.xchange.okcoin.dto.marketdata.OkCoinStreamingDepth;
+import com.xeiam.xchange.poloniex.PoloniexAdapters;
+import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexDepth;
+
+/**
+ * <p>
+ * The path from response bytes to a generic {@link OrderBook}:
+ * </p>
+ * <ul>
+ * <li>decodeAndAdapt*: Jackson deserialization followed by the exchange's order book adapter, what a polling getOrderBook call costs after the
+ * network</li>
+ * <li>adapt*: the adapter alone, on a DTO decoded once</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AdaptOrderBookBenchmark {
+
+  private static final String KRAKEN_PAIR = "XXBTZEUR";
+  private static final CurrencyPair POLONIEX_PAIR = new CurrencyPair("LTC", "BTC");
+
+  private byte[] krakenPayload;
+  private byte[] poloniexPayload;
+  private byte[] bitstampPayload;
+  private byte[] okCoinPayload;
+
+  private ObjectReader krakenDepthReader;
+  private ObjectReader poloniexDepthReader;
+  private ObjectReader bitstampOrderBookReader;
+  private ObjectReader okCoinDepthReader;
+
+  private KrakenDepthResult krakenDepth;
+  private PoloniexDepth poloniexDepth;
+  private BitstampOrderBook bitstampOrderBook;
+  private OkCoinStreamingDepth okCoinDepth;
+
+  @Setup
+  public void setUp() throws IOException {
+
+    krakenPayload = Payloads.read(Payloads.KRAKEN_DEPTH);
+    poloniexPayload = Payloads.read(Payloads.POLONIEX_DEPTH);
+    bitstampPayload = Payloads.read(Payloads.BITSTAMP_ORDER_BOOK);
+    okCoinPayload = Payloads.read(Payloads.OKCOIN_DEPTH);
+
+    ObjectMapper mapper = new ObjectMapper();
+    krakenDepthReader = mapper.reader(KrakenDepthResult.class);
+    poloniexDepthReader = mapper.reader(PoloniexDepth.class);
+    bitstampOrderBookReader = mapper.reader(BitstampOrderBook.class);
+    okCoinDepthReader = mapper.reader(OkCoinStreamingDepth.class);
+
+    krakenDepth = krakenDepthReader.readValue(krakenPayload);
+    poloniexDepth = poloniexDepthReader.readValue(poloniexPayload);
+    bitstampOrderBook = bitstampOrderBookReader.readValue(bitstampPayload);
+    okCoinDepth = okCoinDepthReader.readValue(okCoinPayload);
+  }
+
+  @Benchmark
+  public OrderBook decodeAndAdaptKraken() throws IOException {
+
+    KrakenDepthResult result = krakenDepthReader.readValue(krakenPayload);
+    return KrakenAdapters.adaptOrderBook(result.getResult().get(KRAKEN_PAIR), CurrencyPair.BTC_EUR);
+  }
+
+  @Benchmark
+  public OrderBook decodeAndAdaptPoloniex() throws IOException {
+
+    PoloniexDepth depth = poloniexDepthReader.readValue(poloniexPayload);
+    return PoloniexAdapters.adaptPoloniexDepth(depth, POLONIEX_PAIR);
+  }
+
+  @Benchmark
+  public OrderBook decodeAndAdaptBitstamp() throws IOException {
+
+    BitstampOrderBook orderBook = bitstampOrderBookReader.readValue(bitstampPayload);
+    return BitstampAdapters.adaptOrderBook(orderBook, CurrencyPair.BTC_USD, 1000);
+  }
+
+  @Benchmark
+  public OrderBook decodeAndAdaptOkCoin() throws IOException {
+
+    OkCoinStreamingDepth depth = okCoinDepthReader.readValue(okCoinPayload);
+    return OkCoinAdapters.adaptOrderBook(depth, CurrencyPair.BTC_USD);
+  }
+
+  @Benchmark
+  public OrderBook adaptKraken() {
+
+    return KrakenAdapters.adaptOrderBook(krakenDepth.getResult().get(KRAKEN_PAIR), CurrencyPair.BTC_EUR);
+  }
+
+  @Benchmark
+  public OrderBook adaptPoloniex() {
+
+    return PoloniexAdapters.adaptPoloniexDepth(poloniexDepth, POLONIEX_PAIR);
+  }
+
+  @Benchmark
+  public OrderBook adaptBitstamp() {
+
+    return BitstampAdapters.adaptOrderBook(bitstampOrderBook, CurrencyPair.BTC_USD, 1000);
+  }
+
+  @Benchmark
+  public OrderBook adaptOkCoin() {
+
+    return OkCoinAdapters.adaptOrderBook(okCoinDepth, CurrencyPair.BTC_USD);
+  }
+}
@@ -0,0 +1,30 @@
+package com.xeiam.xchange.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>
+ * Entry point of benchmarks.jar, taking the usual JMH command line (e.g. a benchmark name regex, -f, -wi, -i)
+ * </p>
+ * <p>
+ * The GC profiler is always added so every result reports the allocation rate next to the throughput.
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+
+  }
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+
+    Options options = new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,73 @@
+package com.xeiam.xchange.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.xeiam.xchange.currency.Currency;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.utils.jackson.CurrencyPairDeserializer;
+
+/**
+ * Creation of {@link CurrencyPair}s as the adapters do it for every order, trade and ticker they return
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CurrencyPairBenchmark {
+
+  // not final, so the JIT cannot fold the lookups
+  private String base = "BTC";
+  private String counter = "USD";
+  private String pair = "BTC/USD";
+  private String symbol = "btc_usd";
+  private Currency baseCurrency = Currency.BTC;
+  private Currency counterCurrency = Currency.USD;
+
+  @Benchmark
+  public CurrencyPair fromCurrencies() {
+
+    return new CurrencyPair(baseCurrency, counterCurrency);
+  }
+
+  @Benchmark
+  public CurrencyPair fromSymbols() {
+
+    return new CurrencyPair(base, counter);
+  }
+
+  @Benchmark
+  public CurrencyPair internedFromSymbols() {
+
+    return CurrencyPair.getInstance(base, counter);
+  }
+
+  @Benchmark
+  public CurrencyPair parse() {
+
+    return new CurrencyPair(pair);
+  }
+
+  @Benchmark
+  public CurrencyPair parseExchangeSymbol() {
+
+    return CurrencyPairDeserializer.getCurrencyPairFromString(symbol);
+  }
+
+  @Benchmark
+  public Currency currencyLookup() {
+
+    return Currency.getInstance(base);
+  }
+}
@@ -0,0 +1,83 @@
+package com.xeiam.xchange.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.xeiam.xchange.bitstamp.dto.marketdata.BitstampOrderBook;
+import com.xeiam.xchange.kraken.dto.marketdata.results.KrakenDepthResult;
+import com.xeiam.xchange.okcoin.dto.marketdata.OkCoinStreamingDepth;
+import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexDepth;
+
+/**
+ * Jackson deserialization of recorded order book responses into the exchange DTOs, with a reader per type as rescu keeps one per method
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonDecodingBenchmark {
+
+  private byte[] krakenDepth;
+  private byte[] poloniexDepth;
+  private byte[] bitstampOrderBook;
+  private byte[] okCoinDepth;
+
+  private ObjectReader krakenDepthReader;
+  private ObjectReader poloniexDepthReader;
+  private ObjectReader bitstampOrderBookReader;
+  private ObjectReader okCoinDepthReader;
+
+  @Setup
+  public void setUp() throws IOException {
+
+    krakenDepth = Payloads.read(Payloads.KRAKEN_DEPTH);
+    poloniexDepth = Payloads.read(Payloads.POLONIEX_DEPTH);
+    bitstampOrderBook = Payloads.read(Payloads.BITSTAMP_ORDER_BOOK);
+    okCoinDepth = Payloads.read(Payloads.OKCOIN_DEPTH);
+
+    ObjectMapper mapper = new ObjectMapper();
+    krakenDepthReader = mapper.reader(KrakenDepthResult.class);
+    poloniexDepthReader = mapper.reader(PoloniexDepth.class);
+    bitstampOrderBookReader = mapper.reader(BitstampOrderBook.class);
+    okCoinDepthReader = mapper.reader(OkCoinStreamingDepth.class);
+  }
+
+  @Benchmark
+  public KrakenDepthResult krakenDepth() throws IOException {
+
+    return krakenDepthReader.readValue(krakenDepth);
+  }
+
+  @Benchmark
+  public PoloniexDepth poloniexDepth() throws IOException {
+
+    return poloniexDepthReader.readValue(poloniexDepth);
+  }
+
+  @Benchmark
+  public BitstampOrderBook bitstampOrderBook() throws IOException {
+
+    return bitstampOrderBookReader.readValue(bitstampOrderBook);
+  }
+
+  @Benchmark
+  public OkCoinStreamingDepth okCoinStreamingDepth() throws IOException {
+
+    return okCoinDepthReader.readValue(okCoinDepth);
+  }
+}
@@ -0,0 +1,144 @@
+package com.xeiam.xchange.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.IndexedOrderBook;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.OrderBookUpdate;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+
+/**
+ * <p>
+ * Incremental updates of a book of {@link #levels} levels per side:
+ * </p>
+ * <ul>
+ * <li>replace*: the volume of an existing level changes, the most common update on a live feed</li>
+ * <li>insertRemove*: a level appears between two others and disappears again, so the book keeps its size</li>
+ * </ul>
+ * The {@link OrderBook} results can be compared with the {@link IndexedOrderBook} ones for the same book size.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderBookBenchmark {
+
+  private static final int PRICE_SCALE = 2;
+  private static final int UPDATES = 1024;
+
+  @Param({ "100", "1000", "10000" })
+  private int levels;
+
+  private OrderBook orderBook;
+  private IndexedOrderBook indexedOrderBook;
+
+  private LimitOrder[] replacements;
+  private OrderBookUpdate[] insertions;
+  private OrderBookUpdate[] removals;
+  private int next;
+
+  @Setup
+  public void setUp() {
+
+    List<LimitOrder> asks = new ArrayList<LimitOrder>(levels + 1);
+    List<LimitOrder> bids = new ArrayList<LimitOrder>(levels + 1);
+    for (int i = 0; i < levels; i++) {
+      asks.add(order(OrderType.ASK, askPrice(i), BigDecimal.ONE));
+      bids.add(order(OrderType.BID, bidPrice(i), BigDecimal.ONE));
+    }
+    orderBook = new OrderBook(null, asks, bids);
+    indexedOrderBook = new IndexedOrderBook(CurrencyPair.BTC_USD, PRICE_SCALE, new OrderBook(null, new ArrayList<LimitOrder>(asks),
+        new ArrayList<LimitOrder>(bids)));
+
+    // updates fall mostly near the top of the book, as on a live feed
+    Random random = new Random(42);
+    replacements = new LimitOrder[UPDATES];
+    insertions = new OrderBookUpdate[UPDATES];
+    removals = new OrderBookUpdate[UPDATES];
+    for (int i = 0; i < UPDATES; i++) {
+      int level = Math.min(levels - 1, (int) Math.abs(random.nextGaussian() * levels / 10));
+      OrderType type = random.nextBoolean() ? OrderType.ASK : OrderType.BID;
+      BigDecimal price = type == OrderType.ASK ? askPrice(level) : bidPrice(level);
+      BigDecimal volume = new BigDecimal(random.nextInt(100000)).movePointLeft(4).add(BigDecimal.ONE);
+      replacements[i] = order(type, price, volume);
+
+      // odd cents are free, the book only holds even ones
+      BigDecimal between = type == OrderType.ASK ? price.add(new BigDecimal("0.01")) : price.subtract(new BigDecimal("0.01"));
+      insertions[i] = new OrderBookUpdate(type, volume, CurrencyPair.BTC_USD, between, null, volume);
+      removals[i] = new OrderBookUpdate(type, BigDecimal.ZERO, CurrencyPair.BTC_USD, between, null, BigDecimal.ZERO);
+    }
+  }
+
+  @Benchmark
+  public OrderBook replaceLevel() {
+
+    orderBook.update(replacements[nextIndex()]);
+    return orderBook;
+  }
+
+  @Benchmark
+  public OrderBook insertRemoveLevel() {
+
+    int i = nextIndex();
+    orderBook.update(insertions[i]);
+    orderBook.update(removals[i]);
+    return orderBook;
+  }
+
+  @Benchmark
+  public IndexedOrderBook replaceLevelIndexed() {
+
+    indexedOrderBook.update(replacements[nextIndex()]);
+    return indexedOrderBook;
+  }
+
+  @Benchmark
+  public IndexedOrderBook insertRemoveLevelIndexed() {
+
+    int i = nextIndex();
+    indexedOrderBook.update(insertions[i]);
+    indexedOrderBook.update(removals[i]);
+    return indexedOrderBook;
+  }
+
+  private int nextIndex() {
+
+    next = (next + 1) & (UPDATES - 1);
+    return next;
+  }
+
+  private static BigDecimal askPrice(int level) {
+
+    return BigDecimal.valueOf(25000 + 2 * level, PRICE_SCALE);
+  }
+
+  private static BigDecimal bidPrice(int level) {
+
+    return BigDecimal.valueOf(24998 - 2 * level, PRICE_SCALE);
+  }
+
+  private static LimitOrder order(OrderType type, BigDecimal price, BigDecimal volume) {
+
+    return new LimitOrder(type, volume, CurrencyPair.BTC_USD, null, null, price);
+  }
+}
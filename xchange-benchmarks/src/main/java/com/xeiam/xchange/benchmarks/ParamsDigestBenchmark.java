@@ -0,0 +1,105 @@
+package com.xeiam.xchange.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.FormParam;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.xeiam.xchange.bitstamp.service.BitstampDigest;
+import com.xeiam.xchange.kraken.service.KrakenDigest;
+import com.xeiam.xchange.poloniex.service.PoloniexDigest;
+
+import si.mazi.rescu.Params;
+import si.mazi.rescu.RestInvocation;
+
+/**
+ * Request signing through the {@link com.xeiam.xchange.service.BaseParamsDigest} subclasses, which runs on every authenticated call
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParamsDigestBenchmark {
+
+  // arbitrary keys, the digests only need them to be valid base 64
+  private static final String SECRET_KEY = "dGhpcyBpcyBub3QgYSByZWFsIHNlY3JldCBrZXksIGl0IGlzIG9ubHkgZm9yIGJlbmNobWFya2luZw==";
+  private static final String API_KEY = "a1b2c3d4e5f6a7b8c9d0";
+  private static final String CLIENT_ID = "123456";
+
+  private static final String NONCE = "1423828736291";
+  private static final String REQUEST_BODY = "nonce=" + NONCE + "&pair=XXBTZEUR&type=buy&ordertype=limit&price=250.00&volume=1.25";
+
+  private KrakenDigest krakenDigest;
+  private BitstampDigest bitstampDigest;
+  private PoloniexDigest poloniexDigest;
+  private RestInvocation invocation;
+
+  @Setup
+  public void setUp() {
+
+    krakenDigest = KrakenDigest.createInstance(SECRET_KEY);
+    bitstampDigest = BitstampDigest.createInstance(SECRET_KEY, CLIENT_ID, API_KEY);
+    poloniexDigest = PoloniexDigest.createInstance(SECRET_KEY);
+    invocation = new FormInvocation("0/private/AddOrder", NONCE, REQUEST_BODY);
+  }
+
+  @Benchmark
+  public String kraken() {
+
+    return krakenDigest.digestParams(invocation);
+  }
+
+  @Benchmark
+  public String bitstamp() {
+
+    return bitstampDigest.digestParams(invocation);
+  }
+
+  @Benchmark
+  public String poloniex() {
+
+    return poloniexDigest.digestParams(invocation);
+  }
+
+  /**
+   * A form POST with a fixed body, so the benchmark measures the signing and not rescu's request writers
+   */
+  private static class FormInvocation extends RestInvocation {
+
+    private final String requestBody;
+
+    FormInvocation(String path, String nonce, String requestBody) {
+
+      super(formParams(nonce), null, null, null, null, null, path, null);
+      this.requestBody = requestBody;
+    }
+
+    private static Map<Class<? extends Annotation>, Params> formParams(String nonce) {
+
+      Map<Class<? extends Annotation>, Params> paramsMap = new HashMap<Class<? extends Annotation>, Params>();
+      paramsMap.put(FormParam.class, Params.of("nonce", nonce));
+      return paramsMap;
+    }
+
+    @Override
+    public String getRequestBody() {
+
+      return requestBody;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.xeiam.xchange.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Loads the exchange responses under /payloads, so the benchmarks decode the same bytes on every run. The Kraken and Bitstamp ones are the recorded
+ * test responses of those modules, added by the build.
+ */
+final class Payloads {
+
+  static final String KRAKEN_DEPTH = "/payloads/kraken/example-depth-data.json";
+  static final String POLONIEX_DEPTH = "/payloads/poloniex-depth.json";
+  static final String BITSTAMP_ORDER_BOOK = "/payloads/bitstamp/example-full-depth-data.json";
+  static final String OKCOIN_DEPTH = "/payloads/okcoin-depth.json";
+
+  private Payloads() {
+
+  }
+
+  static byte[] read(String name) throws IOException {
+
+    InputStream is = Payloads.class.getResourceAsStream(name);
+    if (is == null) {
+      throw new IOException("Missing payload " + name);
+    }
+    try {
+      return IOUtils.toByteArray(is);
+    } finally {
+      IOUtils.closeQuietly(is);
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package com.xeiam.xchange.bitbay.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.bitbay.BitbayAdapters;
@@ -8,6 +10,7 @@ import com.xeiam.xchange.currency.CurrencyPair;
 import com.xeiam.xchange.dto.marketdata.OrderBook;
 import com.xeiam.xchange.dto.marketdata.Ticker;
 import com.xeiam.xchange.dto.marketdata.Trades;
+import com.xeiam.xchange.service.polling.marketdata.MarketDataServiceUtils;
 import com.xeiam.xchange.service.polling.marketdata.PollingMarketDataService;
 
 /**
@@ -42,4 +45,16 @@ public class BitbayMarketDataService extends BitbayMarketDataServiceRaw implemen
 
     return BitbayAdapters.adaptTrades(getBitbayTrades(currencyPair), currencyPair);
   }
+
+  @Override
+  public Map<CurrencyPair, Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+    return MarketDataServiceUtils.getTickers(this, currencyPairs);
+  }
+
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+    return MarketDataServiceUtils.getOrderBooks(this, currencyPairs, args);
+  }
 }
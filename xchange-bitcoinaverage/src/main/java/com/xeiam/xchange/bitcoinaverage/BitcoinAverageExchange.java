@@ -47,6 +47,7 @@ public class BitcoinAverageExchange extends BaseExchange implements Exchange {
   public void remoteInit() throws IOException, ExchangeException {
     BitcoinAverageTickers tickers = ((BitcoinAverageMarketDataServiceRaw) pollingMarketDataService).getBitcoinAverageAllTickers();
     metaData = BitcoinAverageAdapters.adaptMetaData(tickers, bitcoinAverageMetaData);
+    super.remoteInit();
   }
 
   @Override
@@ -1,6 +1,8 @@
 package com.xeiam.xchange.bitcoinaverage.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.bitcoinaverage.BitcoinAverageAdapters;
@@ -10,6 +12,7 @@ import com.xeiam.xchange.dto.marketdata.OrderBook;
 import com.xeiam.xchange.dto.marketdata.Ticker;
 import com.xeiam.xchange.dto.marketdata.Trades;
 import com.xeiam.xchange.exceptions.NotAvailableFromExchangeException;
+import com.xeiam.xchange.service.polling.marketdata.MarketDataServiceUtils;
 import com.xeiam.xchange.service.polling.marketdata.PollingMarketDataService;
 
 /**
@@ -54,4 +57,16 @@ public class BitcoinAverageMarketDataService extends BitcoinAverageMarketDataSer
     throw new NotAvailableFromExchangeException();
   }
 
+  @Override
+  public Map<CurrencyPair, Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+    return MarketDataServiceUtils.getTickers(this, currencyPairs);
+  }
+
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+    return MarketDataServiceUtils.getOrderBooks(this, currencyPairs, args);
+  }
+
 }
@@ -29,7 +29,8 @@ public class BitcoinAverageMarketDataServiceRaw extends BitcoinAverageBasePollin
   public BitcoinAverageMarketDataServiceRaw(Exchange exchange) {
 
     super(exchange);
-    this.bitcoinAverage = RestProxyFactory.createProxy(BitcoinAverage.class, exchange.getExchangeSpecification().getSslUri());
+    this.bitcoinAverage = RestProxyFactory.createProxy(BitcoinAverage.class, exchange.getExchangeSpecification().getSslUri(),
+        exchange.createClientConfig());
   }
 
   public BitcoinAverageTicker getBitcoinAverageTicker(String tradableIdentifier, String currency) throws IOException {
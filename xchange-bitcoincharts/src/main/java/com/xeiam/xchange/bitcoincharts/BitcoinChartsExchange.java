@@ -48,5 +48,6 @@ public class BitcoinChartsExchange extends BaseExchange implements Exchange {
   public void remoteInit() throws IOException, ExchangeException {
     BitcoinChartsTicker[] tickers = ((BitcoinChartsMarketDataService) pollingMarketDataService).getBitcoinChartsTickers();
     metaData = BitcoinChartsAdapters.adaptMetaData(metaData, tickers);
+    super.remoteInit();
   }
 }
@@ -1,6 +1,8 @@
 package com.xeiam.xchange.bitcoincharts.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.bitcoincharts.BitcoinCharts;
@@ -11,10 +13,9 @@ import com.xeiam.xchange.dto.marketdata.OrderBook;
 import com.xeiam.xchange.dto.marketdata.Ticker;
 import com.xeiam.xchange.dto.marketdata.Trades;
 import com.xeiam.xchange.exceptions.NotAvailableFromExchangeException;
+import com.xeiam.xchange.service.polling.marketdata.MarketDataServiceUtils;
 import com.xeiam.xchange.service.polling.marketdata.PollingMarketDataService;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * @author timmolter
  */
@@ -30,7 +31,7 @@ public class BitcoinChartsMarketDataService extends BitcoinChartsBasePollingServ
   public BitcoinChartsMarketDataService(Exchange exchange) {
 
     super(exchange);
-    this.bitcoinCharts = RestProxyFactory.createProxy(BitcoinCharts.class, exchange.getExchangeSpecification().getPlainTextUri());
+    this.bitcoinCharts = createPublicProxy(BitcoinCharts.class, exchange.getExchangeSpecification().getPlainTextUri());
   }
 
   @Override
@@ -58,4 +59,16 @@ public class BitcoinChartsMarketDataService extends BitcoinChartsBasePollingServ
     throw new NotAvailableFromExchangeException();
   }
 
+  @Override
+  public Map<CurrencyPair, Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+    return MarketDataServiceUtils.getTickers(this, currencyPairs);
+  }
+
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+    return MarketDataServiceUtils.getOrderBooks(this, currencyPairs, args);
+  }
+
 }
@@ -5,8 +5,6 @@ import com.xeiam.xchange.bitcoinde.Bitcoinde;
 import com.xeiam.xchange.service.BaseExchangeService;
 import com.xeiam.xchange.service.polling.BasePollingService;
 
-import si.mazi.rescu.RestProxyFactory;
-
 public class BitcoindeBasePollingService extends BaseExchangeService implements BasePollingService {
 
   protected final Bitcoinde bitcoinde;
@@ -17,6 +15,6 @@ public class BitcoindeBasePollingService extends BaseExchangeService implements
   protected BitcoindeBasePollingService(Exchange exchange) {
 
     super(exchange);
-    this.bitcoinde = RestProxyFactory.createProxy(Bitcoinde.class, exchange.getExchangeSpecification().getSslUri());
+    this.bitcoinde = createPublicProxy(Bitcoinde.class, exchange.getExchangeSpecification().getSslUri());
   }
 }
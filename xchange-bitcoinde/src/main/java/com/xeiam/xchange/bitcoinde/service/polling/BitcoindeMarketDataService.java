@@ -1,6 +1,8 @@
 package com.xeiam.xchange.bitcoinde.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.bitcoinde.BitcoindeAdapters;
@@ -9,6 +11,7 @@ import com.xeiam.xchange.dto.marketdata.OrderBook;
 import com.xeiam.xchange.dto.marketdata.Ticker;
 import com.xeiam.xchange.dto.marketdata.Trades;
 import com.xeiam.xchange.exceptions.NotAvailableFromExchangeException;
+import com.xeiam.xchange.service.polling.marketdata.MarketDataServiceUtils;
 import com.xeiam.xchange.service.polling.marketdata.PollingMarketDataService;
 
 /**
@@ -43,4 +46,16 @@ public class BitcoindeMarketDataService extends BitcoindeMarketDataServiceRaw im
 
     return BitcoindeAdapters.adaptTrades(getBitcoindeTrades(), currencyPair);
   }
+
+  @Override
+  public Map<CurrencyPair, Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+    return MarketDataServiceUtils.getTickers(this, currencyPairs);
+  }
+
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+    return MarketDataServiceUtils.getOrderBooks(this, currencyPairs, args);
+  }
 }
@@ -8,8 +8,6 @@ import com.xeiam.xchange.bitcoinde.dto.marketdata.BitcoindeOrderBook;
 import com.xeiam.xchange.bitcoinde.dto.marketdata.BitcoindeRate;
 import com.xeiam.xchange.bitcoinde.dto.marketdata.BitcoindeTrade;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * @author matthewdowney
  */
@@ -25,7 +23,7 @@ public class BitcoindeMarketDataServiceRaw extends BitcoindeBasePollingService {
   public BitcoindeMarketDataServiceRaw(Exchange exchange) {
 
     super(exchange);
-    this.bitcoinde = RestProxyFactory.createProxy(Bitcoinde.class,
+    this.bitcoinde = createPublicProxy(Bitcoinde.class,
         exchange.getExchangeSpecification().getSslUri() + exchange.getExchangeSpecification().getApiKey() + "/");
   }
 
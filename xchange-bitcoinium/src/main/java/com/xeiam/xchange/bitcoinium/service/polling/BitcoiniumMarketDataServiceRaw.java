@@ -10,8 +10,6 @@ import com.xeiam.xchange.bitcoinium.dto.marketdata.BitcoiniumTicker;
 import com.xeiam.xchange.bitcoinium.dto.marketdata.BitcoiniumTickerHistory;
 import com.xeiam.xchange.utils.Assert;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * <p>
  * Implementation of the raw market data service for Bitcoinium
@@ -32,7 +30,7 @@ public class BitcoiniumMarketDataServiceRaw extends BitcoiniumBasePollingService
   public BitcoiniumMarketDataServiceRaw(Exchange exchange) {
 
     super(exchange);
-    this.bitcoinium = RestProxyFactory.createProxy(Bitcoinium.class, exchange.getExchangeSpecification().getSslUri());
+    this.bitcoinium = createPublicProxy(Bitcoinium.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   /**
@@ -34,7 +34,7 @@ public class BitcurexDigest extends BaseParamsDigest {
 
     Mac sha512 = getMac();
 
-    sha512.update(restInvocation.getRequestBody().getBytes());
+    update(sha512, restInvocation.getRequestBody());
 
     signature = sha512.doFinal();
     digest = Base64.encodeBytes(signature);
@@ -14,6 +14,7 @@ import com.xeiam.xchange.bitfinex.v1.dto.BitfinexException;
 import com.xeiam.xchange.bitfinex.v1.dto.marketdata.BitfinexDepth;
 import com.xeiam.xchange.bitfinex.v1.dto.marketdata.BitfinexLend;
 import com.xeiam.xchange.bitfinex.v1.dto.marketdata.BitfinexLendDepth;
+import com.xeiam.xchange.bitfinex.v1.dto.marketdata.BitfinexOrderBook;
 import com.xeiam.xchange.bitfinex.v1.dto.marketdata.BitfinexTicker;
 import com.xeiam.xchange.bitfinex.v1.dto.marketdata.BitfinexTrade;
 
@@ -34,6 +35,15 @@ public interface Bitfinex {
   @Path("book/{symbol}")
   BitfinexDepth getBook(@PathParam("symbol") String symbol) throws IOException, BitfinexException;
 
+  @GET
+  @Path("book/{symbol}")
+  BitfinexOrderBook getOrderBook(@PathParam("symbol") String symbol, @QueryParam("limit_bids") int limit_bids,
+      @QueryParam("limit_asks") int limit_asks) throws IOException, BitfinexException;
+
+  @GET
+  @Path("book/{symbol}")
+  BitfinexOrderBook getOrderBook(@PathParam("symbol") String symbol) throws IOException, BitfinexException;
+
   @GET
   @Path("lendbook/{currency}")
   BitfinexLendDepth getLendBook(@PathParam("currency") String currency, @QueryParam("limit_bids") int limit_bids,
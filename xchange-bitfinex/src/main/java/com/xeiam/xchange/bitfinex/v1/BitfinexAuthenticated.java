@@ -19,9 +19,13 @@ import com.xeiam.xchange.bitfinex.v1.dto.account.BitfinexWithdrawalResponse;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexActiveCreditsRequest;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexActivePositionsResponse;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexCancelOfferRequest;
+import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexCancelOrderMultiRequest;
+import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexCancelOrderMultiResponse;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexCancelOrderRequest;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexCreditResponse;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexNewOfferRequest;
+import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexNewOrderMultiRequest;
+import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexNewOrderMultiResponse;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexNewOrderRequest;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexNonceOnlyRequest;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexOfferStatusRequest;
@@ -43,6 +47,11 @@ public interface BitfinexAuthenticated extends Bitfinex {
   BitfinexOrderStatusResponse newOrder(@HeaderParam("X-BFX-APIKEY") String apiKey, @HeaderParam("X-BFX-PAYLOAD") ParamsDigest payload,
       @HeaderParam("X-BFX-SIGNATURE") ParamsDigest signature, BitfinexNewOrderRequest newOrderRequest) throws IOException, BitfinexException;
 
+  @POST
+  @Path("order/new/multi")
+  BitfinexNewOrderMultiResponse newOrderMulti(@HeaderParam("X-BFX-APIKEY") String apiKey, @HeaderParam("X-BFX-PAYLOAD") ParamsDigest payload,
+      @HeaderParam("X-BFX-SIGNATURE") ParamsDigest signature, BitfinexNewOrderMultiRequest newOrderMultiRequest) throws IOException, BitfinexException;
+
   @POST
   @Path("offer/new")
   BitfinexOfferStatusResponse newOffer(@HeaderParam("X-BFX-APIKEY") String apiKey, @HeaderParam("X-BFX-PAYLOAD") ParamsDigest payload,
@@ -58,6 +67,12 @@ public interface BitfinexAuthenticated extends Bitfinex {
   BitfinexOrderStatusResponse cancelOrders(@HeaderParam("X-BFX-APIKEY") String apiKey, @HeaderParam("X-BFX-PAYLOAD") ParamsDigest payload,
       @HeaderParam("X-BFX-SIGNATURE") ParamsDigest signature, BitfinexCancelOrderRequest cancelOrderRequest) throws IOException, BitfinexException;
 
+  @POST
+  @Path("order/cancel/multi")
+  BitfinexCancelOrderMultiResponse cancelOrderMulti(@HeaderParam("X-BFX-APIKEY") String apiKey, @HeaderParam("X-BFX-PAYLOAD") ParamsDigest payload,
+      @HeaderParam("X-BFX-SIGNATURE") ParamsDigest signature, BitfinexCancelOrderMultiRequest cancelOrderMultiRequest)
+      throws IOException, BitfinexException;
+
   @POST
   @Path("offer/cancel")
   BitfinexOfferStatusResponse cancelOffer(@HeaderParam("X-BFX-APIKEY") String apiKey, @HeaderParam("X-BFX-PAYLOAD") ParamsDigest payload,
@@ -6,6 +6,10 @@ import com.xeiam.xchange.ExchangeSpecification;
 import com.xeiam.xchange.bitfinex.v1.service.polling.BitfinexAccountService;
 import com.xeiam.xchange.bitfinex.v1.service.polling.BitfinexMarketDataService;
 import com.xeiam.xchange.bitfinex.v1.service.polling.BitfinexTradeService;
+import com.xeiam.xchange.bitfinex.v1.service.streaming.BitfinexStreamingConfiguration;
+import com.xeiam.xchange.bitfinex.v1.service.streaming.BitfinexStreamingExchangeService;
+import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
+import com.xeiam.xchange.service.streaming.StreamingExchangeService;
 import com.xeiam.xchange.utils.nonce.AtomicLongIncrementalTime2013NonceFactory;
 
 import si.mazi.rescu.SynchronizedValueFactory;
@@ -26,6 +30,7 @@ public class BitfinexExchange extends BaseExchange implements Exchange {
 
     ExchangeSpecification exchangeSpecification = new ExchangeSpecification(this.getClass().getCanonicalName());
     exchangeSpecification.setSslUri("https://api.bitfinex.com/");
+    exchangeSpecification.setSslUriStreaming("wss://api2.bitfinex.com:3000/ws");
     exchangeSpecification.setHost("api.bitfinex.com");
     exchangeSpecification.setPort(80);
     exchangeSpecification.setExchangeName("BitFinex");
@@ -34,6 +39,12 @@ public class BitfinexExchange extends BaseExchange implements Exchange {
     return exchangeSpecification;
   }
 
+  @Override
+  public StreamingExchangeService getStreamingExchangeService(ExchangeStreamingConfiguration exchangeStreamingConfiguration) {
+
+    return new BitfinexStreamingExchangeService(this, (BitfinexStreamingConfiguration) exchangeStreamingConfiguration);
+  }
+
   @Override
   public SynchronizedValueFactory<Long> getNonceFactory() {
 
@@ -0,0 +1,106 @@
+package com.xeiam.xchange.bitfinex.v1.dto.marketdata;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.xeiam.xchange.bitfinex.v1.dto.marketdata.BitfinexOrderBook.BitfinexOrderBookDeserializer;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
+
+/**
+ * The book of one symbol decoded straight into an {@link OrderBook}, the same one as {@link com.xeiam.xchange.bitfinex.v1.BitfinexAdapters#adaptOrderBook}
+ * builds from a {@link BitfinexDepth}. The pair must be injected, see {@link OrderBookParser}.
+ */
+@JsonDeserialize(using = BitfinexOrderBookDeserializer.class)
+public class BitfinexOrderBook {
+
+  private static final BigDecimal THOUSAND = new BigDecimal(1000);
+
+  private final OrderBook orderBook;
+
+  public BitfinexOrderBook(OrderBook orderBook) {
+
+    this.orderBook = orderBook;
+  }
+
+  public OrderBook getOrderBook() {
+
+    return orderBook;
+  }
+
+  static class BitfinexOrderBookDeserializer extends JsonDeserializer<BitfinexOrderBook> {
+
+    @Override
+    public BitfinexOrderBook deserialize(JsonParser jsonParser, DeserializationContext ctxt) throws IOException {
+
+      CurrencyPair currencyPair = OrderBookParser.getCurrencyPair(ctxt);
+      List<LimitOrder> asks = new ArrayList<LimitOrder>();
+      List<LimitOrder> bids = new ArrayList<LimitOrder>();
+      long asksTimestamp = Long.MIN_VALUE;
+      long bidsTimestamp = Long.MIN_VALUE;
+
+      OrderBookParser.checkToken(jsonParser, JsonToken.START_OBJECT);
+      while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = jsonParser.getCurrentName();
+        jsonParser.nextToken();
+        if (field.equals("asks")) {
+          asksTimestamp = readOrders(jsonParser, OrderType.ASK, currencyPair, asks);
+        } else if (field.equals("bids")) {
+          bidsTimestamp = readOrders(jsonParser, OrderType.BID, currencyPair, bids);
+        } else {
+          jsonParser.skipChildren();
+        }
+      }
+      return new BitfinexOrderBook(new OrderBook(new Date(Math.max(asksTimestamp, bidsTimestamp)), asks, bids));
+    }
+
+    /**
+     * Reads the {"price", "amount", "timestamp"} levels of one side
+     *
+     * @param jsonParser the parser on the start of the levels
+     * @return the latest timestamp of the side in ms
+     */
+    private static long readOrders(JsonParser jsonParser, OrderType type, CurrencyPair currencyPair, List<LimitOrder> orders) throws IOException {
+
+      long maxTimestamp = Long.MIN_VALUE;
+      OrderBookParser.checkToken(jsonParser, JsonToken.START_ARRAY);
+      while (jsonParser.nextToken() == JsonToken.START_OBJECT) {
+        BigDecimal price = null;
+        BigDecimal amount = null;
+        Date timestamp = null;
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+          String field = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (field.equals("price")) {
+            price = OrderBookParser.getDecimalValue(jsonParser);
+          } else if (field.equals("amount")) {
+            amount = OrderBookParser.getDecimalValue(jsonParser);
+          } else if (field.equals("timestamp")) {
+            // in seconds with a fraction, such as "1387058276.0"
+            long millis = OrderBookParser.getDecimalValue(jsonParser).multiply(THOUSAND).longValue();
+            if (millis > maxTimestamp) {
+              maxTimestamp = millis;
+            }
+            timestamp = new Date(millis);
+          } else {
+            jsonParser.skipChildren();
+          }
+        }
+        orders.add(new LimitOrder(type, amount, currencyPair, "", timestamp, price));
+      }
+      OrderBookParser.checkToken(jsonParser, JsonToken.END_ARRAY);
+      return maxTimestamp;
+    }
+  }
+}
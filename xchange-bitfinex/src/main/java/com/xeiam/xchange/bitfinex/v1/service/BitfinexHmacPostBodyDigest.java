@@ -1,7 +1,5 @@
 package com.xeiam.xchange.bitfinex.v1.service;
 
-import java.math.BigInteger;
-
 import javax.crypto.Mac;
 
 import com.xeiam.xchange.service.BaseParamsDigest;
@@ -32,8 +30,8 @@ public class BitfinexHmacPostBodyDigest extends BaseParamsDigest {
 
     String postBody = restInvocation.getRequestBody();
     Mac mac = getMac();
-    mac.update(Base64.encodeBytes(postBody.getBytes()).getBytes());
+    update(mac, Base64.encodeBytes(postBody.getBytes()));
 
-    return String.format("%096x", new BigInteger(1, mac.doFinal()));
+    return doFinalHex(mac, false);
   }
 }
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.xeiam.xchange.Exchange;
+import com.xeiam.xchange.bitfinex.v1.Bitfinex;
 import com.xeiam.xchange.bitfinex.v1.BitfinexAdapters;
 import com.xeiam.xchange.bitfinex.v1.BitfinexAuthenticated;
 import com.xeiam.xchange.bitfinex.v1.service.BitfinexHmacPostBodyDigest;
@@ -14,7 +15,6 @@ import com.xeiam.xchange.service.BaseExchangeService;
 import com.xeiam.xchange.service.polling.BasePollingService;
 
 import si.mazi.rescu.ParamsDigest;
-import si.mazi.rescu.RestProxyFactory;
 
 public class BitfinexBasePollingService extends BaseExchangeService implements BasePollingService {
 
@@ -32,7 +32,7 @@ public class BitfinexBasePollingService extends BaseExchangeService implements B
 
     super(exchange);
 
-    this.bitfinex = RestProxyFactory.createProxy(BitfinexAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.bitfinex = createProxy(BitfinexAuthenticated.class, exchange.getExchangeSpecification().getSslUri(), Bitfinex.class);
     this.apiKey = exchange.getExchangeSpecification().getApiKey();
     this.signatureCreator = BitfinexHmacPostBodyDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
     this.payloadCreator = new BitfinexPayloadDigest();
@@ -4,13 +4,19 @@ import java.io.IOException;
 import java.util.Collection;
 
 import com.xeiam.xchange.Exchange;
+import com.xeiam.xchange.bitfinex.v1.Bitfinex;
+import com.xeiam.xchange.bitfinex.v1.BitfinexUtils;
 import com.xeiam.xchange.bitfinex.v1.dto.BitfinexException;
 import com.xeiam.xchange.bitfinex.v1.dto.marketdata.BitfinexDepth;
 import com.xeiam.xchange.bitfinex.v1.dto.marketdata.BitfinexLend;
 import com.xeiam.xchange.bitfinex.v1.dto.marketdata.BitfinexLendDepth;
+import com.xeiam.xchange.bitfinex.v1.dto.marketdata.BitfinexOrderBook;
 import com.xeiam.xchange.bitfinex.v1.dto.marketdata.BitfinexTicker;
 import com.xeiam.xchange.bitfinex.v1.dto.marketdata.BitfinexTrade;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
 import com.xeiam.xchange.exceptions.ExchangeException;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
 
 /**
  * <p>
@@ -22,6 +28,9 @@ import com.xeiam.xchange.exceptions.ExchangeException;
  */
 public class BitfinexMarketDataServiceRaw extends BitfinexBasePollingService {
 
+  /** decodes the books with the pair set by {@link OrderBookParser#setCurrentCurrencyPair(CurrencyPair)} */
+  private final Bitfinex pairBitfinex;
+
   /**
    * Constructor
    *
@@ -30,6 +39,7 @@ public class BitfinexMarketDataServiceRaw extends BitfinexBasePollingService {
   public BitfinexMarketDataServiceRaw(Exchange exchange) {
 
     super(exchange);
+    this.pairBitfinex = createCurrencyPairProxy(Bitfinex.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public BitfinexTicker getBitfinexTicker(String pair) throws IOException {
@@ -57,6 +67,28 @@ public class BitfinexMarketDataServiceRaw extends BitfinexBasePollingService {
     }
   }
 
+  /**
+   * @return the book decoded straight into the generic one, without the {@link BitfinexDepth} step
+   */
+  public OrderBook getBitfinexOrderBook(CurrencyPair currencyPair, Integer limitBids, Integer limitAsks) throws IOException {
+
+    String pair = BitfinexUtils.toPairString(currencyPair);
+    CurrencyPair previous = OrderBookParser.setCurrentCurrencyPair(currencyPair);
+    try {
+      BitfinexOrderBook bitfinexOrderBook;
+      if (limitBids == null && limitAsks == null) {
+        bitfinexOrderBook = pairBitfinex.getOrderBook(pair);
+      } else {
+        bitfinexOrderBook = pairBitfinex.getOrderBook(pair, limitBids, limitAsks);
+      }
+      return bitfinexOrderBook.getOrderBook();
+    } catch (BitfinexException e) {
+      throw new ExchangeException(e.getMessage());
+    } finally {
+      OrderBookParser.setCurrentCurrencyPair(previous);
+    }
+  }
+
   public BitfinexLendDepth getBitfinexLendBook(String currency, int limitBids, int limitAsks) throws IOException {
 
     try {
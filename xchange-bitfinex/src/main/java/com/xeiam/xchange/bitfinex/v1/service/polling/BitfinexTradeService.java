@@ -2,7 +2,11 @@ package com.xeiam.xchange.bitfinex.v1.service.polling;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.bitfinex.v1.BitfinexAdapters;
@@ -66,6 +70,39 @@ public class BitfinexTradeService extends BitfinexTradeServiceRaw implements Pol
     return cancelBitfinexOrder(orderId);
   }
 
+  /**
+   * Places all the orders with a single call, the exchange accepting or rejecting the batch as a whole
+   */
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws IOException {
+
+    List<String> orderIds = new ArrayList<String>(limitOrders.size());
+    if (limitOrders.isEmpty()) {
+      return orderIds;
+    }
+    for (BitfinexOrderStatusResponse orderStatus : placeBitfinexOrderMulti(limitOrders, BitfinexOrderType.LIMIT).getOrderStatuses()) {
+      orderIds.add(String.valueOf(orderStatus.getId()));
+    }
+    return orderIds;
+  }
+
+  /**
+   * Cancels all the orders with a single call, the exchange accepting or rejecting the batch as a whole
+   */
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws IOException {
+
+    Map<String, Boolean> cancelled = new LinkedHashMap<String, Boolean>();
+    if (orderIds.isEmpty()) {
+      return cancelled;
+    }
+    boolean result = cancelBitfinexOrderMulti(new ArrayList<String>(orderIds));
+    for (String orderId : orderIds) {
+      cancelled.put(orderId, result);
+    }
+    return cancelled;
+  }
+
   /**
    * @param params Implementation of {@link TradeHistoryParamCurrencyPair} is mandatory. Can optionally implement {@link TradeHistoryParamPaging} and
    *        {@link TradeHistoryParamsTimeSpan#getStartTime()}. All other TradeHistoryParams types will be ignored.
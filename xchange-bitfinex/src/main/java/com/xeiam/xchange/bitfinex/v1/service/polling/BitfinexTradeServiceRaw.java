@@ -12,10 +12,14 @@ import com.xeiam.xchange.bitfinex.v1.dto.account.BitfinexWithdrawalRequest;
 import com.xeiam.xchange.bitfinex.v1.dto.account.BitfinexWithdrawalResponse;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexActiveCreditsRequest;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexCancelOfferRequest;
+import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexCancelOrderMultiRequest;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexCancelOrderRequest;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexCreditResponse;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexNewHiddenOrderRequest;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexNewOfferRequest;
+import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexNewOrder;
+import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexNewOrderMultiRequest;
+import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexNewOrderMultiResponse;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexNewOrderRequest;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexNonceOnlyRequest;
 import com.xeiam.xchange.bitfinex.v1.dto.trade.BitfinexOfferStatusRequest;
@@ -105,10 +109,10 @@ public class BitfinexTradeServiceRaw extends BitfinexBasePollingService {
       throw new ExchangeException(e.getMessage());
     }
   }
-  /*
-  public BitfinexNewOrderMultiResponse placeBitfinexOrderMulti(List<Order> orders, BitfinexOrderType bitfinexOrderType) 
+
+  public BitfinexNewOrderMultiResponse placeBitfinexOrderMulti(List<? extends Order> orders, BitfinexOrderType bitfinexOrderType)
       throws IOException {
-    
+
     BitfinexNewOrder[] bitfinexOrders = new BitfinexNewOrder[orders.size()];
     for (int i = 0; i < bitfinexOrders.length; i++) {
       Order o = orders.get(i);
@@ -140,7 +144,6 @@ public class BitfinexTradeServiceRaw extends BitfinexBasePollingService {
       throw new ExchangeException(e.getMessage());
     }
   }
-*/
 
   public BitfinexOfferStatusResponse placeBitfinexFixedRateLoanOrder(FixedRateLoanOrder loanOrder, BitfinexOrderType orderType) throws IOException {
 
@@ -187,16 +190,17 @@ public class BitfinexTradeServiceRaw extends BitfinexBasePollingService {
   }
   
   public boolean cancelBitfinexOrderMulti(List<String> orderIds) throws IOException {
-    
+
     int[] cancelOrderIds = new int[orderIds.size()];
-    
+
     for (int i = 0; i < cancelOrderIds.length; i++) {
       cancelOrderIds[i] = Integer.valueOf(orderIds.get(i));
     }
-    
+
     try {
-//     bitfinex.cancelOrderMulti(apiKey, payloadCreator, signatureCreator, new BitfinexCancelOrderMultiRequest(String.valueOf(exchange.getNonceFactory().createValue()), cancelOrderIds));
-     return true;
+      bitfinex.cancelOrderMulti(apiKey, payloadCreator, signatureCreator,
+          new BitfinexCancelOrderMultiRequest(String.valueOf(exchange.getNonceFactory().createValue()), cancelOrderIds));
+      return true;
     } catch (BitfinexException e) {
       throw new ExchangeException(e.getMessage());
     }
@@ -0,0 +1,100 @@
+package com.xeiam.xchange.bitfinex.v1.service.streaming;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.service.streaming.EventQueueConfiguration;
+import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
+
+public class BitfinexStreamingConfiguration implements ExchangeStreamingConfiguration {
+
+  private final int maxReconnectAttempts;
+  private final int reconnectWaitTimeInMs;
+  private final int timeoutInMs;
+  private final int heartbeatTimeoutInMs;
+  private final CurrencyPair[] currencyPairs;
+  private EventQueueConfiguration eventQueueConfiguration = EventQueueConfiguration.UNBOUNDED;
+
+  /**
+   * Constructor
+   *
+   * @param maxReconnectAttempts
+   * @param reconnectWaitTimeInMs
+   * @param timeoutInMs
+   * @param heartbeatTimeoutInMs how long a channel may go without a message or heartbeat before the connection is considered stale and reopened
+   * @param currencyPairs the pairs whose book, trades and ticker channels are subscribed to
+   */
+  public BitfinexStreamingConfiguration(int maxReconnectAttempts, int reconnectWaitTimeInMs, int timeoutInMs, int heartbeatTimeoutInMs,
+      CurrencyPair... currencyPairs) {
+
+    this.maxReconnectAttempts = maxReconnectAttempts;
+    this.reconnectWaitTimeInMs = reconnectWaitTimeInMs;
+    this.timeoutInMs = timeoutInMs;
+    this.heartbeatTimeoutInMs = heartbeatTimeoutInMs;
+    this.currencyPairs = currencyPairs;
+  }
+
+  /**
+   * Constructor with the default reconnection settings, a channel being stale after 15 s, three heartbeats
+   *
+   * @param currencyPairs the pairs whose book, trades and ticker channels are subscribed to
+   */
+  public BitfinexStreamingConfiguration(CurrencyPair... currencyPairs) {
+
+    this(30, 135000, 120000, 15000, currencyPairs);
+  }
+
+  public BitfinexStreamingConfiguration() {
+
+    this(CurrencyPair.BTC_USD);
+  }
+
+  @Override
+  public int getMaxReconnectAttempts() {
+
+    return maxReconnectAttempts;
+  }
+
+  @Override
+  public int getReconnectWaitTimeInMs() {
+
+    return reconnectWaitTimeInMs;
+  }
+
+  @Override
+  public int getTimeoutInMs() {
+
+    return timeoutInMs;
+  }
+
+  public int getHeartbeatTimeoutInMs() {
+
+    return heartbeatTimeoutInMs;
+  }
+
+  @Override
+  public boolean isEncryptedChannel() {
+
+    return true;
+  }
+
+  @Override
+  public boolean keepAlive() {
+
+    return true;
+  }
+
+  @Override
+  public EventQueueConfiguration getEventQueueConfiguration() {
+
+    return eventQueueConfiguration;
+  }
+
+  public void setEventQueueConfiguration(EventQueueConfiguration eventQueueConfiguration) {
+
+    this.eventQueueConfiguration = eventQueueConfiguration;
+  }
+
+  public CurrencyPair[] getCurrencyPairs() {
+
+    return currencyPairs;
+  }
+}
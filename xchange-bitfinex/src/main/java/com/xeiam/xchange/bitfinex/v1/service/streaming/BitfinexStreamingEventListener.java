@@ -0,0 +1,328 @@
+package com.xeiam.xchange.bitfinex.v1.service.streaming;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xeiam.xchange.bitfinex.v1.BitfinexAdapters;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.OrderBookUpdate;
+import com.xeiam.xchange.dto.marketdata.Ticker;
+import com.xeiam.xchange.dto.marketdata.Trade;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.exceptions.ExchangeException;
+import com.xeiam.xchange.service.streaming.DefaultExchangeEvent;
+import com.xeiam.xchange.service.streaming.ExchangeEvent;
+import com.xeiam.xchange.service.streaming.ExchangeEventListener;
+import com.xeiam.xchange.service.streaming.ExchangeEventType;
+import com.xeiam.xchange.service.streaming.StreamingExchangeService;
+import com.xeiam.xchange.utils.DateUtils;
+
+/**
+ * <p>
+ * Listener of the Bitfinex websocket API, providing the following:
+ * </p>
+ * <ul>
+ * <li>Subscription to the book, trades and ticker channels of every configured pair on each connection</li>
+ * <li>A local price level book per pair, from the channel's snapshot and its updates, published as a DEPTH event after each change</li>
+ * <li>A TRADE event per executed trade and a TICKER event per ticker update, with core DTOs</li>
+ * <li>The time of the last message or heartbeat of each channel and of each subscription not answered yet, see {@link #getStaleChannels(long)}</li>
+ * </ul>
+ * <p>
+ * The channels and books of a connection are kept until the next one is established, as the reconnect service may have opened it before the
+ * DISCONNECT or ERROR event of the former one gets here.
+ * </p>
+ * <p>
+ * Each message is parsed once into a tree, the channel data being arrays of numbers keyed by the channel ID the subscription was answered with.
+ * </p>
+ */
+public class BitfinexStreamingEventListener extends ExchangeEventListener {
+
+  private final Logger log = LoggerFactory.getLogger(BitfinexStreamingEventListener.class);
+
+  private static final String BOOK = "book";
+  private static final String TRADES = "trades";
+  private static final String TICKER = "ticker";
+
+  private final BlockingQueue<ExchangeEvent> consumerEventQueue;
+  private final StreamingExchangeService streamingExchangeService;
+  private final CurrencyPair[] currencyPairs;
+  // prices and amounts are numbers, kept exact
+  private final ObjectMapper streamObjectMapper = new ObjectMapper().configure(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS, true);
+
+  private final Map<Integer, Channel> channels = new ConcurrentHashMap<Integer, Channel>();
+  // subscriptions sent and not answered yet, by channel and pair, with the time they were sent
+  private final Map<String, Long> pendingSubscriptions = new ConcurrentHashMap<String, Long>();
+  private final Map<CurrencyPair, OrderBook> orderBooks = new ConcurrentHashMap<CurrencyPair, OrderBook>();
+
+  /**
+   * Constructor
+   *
+   * @param consumerEventQueue
+   * @param streamingExchangeService the service to send the subscriptions on
+   * @param currencyPairs
+   */
+  public BitfinexStreamingEventListener(BlockingQueue<ExchangeEvent> consumerEventQueue, StreamingExchangeService streamingExchangeService,
+      CurrencyPair[] currencyPairs) {
+
+    this.consumerEventQueue = consumerEventQueue;
+    this.streamingExchangeService = streamingExchangeService;
+    this.currencyPairs = currencyPairs;
+  }
+
+  @Override
+  public void handleEvent(ExchangeEvent event) throws ExchangeException {
+
+    switch (event.getEventType()) {
+    case CONNECT:
+      reset();
+      subscribe();
+      forwardEvent(event);
+      break;
+    case MESSAGE:
+      handleMessage(event.getData());
+      break;
+    default:
+      forwardEvent(event);
+    }
+  }
+
+  /**
+   * @return a copy of the local book of the pair, null until its snapshot is received
+   */
+  public OrderBook getOrderBook(CurrencyPair currencyPair) {
+
+    OrderBook orderBook = orderBooks.get(currencyPair);
+    return orderBook == null ? null : copy(orderBook);
+  }
+
+  /**
+   * @return a description of each subscribed channel without a message or heartbeat for more than the given time, and of each subscription without
+   *         an answer for more than the given time
+   */
+  public List<String> getStaleChannels(long timeoutInMs) {
+
+    long now = System.currentTimeMillis();
+    List<String> staleChannels = new ArrayList<String>();
+    for (Map.Entry<String, Long> pendingSubscription : pendingSubscriptions.entrySet()) {
+      if (now - pendingSubscription.getValue() > timeoutInMs) {
+        staleChannels.add(pendingSubscription.getKey() + " (not subscribed)");
+      }
+    }
+    for (Channel channel : channels.values()) {
+      if (now - channel.lastMessageTime > timeoutInMs) {
+        staleChannels.add(channel.toString());
+      }
+    }
+    return staleChannels;
+  }
+
+  private void handleMessage(String data) {
+
+    JsonNode message;
+    try {
+      message = streamObjectMapper.readTree(data);
+    } catch (IOException e) {
+      throw new ExchangeException("JSON parse error", e);
+    }
+
+    if (message.isArray()) {
+      handleChannelMessage(data, message);
+    } else {
+      handleEventMessage(data, message);
+    }
+  }
+
+  private void handleEventMessage(String data, JsonNode message) {
+
+    String event = message.path("event").asText();
+    if (event.equals("subscribed")) {
+      Channel channel = new Channel(message.path("chanId").asInt(), message.path("channel").asText(),
+          BitfinexAdapters.adaptCurrencyPair(message.path("pair").asText()));
+      channels.put(channel.id, channel);
+      pendingSubscriptions.remove(message.path("channel").asText() + " " + message.path("pair").asText());
+      log.debug("Subscribed to {}", channel);
+    } else if (event.equals("error")) {
+      forwardEvent(new DefaultExchangeEvent(ExchangeEventType.ERROR, data));
+      return;
+    }
+    forwardEvent(new DefaultExchangeEvent(ExchangeEventType.EVENT, data));
+  }
+
+  private void handleChannelMessage(String data, JsonNode message) {
+
+    Channel channel = channels.get(message.path(0).asInt());
+    if (channel == null) {
+      log.debug("Message of an unknown channel: {}", data);
+      return;
+    }
+    channel.lastMessageTime = System.currentTimeMillis();
+
+    JsonNode first = message.path(1);
+    if (first.isTextual() && first.asText().equals("hb")) {
+      return;
+    }
+
+    if (channel.name.equals(BOOK)) {
+      handleBook(data, message, channel.currencyPair);
+    } else if (channel.name.equals(TRADES)) {
+      handleTrade(data, message, channel.currencyPair);
+    } else if (channel.name.equals(TICKER)) {
+      handleTicker(data, message, channel.currencyPair);
+    }
+  }
+
+  /**
+   * Applies a snapshot [chanId, [[price, count, amount], ...]] or an update [chanId, price, count, amount]. The sign of the amount gives the side, a
+   * count of zero removes the level.
+   */
+  private void handleBook(String data, JsonNode message, CurrencyPair currencyPair) {
+
+    OrderBook orderBook;
+    if (message.path(1).isArray()) {
+      orderBook = new OrderBook(new Date(), new ArrayList<LimitOrder>(), new ArrayList<LimitOrder>());
+      for (JsonNode level : message.path(1)) {
+        updateLevel(orderBook, currencyPair, level.path(0), level.path(1), level.path(2));
+      }
+      orderBooks.put(currencyPair, orderBook);
+    } else {
+      orderBook = orderBooks.get(currencyPair);
+      if (orderBook == null) {
+        log.debug("{} book update before its snapshot: {}", currencyPair, data);
+        return;
+      }
+      updateLevel(orderBook, currencyPair, message.path(1), message.path(2), message.path(3));
+    }
+    forwardEvent(new DefaultExchangeEvent(ExchangeEventType.DEPTH, data, copy(orderBook)));
+  }
+
+  private static void updateLevel(OrderBook orderBook, CurrencyPair currencyPair, JsonNode price, JsonNode count, JsonNode amount) {
+
+    BigDecimal signedAmount = decimal(amount);
+    OrderType type = signedAmount.signum() > 0 ? OrderType.BID : OrderType.ASK;
+    BigDecimal totalVolume = count.asInt() == 0 ? BigDecimal.ZERO : signedAmount.abs();
+
+    synchronized (orderBook) {
+      orderBook.update(new OrderBookUpdate(type, totalVolume, currencyPair, decimal(price), new Date(), totalVolume));
+    }
+  }
+
+  /**
+   * Publishes an executed trade, [chanId, "te", seq, timestamp, price, amount] or [chanId, seq, timestamp, price, amount]. The snapshot of past
+   * trades and the "tu" repeat of an executed trade are skipped.
+   */
+  private void handleTrade(String data, JsonNode message, CurrencyPair currencyPair) {
+
+    int offset;
+    JsonNode first = message.path(1);
+    if (first.isTextual() && first.asText().equals("te")) {
+      offset = 2;
+    } else if (first.isNumber() && message.size() == 5) {
+      offset = 1;
+    } else {
+      return;
+    }
+
+    String id = message.path(offset).asText();
+    Date timestamp = DateUtils.fromMillisUtc(message.path(offset + 1).asLong() * 1000L);
+    BigDecimal price = decimal(message.path(offset + 2));
+    BigDecimal amount = decimal(message.path(offset + 3));
+    // a positive amount was bought by the taker
+    OrderType type = amount.signum() > 0 ? OrderType.BID : OrderType.ASK;
+
+    forwardEvent(new DefaultExchangeEvent(ExchangeEventType.TRADE, data, new Trade(type, amount.abs(), currencyPair, price, timestamp, id)));
+  }
+
+  /**
+   * Publishes [chanId, bid, bidSize, ask, askSize, dailyChange, dailyChangePerc, lastPrice, volume, high, low]
+   */
+  private void handleTicker(String data, JsonNode message, CurrencyPair currencyPair) {
+
+    Ticker ticker = new Ticker.Builder().currencyPair(currencyPair).bid(decimal(message.path(1))).ask(decimal(message.path(3)))
+        .last(decimal(message.path(7))).volume(decimal(message.path(8))).high(decimal(message.path(9)))
+        .low(decimal(message.path(10))).timestamp(new Date()).build();
+
+    forwardEvent(new DefaultExchangeEvent(ExchangeEventType.TICKER, data, ticker));
+  }
+
+  private void subscribe() {
+
+    for (CurrencyPair currencyPair : currencyPairs) {
+      String pair = (currencyPair.base.getCurrencyCode() + currencyPair.counter.getCurrencyCode()).toUpperCase();
+      subscribe(BOOK, pair, "{\"event\":\"subscribe\",\"channel\":\"" + BOOK + "\",\"pair\":\"" + pair + "\",\"prec\":\"P0\"}");
+      subscribe(TRADES, pair, "{\"event\":\"subscribe\",\"channel\":\"" + TRADES + "\",\"pair\":\"" + pair + "\"}");
+      subscribe(TICKER, pair, "{\"event\":\"subscribe\",\"channel\":\"" + TICKER + "\",\"pair\":\"" + pair + "\"}");
+    }
+  }
+
+  private void subscribe(String channel, String pair, String request) {
+
+    pendingSubscriptions.put(channel + " " + pair, System.currentTimeMillis());
+    streamingExchangeService.send(request);
+  }
+
+  /**
+   * The channel IDs, subscriptions and books of a connection do not carry over to the next one
+   */
+  private void reset() {
+
+    channels.clear();
+    pendingSubscriptions.clear();
+    orderBooks.clear();
+  }
+
+  private static BigDecimal decimal(JsonNode node) {
+
+    return node.isNumber() ? node.decimalValue() : new BigDecimal(node.asText());
+  }
+
+  private static OrderBook copy(OrderBook orderBook) {
+
+    synchronized (orderBook) {
+      return new OrderBook(orderBook.getTimeStamp(), new ArrayList<LimitOrder>(orderBook.getAsks()), new ArrayList<LimitOrder>(orderBook.getBids()));
+    }
+  }
+
+  private void forwardEvent(ExchangeEvent event) {
+
+    try {
+      consumerEventQueue.put(event);
+    } catch (InterruptedException e) {
+      throw new ExchangeException("InterruptedException!", e);
+    }
+  }
+
+  private static final class Channel {
+
+    private final int id;
+    private final String name;
+    private final CurrencyPair currencyPair;
+    private volatile long lastMessageTime = System.currentTimeMillis();
+
+    Channel(int id, String name, CurrencyPair currencyPair) {
+
+      this.id = id;
+      this.name = name;
+      this.currencyPair = currencyPair;
+    }
+
+    @Override
+    public String toString() {
+
+      return name + " " + currencyPair + " (" + id + ")";
+    }
+  }
+}
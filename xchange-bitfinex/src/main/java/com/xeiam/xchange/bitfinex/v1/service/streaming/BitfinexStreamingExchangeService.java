@@ -0,0 +1,95 @@
+package com.xeiam.xchange.bitfinex.v1.service.streaming;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.xeiam.xchange.Exchange;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.service.streaming.BaseWebSocketExchangeService;
+
+/**
+ * <p>
+ * Streaming service of the Bitfinex websocket API, providing the following:
+ * </p>
+ * <ul>
+ * <li>The book, trades and ticker channels of many pairs over one connection, see {@link BitfinexStreamingEventListener}</li>
+ * <li>Staleness detection: once a channel has gone without a message or heartbeat for
+ * {@link BitfinexStreamingConfiguration#getHeartbeatTimeoutInMs()}, the connection is closed and reopened by the reconnect service</li>
+ * </ul>
+ */
+public class BitfinexStreamingExchangeService extends BaseWebSocketExchangeService {
+
+  private final Logger log = LoggerFactory.getLogger(BitfinexStreamingExchangeService.class);
+
+  private final BitfinexStreamingConfiguration configuration;
+  private final BitfinexStreamingEventListener exchangeEventListener;
+  private Timer heartbeatTimer;
+
+  /**
+   * Constructor
+   *
+   * @param exchange
+   * @param configuration
+   */
+  public BitfinexStreamingExchangeService(Exchange exchange, BitfinexStreamingConfiguration configuration) {
+
+    super(exchange, configuration);
+
+    this.configuration = configuration;
+    this.exchangeEventListener = new BitfinexStreamingEventListener(consumerEventQueue, this, configuration.getCurrencyPairs());
+  }
+
+  @Override
+  public synchronized void connect() {
+
+    URI uri = URI.create(exchange.getExchangeSpecification().getSslUriStreaming());
+
+    // Use the default internal connect, the listener subscribes once connected
+    internalConnect(uri, exchangeEventListener, null);
+
+    if (heartbeatTimer == null) {
+      heartbeatTimer = new Timer("BitfinexHeartbeat", true);
+      long period = configuration.getHeartbeatTimeoutInMs() / 2;
+      heartbeatTimer.schedule(new HeartbeatTask(), period, period);
+    }
+  }
+
+  @Override
+  public synchronized void disconnect() {
+
+    // the timer thread ends with it, a new one is started by the next connect
+    if (heartbeatTimer != null) {
+      heartbeatTimer.cancel();
+      heartbeatTimer = null;
+    }
+    super.disconnect();
+  }
+
+  /**
+   * @return a copy of the local book of the pair, null until its snapshot is received
+   */
+  public OrderBook getOrderBook(CurrencyPair currencyPair) {
+
+    return exchangeEventListener.getOrderBook(currencyPair);
+  }
+
+  class HeartbeatTask extends TimerTask {
+
+    @Override
+    public void run() {
+
+      List<String> staleChannels = exchangeEventListener.getStaleChannels(configuration.getHeartbeatTimeoutInMs());
+      if (!staleChannels.isEmpty()) {
+        log.warn("No message nor heartbeat for {} ms on {}, reconnecting", configuration.getHeartbeatTimeoutInMs(), staleChannels);
+        // the DISCONNECT event makes the reconnect service open a new connection
+        disconnect();
+      }
+    }
+  }
+}
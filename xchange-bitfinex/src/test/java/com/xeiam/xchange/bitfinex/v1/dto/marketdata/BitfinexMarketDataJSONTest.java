@@ -13,6 +13,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.xeiam.xchange.bitfinex.v1.BitfinexAdapters;
 import com.xeiam.xchange.currency.CurrencyPair;
 import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
 
 public class BitfinexMarketDataJSONTest {
 
@@ -41,4 +43,22 @@ public class BitfinexMarketDataJSONTest {
     assertThat(bidsOrdersContainer.getTimestamp()).isEqualTo(1387060435000L);
 
   }
+
+  @Test
+  public void testOrderBook() throws Exception {
+
+    ObjectMapper mapper = new ObjectMapper();
+    BitfinexDepth depthRaw = mapper.readValue(BitfinexMarketDataJSONTest.class.getResourceAsStream("/v1/marketdata/example-marketdepth-data.json"),
+        BitfinexDepth.class);
+    OrderBookParser.injectCurrencyPair(mapper, CurrencyPair.BTC_EUR);
+    OrderBook orderBook = mapper.readValue(BitfinexMarketDataJSONTest.class.getResourceAsStream("/v1/marketdata/example-marketdepth-data.json"),
+        BitfinexOrderBook.class).getOrderBook();
+
+    // the same book as the adapter builds, with the time of each level
+    OrderBook adapted = BitfinexAdapters.adaptOrderBook(depthRaw, CurrencyPair.BTC_EUR);
+    assertThat(orderBook.getAsks()).isEqualTo(adapted.getAsks());
+    assertThat(orderBook.getBids()).isEqualTo(adapted.getBids());
+    assertThat(orderBook.getTimeStamp()).isEqualTo(adapted.getTimeStamp());
+    assertThat(orderBook.getBids().get(0).getTimestamp().getTime()).isEqualTo(1387058276000L);
+  }
 }
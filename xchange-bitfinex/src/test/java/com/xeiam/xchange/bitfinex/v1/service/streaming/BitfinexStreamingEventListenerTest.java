@@ -0,0 +1,157 @@
+package com.xeiam.xchange.bitfinex.v1.service.streaming;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.java_websocket.WebSocket.READYSTATE;
+import org.junit.Test;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.Ticker;
+import com.xeiam.xchange.dto.marketdata.Trade;
+import com.xeiam.xchange.service.streaming.DefaultExchangeEvent;
+import com.xeiam.xchange.service.streaming.ExchangeEvent;
+import com.xeiam.xchange.service.streaming.ExchangeEventType;
+import com.xeiam.xchange.service.streaming.StreamingExchangeService;
+
+public class BitfinexStreamingEventListenerTest {
+
+  private final BlockingQueue<ExchangeEvent> events = new LinkedBlockingQueue<ExchangeEvent>();
+  private final List<String> sent = new ArrayList<String>();
+
+  private final BitfinexStreamingEventListener listener = new BitfinexStreamingEventListener(events, new SendRecorder(),
+      new CurrencyPair[] { CurrencyPair.BTC_USD });
+
+  @Test
+  public void testChannels() throws InterruptedException {
+
+    listener.handleEvent(new DefaultExchangeEvent(ExchangeEventType.CONNECT, "connected"));
+    assertThat(sent).hasSize(3);
+    assertThat(sent.get(0)).contains("\"channel\":\"book\"").contains("\"pair\":\"BTCUSD\"");
+    assertThat(events.take().getEventType()).isEqualTo(ExchangeEventType.CONNECT);
+    assertThat(listener.getStaleChannels(60000)).isEmpty();
+    assertThat(listener.getStaleChannels(-1)).hasSize(3);
+
+    message("{\"event\":\"subscribed\",\"channel\":\"book\",\"chanId\":5,\"prec\":\"P0\",\"len\":\"25\",\"pair\":\"BTCUSD\"}");
+    message("{\"event\":\"subscribed\",\"channel\":\"trades\",\"chanId\":6,\"pair\":\"BTCUSD\"}");
+    // a subscription without an answer is stale as a silent channel is
+    assertThat(listener.getStaleChannels(-1)).hasSize(3).contains("ticker BTCUSD (not subscribed)");
+    message("{\"event\":\"subscribed\",\"channel\":\"ticker\",\"chanId\":7,\"pair\":\"BTCUSD\"}");
+    events.clear();
+
+    // book snapshot, then a level changed, one removed and one added
+    message("[5,[[250.1,2,1.5],[250,1,2],[250.5,1,-0.5],[251,3,-4]]]");
+    OrderBook orderBook = (OrderBook) next(ExchangeEventType.DEPTH).getPayload();
+    assertThat(orderBook.getBids()).hasSize(2);
+    assertThat(orderBook.getBids().get(0).getLimitPrice()).isEqualTo(new BigDecimal("250.1"));
+    assertThat(orderBook.getAsks()).hasSize(2);
+    assertThat(orderBook.getAsks().get(0).getLimitPrice()).isEqualTo(new BigDecimal("250.5"));
+    assertThat(orderBook.getAsks().get(0).getTradableAmount()).isEqualTo(new BigDecimal("0.5"));
+
+    message("[5,250.1,3,2.5]");
+    message("[5,250.5,0,-1]");
+    message("[5,249,1,1]");
+    message("[5,\"hb\"]");
+    next(ExchangeEventType.DEPTH);
+    next(ExchangeEventType.DEPTH);
+    orderBook = (OrderBook) next(ExchangeEventType.DEPTH).getPayload();
+    assertThat(events).isEmpty();
+    assertThat(orderBook.getBids()).hasSize(3);
+    assertThat(orderBook.getBids().get(0).getTradableAmount()).isEqualTo(new BigDecimal("2.5"));
+    assertThat(orderBook.getBids().get(2).getLimitPrice()).isEqualTo(new BigDecimal("249"));
+    assertThat(orderBook.getAsks()).hasSize(1);
+    assertThat(listener.getOrderBook(CurrencyPair.BTC_USD)).isEqualTo(orderBook);
+
+    // the snapshot of past trades and the repeat of an executed one are skipped
+    message("[6,[[\"1\",1443659698,236.42,0.49]]]");
+    message("[6,\"te\",\"1-BTCUSD\",1443659698,236.42,-0.49]");
+    message("[6,\"tu\",\"1-BTCUSD\",7848401,1443659698,236.42,-0.49]");
+    Trade trade = (Trade) next(ExchangeEventType.TRADE).getPayload();
+    assertThat(events).isEmpty();
+    assertThat(trade.getType()).isEqualTo(OrderType.ASK);
+    assertThat(trade.getTradableAmount()).isEqualTo(new BigDecimal("0.49"));
+    assertThat(trade.getPrice()).isEqualTo(new BigDecimal("236.42"));
+    assertThat(trade.getId()).isEqualTo("1-BTCUSD");
+
+    message("[7,236.62,9.0029,236.88,7.1138,-1.02,0,236.52,5191.36754297,250.01,220.05]");
+    Ticker ticker = (Ticker) next(ExchangeEventType.TICKER).getPayload();
+    assertThat(ticker.getBid()).isEqualTo(new BigDecimal("236.62"));
+    assertThat(ticker.getAsk()).isEqualTo(new BigDecimal("236.88"));
+    assertThat(ticker.getLast()).isEqualTo(new BigDecimal("236.52"));
+    assertThat(ticker.getLow()).isEqualTo(new BigDecimal("220.05"));
+
+    assertThat(listener.getStaleChannels(60000)).isEmpty();
+    assertThat(listener.getStaleChannels(-1)).hasSize(3);
+
+    // the disconnect of a former connection may come after the next one is opened, nothing is dropped until the next one is established
+    listener.handleEvent(new DefaultExchangeEvent(ExchangeEventType.DISCONNECT, "disconnected"));
+    assertThat(listener.getOrderBook(CurrencyPair.BTC_USD)).isEqualTo(orderBook);
+    listener.handleEvent(new DefaultExchangeEvent(ExchangeEventType.CONNECT, "connected"));
+    assertThat(listener.getOrderBook(CurrencyPair.BTC_USD)).isNull();
+    assertThat(listener.getStaleChannels(-1)).hasSize(3).contains("book BTCUSD (not subscribed)");
+  }
+
+  private void message(String data) {
+
+    listener.handleEvent(new DefaultExchangeEvent(ExchangeEventType.MESSAGE, data));
+  }
+
+  private ExchangeEvent next(ExchangeEventType type) {
+
+    ExchangeEvent event = events.poll();
+    assertThat(event).isNotNull();
+    assertThat(event.getEventType()).isEqualTo(type);
+    return event;
+  }
+
+  private class SendRecorder implements StreamingExchangeService {
+
+    @Override
+    public void connect() {
+
+    }
+
+    @Override
+    public void disconnect() {
+
+    }
+
+    @Override
+    public ExchangeEvent getNextEvent() throws InterruptedException {
+
+      return events.take();
+    }
+
+    @Override
+    public int countEventsAvailable() {
+
+      return events.size();
+    }
+
+    @Override
+    public int drainEvents(Collection<? super ExchangeEvent> drained, int maxEvents) {
+
+      return events.drainTo(drained, maxEvents);
+    }
+
+    @Override
+    public void send(String msg) {
+
+      sent.add(msg);
+    }
+
+    @Override
+    public READYSTATE getWebSocketStatus() {
+
+      return READYSTATE.OPEN;
+    }
+  }
+}
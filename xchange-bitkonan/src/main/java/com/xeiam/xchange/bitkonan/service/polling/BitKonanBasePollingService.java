@@ -23,6 +23,6 @@ public class BitKonanBasePollingService extends BaseExchangeService implements B
 
     super(exchange);
 
-    this.bitKonan = RestProxyFactory.createProxy(BitKonan.class, exchange.getExchangeSpecification().getSslUri());
+    this.bitKonan = RestProxyFactory.createProxy(BitKonan.class, exchange.getExchangeSpecification().getSslUri(), exchange.createClientConfig());
   }
 }
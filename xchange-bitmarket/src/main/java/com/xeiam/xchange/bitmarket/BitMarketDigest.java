@@ -1,8 +1,5 @@
 package com.xeiam.xchange.bitmarket;
 
-import java.io.UnsupportedEncodingException;
-import java.math.BigInteger;
-
 import javax.crypto.Mac;
 
 import com.xeiam.xchange.service.BaseParamsDigest;
@@ -26,13 +23,9 @@ public class BitMarketDigest extends BaseParamsDigest {
   @Override
   public String digestParams(RestInvocation restInvocation) {
 
-    try {
-      String postBody = restInvocation.getRequestBody();
-      Mac mac = getMac();
-      mac.update(postBody.getBytes("UTF-8"));
-      return String.format("%0128x", new BigInteger(1, mac.doFinal()));
-    } catch (UnsupportedEncodingException e) {
-      throw new RuntimeException("Illegal encoding, check the code.", e);
-    }
+    String postBody = restInvocation.getRequestBody();
+    Mac mac = getMac();
+    update(mac, postBody);
+    return doFinalHex(mac, false);
   }
 }
@@ -1,6 +1,9 @@
 package com.xeiam.xchange.bitmarket.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.bitmarket.BitMarketAdapters;
@@ -17,6 +20,7 @@ import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.exceptions.NotAvailableFromExchangeException;
 import com.xeiam.xchange.exceptions.NotYetImplementedForExchangeException;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+import com.xeiam.xchange.service.polling.trade.TradeServiceUtils;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
 
 /**
@@ -62,6 +66,20 @@ public class BitMarketTradeService extends BitMarketTradeServiceRaw implements P
     return true;
   }
 
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders)
+      throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException {
+
+    return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds)
+      throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException {
+
+    return TradeServiceUtils.cancelOrders(this, orderIds);
+  }
+
   @Override
   public UserTrades getTradeHistory(TradeHistoryParams tradeHistoryParams) throws IOException {
 
@@ -3,8 +3,6 @@ package com.xeiam.xchange.bitso.service.polling;
 import java.io.IOException;
 import java.math.BigDecimal;
 
-import si.mazi.rescu.RestProxyFactory;
-
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.bitso.BitsoAuthenticated;
 import com.xeiam.xchange.bitso.dto.account.BitsoBalance;
@@ -21,7 +19,7 @@ public class BitsoAccountServiceRaw extends BitsoBasePollingService {
   protected BitsoAccountServiceRaw(Exchange exchange) {
     super(exchange);
 
-    this.bitsoAuthenticated = RestProxyFactory.createProxy(BitsoAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.bitsoAuthenticated = createPrivateProxy(BitsoAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = BitsoDigest.createInstance(exchange.getExchangeSpecification().getSecretKey(),
         exchange.getExchangeSpecification().getUserName(), exchange.getExchangeSpecification().getApiKey());
   }
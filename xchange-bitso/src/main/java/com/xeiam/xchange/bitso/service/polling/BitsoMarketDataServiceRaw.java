@@ -9,8 +9,6 @@ import com.xeiam.xchange.bitso.dto.marketdata.BitsoTicker;
 import com.xeiam.xchange.bitso.dto.marketdata.BitsoTransaction;
 import com.xeiam.xchange.exceptions.ExchangeException;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * @author Piotr Ładyżyński
  */
@@ -20,7 +18,7 @@ public class BitsoMarketDataServiceRaw extends BitsoBasePollingService {
 
   public BitsoMarketDataServiceRaw(Exchange exchange) {
     super(exchange);
-    this.bitso = RestProxyFactory.createProxy(Bitso.class, exchange.getExchangeSpecification().getSslUri());
+    this.bitso = createPublicProxy(Bitso.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public BitsoOrderBook getBitsoOrderBook() throws IOException {
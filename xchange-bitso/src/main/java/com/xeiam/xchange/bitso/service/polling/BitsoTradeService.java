@@ -5,7 +5,9 @@ import static com.xeiam.xchange.dto.Order.OrderType.BID;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.bitso.BitsoAdapters;
@@ -21,6 +23,7 @@ import com.xeiam.xchange.dto.trade.UserTrades;
 import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.exceptions.NotAvailableFromExchangeException;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+import com.xeiam.xchange.service.polling.trade.TradeServiceUtils;
 import com.xeiam.xchange.service.polling.trade.params.DefaultTradeHistoryParamPaging;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamPaging;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
@@ -84,6 +87,18 @@ public class BitsoTradeService extends BitsoTradeServiceRaw implements PollingTr
     return cancelBitsoOrder(orderId);
   }
 
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws IOException, BitsoException {
+
+    return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws IOException, BitsoException {
+
+    return TradeServiceUtils.cancelOrders(this, orderIds);
+  }
+
   /**
    * Required parameter types: {@link com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamPaging#getPageLength()}
    * <p/>
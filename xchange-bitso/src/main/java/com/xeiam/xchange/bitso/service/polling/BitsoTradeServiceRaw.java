@@ -9,8 +9,6 @@ import com.xeiam.xchange.bitso.dto.trade.BitsoOrder;
 import com.xeiam.xchange.bitso.dto.trade.BitsoUserTransaction;
 import com.xeiam.xchange.bitso.service.BitsoDigest;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * @author Piotr Ładyżyński
  */
@@ -25,7 +23,7 @@ public class BitsoTradeServiceRaw extends BitsoBasePollingService {
   public BitsoTradeServiceRaw(Exchange exchange) {
 
     super(exchange);
-    this.bitsoAuthenticated = RestProxyFactory.createProxy(BitsoAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.bitsoAuthenticated = createPrivateProxy(BitsoAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = BitsoDigest.createInstance(exchange.getExchangeSpecification().getSecretKey(),
         exchange.getExchangeSpecification().getUserName(), exchange.getExchangeSpecification().getApiKey());
   }
@@ -9,6 +9,7 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 
 import com.xeiam.xchange.bitstamp.dto.marketdata.BitstampOrderBook;
+import com.xeiam.xchange.bitstamp.dto.marketdata.BitstampOrderBookWrapper;
 import com.xeiam.xchange.bitstamp.dto.marketdata.BitstampTicker;
 import com.xeiam.xchange.bitstamp.dto.marketdata.BitstampTransaction;
 
@@ -26,6 +27,13 @@ public interface Bitstamp {
   @Path("order_book/")
   public BitstampOrderBook getOrderBook() throws IOException;
 
+  /**
+   * The order book decoded straight into the generic one, the proxy must inject the pair.
+   */
+  @GET
+  @Path("order_book/")
+  public BitstampOrderBookWrapper getOrderBookWrapper() throws IOException;
+
   @GET
   @Path("ticker/")
   public BitstampTicker getTicker() throws IOException;
@@ -0,0 +1,67 @@
+package com.xeiam.xchange.bitstamp.dto.marketdata;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.xeiam.xchange.bitstamp.dto.marketdata.BitstampOrderBookWrapper.BitstampOrderBookWrapperDeserializer;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
+
+/**
+ * The polled order book decoded straight into an {@link OrderBook}, the same one as {@link com.xeiam.xchange.bitstamp.BitstampAdapters#adaptOrderBook}
+ * builds from a {@link BitstampOrderBook}. The pair must be injected, see {@link OrderBookParser}.
+ */
+@JsonDeserialize(using = BitstampOrderBookWrapperDeserializer.class)
+public class BitstampOrderBookWrapper {
+
+  private final OrderBook orderBook;
+
+  public BitstampOrderBookWrapper(OrderBook orderBook) {
+
+    this.orderBook = orderBook;
+  }
+
+  public OrderBook getOrderBook() {
+
+    return orderBook;
+  }
+
+  static class BitstampOrderBookWrapperDeserializer extends JsonDeserializer<BitstampOrderBookWrapper> {
+
+    @Override
+    public BitstampOrderBookWrapper deserialize(JsonParser jsonParser, DeserializationContext ctxt) throws IOException {
+
+      CurrencyPair currencyPair = OrderBookParser.getCurrencyPair(ctxt);
+      Date timestamp = null;
+      List<LimitOrder> asks = new ArrayList<LimitOrder>();
+      List<LimitOrder> bids = new ArrayList<LimitOrder>();
+
+      OrderBookParser.checkToken(jsonParser, JsonToken.START_OBJECT);
+      while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = jsonParser.getCurrentName();
+        jsonParser.nextToken();
+        if (field.equals("timestamp")) {
+          // in seconds
+          timestamp = new Date(jsonParser.getValueAsLong() * 1000);
+        } else if (field.equals("asks")) {
+          asks = OrderBookParser.readArrayLevels(jsonParser, OrderType.ASK, currencyPair, "");
+        } else if (field.equals("bids")) {
+          bids = OrderBookParser.readArrayLevels(jsonParser, OrderType.BID, currencyPair, "");
+        } else {
+          jsonParser.skipChildren();
+        }
+      }
+      return new BitstampOrderBookWrapper(new OrderBook(timestamp, asks, bids));
+    }
+  }
+}
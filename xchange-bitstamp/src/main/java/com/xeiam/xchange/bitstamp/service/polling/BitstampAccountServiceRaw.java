@@ -5,8 +5,6 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 
-import si.mazi.rescu.RestProxyFactory;
-
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.bitstamp.BitstampAuthenticated;
 import com.xeiam.xchange.bitstamp.dto.account.BitstampBalance;
@@ -36,7 +34,7 @@ public class BitstampAccountServiceRaw extends BitstampBasePollingService {
 
     super(exchange);
 
-    this.bitstampAuthenticated = RestProxyFactory.createProxy(BitstampAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.bitstampAuthenticated = createPrivateProxy(BitstampAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = BitstampDigest.createInstance(exchange.getExchangeSpecification().getSecretKey(),
         exchange.getExchangeSpecification().getUserName(), exchange.getExchangeSpecification().getApiKey());
   }
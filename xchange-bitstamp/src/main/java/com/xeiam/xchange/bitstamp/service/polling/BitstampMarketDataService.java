@@ -1,6 +1,8 @@
 package com.xeiam.xchange.bitstamp.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.bitstamp.BitstampAdapters;
@@ -8,6 +10,7 @@ import com.xeiam.xchange.currency.CurrencyPair;
 import com.xeiam.xchange.dto.marketdata.OrderBook;
 import com.xeiam.xchange.dto.marketdata.Ticker;
 import com.xeiam.xchange.dto.marketdata.Trades;
+import com.xeiam.xchange.service.polling.marketdata.MarketDataServiceUtils;
 import com.xeiam.xchange.service.polling.marketdata.PollingMarketDataService;
 import com.xeiam.xchange.utils.Assert;
 
@@ -38,7 +41,7 @@ public class BitstampMarketDataService extends BitstampMarketDataServiceRaw impl
   public OrderBook getOrderBook(CurrencyPair currencyPair, Object... args) throws IOException {
 
     Assert.isTrue(currencyPair.equals(CurrencyPair.BTC_USD), "Currency Pair must be USD/BTC!!!");
-    return BitstampAdapters.adaptOrderBook(getBitstampOrderBook(), currencyPair, 1000);
+    return getBitstampOrderBook(currencyPair);
   }
 
   @Override
@@ -48,4 +51,16 @@ public class BitstampMarketDataService extends BitstampMarketDataServiceRaw impl
     return BitstampAdapters.adaptTrades(getBitstampTransactions(args), currencyPair);
   }
 
+  @Override
+  public Map<CurrencyPair, Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+    return MarketDataServiceUtils.getTickers(this, currencyPairs);
+  }
+
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+    return MarketDataServiceUtils.getOrderBooks(this, currencyPairs, args);
+  }
+
 }
@@ -5,11 +5,13 @@ import java.io.IOException;
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.bitstamp.Bitstamp;
 import com.xeiam.xchange.bitstamp.dto.marketdata.BitstampOrderBook;
+import com.xeiam.xchange.bitstamp.dto.marketdata.BitstampOrderBookWrapper;
 import com.xeiam.xchange.bitstamp.dto.marketdata.BitstampTicker;
 import com.xeiam.xchange.bitstamp.dto.marketdata.BitstampTransaction;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
 import com.xeiam.xchange.exceptions.ExchangeException;
-
-import si.mazi.rescu.RestProxyFactory;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
 
 /**
  * @author gnandiga
@@ -17,6 +19,8 @@ import si.mazi.rescu.RestProxyFactory;
 public class BitstampMarketDataServiceRaw extends BitstampBasePollingService {
 
   private final Bitstamp bitstamp;
+  /** decodes the books with the pair set by {@link OrderBookParser#setCurrentCurrencyPair(CurrencyPair)} */
+  private final Bitstamp pairBitstamp;
 
   /**
    * Constructor
@@ -26,7 +30,8 @@ public class BitstampMarketDataServiceRaw extends BitstampBasePollingService {
   public BitstampMarketDataServiceRaw(Exchange exchange) {
 
     super(exchange);
-    this.bitstamp = RestProxyFactory.createProxy(Bitstamp.class, exchange.getExchangeSpecification().getSslUri());
+    this.bitstamp = createPublicProxy(Bitstamp.class, exchange.getExchangeSpecification().getSslUri());
+    this.pairBitstamp = createCurrencyPairProxy(Bitstamp.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public BitstampTicker getBitstampTicker() throws IOException {
@@ -39,6 +44,19 @@ public class BitstampMarketDataServiceRaw extends BitstampBasePollingService {
     return bitstamp.getOrderBook();
   }
 
+  /**
+   * @return the order book decoded straight into the generic one, without the {@link BitstampOrderBook} step
+   */
+  public OrderBook getBitstampOrderBook(CurrencyPair currencyPair) throws IOException {
+
+    CurrencyPair previous = OrderBookParser.setCurrentCurrencyPair(currencyPair);
+    try {
+      return pairBitstamp.getOrderBookWrapper().getOrderBook();
+    } finally {
+      OrderBookParser.setCurrentCurrencyPair(previous);
+    }
+  }
+
   public BitstampTransaction[] getBitstampTransactions(Object... args) throws IOException {
 
     BitstampTransaction[] transactions = null;
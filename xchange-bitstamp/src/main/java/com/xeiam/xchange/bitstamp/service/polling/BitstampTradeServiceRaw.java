@@ -9,8 +9,6 @@ import com.xeiam.xchange.bitstamp.dto.trade.BitstampOrder;
 import com.xeiam.xchange.bitstamp.dto.trade.BitstampUserTransaction;
 import com.xeiam.xchange.bitstamp.service.BitstampDigest;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * @author gnandiga
  */
@@ -25,7 +23,7 @@ public class BitstampTradeServiceRaw extends BitstampBasePollingService {
   public BitstampTradeServiceRaw(Exchange exchange) {
 
     super(exchange);
-    this.bitstampAuthenticated = RestProxyFactory.createProxy(BitstampAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.bitstampAuthenticated = createPrivateProxy(BitstampAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = BitstampDigest.createInstance(exchange.getExchangeSpecification().getSecretKey(),
         exchange.getExchangeSpecification().getUserName(), exchange.getExchangeSpecification().getApiKey());
   }
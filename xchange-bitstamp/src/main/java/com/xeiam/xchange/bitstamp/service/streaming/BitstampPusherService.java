@@ -1,11 +1,11 @@
 package com.xeiam.xchange.bitstamp.service.streaming;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import org.java_websocket.WebSocket.READYSTATE;
 import org.slf4j.Logger;
@@ -42,7 +42,7 @@ public class BitstampPusherService extends BitstampBasePollingService implements
   private final Logger logger = LoggerFactory.getLogger(BitstampPusherService.class);
 
   // private final ExchangeEventListener exchangeEventListener;
-  private final BlockingQueue<ExchangeEvent> consumerEventQueue = new LinkedBlockingQueue<ExchangeEvent>();
+  private final BlockingQueue<ExchangeEvent> consumerEventQueue;
   private final ObjectMapper streamObjectMapper;
 
   /**
@@ -65,7 +65,11 @@ public class BitstampPusherService extends BitstampBasePollingService implements
 
     super(exchange);
 
+    if (configuration.getEventQueueConfiguration().isConflating() && configuration.getChannels().contains("diff_order_book")) {
+      throw new IllegalArgumentException("diff_order_book publishes incremental depth, which cannot be conflated");
+    }
     this.configuration = configuration;
+    this.consumerEventQueue = configuration.getEventQueueConfiguration().newQueue();
     client = new Pusher(configuration.getPusherKey(), configuration.pusherOptions());
     // reconnectService = new ReconnectService(this, configuration);
     channels = new HashMap<String, Channel>();
@@ -124,6 +128,15 @@ public class BitstampPusherService extends BitstampBasePollingService implements
     return consumerEventQueue.size();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int drainEvents(Collection<? super ExchangeEvent> events, int maxEvents) {
+
+    return consumerEventQueue.drainTo(events, maxEvents);
+  }
+
   /**
    * <p>
    * Sends a msg over the socket.
@@ -4,6 +4,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import com.pusher.client.PusherOptions;
+import com.xeiam.xchange.service.streaming.EventQueueConfiguration;
 import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
 
 /**
@@ -23,6 +24,7 @@ public class BitstampStreamingConfiguration implements ExchangeStreamingConfigur
   private final String pusherKey;
   private final Set<String> channels;
   private PusherOptions pusherOpts;
+  private EventQueueConfiguration eventQueueConfiguration = EventQueueConfiguration.UNBOUNDED;
 
   /**
    * Constructor
@@ -97,6 +99,25 @@ public class BitstampStreamingConfiguration implements ExchangeStreamingConfigur
     return true; // pusher client always keeps alive
   }
 
+  @Override
+  public EventQueueConfiguration getEventQueueConfiguration() {
+
+    return eventQueueConfiguration;
+  }
+
+  /**
+   * @param eventQueueConfiguration the event queue to use; {@link EventQueueConfiguration#CONFLATING} cannot be combined with the diff_order_book
+   *          channel
+   * @throws IllegalArgumentException if the queue is conflating and the diff_order_book channel is configured
+   */
+  public void setEventQueueConfiguration(EventQueueConfiguration eventQueueConfiguration) {
+
+    if (eventQueueConfiguration.isConflating() && channels.contains("diff_order_book")) {
+      throw new IllegalArgumentException("diff_order_book publishes incremental depth, which cannot be conflated");
+    }
+    this.eventQueueConfiguration = eventQueueConfiguration;
+  }
+
   public String getPusherKey() {
 
     return pusherKey;
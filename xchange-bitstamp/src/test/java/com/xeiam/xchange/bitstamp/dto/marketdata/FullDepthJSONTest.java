@@ -9,6 +9,10 @@ import java.math.BigDecimal;
 import org.junit.Test;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xeiam.xchange.bitstamp.BitstampAdapters;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
 
 /**
  * Test BitStamp Full Depth JSON parsing
@@ -32,4 +36,21 @@ public class FullDepthJSONTest {
     assertThat(orderBook.getAsks().get(0).get(1)).isEqualTo(new BigDecimal("0.60466812"));
     assertThat(orderBook.getTimestamp()).isEqualTo(1378816304);
   }
+
+  @Test
+  public void testUnmarshalOrderBook() throws IOException {
+
+    ObjectMapper mapper = new ObjectMapper();
+    BitstampOrderBook bitstampOrderBook = mapper.readValue(FullDepthJSONTest.class.getResourceAsStream("/marketdata/example-full-depth-data.json"),
+        BitstampOrderBook.class);
+    OrderBookParser.injectCurrencyPair(mapper, CurrencyPair.BTC_USD);
+    OrderBook orderBook = mapper.readValue(FullDepthJSONTest.class.getResourceAsStream("/marketdata/example-full-depth-data.json"),
+        BitstampOrderBookWrapper.class).getOrderBook();
+
+    // the same book as the adapter builds
+    OrderBook adapted = BitstampAdapters.adaptOrderBook(bitstampOrderBook, CurrencyPair.BTC_USD, 1000);
+    assertThat(orderBook.getBids()).isEqualTo(adapted.getBids());
+    assertThat(orderBook.getAsks()).isEqualTo(adapted.getAsks());
+    assertThat(orderBook.getTimeStamp()).isEqualTo(adapted.getTimeStamp());
+  }
 }
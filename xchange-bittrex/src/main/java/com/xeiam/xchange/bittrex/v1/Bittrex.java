@@ -10,6 +10,7 @@ import javax.ws.rs.core.MediaType;
 
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexCurrenciesResponse;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexDepthResponse;
+import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexOrderBookResponse;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexSymbolsResponse;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexTickerResponse;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexTickersResponse;
@@ -32,6 +33,11 @@ public interface Bittrex {
   BittrexDepthResponse getBook(@QueryParam("market") String market, @QueryParam("type") String type, @QueryParam("depth") int depth)
       throws IOException;
 
+  @GET
+  @Path("public/getorderbook/")
+  BittrexOrderBookResponse getOrderBook(@QueryParam("market") String market, @QueryParam("type") String type, @QueryParam("depth") int depth)
+      throws IOException;
+
   @GET
   @Path("public/getmarkethistory/")
   BittrexTradesResponse getTrades(@QueryParam("market") String market, @QueryParam("count") int count) throws IOException;
@@ -0,0 +1,104 @@
+package com.xeiam.xchange.bittrex.v1.dto.marketdata;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexOrderBookResponse.BittrexOrderBookResponseDeserializer;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
+
+/**
+ * The book of one market decoded straight into an {@link OrderBook}, the same one as the market data service builds from a
+ * {@link BittrexDepthResponse}. The pair must be injected, see {@link OrderBookParser}.
+ */
+@JsonDeserialize(using = BittrexOrderBookResponseDeserializer.class)
+public class BittrexOrderBookResponse {
+
+  private final boolean success;
+  private final String message;
+  private final OrderBook orderBook;
+
+  public BittrexOrderBookResponse(boolean success, String message, OrderBook orderBook) {
+
+    this.success = success;
+    this.message = message;
+    this.orderBook = orderBook;
+  }
+
+  public boolean getSuccess() {
+
+    return success;
+  }
+
+  public String getMessage() {
+
+    return message;
+  }
+
+  public OrderBook getOrderBook() {
+
+    return orderBook;
+  }
+
+  @Override
+  public String toString() {
+
+    return "BittrexOrderBookResponse [success=" + success + ", message=" + message + ", orderBook=" + orderBook + "]";
+  }
+
+  static class BittrexOrderBookResponseDeserializer extends JsonDeserializer<BittrexOrderBookResponse> {
+
+    @Override
+    public BittrexOrderBookResponse deserialize(JsonParser jsonParser, DeserializationContext ctxt) throws IOException {
+
+      CurrencyPair currencyPair = OrderBookParser.getCurrencyPair(ctxt);
+      boolean success = false;
+      String message = null;
+      OrderBook orderBook = null;
+
+      OrderBookParser.checkToken(jsonParser, JsonToken.START_OBJECT);
+      while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = jsonParser.getCurrentName();
+        jsonParser.nextToken();
+        if (field.equals("success")) {
+          success = jsonParser.getValueAsBoolean();
+        } else if (field.equals("message")) {
+          message = jsonParser.getValueAsString();
+        } else if (field.equals("result") && jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+          orderBook = readOrderBook(jsonParser, currencyPair);
+        } else {
+          jsonParser.skipChildren();
+        }
+      }
+      return new BittrexOrderBookResponse(success, message, orderBook);
+    }
+
+    private static OrderBook readOrderBook(JsonParser jsonParser, CurrencyPair currencyPair) throws IOException {
+
+      List<LimitOrder> asks = new ArrayList<LimitOrder>();
+      List<LimitOrder> bids = new ArrayList<LimitOrder>();
+
+      while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = jsonParser.getCurrentName();
+        jsonParser.nextToken();
+        if (field.equals("sell")) {
+          asks = OrderBookParser.readObjectLevels(jsonParser, OrderType.ASK, currencyPair, "Rate", "Quantity", "");
+        } else if (field.equals("buy")) {
+          bids = OrderBookParser.readObjectLevels(jsonParser, OrderType.BID, currencyPair, "Rate", "Quantity", "");
+        } else {
+          jsonParser.skipChildren();
+        }
+      }
+      return new OrderBook(null, asks, bids);
+    }
+  }
+}
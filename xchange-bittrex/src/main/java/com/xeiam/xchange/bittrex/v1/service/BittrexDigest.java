@@ -1,7 +1,5 @@
 package com.xeiam.xchange.bittrex.v1.service;
 
-import java.math.BigInteger;
-
 import javax.crypto.Mac;
 
 import com.xeiam.xchange.service.BaseParamsDigest;
@@ -31,8 +29,8 @@ public class BittrexDigest extends BaseParamsDigest {
 
     String invocationUrl = restInvocation.getInvocationUrl();
     Mac mac = getMac();
-    mac.update(invocationUrl.getBytes());
+    update(mac, invocationUrl);
 
-    return String.format("%0128x", new BigInteger(1, mac.doFinal()));
+    return doFinalHex(mac, false);
   }
 }
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.xeiam.xchange.Exchange;
+import com.xeiam.xchange.bittrex.v1.Bittrex;
 import com.xeiam.xchange.bittrex.v1.BittrexAdapters;
 import com.xeiam.xchange.bittrex.v1.BittrexAuthenticated;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexSymbol;
@@ -14,7 +15,6 @@ import com.xeiam.xchange.service.BaseExchangeService;
 import com.xeiam.xchange.service.polling.BasePollingService;
 
 import si.mazi.rescu.ParamsDigest;
-import si.mazi.rescu.RestProxyFactory;
 
 public class BittrexBasePollingService extends BaseExchangeService implements BasePollingService {
 
@@ -31,7 +31,7 @@ public class BittrexBasePollingService extends BaseExchangeService implements Ba
 
     super(exchange);
 
-    this.bittrexAuthenticated = RestProxyFactory.createProxy(BittrexAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.bittrexAuthenticated = createProxy(BittrexAuthenticated.class, exchange.getExchangeSpecification().getSslUri(), Bittrex.class);
     this.apiKey = exchange.getExchangeSpecification().getApiKey();
     this.signatureCreator = BittrexDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
   }
@@ -1,18 +1,22 @@
 package com.xeiam.xchange.bittrex.v1.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.bittrex.v1.BittrexAdapters;
 import com.xeiam.xchange.bittrex.v1.BittrexUtils;
-import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexDepth;
+import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexTicker;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexTrade;
 import com.xeiam.xchange.currency.CurrencyPair;
 import com.xeiam.xchange.dto.marketdata.OrderBook;
 import com.xeiam.xchange.dto.marketdata.Ticker;
 import com.xeiam.xchange.dto.marketdata.Trades;
-import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.service.polling.marketdata.MarketDataServiceUtils;
 import com.xeiam.xchange.service.polling.marketdata.PollingMarketDataService;
 
 /**
@@ -55,12 +59,7 @@ public class BittrexMarketDataService extends BittrexMarketDataServiceRaw implem
       }
     }
 
-    BittrexDepth bittrexDepth = getBittrexOrderBook(BittrexUtils.toPairString(currencyPair), depth);
-
-    List<LimitOrder> asks = BittrexAdapters.adaptOrders(bittrexDepth.getAsks(), currencyPair, "ask", "");
-    List<LimitOrder> bids = BittrexAdapters.adaptOrders(bittrexDepth.getBids(), currencyPair, "bid", "");
-
-    return new OrderBook(null, asks, bids);
+    return getBittrexOrderBook(currencyPair, depth);
   }
 
   /**
@@ -84,4 +83,37 @@ public class BittrexMarketDataService extends BittrexMarketDataServiceRaw implem
     return BittrexAdapters.adaptTrades(trades, currencyPair);
   }
 
+  /**
+   * Fetches the tickers of all markets with one request
+   */
+  @Override
+  public Map<CurrencyPair, Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+    Map<CurrencyPair, Ticker> tickers = new LinkedHashMap<CurrencyPair, Ticker>();
+    if (currencyPairs.isEmpty()) {
+      return tickers;
+    }
+    List<BittrexTicker> bittrexTickers = getBittrexTickers();
+    Map<String, BittrexTicker> byMarketName = new HashMap<String, BittrexTicker>(bittrexTickers.size() * 2);
+    for (BittrexTicker bittrexTicker : bittrexTickers) {
+      byMarketName.put(bittrexTicker.getMarketName(), bittrexTicker);
+    }
+    for (CurrencyPair currencyPair : currencyPairs) {
+      BittrexTicker bittrexTicker = byMarketName.get(BittrexUtils.toPairString(currencyPair));
+      if (bittrexTicker != null) {
+        tickers.put(currencyPair, BittrexAdapters.adaptTicker(bittrexTicker, currencyPair));
+      }
+    }
+    return tickers;
+  }
+
+  /**
+   * Bittrex returns the order book of one market per request
+   */
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+    return MarketDataServiceUtils.getOrderBooks(this, currencyPairs, args);
+  }
+
 }
@@ -4,10 +4,13 @@ import java.io.IOException;
 import java.util.ArrayList;
 
 import com.xeiam.xchange.Exchange;
+import com.xeiam.xchange.bittrex.v1.Bittrex;
+import com.xeiam.xchange.bittrex.v1.BittrexUtils;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexCurrenciesResponse;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexCurrency;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexDepth;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexDepthResponse;
+import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexOrderBookResponse;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexSymbol;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexSymbolsResponse;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexTicker;
@@ -15,10 +18,16 @@ import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexTickerResponse;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexTickersResponse;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexTrade;
 import com.xeiam.xchange.bittrex.v1.dto.marketdata.BittrexTradesResponse;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
 import com.xeiam.xchange.exceptions.ExchangeException;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
 
 public class BittrexMarketDataServiceRaw extends BittrexBasePollingService {
 
+  /** decodes the books with the pair set by {@link OrderBookParser#setCurrentCurrencyPair(CurrencyPair)} */
+  private final Bittrex pairBittrex;
+
   /**
    * Constructor
    *
@@ -27,6 +36,7 @@ public class BittrexMarketDataServiceRaw extends BittrexBasePollingService {
   public BittrexMarketDataServiceRaw(Exchange exchange) {
 
     super(exchange);
+    this.pairBittrex = createCurrencyPairProxy(Bittrex.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public BittrexCurrency[] getBittrexCurrencies() throws IOException {
@@ -90,6 +100,26 @@ public class BittrexMarketDataServiceRaw extends BittrexBasePollingService {
     }
   }
 
+  /**
+   * @return the book decoded straight into the generic one, without the {@link BittrexDepth} step
+   */
+  public OrderBook getBittrexOrderBook(CurrencyPair currencyPair, int depth) throws IOException {
+
+    BittrexOrderBookResponse response;
+    CurrencyPair previous = OrderBookParser.setCurrentCurrencyPair(currencyPair);
+    try {
+      response = pairBittrex.getOrderBook(BittrexUtils.toPairString(currencyPair), "both", depth);
+    } finally {
+      OrderBookParser.setCurrentCurrencyPair(previous);
+    }
+
+    if (response.getSuccess()) {
+      return response.getOrderBook();
+    } else {
+      throw new ExchangeException(response.getMessage());
+    }
+  }
+
   public BittrexTrade[] getBittrexTrades(String pair, int count) throws IOException {
 
     BittrexTradesResponse response = bittrexAuthenticated.getTrades(pair, count);
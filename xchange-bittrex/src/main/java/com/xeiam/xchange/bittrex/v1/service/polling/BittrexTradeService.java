@@ -3,6 +3,9 @@ package com.xeiam.xchange.bittrex.v1.service.polling;
 import static com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamsZero.PARAMS_ZERO;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.bittrex.v1.BittrexAdapters;
@@ -12,6 +15,7 @@ import com.xeiam.xchange.dto.trade.MarketOrder;
 import com.xeiam.xchange.dto.trade.OpenOrders;
 import com.xeiam.xchange.dto.trade.UserTrades;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+import com.xeiam.xchange.service.polling.trade.TradeServiceUtils;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
 
 public class BittrexTradeService extends BittrexTradeServiceRaw implements PollingTradeService {
@@ -54,6 +58,18 @@ public class BittrexTradeService extends BittrexTradeServiceRaw implements Polli
     return cancelBittrexLimitOrder(orderId);
   }
 
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws IOException {
+
+    return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws IOException {
+
+    return TradeServiceUtils.cancelOrders(this, orderIds);
+  }
+
   @Override
   public UserTrades getTradeHistory(TradeHistoryParams params) throws IOException {
     return new UserTrades(BittrexAdapters.adaptUserTrades(getBittrexTradeHistory()), TradeSortType.SortByTimestamp);
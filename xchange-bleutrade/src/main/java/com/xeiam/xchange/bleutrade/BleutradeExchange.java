@@ -31,6 +31,7 @@ public class BleutradeExchange extends BaseExchange implements Exchange {
     List<BleutradeCurrency> currencies = ((BleutradeMarketDataServiceRaw)pollingMarketDataService).getBleutradeCurrencies();
     List<BleutradeMarket> markets = ((BleutradeMarketDataServiceRaw)pollingMarketDataService).getBleutradeMarkets();
     metaData = BleutradeAdapters.adaptToExchangeMetaData(currencies, markets);
+    super.remoteInit();
   }
 
   @Override
@@ -1,6 +1,9 @@
 package com.xeiam.xchange.bleutrade.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.bleutrade.BleutradeAdapters;
@@ -11,6 +14,7 @@ import com.xeiam.xchange.dto.trade.OpenOrders;
 import com.xeiam.xchange.dto.trade.UserTrades;
 import com.xeiam.xchange.exceptions.NotAvailableFromExchangeException;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+import com.xeiam.xchange.service.polling.trade.TradeServiceUtils;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
 
 public class BleutradeTradeService extends BleutradeTradeServiceRaw implements PollingTradeService {
@@ -53,6 +57,18 @@ public class BleutradeTradeService extends BleutradeTradeServiceRaw implements P
     return cancel(orderId);
   }
 
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws IOException {
+
+    return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws IOException {
+
+    return TradeServiceUtils.cancelOrders(this, orderIds);
+  }
+
   @Override
   public UserTrades getTradeHistory(TradeHistoryParams params) throws IOException {
 
@@ -33,7 +33,7 @@ public class Btc38BasePollingService<T extends Btc38> extends BaseExchangeServic
 
     super(exchange);
 
-    this.btc38 = RestProxyFactory.createProxy(type, exchange.getExchangeSpecification().getSslUri());
+    this.btc38 = RestProxyFactory.createProxy(type, exchange.getExchangeSpecification().getSslUri(), exchange.createClientConfig());
   }
 
   protected HashMap<String, CurrencyPair> getCurrencyPairMap() throws IOException {
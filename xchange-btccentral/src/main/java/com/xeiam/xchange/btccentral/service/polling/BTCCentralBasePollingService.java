@@ -25,7 +25,7 @@ public class BTCCentralBasePollingService extends BaseExchangeService implements
 
     super(exchange);
 
-    ClientConfig config = new ClientConfig();
+    ClientConfig config = exchange.createClientConfig();
     config.setSslSocketFactory(CertHelper.createExpiredAcceptingSSLSocketFactory("CN=*.bitcoin-central.net,OU=EssentialSSL Wildcard,OU=Domain Control Validated"));
 
     this.btcCentral = RestProxyFactory.createProxy(BTCCentral.class, exchange.getExchangeSpecification().getSslUri(), config);
@@ -6,7 +6,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.xeiam.xchange.btcchina.BTCChinaUtils;
 import com.xeiam.xchange.btcchina.dto.BTCChinaRequest;
 import com.xeiam.xchange.service.BaseParamsDigest;
 
@@ -64,9 +63,9 @@ public class BTCChinaDigest extends BaseParamsDigest {
     log.debug("signature message: {}", signature);
 
     Mac mac = getMac();
-    byte[] hash = mac.doFinal(signature.getBytes());
+    update(mac, signature);
 
-    BasicAuthCredentials auth = new BasicAuthCredentials(exchangeAccessKey, BTCChinaUtils.bytesToHex(hash));
+    BasicAuthCredentials auth = new BasicAuthCredentials(exchangeAccessKey, doFinalHex(mac, false));
 
     return auth.digestParams(restInvocation);
   }
@@ -1,6 +1,9 @@
 package com.xeiam.xchange.btcchina.service.fix;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,6 +13,8 @@ import com.xeiam.xchange.btcchina.service.fix.fix44.AccountInfoRequest;
 import com.xeiam.xchange.btcchina.service.fix.fix44.AccountInfoResponse;
 import com.xeiam.xchange.currency.CurrencyPair;
 import com.xeiam.xchange.dto.account.AccountInfo;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.OrderBookUpdate;
 import com.xeiam.xchange.dto.marketdata.Ticker;
 import com.xeiam.xchange.utils.nonce.CurrentNanosecondTimeIncrementalNonceFactory;
 
@@ -43,6 +48,8 @@ public class BTCChinaApplication extends MessageCracker implements Application {
 
   private volatile Ticker ticker;
 
+  private final ConcurrentMap<CurrencyPair, BTCChinaFIXOrderBook> orderBooks = new ConcurrentHashMap<CurrencyPair, BTCChinaFIXOrderBook>();
+
   @Override
   public void fromAdmin(Message message, SessionID sessionId) throws FieldNotFound, IncorrectDataFormat, IncorrectTagValue, RejectLogon {
 
@@ -93,6 +100,12 @@ public class BTCChinaApplication extends MessageCracker implements Application {
 
     setTicker(BTCChinaFIXAdapters.adaptTicker(message));
     onTicker(ticker, sessionId);
+
+    CurrencyPair currencyPair = ticker.getCurrencyPair();
+    BTCChinaFIXOrderBook orderBook = new BTCChinaFIXOrderBook(currencyPair);
+    OrderBook snapshot = orderBook.replace(message);
+    orderBooks.put(currencyPair, orderBook);
+    onOrderBook(snapshot, sessionId);
   }
 
   @Override
@@ -102,6 +115,15 @@ public class BTCChinaApplication extends MessageCracker implements Application {
 
     setTicker(BTCChinaFIXAdapters.adaptUpdate(getTicker(), message));
     onTicker(ticker, sessionId);
+
+    // entries without a symbol are of the subscription the ticker is kept for
+    CurrencyPair currencyPair = ticker.getCurrencyPair();
+    for (BTCChinaFIXOrderBook orderBook : orderBooks.values()) {
+      List<OrderBookUpdate> updates = orderBook.update(message, orderBook.getCurrencyPair().equals(currencyPair));
+      if (!updates.isEmpty()) {
+        onOrderBookUpdate(updates, orderBook.getOrderBook(), sessionId);
+      }
+    }
   }
 
   public void onMessage(AccountInfoResponse message, SessionID sessionId) throws FieldNotFound {
@@ -131,6 +153,25 @@ public class BTCChinaApplication extends MessageCracker implements Application {
   protected void onTicker(Ticker ticker) {
   }
 
+  /**
+   * Callback of order book replaced by a full refresh.
+   *
+   * @param orderBook the full order book.
+   * @param sessionId the FIX session ID.
+   */
+  protected void onOrderBook(OrderBook orderBook, SessionID sessionId) {
+  }
+
+  /**
+   * Callback of order book levels changed by an incremental refresh.
+   *
+   * @param updates the changed levels, deleted ones with a zero volume.
+   * @param orderBook the order book with the updates applied.
+   * @param sessionId the FIX session ID.
+   */
+  protected void onOrderBookUpdate(List<OrderBookUpdate> updates, OrderBook orderBook, SessionID sessionId) {
+  }
+
   /**
    * Callback of account info got from server.
    *
@@ -162,6 +203,18 @@ public class BTCChinaApplication extends MessageCracker implements Application {
     this.ticker = ticker;
   }
 
+  /**
+   * Returns the live order book of a symbol, as of the last market data message, without waiting for the FIX session thread.
+   *
+   * @param currencyPair the currency pair.
+   * @return the order book, or null if no snapshot of it has been received yet.
+   */
+  public OrderBook getOrderBook(CurrencyPair currencyPair) {
+
+    BTCChinaFIXOrderBook orderBook = orderBooks.get(currencyPair);
+    return orderBook == null ? null : orderBook.getOrderBook();
+  }
+
   public void requestSnapshot(CurrencyPair currencyPair, SessionID sessionId) {
 
     requestSnapshot(adaptSymbol(currencyPair), sessionId);
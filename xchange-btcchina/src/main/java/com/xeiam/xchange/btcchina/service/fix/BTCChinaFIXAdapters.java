@@ -111,6 +111,14 @@ public final class BTCChinaFIXAdapters {
       break;
     }
 
+    tickerBuilder.timestamp(adaptTimestamp(group));
+  }
+
+  /**
+   * Combines the MDEntryDate and MDEntryTime of an entry, both UTC.
+   */
+  static Date adaptTimestamp(Group group) throws FieldNotFound {
+
     Date date = group.getField(new MDEntryDate()).getValue();
     Date time = group.getField(new MDEntryTime()).getValue();
     TimeZone utc = TimeZone.getTimeZone("UTC");
@@ -123,7 +131,7 @@ public final class BTCChinaFIXAdapters {
     dateCal.set(SECOND, timeCal.get(SECOND));
     dateCal.set(MILLISECOND, timeCal.get(MILLISECOND));
 
-    tickerBuilder.timestamp(dateCal.getTime());
+    return dateCal.getTime();
   }
 
   public static Wallet adaptWallet(AccountInfoResponse message) throws FieldNotFound {
@@ -0,0 +1,180 @@
+package com.xeiam.xchange.btcchina.service.fix;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.xeiam.xchange.btcchina.BTCChinaAdapters;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.OrderBookUpdate;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+
+import quickfix.FieldNotFound;
+import quickfix.Group;
+import quickfix.field.MDEntryDate;
+import quickfix.field.MDEntryPx;
+import quickfix.field.MDEntrySize;
+import quickfix.field.MDEntryTime;
+import quickfix.field.MDEntryType;
+import quickfix.field.MDUpdateAction;
+import quickfix.field.NoMDEntries;
+import quickfix.field.Symbol;
+import quickfix.fix44.MarketDataIncrementalRefresh;
+import quickfix.fix44.MarketDataSnapshotFullRefresh;
+
+/**
+ * <p>
+ * Live order book of one symbol, built from the bid and offer entries of the FIX market data. This provides the following:
+ * </p>
+ * <ul>
+ * <li>Levels keyed by price, so each new, change or delete entry of an incremental refresh is applied in O(log n)</li>
+ * <li>A fresh {@link OrderBook} published after every message and never modified afterwards, so readers never wait for the FIX session thread</li>
+ * </ul>
+ * <p>
+ * Entries without a size only carry the best price for the ticker and are not depth levels, so they are ignored here.
+ * </p>
+ */
+public class BTCChinaFIXOrderBook {
+
+  private final CurrencyPair currencyPair;
+  private final String symbol;
+
+  /** Guarded by this */
+  private final TreeMap<BigDecimal, BigDecimal> bids = new TreeMap<BigDecimal, BigDecimal>(Collections.reverseOrder());
+  private final TreeMap<BigDecimal, BigDecimal> asks = new TreeMap<BigDecimal, BigDecimal>();
+  private Date timestamp;
+
+  private volatile OrderBook orderBook;
+
+  public BTCChinaFIXOrderBook(CurrencyPair currencyPair) {
+
+    this.currencyPair = currencyPair;
+    this.symbol = BTCChinaAdapters.adaptMarket(currencyPair).toUpperCase();
+    this.orderBook = new OrderBook(null, new ArrayList<LimitOrder>(), new ArrayList<LimitOrder>());
+  }
+
+  public CurrencyPair getCurrencyPair() {
+
+    return currencyPair;
+  }
+
+  /**
+   * @return the book as of the last applied message, never blocking
+   */
+  public OrderBook getOrderBook() {
+
+    return orderBook;
+  }
+
+  /**
+   * Replaces every level with the ones of a full refresh.
+   *
+   * @return the new book
+   */
+  public synchronized OrderBook replace(MarketDataSnapshotFullRefresh message) throws FieldNotFound {
+
+    bids.clear();
+    asks.clear();
+
+    int noMDEntries = message.getNoMDEntries().getValue();
+    for (int i = 1; i <= noMDEntries; i++) {
+      Group group = message.getGroup(i, NoMDEntries.FIELD);
+      Map<BigDecimal, BigDecimal> levels = levels(group);
+      if (levels != null && group.isSetField(MDEntrySize.FIELD)) {
+        levels.put(group.getDecimal(MDEntryPx.FIELD), group.getDecimal(MDEntrySize.FIELD));
+        updateTimestamp(group);
+      }
+    }
+
+    return publish();
+  }
+
+  /**
+   * Applies the new, change and delete entries of an incremental refresh to the levels of this symbol.
+   *
+   * @param message the incremental refresh.
+   * @param ownsUnmarkedEntries whether the entries carrying no symbol are of this book, as when it is the only subscription.
+   * @return the changed levels, deleted ones with a zero volume, empty if no entry was of this book
+   */
+  public synchronized List<OrderBookUpdate> update(MarketDataIncrementalRefresh message, boolean ownsUnmarkedEntries) throws FieldNotFound {
+
+    List<OrderBookUpdate> updates = new ArrayList<OrderBookUpdate>();
+
+    int noMDEntries = message.getNoMDEntries().getValue();
+    for (int i = 1; i <= noMDEntries; i++) {
+      Group group = message.getGroup(i, NoMDEntries.FIELD);
+      boolean owned = group.isSetField(Symbol.FIELD) ? symbol.equals(group.getString(Symbol.FIELD)) : ownsUnmarkedEntries;
+      Map<BigDecimal, BigDecimal> levels = levels(group);
+      boolean delete = group.isSetField(MDUpdateAction.FIELD) && group.getChar(MDUpdateAction.FIELD) == MDUpdateAction.DELETE;
+      if (!owned || levels == null || !delete && !group.isSetField(MDEntrySize.FIELD)) {
+        continue;
+      }
+
+      updateTimestamp(group);
+      BigDecimal price = group.getDecimal(MDEntryPx.FIELD);
+      BigDecimal size;
+      if (delete) {
+        levels.remove(price);
+        size = BigDecimal.ZERO;
+      } else {
+        size = group.getDecimal(MDEntrySize.FIELD);
+        levels.put(price, size);
+      }
+      OrderType type = levels == bids ? OrderType.BID : OrderType.ASK;
+      updates.add(new OrderBookUpdate(type, size, currencyPair, price, timestamp, size));
+    }
+
+    if (!updates.isEmpty()) {
+      publish();
+    }
+    return updates;
+  }
+
+  /**
+   * @return the side the entry belongs to, or null if it is not a priced bid or offer
+   */
+  private Map<BigDecimal, BigDecimal> levels(Group group) throws FieldNotFound {
+
+    if (!group.isSetField(MDEntryPx.FIELD)) {
+      return null;
+    }
+    switch (group.getChar(MDEntryType.FIELD)) {
+    case MDEntryType.BID:
+      return bids;
+    case MDEntryType.OFFER:
+      return asks;
+    default:
+      return null;
+    }
+  }
+
+  private void updateTimestamp(Group group) throws FieldNotFound {
+
+    if (group.isSetField(MDEntryDate.FIELD) && group.isSetField(MDEntryTime.FIELD)) {
+      timestamp = BTCChinaFIXAdapters.adaptTimestamp(group);
+    }
+  }
+
+  private OrderBook publish() {
+
+    OrderBook orderBook = new OrderBook(timestamp, toOrders(OrderType.ASK, asks), toOrders(OrderType.BID, bids));
+    this.orderBook = orderBook;
+    return orderBook;
+  }
+
+  private List<LimitOrder> toOrders(OrderType type, Map<BigDecimal, BigDecimal> levels) {
+
+    List<LimitOrder> orders = new ArrayList<LimitOrder>(levels.size());
+    for (Map.Entry<BigDecimal, BigDecimal> level : levels.entrySet()) {
+      orders.add(new LimitOrder(type, level.getValue(), currencyPair, null, timestamp, level.getKey()));
+    }
+    return orders;
+  }
+
+}
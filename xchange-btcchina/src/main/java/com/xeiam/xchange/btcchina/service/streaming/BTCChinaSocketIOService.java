@@ -7,8 +7,8 @@ import static com.xeiam.xchange.btcchina.service.streaming.BTCChinaSocketIOClien
 import static com.xeiam.xchange.btcchina.service.streaming.BTCChinaSocketIOClientBuilder.EVENT_TRADE;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import org.java_websocket.WebSocket.READYSTATE;
 import org.json.JSONObject;
@@ -28,7 +28,7 @@ public class BTCChinaSocketIOService extends BaseExchangeService implements Stre
 
   private final Logger log = LoggerFactory.getLogger(BTCChinaSocketIOService.class);
 
-  private final BlockingQueue<ExchangeEvent> consumerEventQueue = new LinkedBlockingQueue<ExchangeEvent>();
+  private final BlockingQueue<ExchangeEvent> consumerEventQueue;
 
   private final Socket socket;
 
@@ -38,6 +38,8 @@ public class BTCChinaSocketIOService extends BaseExchangeService implements Stre
 
     super(exchange);
 
+    consumerEventQueue = exchangeStreamingConfiguration.getEventQueueConfiguration().newQueue();
+
     final String uri = (String) exchange.getExchangeSpecification().getExchangeSpecificParametersItem(BTCChinaExchange.WEBSOCKET_URI_KEY);
 
     socket = BTCChinaSocketIOClientBuilder.create().setUri(URI.create(uri)).setAccessKey(exchange.getExchangeSpecification().getApiKey())
@@ -85,6 +87,15 @@ public class BTCChinaSocketIOService extends BaseExchangeService implements Stre
     return consumerEventQueue.size();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int drainEvents(Collection<? super ExchangeEvent> events, int maxEvents) {
+
+    return consumerEventQueue.drainTo(events, maxEvents);
+  }
+
   /**
    * {@inheritDoc}
    */
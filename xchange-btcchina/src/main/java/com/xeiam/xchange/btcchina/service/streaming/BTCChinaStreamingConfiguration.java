@@ -1,6 +1,7 @@
 package com.xeiam.xchange.btcchina.service.streaming;
 
 import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.service.streaming.EventQueueConfiguration;
 import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
 
 public class BTCChinaStreamingConfiguration implements ExchangeStreamingConfiguration {
@@ -13,6 +14,7 @@ public class BTCChinaStreamingConfiguration implements ExchangeStreamingConfigur
    * Indicates to subscribe account balance changes.
    */
   private final boolean subscribeAccountInfo;
+  private EventQueueConfiguration eventQueueConfiguration = EventQueueConfiguration.UNBOUNDED;
 
   public BTCChinaStreamingConfiguration() {
 
@@ -100,6 +102,17 @@ public class BTCChinaStreamingConfiguration implements ExchangeStreamingConfigur
     return false;
   }
 
+  @Override
+  public EventQueueConfiguration getEventQueueConfiguration() {
+
+    return eventQueueConfiguration;
+  }
+
+  public void setEventQueueConfiguration(EventQueueConfiguration eventQueueConfiguration) {
+
+    this.eventQueueConfiguration = eventQueueConfiguration;
+  }
+
   public boolean isSubscribeAccountInfo() {
 
     return subscribeAccountInfo;
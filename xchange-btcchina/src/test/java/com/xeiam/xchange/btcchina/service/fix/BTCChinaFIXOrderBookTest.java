@@ -0,0 +1,110 @@
+package com.xeiam.xchange.btcchina.service.fix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.OrderBookUpdate;
+
+import quickfix.FieldNotFound;
+import quickfix.Group;
+import quickfix.field.MDEntryPx;
+import quickfix.field.MDEntrySize;
+import quickfix.field.MDEntryType;
+import quickfix.field.MDUpdateAction;
+import quickfix.field.Symbol;
+import quickfix.fix44.MarketDataIncrementalRefresh;
+import quickfix.fix44.MarketDataSnapshotFullRefresh;
+
+public class BTCChinaFIXOrderBookTest {
+
+  @Test
+  public void testReplace() throws FieldNotFound {
+
+    BTCChinaFIXOrderBook orderBook = new BTCChinaFIXOrderBook(CurrencyPair.BTC_CNY);
+    OrderBook snapshot = orderBook.replace(snapshot());
+
+    assertEquals(2, snapshot.getBids().size());
+    assertEquals(new BigDecimal("2328.08"), snapshot.getBids().get(0).getLimitPrice());
+    assertEquals(new BigDecimal("2327"), snapshot.getBids().get(1).getLimitPrice());
+    assertEquals(1, snapshot.getAsks().size());
+    assertEquals(new BigDecimal("2329.14"), snapshot.getAsks().get(0).getLimitPrice());
+    assertEquals(new BigDecimal("0.5"), snapshot.getAsks().get(0).getTradableAmount());
+  }
+
+  @Test
+  public void testUpdate() throws FieldNotFound {
+
+    BTCChinaFIXOrderBook orderBook = new BTCChinaFIXOrderBook(CurrencyPair.BTC_CNY);
+    OrderBook before = orderBook.replace(snapshot());
+
+    MarketDataIncrementalRefresh message = new MarketDataIncrementalRefresh();
+    message.addGroup(entry(new MarketDataIncrementalRefresh.NoMDEntries(), MDUpdateAction.NEW, MDEntryType.OFFER, "2330", "2"));
+    message.addGroup(entry(new MarketDataIncrementalRefresh.NoMDEntries(), MDUpdateAction.CHANGE, MDEntryType.BID, "2327", "3"));
+    message.addGroup(entry(new MarketDataIncrementalRefresh.NoMDEntries(), MDUpdateAction.DELETE, MDEntryType.BID, "2328.08", null));
+    // the best price only, as sent for the ticker
+    message.addGroup(entry(new MarketDataIncrementalRefresh.NoMDEntries(), MDUpdateAction.CHANGE, MDEntryType.OFFER, "2325.53", null));
+
+    List<OrderBookUpdate> updates = orderBook.update(message, true);
+
+    assertEquals(3, updates.size());
+    assertEquals(OrderType.BID, updates.get(2).getLimitOrder().getType());
+    assertEquals(BigDecimal.ZERO, updates.get(2).getTotalVolume());
+
+    OrderBook after = orderBook.getOrderBook();
+    assertNotSame(before, after);
+    assertEquals(1, after.getBids().size());
+    assertEquals(new BigDecimal("3"), after.getBids().get(0).getTradableAmount());
+    assertEquals(2, after.getAsks().size());
+    assertEquals(new BigDecimal("2330"), after.getAsks().get(1).getLimitPrice());
+    assertEquals(2, before.getBids().size());
+  }
+
+  @Test
+  public void testUpdateOfOtherSymbol() throws FieldNotFound {
+
+    BTCChinaFIXOrderBook orderBook = new BTCChinaFIXOrderBook(CurrencyPair.BTC_CNY);
+    orderBook.replace(snapshot());
+
+    MarketDataIncrementalRefresh message = new MarketDataIncrementalRefresh();
+    Group group = entry(new MarketDataIncrementalRefresh.NoMDEntries(), MDUpdateAction.NEW, MDEntryType.BID, "20", "1");
+    group.setField(new Symbol("LTCCNY"));
+    message.addGroup(group);
+
+    assertTrue(orderBook.update(message, true).isEmpty());
+    assertEquals(2, orderBook.getOrderBook().getBids().size());
+  }
+
+  private static MarketDataSnapshotFullRefresh snapshot() {
+
+    MarketDataSnapshotFullRefresh message = new MarketDataSnapshotFullRefresh();
+    message.setField(new Symbol("BTCCNY"));
+    message.addGroup(entry(new MarketDataSnapshotFullRefresh.NoMDEntries(), null, MDEntryType.BID, "2327", "1"));
+    message.addGroup(entry(new MarketDataSnapshotFullRefresh.NoMDEntries(), null, MDEntryType.BID, "2328.08", "1.5"));
+    message.addGroup(entry(new MarketDataSnapshotFullRefresh.NoMDEntries(), null, MDEntryType.OFFER, "2329.14", "0.5"));
+    message.addGroup(entry(new MarketDataSnapshotFullRefresh.NoMDEntries(), null, MDEntryType.TRADE, "2328.09", "0.1"));
+    return message;
+  }
+
+  private static Group entry(Group group, Character updateAction, char type, String px, String size) {
+
+    if (updateAction != null) {
+      group.setField(new MDUpdateAction(updateAction));
+    }
+    group.setField(new MDEntryType(type));
+    group.setField(new MDEntryPx(new BigDecimal(px)));
+    if (size != null) {
+      group.setField(new MDEntrySize(new BigDecimal(size)));
+    }
+    return group;
+  }
+
+}
@@ -12,6 +12,7 @@ import javax.ws.rs.core.MediaType;
 
 import com.xeiam.xchange.btce.v3.dto.marketdata.BTCEDepthWrapper;
 import com.xeiam.xchange.btce.v3.dto.marketdata.BTCEExchangeInfo;
+import com.xeiam.xchange.btce.v3.dto.marketdata.BTCEOrderBookWrapper;
 import com.xeiam.xchange.btce.v3.dto.marketdata.BTCETickerWrapper;
 import com.xeiam.xchange.btce.v3.dto.marketdata.BTCETradesWrapper;
 
@@ -37,6 +38,12 @@ public interface BTCE {
   BTCEDepthWrapper getDepth(@PathParam("pairs") String pairs, @DefaultValue("150") @QueryParam("limit") int limit,
       @DefaultValue("1") @QueryParam("ignore_invalid") int ignoreInvalid) throws IOException;
 
+  @GET
+  @Path("api/3/depth/{pairs}")
+  @Produces(MediaType.APPLICATION_JSON)
+  BTCEOrderBookWrapper getOrderBooks(@PathParam("pairs") String pairs, @DefaultValue("150") @QueryParam("limit") int limit,
+      @DefaultValue("1") @QueryParam("ignore_invalid") int ignoreInvalid) throws IOException;
+
   @GET
   @Path("api/3/trades/{pairs}")
   @Produces(MediaType.APPLICATION_JSON)
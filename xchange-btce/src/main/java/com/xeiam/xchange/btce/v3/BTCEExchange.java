@@ -58,6 +58,7 @@ public class BTCEExchange extends BaseExchange implements Exchange {
       BTCEMarketDataService marketDataService = (BTCEMarketDataService) pollingMarketDataService;
       btceExchangeInfo = marketDataService.getBTCEInfo();
       metaData = BTCEAdapters.toMetaData(btceExchangeInfo, btceMetaData);
+      super.remoteInit();
     } catch (Exception e) {
       logger.warn("An exception occurred while loading the metadata file from the file. This may lead to unexpected results.", e);
     }
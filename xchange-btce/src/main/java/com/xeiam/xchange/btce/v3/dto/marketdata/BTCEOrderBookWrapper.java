@@ -0,0 +1,95 @@
+package com.xeiam.xchange.btce.v3.dto.marketdata;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.xeiam.xchange.btce.v3.BTCEAdapters;
+import com.xeiam.xchange.btce.v3.dto.marketdata.BTCEOrderBookWrapper.BTCEOrderBookWrapperDeserializer;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
+
+/**
+ * The depth of several pairs decoded straight into {@link OrderBook}s, the same ones as the market data service builds from a
+ * {@link BTCEDepthWrapper}. The pair of each book is taken from its key.
+ */
+@JsonDeserialize(using = BTCEOrderBookWrapperDeserializer.class)
+public class BTCEOrderBookWrapper {
+
+  private final Map<String, OrderBook> orderBookMap;
+
+  /**
+   * Constructor
+   *
+   * @param orderBookMap the books by BTC-e pair, such as "btc_usd"
+   */
+  public BTCEOrderBookWrapper(Map<String, OrderBook> orderBookMap) {
+
+    this.orderBookMap = orderBookMap;
+  }
+
+  public Map<String, OrderBook> getOrderBookMap() {
+
+    return orderBookMap;
+  }
+
+  public OrderBook getOrderBook(String pair) {
+
+    return orderBookMap.get(pair);
+  }
+
+  @Override
+  public String toString() {
+
+    return "BTCEOrderBookWrapper [map=" + orderBookMap + "]";
+  }
+
+  static class BTCEOrderBookWrapperDeserializer extends JsonDeserializer<BTCEOrderBookWrapper> {
+
+    @Override
+    public BTCEOrderBookWrapper deserialize(JsonParser jsonParser, DeserializationContext ctxt) throws IOException {
+
+      Map<String, OrderBook> orderBookMap = new LinkedHashMap<String, OrderBook>();
+
+      OrderBookParser.checkToken(jsonParser, JsonToken.START_OBJECT);
+      while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+        String pair = jsonParser.getCurrentName();
+        if (jsonParser.nextToken() == JsonToken.START_OBJECT) {
+          orderBookMap.put(pair, readOrderBook(jsonParser, BTCEAdapters.adaptCurrencyPair(pair)));
+        } else {
+          jsonParser.skipChildren();
+        }
+      }
+      return new BTCEOrderBookWrapper(orderBookMap);
+    }
+
+    private static OrderBook readOrderBook(JsonParser jsonParser, CurrencyPair currencyPair) throws IOException {
+
+      List<LimitOrder> asks = new ArrayList<LimitOrder>();
+      List<LimitOrder> bids = new ArrayList<LimitOrder>();
+
+      while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = jsonParser.getCurrentName();
+        jsonParser.nextToken();
+        if (field.equals("asks")) {
+          asks = OrderBookParser.readArrayLevels(jsonParser, OrderType.ASK, currencyPair, "");
+        } else if (field.equals("bids")) {
+          bids = OrderBookParser.readArrayLevels(jsonParser, OrderType.BID, currencyPair, "");
+        } else {
+          jsonParser.skipChildren();
+        }
+      }
+      return new OrderBook(null, asks, bids);
+    }
+  }
+}
@@ -1,8 +1,5 @@
 package com.xeiam.xchange.btce.v3.service;
 
-import java.io.UnsupportedEncodingException;
-import java.math.BigInteger;
-
 import javax.crypto.Mac;
 
 import com.xeiam.xchange.service.BaseParamsDigest;
@@ -40,14 +37,10 @@ public class BTCEHmacPostBodyDigest extends BaseParamsDigest {
   @Override
   public String digestParams(RestInvocation restInvocation) {
 
-    try {
-      String postBody = restInvocation.getRequestBody();
-      Mac mac = getMac();
-      mac.update(postBody.getBytes("UTF-8"));
-      return String.format("%0128x", new BigInteger(1, mac.doFinal()));
-    } catch (UnsupportedEncodingException e) {
-      throw new RuntimeException("Illegal encoding, check the code.", e);
-    }
+    String postBody = restInvocation.getRequestBody();
+    Mac mac = getMac();
+    update(mac, postBody);
+    return doFinalHex(mac, false);
     // return Base64.encodeBytes(mac.doFinal()).trim();
   }
 }
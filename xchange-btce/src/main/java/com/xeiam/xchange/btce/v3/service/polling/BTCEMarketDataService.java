@@ -1,18 +1,20 @@
 package com.xeiam.xchange.btce.v3.service.polling;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.btce.v3.BTCEAdapters;
-import com.xeiam.xchange.btce.v3.dto.marketdata.BTCEDepthWrapper;
+import com.xeiam.xchange.btce.v3.dto.marketdata.BTCEOrderBookWrapper;
+import com.xeiam.xchange.btce.v3.dto.marketdata.BTCETicker;
 import com.xeiam.xchange.btce.v3.dto.marketdata.BTCETickerWrapper;
 import com.xeiam.xchange.btce.v3.dto.marketdata.BTCETrade;
 import com.xeiam.xchange.currency.CurrencyPair;
 import com.xeiam.xchange.dto.marketdata.OrderBook;
 import com.xeiam.xchange.dto.marketdata.Ticker;
 import com.xeiam.xchange.dto.marketdata.Trades;
-import com.xeiam.xchange.dto.trade.LimitOrder;
 import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.service.polling.marketdata.PollingMarketDataService;
 
@@ -51,26 +53,7 @@ public class BTCEMarketDataService extends BTCEMarketDataServiceRaw implements P
   public OrderBook getOrderBook(CurrencyPair currencyPair, Object... args) throws IOException {
 
     String pairs = BTCEAdapters.getPair(currencyPair);
-    BTCEDepthWrapper btceDepthWrapper = null;
-
-    if (args.length > 0) {
-      Object arg0 = args[0];
-      if (!(arg0 instanceof Integer) || ((Integer) arg0 < 1) || ((Integer) arg0 > FULL_SIZE)) {
-        throw new ExchangeException("Orderbook size argument must be an Integer in the range: (1, 2000)!");
-      } else {
-        btceDepthWrapper = getBTCEDepth(pairs, (Integer) arg0);
-      }
-    } else { // default to full orderbook
-      btceDepthWrapper = getBTCEDepth(pairs, FULL_SIZE);
-    }
-
-    // Adapt to XChange DTOs
-    List<LimitOrder> asks = BTCEAdapters.adaptOrders(btceDepthWrapper.getDepth(BTCEAdapters.getPair(currencyPair)).getAsks(), currencyPair, "ask",
-        "");
-    List<LimitOrder> bids = BTCEAdapters.adaptOrders(btceDepthWrapper.getDepth(BTCEAdapters.getPair(currencyPair)).getBids(), currencyPair, "bid",
-        "");
-
-    return new OrderBook(null, asks, bids);
+    return getBTCEOrderBooks(pairs, getDepthSize(args)).getOrderBook(pairs);
   }
 
   /**
@@ -104,4 +87,71 @@ public class BTCEMarketDataService extends BTCEMarketDataServiceRaw implements P
     return BTCEAdapters.adaptTrades(bTCETrades, currencyPair);
   }
 
+  /**
+   * Fetches the tickers of all the pairs with one request
+   */
+  @Override
+  public Map<CurrencyPair, Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+    Map<CurrencyPair, Ticker> tickers = new LinkedHashMap<CurrencyPair, Ticker>();
+    if (currencyPairs.isEmpty()) {
+      return tickers;
+    }
+    BTCETickerWrapper btceTickerWrapper = getBTCETicker(getPairs(currencyPairs));
+    for (CurrencyPair currencyPair : currencyPairs) {
+      BTCETicker btceTicker = btceTickerWrapper.getTicker(BTCEAdapters.getPair(currencyPair));
+      if (btceTicker != null) {
+        tickers.put(currencyPair, BTCEAdapters.adaptTicker(btceTicker, currencyPair));
+      }
+    }
+    return tickers;
+  }
+
+  /**
+   * Fetches the order books of all the pairs with one request
+   *
+   * @param args Optional arguments, the same as for {@link #getOrderBook(CurrencyPair, Object...)}
+   */
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+    Map<CurrencyPair, OrderBook> orderBooks = new LinkedHashMap<CurrencyPair, OrderBook>();
+    if (currencyPairs.isEmpty()) {
+      return orderBooks;
+    }
+    BTCEOrderBookWrapper btceOrderBookWrapper = getBTCEOrderBooks(getPairs(currencyPairs), getDepthSize(args));
+    for (CurrencyPair currencyPair : currencyPairs) {
+      OrderBook orderBook = btceOrderBookWrapper.getOrderBook(BTCEAdapters.getPair(currencyPair));
+      if (orderBook != null) {
+        orderBooks.put(currencyPair, orderBook);
+      }
+    }
+    return orderBooks;
+  }
+
+  private static int getDepthSize(Object... args) {
+
+    if (args.length == 0) { // default to full orderbook
+      return FULL_SIZE;
+    }
+    Object arg0 = args[0];
+    if (!(arg0 instanceof Integer) || ((Integer) arg0 < 1) || ((Integer) arg0 > FULL_SIZE)) {
+      throw new ExchangeException("Orderbook size argument must be an Integer in the range: (1, 2000)!");
+    }
+    return (Integer) arg0;
+  }
+
+  // BTC-e takes several pairs as a dash-delimited list, e.g. "btc_usd-ltc_btc"
+  private static String getPairs(Collection<CurrencyPair> currencyPairs) {
+
+    StringBuilder pairs = new StringBuilder();
+    for (CurrencyPair currencyPair : currencyPairs) {
+      if (pairs.length() > 0) {
+        pairs.append('-');
+      }
+      pairs.append(BTCEAdapters.getPair(currencyPair));
+    }
+    return pairs.toString();
+  }
+
 }
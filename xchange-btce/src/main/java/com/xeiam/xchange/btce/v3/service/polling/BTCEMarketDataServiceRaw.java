@@ -5,6 +5,7 @@ import java.io.IOException;
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.btce.v3.dto.marketdata.BTCEDepthWrapper;
 import com.xeiam.xchange.btce.v3.dto.marketdata.BTCEExchangeInfo;
+import com.xeiam.xchange.btce.v3.dto.marketdata.BTCEOrderBookWrapper;
 import com.xeiam.xchange.btce.v3.dto.marketdata.BTCETickerWrapper;
 import com.xeiam.xchange.btce.v3.dto.marketdata.BTCETradesWrapper;
 
@@ -56,6 +57,27 @@ public class BTCEMarketDataServiceRaw extends BTCEBasePollingService {
     return btce.getDepth(pairs.toLowerCase(), size, 1);
   }
 
+  /**
+   * Get market depth decoded straight into the generic order books, without the {@link BTCEDepthWrapper} step
+   *
+   * @param pairs Dash-delimited string of currency pairs to retrieve (e.g. "btc_usd-ltc_btc")
+   * @param size Integer value from 1 to 2000 -> get corresponding number of items
+   * @return BTCEOrderBookWrapper object
+   * @throws IOException
+   */
+  public BTCEOrderBookWrapper getBTCEOrderBooks(String pairs, int size) throws IOException {
+
+    if (size < 1) {
+      size = 1;
+    }
+
+    if (size > FULL_SIZE) {
+      size = FULL_SIZE;
+    }
+
+    return btce.getOrderBooks(pairs.toLowerCase(), size, 1);
+  }
+
   /**
    * Get recent trades from exchange
    *
@@ -11,6 +11,7 @@ import org.junit.Test;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.xeiam.xchange.btce.v3.BTCEAdapters;
 import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
 
 /**
  * Test BTCEDepth JSON parsing
@@ -31,4 +32,22 @@ public class BTCEDepthJSONTest {
     assertThat(bTCEDepthWrapper.getDepth(BTCEAdapters.getPair(CurrencyPair.BTC_USD)).getAsks().get(0)[0]).isEqualTo(new BigDecimal("760.98"));
     assertThat(bTCEDepthWrapper.getDepth(BTCEAdapters.getPair(CurrencyPair.BTC_USD)).getAsks()).hasSize(30);
   }
+
+  @Test
+  public void testUnmarshalOrderBooks() throws IOException {
+
+    ObjectMapper mapper = new ObjectMapper();
+    BTCEDepthWrapper bTCEDepthWrapper = mapper.readValue(BTCEDepthJSONTest.class.getResourceAsStream("/v3/marketdata/example-depth-data.json"),
+        BTCEDepthWrapper.class);
+    BTCEOrderBookWrapper bTCEOrderBookWrapper = mapper.readValue(BTCEDepthJSONTest.class.getResourceAsStream("/v3/marketdata/example-depth-data.json"),
+        BTCEOrderBookWrapper.class);
+
+    // the same books as adapting each depth, with the pair taken from the key
+    assertThat(bTCEOrderBookWrapper.getOrderBookMap().keySet()).isEqualTo(bTCEDepthWrapper.getDepthMap().keySet());
+    String pair = BTCEAdapters.getPair(CurrencyPair.BTC_USD);
+    OrderBook orderBook = bTCEOrderBookWrapper.getOrderBook(pair);
+    BTCEDepth btceDepth = bTCEDepthWrapper.getDepth(pair);
+    assertThat(orderBook.getAsks()).isEqualTo(BTCEAdapters.adaptOrders(btceDepth.getAsks(), CurrencyPair.BTC_USD, "ask", ""));
+    assertThat(orderBook.getBids()).isEqualTo(BTCEAdapters.adaptOrders(btceDepth.getBids(), CurrencyPair.BTC_USD, "bid", ""));
+  }
 }
@@ -3,8 +3,6 @@ package com.xeiam.xchange.btcmarkets.service;
 import javax.crypto.Mac;
 import javax.ws.rs.HeaderParam;
 
-import net.iharder.Base64;
-
 import si.mazi.rescu.RestInvocation;
 
 import com.xeiam.xchange.service.BaseParamsDigest;
@@ -26,14 +24,14 @@ public class BTCMarketsDigest extends BaseParamsDigest {
     if (!url.startsWith("/")) {
       url = "/" + url;
     }
-    mac256.update(url.getBytes());
-    mac256.update("\n".getBytes());
-    mac256.update(nonce.getBytes());
-    mac256.update("\n".getBytes());
+    update(mac256, url);
+    mac256.update((byte) '\n');
+    update(mac256, nonce);
+    mac256.update((byte) '\n');
     if (requestBody != null && !requestBody.isEmpty()) {
-      mac256.update(requestBody.getBytes());
+      update(mac256, requestBody);
     }
 
-    return Base64.encodeBytes(mac256.doFinal());
+    return doFinalBase64(mac256);
   }
 }
\ No newline at end of file
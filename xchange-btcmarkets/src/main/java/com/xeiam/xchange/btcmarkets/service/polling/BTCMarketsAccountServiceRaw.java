@@ -3,7 +3,6 @@ package com.xeiam.xchange.btcmarkets.service.polling;
 import java.io.IOException;
 import java.util.List;
 
-import si.mazi.rescu.RestProxyFactory;
 import si.mazi.rescu.SynchronizedValueFactory;
 
 import com.xeiam.xchange.Exchange;
@@ -20,7 +19,7 @@ public class BTCMarketsAccountServiceRaw extends BTCMarketsBasePollingService {
   protected BTCMarketsAccountServiceRaw(Exchange exchange) {
     super(exchange);
     this.nonceFactory = exchange.getNonceFactory();
-    this.btcm = RestProxyFactory.createProxy(BTCMarketsAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.btcm = createPrivateProxy(BTCMarketsAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     this.signer = new BTCMarketsDigest(exchange.getExchangeSpecification().getSecretKey());
   }
 
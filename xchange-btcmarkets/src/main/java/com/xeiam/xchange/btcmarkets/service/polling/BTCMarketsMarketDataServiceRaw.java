@@ -2,8 +2,6 @@ package com.xeiam.xchange.btcmarkets.service.polling;
 
 import java.io.IOException;
 
-import si.mazi.rescu.RestProxyFactory;
-
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.btcmarkets.BTCMarkets;
 import com.xeiam.xchange.btcmarkets.dto.marketdata.BTCMarketsOrderBook;
@@ -16,7 +14,7 @@ public class BTCMarketsMarketDataServiceRaw extends BTCMarketsBasePollingService
 
   public BTCMarketsMarketDataServiceRaw(Exchange exchange) {
     super(exchange);
-    this.btcmarkets = RestProxyFactory.createProxy(BTCMarkets.class, exchange.getExchangeSpecification().getSslUri());
+    this.btcmarkets = createPublicProxy(BTCMarkets.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public BTCMarketsTicker getBTCMarketsTicker(CurrencyPair currencyPair) throws IOException {
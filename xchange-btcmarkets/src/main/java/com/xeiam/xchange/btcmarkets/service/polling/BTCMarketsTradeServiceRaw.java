@@ -5,7 +5,6 @@ import java.math.BigDecimal;
 import java.util.Date;
 import java.util.UUID;
 
-import si.mazi.rescu.RestProxyFactory;
 import si.mazi.rescu.SynchronizedValueFactory;
 
 import com.xeiam.xchange.Exchange;
@@ -30,7 +29,7 @@ public class BTCMarketsTradeServiceRaw extends BTCMarketsBasePollingService {
   public BTCMarketsTradeServiceRaw(Exchange exchange) {
     super(exchange);
     final ExchangeSpecification spec = exchange.getExchangeSpecification();
-    this.btcm = RestProxyFactory.createProxy(BTCMarketsAuthenticated.class, spec.getSslUri());
+    this.btcm = createPrivateProxy(BTCMarketsAuthenticated.class, spec.getSslUri());
     this.signer = new BTCMarketsDigest(spec.getSecretKey());
     this.nonceFactory = exchange.getNonceFactory();
   }
@@ -1,6 +1,5 @@
 package com.xeiam.xchange.btctrade.service;
 
-import java.math.BigInteger;
 import java.nio.charset.Charset;
 import java.util.Map;
 
@@ -45,9 +44,9 @@ public class BTCTradeDigest extends BaseParamsDigest {
     String message = newParams.asQueryString();
 
     Mac mac = getMac();
-    mac.update(message.getBytes());
+    update(mac, message);
 
-    return String.format("%064x", new BigInteger(1, mac.doFinal()));
+    return doFinalHex(mac, false);
   }
 
 }
@@ -26,7 +26,7 @@ public class BTCTradeBasePollingService extends BaseExchangeService implements B
 
     ExchangeSpecification exchangeSpecification = exchange.getExchangeSpecification();
 
-    ClientConfig config = new ClientConfig();
+    ClientConfig config = exchange.createClientConfig();
     // btctrade is using an ssl certificate for 33option.com
     config.setHostnameVerifier(CertHelper.createIncorrectHostnameVerifier(exchangeSpecification.getHost(),
         "CN=www.33option.com,OU=IT,O=OPTIONFORTUNE TRADE LIMITED,L=KOWLOON,ST=HONGKONG,C=HK"));
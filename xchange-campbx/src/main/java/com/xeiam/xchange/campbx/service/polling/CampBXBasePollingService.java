@@ -7,7 +7,6 @@ import com.xeiam.xchange.service.polling.BasePollingService;
 import com.xeiam.xchange.utils.CertHelper;
 
 import si.mazi.rescu.ClientConfig;
-import si.mazi.rescu.RestProxyFactory;
 
 /**
  * @author timmolter
@@ -25,10 +24,10 @@ public class CampBXBasePollingService extends BaseExchangeService implements Bas
 
     super(exchange);
 
-    ClientConfig config = new ClientConfig();
+    ClientConfig config = exchange.createClientConfig();
     // campbx server raises "internal error" if connected via these protocol versions
     config.setSslSocketFactory(CertHelper.createRestrictedSSLSocketFactory("TLSv1", "TLSv1.1"));
 
-    this.campBX = RestProxyFactory.createProxy(CampBX.class, exchange.getExchangeSpecification().getSslUri(), config);
+    this.campBX = createPrivateProxy(CampBX.class, exchange.getExchangeSpecification().getSslUri(), config);
   }
 }
@@ -10,8 +10,6 @@ import com.xeiam.xchange.virtex.v2.dto.marketdata.VirtExDepth;
 import com.xeiam.xchange.virtex.v2.dto.marketdata.VirtExTicker;
 import com.xeiam.xchange.virtex.v2.dto.marketdata.VirtExTrade;
 
-import si.mazi.rescu.RestProxyFactory;
-
 public class VirtExMarketDataServiceRaw extends VirtexBasePollingService {
 
   private final VirtEx virtEx;
@@ -24,7 +22,7 @@ public class VirtExMarketDataServiceRaw extends VirtexBasePollingService {
   public VirtExMarketDataServiceRaw(Exchange exchange) {
 
     super(exchange);
-    this.virtEx = RestProxyFactory.createProxy(VirtEx.class, exchange.getExchangeSpecification().getSslUri());
+    this.virtEx = createPublicProxy(VirtEx.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public VirtExTicker getVirtExTicker(CurrencyPair currencyPair) throws IOException {
@@ -1,7 +1,5 @@
 package com.xeiam.xchange.cexio.service;
 
-import java.math.BigInteger;
-
 import javax.crypto.Mac;
 import javax.ws.rs.FormParam;
 
@@ -40,11 +38,11 @@ public class CexIODigest extends BaseParamsDigest {
   public String digestParams(RestInvocation restInvocation) {
 
     Mac mac256 = getMac();
-    mac256.update(restInvocation.getParamValue(FormParam.class, "nonce").toString().getBytes());
-    mac256.update(clientId.getBytes());
-    mac256.update(apiKey.getBytes());
+    updateNonce(mac256, restInvocation.getParamValue(FormParam.class, "nonce"));
+    update(mac256, clientId);
+    update(mac256, apiKey);
 
-    return String.format("%064x", new BigInteger(1, mac256.doFinal())).toUpperCase();
+    return doFinalHex(mac256, true);
   }
 
 }
@@ -12,7 +12,6 @@ import com.xeiam.xchange.cexio.service.CexIODigest;
 import com.xeiam.xchange.exceptions.ExchangeException;
 
 import si.mazi.rescu.ParamsDigest;
-import si.mazi.rescu.RestProxyFactory;
 
 /**
  * @author timmolter
@@ -30,7 +29,7 @@ public class CexIOAccountServiceRaw extends CexIOBasePollingService {
   public CexIOAccountServiceRaw(Exchange exchange) {
 
     super(exchange);
-    this.cexIOAuthenticated = RestProxyFactory.createProxy(CexIOAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.cexIOAuthenticated = createPrivateProxy(CexIOAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     signatureCreator = CexIODigest.createInstance(exchange.getExchangeSpecification().getSecretKey(),
         exchange.getExchangeSpecification().getUserName(), exchange.getExchangeSpecification().getApiKey());
   }
@@ -9,8 +9,6 @@ import com.xeiam.xchange.cexio.dto.marketdata.CexIOTicker;
 import com.xeiam.xchange.cexio.dto.marketdata.CexIOTrade;
 import com.xeiam.xchange.currency.CurrencyPair;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * @author timmolter
  */
@@ -27,7 +25,7 @@ public class CexIOMarketDataServiceRaw extends CexIOBasePollingService {
 
     super(exchange);
 
-    this.cexio = RestProxyFactory.createProxy(CexIO.class, exchange.getExchangeSpecification().getSslUri());
+    this.cexio = createPublicProxy(CexIO.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public CexIOTicker getCexIOTicker(CurrencyPair currencyPair) throws IOException {
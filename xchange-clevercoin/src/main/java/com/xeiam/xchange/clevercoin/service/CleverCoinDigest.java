@@ -1,7 +1,5 @@
 package com.xeiam.xchange.clevercoin.service;
 
-import java.math.BigInteger;
-
 import javax.crypto.Mac;
 import javax.ws.rs.HeaderParam;
 
@@ -37,16 +35,16 @@ public class CleverCoinDigest extends BaseParamsDigest {
   public String digestParams(RestInvocation restInvocation) {
 
     Mac mac256 = getMac();
-    mac256.update(restInvocation.getParamValue(HeaderParam.class, "X-CleverAPI-Nonce").toString().getBytes());
-    mac256.update(restInvocation.getParamValue(HeaderParam.class, "X-CleverAPI-Key").toString().getBytes());
-    mac256.update(restInvocation.getPath().getBytes());
+    updateNonce(mac256, restInvocation.getParamValue(HeaderParam.class, "X-CleverAPI-Nonce"));
+    update(mac256, restInvocation.getParamValue(HeaderParam.class, "X-CleverAPI-Key").toString());
+    update(mac256, restInvocation.getPath());
     // Check if there are GET parameters, if so complete it with the query string
     if (restInvocation.getQueryString().toString().length() != 0) {
-      mac256.update("?".getBytes());
-      mac256.update(restInvocation.getQueryString().getBytes());
+      mac256.update((byte) '?');
+      update(mac256, restInvocation.getQueryString());
     }
 
     //return mac256.doFinal().toString();
-    return String.format("%064x", new BigInteger(1, mac256.doFinal())).toUpperCase();
+    return doFinalHex(mac256, true);
   }
 }
\ No newline at end of file
@@ -11,8 +11,6 @@ import com.xeiam.xchange.clevercoin.dto.account.CleverCoinWithdrawal;
 import com.xeiam.xchange.clevercoin.service.CleverCoinDigest;
 import com.xeiam.xchange.exceptions.ExchangeException;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * @author Karsten Nilsen & Konstantin Indjov
  */
@@ -30,7 +28,7 @@ public class CleverCoinAccountServiceRaw extends CleverCoinBasePollingService {
 
     super(exchange);
 
-    this.CleverCoinAuthenticated = RestProxyFactory.createProxy(CleverCoinAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.CleverCoinAuthenticated = createPrivateProxy(CleverCoinAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = CleverCoinDigest.createInstance(exchange.getExchangeSpecification().getSecretKey(),
         exchange.getExchangeSpecification().getApiKey());
   }
@@ -9,8 +9,6 @@ import com.xeiam.xchange.clevercoin.dto.marketdata.CleverCoinTicker;
 import com.xeiam.xchange.clevercoin.dto.marketdata.CleverCoinTransaction;
 import com.xeiam.xchange.exceptions.ExchangeException;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * @author gnandiga
  */
@@ -26,7 +24,7 @@ public class CleverCoinMarketDataServiceRaw extends CleverCoinBasePollingService
   public CleverCoinMarketDataServiceRaw(Exchange exchange) {
 
     super(exchange);
-    this.cleverCoin = RestProxyFactory.createProxy(CleverCoin.class, exchange.getExchangeSpecification().getSslUri());
+    this.cleverCoin = createPublicProxy(CleverCoin.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public CleverCoinTicker getCleverCoinTicker() throws IOException {
@@ -11,8 +11,6 @@ import com.xeiam.xchange.clevercoin.dto.trade.CleverCoinOrder;
 import com.xeiam.xchange.clevercoin.dto.trade.CleverCoinUserTransaction;
 import com.xeiam.xchange.clevercoin.service.CleverCoinDigest;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * @author gnandiga
  */
@@ -27,7 +25,7 @@ public class CleverCoinTradeServiceRaw extends CleverCoinBasePollingService {
   public CleverCoinTradeServiceRaw(Exchange exchange) {
 
     super(exchange);
-    this.cleverCoinAuthenticated = RestProxyFactory.createProxy(CleverCoinAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.cleverCoinAuthenticated = createPrivateProxy(CleverCoinAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = CleverCoinDigest.createInstance(exchange.getExchangeSpecification().getSecretKey(),
         exchange.getExchangeSpecification().getApiKey());
   }
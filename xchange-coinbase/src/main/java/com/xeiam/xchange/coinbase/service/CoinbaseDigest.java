@@ -1,7 +1,5 @@
 package com.xeiam.xchange.coinbase.service;
 
-import java.math.BigInteger;
-
 import javax.crypto.Mac;
 import javax.ws.rs.HeaderParam;
 
@@ -31,8 +29,8 @@ public class CoinbaseDigest extends BaseParamsDigest {
         + restInvocation.getRequestBody();
 
     Mac mac256 = getMac();
-    mac256.update(message.getBytes());
+    update(mac256, message);
 
-    return String.format("%064x", new BigInteger(1, mac256.doFinal()));
+    return doFinalHex(mac256, false);
   }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.xeiam.xchange.coinbase.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.coinbase.CoinbaseAdapters;
@@ -59,6 +62,18 @@ public final class CoinbaseTradeService extends CoinbaseTradeServiceRaw implemen
     throw new NotAvailableFromExchangeException();
   }
 
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws NotAvailableFromExchangeException {
+
+    throw new NotAvailableFromExchangeException();
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws NotAvailableFromExchangeException {
+
+    throw new NotAvailableFromExchangeException();
+  }
+
   /**
    * Authenticated resource which returns the user’s Bitcoin purchases and sells. Sorted in descending order by creation date.
    *
@@ -9,6 +9,7 @@ import javax.ws.rs.core.MediaType;
 import com.xeiam.xchange.coinbaseex.dto.account.CoinbaseExAccount;
 import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProduct;
 import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProductBook;
+import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProductFullBook;
 import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProductStats;
 import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProductTicker;
 import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExTrade;
@@ -42,6 +43,11 @@ public interface CoinbaseEx {
   CoinbaseExProductBook getProductOrderBook(@PathParam("baseCurrency") String baseCurrency, @PathParam("targetCurrency") String targetCurrency,
       @PathParam("level") String level) throws IOException;
 
+  @GET
+  @Path("products/{baseCurrency}-{targetCurrency}/book?level=3")
+  CoinbaseExProductFullBook getProductFullOrderBook(@PathParam("baseCurrency") String baseCurrency,
+      @PathParam("targetCurrency") String targetCurrency) throws IOException;
+
   @GET
   @Path("products/{baseCurrency}-{targetCurrency}/trades?limit={limit}")
   CoinbaseExTrade[] getTrades(@PathParam("baseCurrency") String baseCurrency, @PathParam("targetCurrency") String targetCurrency,
@@ -15,6 +15,7 @@ import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProductBookEntry;
 import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProductStats;
 import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProductTicker;
 import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExTrade;
+import com.xeiam.xchange.coinbaseex.dto.streaming.CoinbaseExStreamingMessage;
 import com.xeiam.xchange.coinbaseex.dto.trade.CoinbaseExOrder;
 import com.xeiam.xchange.currency.Currency;
 import com.xeiam.xchange.currency.CurrencyPair;
@@ -128,6 +129,18 @@ public class CoinbaseExAdapters {
     return new Trades(trades, TradeSortType.SortByID);
   }
 
+  /**
+   * @param match a match message of the websocket feed, its side is the maker's
+   */
+  public static Trade adaptTrade(CoinbaseExStreamingMessage match, CurrencyPair currencyPair) {
+
+    // the maker sold, so the taker bought, as for the REST trades
+    OrderType type = "sell".equals(match.getSide()) ? OrderType.BID : OrderType.ASK;
+    Date timestamp = match.getTime() == null ? null : parseDate(match.getTime().replace('T', ' '));
+
+    return new Trade(type, match.getSize(), currencyPair, match.getPrice(), timestamp, String.valueOf(match.getTradeId()));
+  }
+
   public static List<CurrencyPair> adaptProductsToSupportedExchangeSymbols(List<CoinbaseExProduct> products) {
     List<CurrencyPair> result = new ArrayList<CurrencyPair>();
     for (CoinbaseExProduct product : products) {
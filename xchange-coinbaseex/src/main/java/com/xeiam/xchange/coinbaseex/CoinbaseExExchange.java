@@ -6,6 +6,10 @@ import com.xeiam.xchange.ExchangeSpecification;
 import com.xeiam.xchange.coinbaseex.service.polling.CoinbaseExAccountService;
 import com.xeiam.xchange.coinbaseex.service.polling.CoinbaseExMarketDataService;
 import com.xeiam.xchange.coinbaseex.service.polling.CoinbaseExTradeService;
+import com.xeiam.xchange.coinbaseex.service.streaming.CoinbaseExStreamingConfiguration;
+import com.xeiam.xchange.coinbaseex.service.streaming.CoinbaseExStreamingExchangeService;
+import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
+import com.xeiam.xchange.service.streaming.StreamingExchangeService;
 import com.xeiam.xchange.utils.nonce.CurrentTimeNonceFactory;
 
 import si.mazi.rescu.SynchronizedValueFactory;
@@ -26,6 +30,7 @@ public class CoinbaseExExchange extends BaseExchange implements Exchange {
 
     ExchangeSpecification exchangeSpecification = new ExchangeSpecification(this.getClass().getCanonicalName());
     exchangeSpecification.setSslUri("https://api.exchange.coinbase.com");
+    exchangeSpecification.setSslUriStreaming("wss://ws-feed.exchange.coinbase.com");
     exchangeSpecification.setHost("api.exchange.coinbase.com");
     exchangeSpecification.setPort(80);
     exchangeSpecification.setExchangeName("CoinbaseEx");
@@ -33,6 +38,12 @@ public class CoinbaseExExchange extends BaseExchange implements Exchange {
     return exchangeSpecification;
   }
 
+  @Override
+  public StreamingExchangeService getStreamingExchangeService(ExchangeStreamingConfiguration exchangeStreamingConfiguration) {
+
+    return new CoinbaseExStreamingExchangeService(this, (CoinbaseExStreamingConfiguration) exchangeStreamingConfiguration);
+  }
+
   @Override
   public SynchronizedValueFactory<Long> getNonceFactory() {
 
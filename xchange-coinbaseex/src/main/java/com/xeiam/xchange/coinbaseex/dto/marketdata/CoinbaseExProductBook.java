@@ -74,7 +74,8 @@ public class CoinbaseExProductBook {
     if (dataObject != null && dataObject.length == 3) {
       BigDecimal price = new BigDecimal((String) dataObject[0]);
       BigDecimal volume = new BigDecimal((String) dataObject[1]);
-      int numberOfOrders = (Integer) dataObject[2];
+      // a level 3 book has the order ID in place of the number of orders
+      int numberOfOrders = dataObject[2] instanceof Integer ? (Integer) dataObject[2] : 1;
       return new CoinbaseExProductBookEntry(price, volume, numberOfOrders);
     }
     return null;
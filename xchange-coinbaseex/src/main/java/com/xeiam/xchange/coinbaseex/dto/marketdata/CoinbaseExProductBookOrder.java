@@ -0,0 +1,41 @@
+package com.xeiam.xchange.coinbaseex.dto.marketdata;
+
+import java.math.BigDecimal;
+
+/**
+ * One order of a level 3 (full) order book, see {@link CoinbaseExProductFullBook}
+ */
+public class CoinbaseExProductBookOrder {
+
+  private final BigDecimal price;
+  private final BigDecimal size;
+  private final String orderId;
+
+  public CoinbaseExProductBookOrder(BigDecimal price, BigDecimal size, String orderId) {
+
+    this.price = price;
+    this.size = size;
+    this.orderId = orderId;
+  }
+
+  public BigDecimal getPrice() {
+
+    return price;
+  }
+
+  public BigDecimal getSize() {
+
+    return size;
+  }
+
+  public String getOrderId() {
+
+    return orderId;
+  }
+
+  @Override
+  public String toString() {
+
+    return "CoinbaseExProductBookOrder [price=" + price + ", size=" + size + ", orderId=" + orderId + "]";
+  }
+}
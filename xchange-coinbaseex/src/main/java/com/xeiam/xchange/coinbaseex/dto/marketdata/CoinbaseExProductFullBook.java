@@ -0,0 +1,52 @@
+package com.xeiam.xchange.coinbaseex.dto.marketdata;
+
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The level 3 (full) order book of a product: every open order, best price first and in time priority within a price. The sequence is the one of
+ * the last feed message the book includes, see {@link com.xeiam.xchange.coinbaseex.service.streaming.CoinbaseExOrderBookBuilder}.
+ */
+public class CoinbaseExProductFullBook {
+
+  private final long sequence;
+  private final CoinbaseExProductBookOrder[] bids;
+  private final CoinbaseExProductBookOrder[] asks;
+
+  public CoinbaseExProductFullBook(@JsonProperty("sequence") long sequence, @JsonProperty("bids") String[][] bids,
+      @JsonProperty("asks") String[][] asks) {
+
+    this.sequence = sequence;
+    this.bids = convertToBookOrders(bids);
+    this.asks = convertToBookOrders(asks);
+  }
+
+  public long getSequence() {
+
+    return sequence;
+  }
+
+  public CoinbaseExProductBookOrder[] getBids() {
+
+    return bids;
+  }
+
+  public CoinbaseExProductBookOrder[] getAsks() {
+
+    return asks;
+  }
+
+  private static CoinbaseExProductBookOrder[] convertToBookOrders(String[][] dataObjects) {
+
+    if (dataObjects == null) {
+      return new CoinbaseExProductBookOrder[0];
+    }
+    CoinbaseExProductBookOrder[] orders = new CoinbaseExProductBookOrder[dataObjects.length];
+    for (int i = 0; i < dataObjects.length; i++) {
+      // [ price, size, order_id ]
+      orders[i] = new CoinbaseExProductBookOrder(new BigDecimal(dataObjects[i][0]), new BigDecimal(dataObjects[i][1]), dataObjects[i][2]);
+    }
+    return orders;
+  }
+}
@@ -0,0 +1,169 @@
+package com.xeiam.xchange.coinbaseex.dto.streaming;
+
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * <p>
+ * A message of the full channel of the websocket feed. The type tells which fields are set:
+ * </p>
+ * <ul>
+ * <li>received: an order was accepted, it is not on the book yet</li>
+ * <li>open: the rest of an order is now on the book, with its remaining size</li>
+ * <li>done: an order is off the book, filled or canceled, or was never on it</li>
+ * <li>match: a trade between a maker order on the book and a taker order</li>
+ * <li>change: the size of an order was changed by self-trade prevention</li>
+ * <li>error: the feed rejected a request, only the message is set</li>
+ * </ul>
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CoinbaseExStreamingMessage {
+
+  private final String type;
+  private final Long sequence;
+  private final String time;
+  private final String productId;
+  private final String orderId;
+  private final String side;
+  private final BigDecimal price;
+  private final BigDecimal size;
+  private final BigDecimal remainingSize;
+  private final BigDecimal newSize;
+  private final BigDecimal oldSize;
+  private final String reason;
+  private final String makerOrderId;
+  private final String takerOrderId;
+  private final Long tradeId;
+  private final String orderType;
+  private final BigDecimal funds;
+  private final String message;
+
+  public CoinbaseExStreamingMessage(@JsonProperty("type") String type, @JsonProperty("sequence") Long sequence, @JsonProperty("time") String time,
+      @JsonProperty("product_id") String productId, @JsonProperty("order_id") String orderId, @JsonProperty("side") String side,
+      @JsonProperty("price") BigDecimal price, @JsonProperty("size") BigDecimal size, @JsonProperty("remaining_size") BigDecimal remainingSize,
+      @JsonProperty("new_size") BigDecimal newSize, @JsonProperty("old_size") BigDecimal oldSize, @JsonProperty("reason") String reason,
+      @JsonProperty("maker_order_id") String makerOrderId, @JsonProperty("taker_order_id") String takerOrderId,
+      @JsonProperty("trade_id") Long tradeId, @JsonProperty("order_type") String orderType, @JsonProperty("funds") BigDecimal funds,
+      @JsonProperty("message") String message) {
+
+    this.type = type;
+    this.sequence = sequence;
+    this.time = time;
+    this.productId = productId;
+    this.orderId = orderId;
+    this.side = side;
+    this.price = price;
+    this.size = size;
+    this.remainingSize = remainingSize;
+    this.newSize = newSize;
+    this.oldSize = oldSize;
+    this.reason = reason;
+    this.makerOrderId = makerOrderId;
+    this.takerOrderId = takerOrderId;
+    this.tradeId = tradeId;
+    this.orderType = orderType;
+    this.funds = funds;
+    this.message = message;
+  }
+
+  public String getType() {
+
+    return type;
+  }
+
+  public Long getSequence() {
+
+    return sequence;
+  }
+
+  public String getTime() {
+
+    return time;
+  }
+
+  public String getProductId() {
+
+    return productId;
+  }
+
+  public String getOrderId() {
+
+    return orderId;
+  }
+
+  public String getSide() {
+
+    return side;
+  }
+
+  public BigDecimal getPrice() {
+
+    return price;
+  }
+
+  public BigDecimal getSize() {
+
+    return size;
+  }
+
+  public BigDecimal getRemainingSize() {
+
+    return remainingSize;
+  }
+
+  public BigDecimal getNewSize() {
+
+    return newSize;
+  }
+
+  public BigDecimal getOldSize() {
+
+    return oldSize;
+  }
+
+  public String getReason() {
+
+    return reason;
+  }
+
+  public String getMakerOrderId() {
+
+    return makerOrderId;
+  }
+
+  public String getTakerOrderId() {
+
+    return takerOrderId;
+  }
+
+  public Long getTradeId() {
+
+    return tradeId;
+  }
+
+  public String getOrderType() {
+
+    return orderType;
+  }
+
+  public BigDecimal getFunds() {
+
+    return funds;
+  }
+
+  public String getMessage() {
+
+    return message;
+  }
+
+  @Override
+  public String toString() {
+
+    return "CoinbaseExStreamingMessage [type=" + type + ", sequence=" + sequence + ", time=" + time + ", productId=" + productId + ", orderId="
+        + orderId + ", side=" + side + ", price=" + price + ", size=" + size + ", remainingSize=" + remainingSize + ", newSize=" + newSize
+        + ", oldSize=" + oldSize + ", reason=" + reason + ", makerOrderId=" + makerOrderId + ", takerOrderId=" + takerOrderId + ", tradeId="
+        + tradeId + ", orderType=" + orderType + ", funds=" + funds + ", message=" + message + "]";
+  }
+}
@@ -35,12 +35,8 @@ public class CoinbaseExDigest extends BaseParamsDigest {
 
     Mac mac256 = getMac();
 
-    try {
-      mac256.update(message.getBytes("UTF-8"));
-    } catch (Exception e) {
-      throw new ExchangeException("Digest encoding exception", e);
-    }
+    update(mac256, message);
 
-    return Base64.encodeBytes(mac256.doFinal());
+    return doFinalBase64(mac256);
   }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import java.io.IOException;
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.coinbaseex.CoinbaseEx;
 import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProductBook;
+import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProductFullBook;
 import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProductStats;
 import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProductTicker;
 import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExTrade;
@@ -55,6 +56,14 @@ public class CoinbaseExMarketDataServiceRaw extends CoinbaseExBasePollingService
     return book;
   }
 
+  /**
+   * @return every open order of the product, with the sequence of the last feed message it includes
+   */
+  public CoinbaseExProductFullBook getCoinbaseExProductFullOrderBook(CurrencyPair currencyPair) throws IOException {
+
+    return this.coinbaseEx.getProductFullOrderBook(currencyPair.base.getCurrencyCode(), currencyPair.counter.getCurrencyCode());
+  }
+
   public CoinbaseExTrade[] getCoinbaseExTrades(CurrencyPair currencyPair, int limit) throws IOException {
 
     return this.coinbaseEx.getTrades(currencyPair.base.getCurrencyCode(), currencyPair.counter.getCurrencyCode(), String.valueOf(limit));
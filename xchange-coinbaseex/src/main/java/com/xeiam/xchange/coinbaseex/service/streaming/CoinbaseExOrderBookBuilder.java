@@ -0,0 +1,321 @@
+package com.xeiam.xchange.coinbaseex.service.streaming;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProductBookOrder;
+import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProductFullBook;
+import com.xeiam.xchange.coinbaseex.dto.streaming.CoinbaseExStreamingMessage;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+
+/**
+ * <p>
+ * The level 3 order book of one product, kept up to date from the full channel of the websocket feed. This provides the following:
+ * </p>
+ * <ul>
+ * <li>Buffering of the feed messages until the REST snapshot is applied, then replaying those past the snapshot's sequence</li>
+ * <li>Applying the messages in sequence order, and detecting a missed message, after which the book must be synced again</li>
+ * <li>Both the per-order book, in time priority within a price, and the book aggregated by price level</li>
+ * </ul>
+ * <p>
+ * All methods are synchronized on the builder, a caller can hold its lock to publish what it applied before the next message is applied.
+ * </p>
+ */
+public class CoinbaseExOrderBookBuilder {
+
+  private static final Comparator<CoinbaseExStreamingMessage> BY_SEQUENCE = new Comparator<CoinbaseExStreamingMessage>() {
+
+    @Override
+    public int compare(CoinbaseExStreamingMessage o1, CoinbaseExStreamingMessage o2) {
+
+      return o1.getSequence().compareTo(o2.getSequence());
+    }
+  };
+
+  private final Logger log = LoggerFactory.getLogger(CoinbaseExOrderBookBuilder.class);
+
+  private final CurrencyPair currencyPair;
+
+  private final TreeMap<BigDecimal, Level> bids = new TreeMap<BigDecimal, Level>(Collections.reverseOrder());
+  private final TreeMap<BigDecimal, Level> asks = new TreeMap<BigDecimal, Level>();
+  private final Map<String, BookOrder> orders = new HashMap<String, BookOrder>();
+
+  private final List<CoinbaseExStreamingMessage> pending = new ArrayList<CoinbaseExStreamingMessage>();
+
+  private long sequence;
+  private boolean synced;
+  private boolean snapshotRequested;
+
+  public CoinbaseExOrderBookBuilder(CurrencyPair currencyPair) {
+
+    this.currencyPair = currencyPair;
+  }
+
+  public CurrencyPair getCurrencyPair() {
+
+    return currencyPair;
+  }
+
+  /**
+   * Applies a sequenced message of this product, or buffers it while the book is not synced
+   *
+   * @return true if the message changed the book's sequence, false if it was buffered, was already in the book or revealed a gap
+   */
+  public synchronized boolean apply(CoinbaseExStreamingMessage message) {
+
+    if (!synced) {
+      pending.add(message);
+      return false;
+    }
+
+    long messageSequence = message.getSequence();
+    if (messageSequence <= sequence) {
+      return false;
+    }
+    if (messageSequence != sequence + 1) {
+      log.warn("{} book missed messages {} to {}, syncing again", currencyPair, sequence + 1, messageSequence - 1);
+      clearBook();
+      synced = false;
+      pending.add(message);
+      return false;
+    }
+
+    String type = message.getType();
+    if ("open".equals(type)) {
+      addOrder(message.getOrderId(), adaptSide(message.getSide()), message.getPrice(), message.getRemainingSize());
+    } else if ("done".equals(type)) {
+      removeOrder(message.getOrderId());
+    } else if ("match".equals(type)) {
+      BookOrder maker = orders.get(message.getMakerOrderId());
+      if (maker != null) {
+        BigDecimal makerSize = maker.level.orders.get(message.getMakerOrderId());
+        resizeOrder(message.getMakerOrderId(), makerSize.subtract(message.getSize()));
+      }
+    } else if ("change".equals(type)) {
+      // a change of an order not yet open is carried by its open message
+      if (orders.containsKey(message.getOrderId())) {
+        resizeOrder(message.getOrderId(), message.getNewSize());
+      }
+    }
+    sequence = messageSequence;
+    return true;
+  }
+
+  /**
+   * Asks for a REST snapshot if the book is not synced and none is on its way. The caller must then either apply it or report the failure.
+   *
+   * @return true if the caller must fetch the snapshot
+   */
+  public synchronized boolean requestSnapshot() {
+
+    if (synced || snapshotRequested) {
+      return false;
+    }
+    snapshotRequested = true;
+    return true;
+  }
+
+  /**
+   * Replaces the book with the snapshot, then applies the buffered messages past its sequence. A snapshot older than the synced book is ignored.
+   *
+   * @return the buffered messages applied, in sequence order. The book is left unsynced if they have a gap, see {@link #isSynced()}
+   */
+  public synchronized List<CoinbaseExStreamingMessage> applySnapshot(CoinbaseExProductFullBook snapshot) {
+
+    snapshotRequested = false;
+    if (synced && snapshot.getSequence() <= sequence) {
+      return Collections.emptyList();
+    }
+
+    clearBook();
+    for (CoinbaseExProductBookOrder order : snapshot.getBids()) {
+      addOrder(order.getOrderId(), OrderType.BID, order.getPrice(), order.getSize());
+    }
+    for (CoinbaseExProductBookOrder order : snapshot.getAsks()) {
+      addOrder(order.getOrderId(), OrderType.ASK, order.getPrice(), order.getSize());
+    }
+    sequence = snapshot.getSequence();
+    synced = true;
+
+    List<CoinbaseExStreamingMessage> buffered = new ArrayList<CoinbaseExStreamingMessage>(pending);
+    pending.clear();
+    Collections.sort(buffered, BY_SEQUENCE);
+
+    List<CoinbaseExStreamingMessage> applied = new ArrayList<CoinbaseExStreamingMessage>();
+    for (CoinbaseExStreamingMessage message : buffered) {
+      if (apply(message)) {
+        applied.add(message);
+      }
+    }
+    return applied;
+  }
+
+  /**
+   * Reports that the snapshot could not be fetched, the next message asks for it again
+   */
+  public synchronized void snapshotFailed() {
+
+    snapshotRequested = false;
+    // any later snapshot is past all the messages received so far
+    pending.clear();
+  }
+
+  /**
+   * Empties the book, to sync it again from the next messages, e.g. on a new connection
+   */
+  public synchronized void reset() {
+
+    clearBook();
+    pending.clear();
+    synced = false;
+  }
+
+  public synchronized boolean isSynced() {
+
+    return synced;
+  }
+
+  /**
+   * @return the sequence of the last message in the book
+   */
+  public synchronized long getSequence() {
+
+    return sequence;
+  }
+
+  /**
+   * @return the book aggregated by price level, null if it is not synced
+   */
+  public synchronized OrderBook getOrderBook() {
+
+    if (!synced) {
+      return null;
+    }
+    return new OrderBook(null, toLimitOrders(asks, OrderType.ASK), toLimitOrders(bids, OrderType.BID));
+  }
+
+  /**
+   * @return every order of the book with its ID, in time priority within a price, null if it is not synced
+   */
+  public synchronized OrderBook getFullOrderBook() {
+
+    if (!synced) {
+      return null;
+    }
+    return new OrderBook(null, toOrderLimitOrders(asks, OrderType.ASK), toOrderLimitOrders(bids, OrderType.BID));
+  }
+
+  private void addOrder(String orderId, OrderType type, BigDecimal price, BigDecimal size) {
+
+    if (orderId == null || price == null || size == null || orders.containsKey(orderId)) {
+      return;
+    }
+    TreeMap<BigDecimal, Level> side = getSide(type);
+    Level level = side.get(price);
+    if (level == null) {
+      level = new Level();
+      side.put(price, level);
+    }
+    level.orders.put(orderId, size);
+    level.total = level.total.add(size);
+    orders.put(orderId, new BookOrder(type, price, level));
+  }
+
+  private void removeOrder(String orderId) {
+
+    BookOrder order = orders.remove(orderId);
+    if (order == null) {
+      return;
+    }
+    Level level = order.level;
+    level.total = level.total.subtract(level.orders.remove(orderId));
+    if (level.orders.isEmpty()) {
+      getSide(order.type).remove(order.price);
+    }
+  }
+
+  private void resizeOrder(String orderId, BigDecimal newSize) {
+
+    if (newSize.signum() <= 0) {
+      removeOrder(orderId);
+      return;
+    }
+    Level level = orders.get(orderId).level;
+    // replacing the value of a key keeps its place in the queue
+    BigDecimal oldSize = level.orders.put(orderId, newSize);
+    level.total = level.total.add(newSize).subtract(oldSize);
+  }
+
+  private void clearBook() {
+
+    bids.clear();
+    asks.clear();
+    orders.clear();
+  }
+
+  private TreeMap<BigDecimal, Level> getSide(OrderType type) {
+
+    return type == OrderType.BID ? bids : asks;
+  }
+
+  private List<LimitOrder> toLimitOrders(TreeMap<BigDecimal, Level> side, OrderType type) {
+
+    List<LimitOrder> limitOrders = new ArrayList<LimitOrder>(side.size());
+    for (Map.Entry<BigDecimal, Level> entry : side.entrySet()) {
+      limitOrders.add(new LimitOrder(type, entry.getValue().total, currencyPair, "0", null, entry.getKey()));
+    }
+    return limitOrders;
+  }
+
+  private List<LimitOrder> toOrderLimitOrders(TreeMap<BigDecimal, Level> side, OrderType type) {
+
+    List<LimitOrder> limitOrders = new ArrayList<LimitOrder>(orders.size());
+    for (Map.Entry<BigDecimal, Level> entry : side.entrySet()) {
+      for (Map.Entry<String, BigDecimal> order : entry.getValue().orders.entrySet()) {
+        limitOrders.add(new LimitOrder(type, order.getValue(), currencyPair, order.getKey(), null, entry.getKey()));
+      }
+    }
+    return limitOrders;
+  }
+
+  static OrderType adaptSide(String side) {
+
+    return "buy".equals(side) ? OrderType.BID : OrderType.ASK;
+  }
+
+  /**
+   * The orders at one price, in the order they were opened
+   */
+  private static final class Level {
+
+    private final Map<String, BigDecimal> orders = new LinkedHashMap<String, BigDecimal>();
+    private BigDecimal total = BigDecimal.ZERO;
+  }
+
+  private static final class BookOrder {
+
+    private final OrderType type;
+    private final BigDecimal price;
+    private final Level level;
+
+    BookOrder(OrderType type, BigDecimal price, Level level) {
+
+      this.type = type;
+      this.price = price;
+      this.level = level;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.xeiam.xchange.coinbaseex.service.streaming;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.service.streaming.EventQueueConfiguration;
+import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
+
+public class CoinbaseExStreamingConfiguration implements ExchangeStreamingConfiguration {
+
+  private final int maxReconnectAttempts;
+  private final int reconnectWaitTimeInMs;
+  private final int timeoutInMs;
+  private final CurrencyPair[] products;
+  private EventQueueConfiguration eventQueueConfiguration = EventQueueConfiguration.UNBOUNDED;
+
+  /**
+   * Constructor
+   *
+   * @param maxReconnectAttempts
+   * @param reconnectWaitTimeInMs
+   * @param timeoutInMs
+   * @param products the products whose full channel is subscribed to and whose book is built
+   */
+  public CoinbaseExStreamingConfiguration(int maxReconnectAttempts, int reconnectWaitTimeInMs, int timeoutInMs, CurrencyPair... products) {
+
+    this.maxReconnectAttempts = maxReconnectAttempts;
+    this.reconnectWaitTimeInMs = reconnectWaitTimeInMs;
+    this.timeoutInMs = timeoutInMs;
+    this.products = products;
+  }
+
+  /**
+   * Constructor with the default reconnection settings
+   *
+   * @param products the products whose full channel is subscribed to and whose book is built
+   */
+  public CoinbaseExStreamingConfiguration(CurrencyPair... products) {
+
+    this(30, 135000, 120000, products);
+  }
+
+  public CoinbaseExStreamingConfiguration() {
+
+    this(CurrencyPair.BTC_USD);
+  }
+
+  @Override
+  public int getMaxReconnectAttempts() {
+
+    return maxReconnectAttempts;
+  }
+
+  @Override
+  public int getReconnectWaitTimeInMs() {
+
+    return reconnectWaitTimeInMs;
+  }
+
+  @Override
+  public int getTimeoutInMs() {
+
+    return timeoutInMs;
+  }
+
+  @Override
+  public boolean isEncryptedChannel() {
+
+    return true;
+  }
+
+  @Override
+  public boolean keepAlive() {
+
+    return true;
+  }
+
+  @Override
+  public EventQueueConfiguration getEventQueueConfiguration() {
+
+    return eventQueueConfiguration;
+  }
+
+  public void setEventQueueConfiguration(EventQueueConfiguration eventQueueConfiguration) {
+
+    this.eventQueueConfiguration = eventQueueConfiguration;
+  }
+
+  public CurrencyPair[] getProducts() {
+
+    return products;
+  }
+}
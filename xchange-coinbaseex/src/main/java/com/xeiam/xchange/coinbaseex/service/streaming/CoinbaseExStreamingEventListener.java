@@ -0,0 +1,203 @@
+package com.xeiam.xchange.coinbaseex.service.streaming;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xeiam.xchange.coinbaseex.CoinbaseExAdapters;
+import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProductFullBook;
+import com.xeiam.xchange.coinbaseex.dto.streaming.CoinbaseExStreamingMessage;
+import com.xeiam.xchange.coinbaseex.service.polling.CoinbaseExMarketDataServiceRaw;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.exceptions.ExchangeException;
+import com.xeiam.xchange.service.polling.AsyncPollingExecutor;
+import com.xeiam.xchange.service.streaming.DefaultExchangeEvent;
+import com.xeiam.xchange.service.streaming.ExchangeEvent;
+import com.xeiam.xchange.service.streaming.ExchangeEventListener;
+import com.xeiam.xchange.service.streaming.ExchangeEventType;
+import com.xeiam.xchange.service.streaming.StreamingExchangeService;
+
+/**
+ * <p>
+ * Listener of the full channel of the websocket feed, providing the following:
+ * </p>
+ * <ul>
+ * <li>Subscription to the configured products on each connection, their books being synced again from a new REST snapshot</li>
+ * <li>A {@link CoinbaseExOrderBookBuilder} per product, the snapshots being fetched on {@link AsyncPollingExecutor#getSharedExecutor()} while the
+ * feed is buffered</li>
+ * <li>An EVENT with the {@link CoinbaseExStreamingMessage} for each message applied to a book, and a TRADE for each match</li>
+ * <li>A DEPTH with the aggregated book each time a book is synced</li>
+ * </ul>
+ * <p>
+ * The events of the messages buffered during a sync, and the DEPTH events, have no raw data.
+ * </p>
+ */
+public class CoinbaseExStreamingEventListener extends ExchangeEventListener {
+
+  private final Logger log = LoggerFactory.getLogger(CoinbaseExStreamingEventListener.class);
+
+  private final BlockingQueue<ExchangeEvent> consumerEventQueue;
+  private final StreamingExchangeService streamingExchangeService;
+  private final CoinbaseExMarketDataServiceRaw marketDataService;
+  private final Map<String, CoinbaseExOrderBookBuilder> books;
+  private final ObjectMapper streamObjectMapper = new ObjectMapper();
+
+  /**
+   * Constructor
+   *
+   * @param consumerEventQueue
+   * @param streamingExchangeService the service to send the subscriptions on
+   * @param marketDataService the service to fetch the snapshots with
+   * @param products
+   */
+  public CoinbaseExStreamingEventListener(BlockingQueue<ExchangeEvent> consumerEventQueue, StreamingExchangeService streamingExchangeService,
+      CoinbaseExMarketDataServiceRaw marketDataService, CurrencyPair[] products) {
+
+    this.consumerEventQueue = consumerEventQueue;
+    this.streamingExchangeService = streamingExchangeService;
+    this.marketDataService = marketDataService;
+
+    Map<String, CoinbaseExOrderBookBuilder> books = new LinkedHashMap<String, CoinbaseExOrderBookBuilder>();
+    for (CurrencyPair product : products) {
+      books.put(toProductId(product), new CoinbaseExOrderBookBuilder(product));
+    }
+    this.books = Collections.unmodifiableMap(books);
+  }
+
+  @Override
+  public void handleEvent(ExchangeEvent event) throws ExchangeException {
+
+    switch (event.getEventType()) {
+    case CONNECT:
+      // the books are kept through a DISCONNECT or ERROR, and only dropped once the new connection is about to resync them
+      resetBooks();
+      subscribe();
+      forwardEvent(event);
+      break;
+    case MESSAGE:
+      handleMessage(event.getData());
+      break;
+    default:
+      forwardEvent(event);
+    }
+  }
+
+  /**
+   * @return the book of the product, null if it is not subscribed to
+   */
+  public CoinbaseExOrderBookBuilder getBook(CurrencyPair currencyPair) {
+
+    return books.get(toProductId(currencyPair));
+  }
+
+  public Collection<CoinbaseExOrderBookBuilder> getBooks() {
+
+    return books.values();
+  }
+
+  private void handleMessage(String data) {
+
+    CoinbaseExStreamingMessage message;
+    try {
+      message = streamObjectMapper.readValue(data, CoinbaseExStreamingMessage.class);
+    } catch (IOException e) {
+      throw new ExchangeException("JSON parse error", e);
+    }
+
+    if ("error".equals(message.getType())) {
+      forwardEvent(new DefaultExchangeEvent(ExchangeEventType.ERROR, data, message));
+      return;
+    }
+
+    CoinbaseExOrderBookBuilder book = message.getProductId() == null ? null : books.get(message.getProductId());
+    if (book == null || message.getSequence() == null) {
+      forwardEvent(new DefaultExchangeEvent(ExchangeEventType.EVENT, data, message));
+      return;
+    }
+
+    // held while publishing, so the events are in the order the messages are applied
+    synchronized (book) {
+      if (book.apply(message)) {
+        publish(book, data, message);
+      }
+    }
+    requestSnapshot(book);
+  }
+
+  private void publish(CoinbaseExOrderBookBuilder book, String data, CoinbaseExStreamingMessage message) {
+
+    if ("match".equals(message.getType())) {
+      forwardEvent(new DefaultExchangeEvent(ExchangeEventType.TRADE, data, CoinbaseExAdapters.adaptTrade(message, book.getCurrencyPair())));
+    }
+    forwardEvent(new DefaultExchangeEvent(ExchangeEventType.EVENT, data, message));
+  }
+
+  private void requestSnapshot(final CoinbaseExOrderBookBuilder book) {
+
+    if (!book.requestSnapshot()) {
+      return;
+    }
+
+    AsyncPollingExecutor.getSharedExecutor().execute(new Runnable() {
+
+      @Override
+      public void run() {
+
+        CoinbaseExProductFullBook snapshot;
+        try {
+          snapshot = marketDataService.getCoinbaseExProductFullOrderBook(book.getCurrencyPair());
+        } catch (IOException | RuntimeException e) {
+          log.warn("Cannot fetch the {} book, retrying on the next message: {}", book.getCurrencyPair(), e.getMessage());
+          book.snapshotFailed();
+          return;
+        }
+
+        synchronized (book) {
+          for (CoinbaseExStreamingMessage message : book.applySnapshot(snapshot)) {
+            publish(book, null, message);
+          }
+          if (book.isSynced()) {
+            forwardEvent(new DefaultExchangeEvent(ExchangeEventType.DEPTH, null, book.getOrderBook()));
+          }
+        }
+        // the buffered messages may have had a gap
+        requestSnapshot(book);
+      }
+    });
+  }
+
+  private void subscribe() {
+
+    for (String productId : books.keySet()) {
+      streamingExchangeService.send("{\"type\":\"subscribe\",\"product_id\":\"" + productId + "\"}");
+    }
+  }
+
+  private void resetBooks() {
+
+    for (CoinbaseExOrderBookBuilder book : books.values()) {
+      book.reset();
+    }
+  }
+
+  private void forwardEvent(ExchangeEvent event) {
+
+    try {
+      consumerEventQueue.put(event);
+    } catch (InterruptedException e) {
+      throw new ExchangeException("InterruptedException!", e);
+    }
+  }
+
+  private static String toProductId(CurrencyPair currencyPair) {
+
+    return currencyPair.base.getCurrencyCode() + "-" + currencyPair.counter.getCurrencyCode();
+  }
+}
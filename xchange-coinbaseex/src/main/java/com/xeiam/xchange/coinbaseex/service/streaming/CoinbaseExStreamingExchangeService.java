@@ -0,0 +1,73 @@
+package com.xeiam.xchange.coinbaseex.service.streaming;
+
+import java.net.URI;
+
+import com.xeiam.xchange.Exchange;
+import com.xeiam.xchange.coinbaseex.service.polling.CoinbaseExMarketDataServiceRaw;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.exceptions.ExchangeException;
+import com.xeiam.xchange.service.streaming.BaseWebSocketExchangeService;
+
+/**
+ * <p>
+ * Streaming service of the full channel of the Coinbase Exchange websocket feed, providing the following:
+ * </p>
+ * <ul>
+ * <li>The level 3 book of each configured product, rebuilt from a REST snapshot and the sequenced feed messages, see
+ * {@link CoinbaseExOrderBookBuilder}</li>
+ * <li>The events described in {@link CoinbaseExStreamingEventListener}</li>
+ * </ul>
+ */
+public class CoinbaseExStreamingExchangeService extends BaseWebSocketExchangeService {
+
+  private final CoinbaseExStreamingEventListener exchangeEventListener;
+
+  /**
+   * Constructor
+   *
+   * @param exchange
+   * @param configuration
+   */
+  public CoinbaseExStreamingExchangeService(Exchange exchange, CoinbaseExStreamingConfiguration configuration) {
+
+    super(exchange, configuration);
+
+    this.exchangeEventListener = new CoinbaseExStreamingEventListener(consumerEventQueue, this, new CoinbaseExMarketDataServiceRaw(exchange),
+        configuration.getProducts());
+  }
+
+  @Override
+  public void connect() {
+
+    URI uri = URI.create(exchange.getExchangeSpecification().getSslUriStreaming());
+
+    // Use the default internal connect, the listener subscribes once connected
+    internalConnect(uri, exchangeEventListener, null);
+  }
+
+  /**
+   * @return the book of the product aggregated by price level, null while it is being synced
+   */
+  public OrderBook getOrderBook(CurrencyPair currencyPair) {
+
+    return getBook(currencyPair).getOrderBook();
+  }
+
+  /**
+   * @return every order of the book of the product with its ID, in time priority within a price, null while it is being synced
+   */
+  public OrderBook getFullOrderBook(CurrencyPair currencyPair) {
+
+    return getBook(currencyPair).getFullOrderBook();
+  }
+
+  private CoinbaseExOrderBookBuilder getBook(CurrencyPair currencyPair) {
+
+    CoinbaseExOrderBookBuilder book = exchangeEventListener.getBook(currencyPair);
+    if (book == null) {
+      throw new ExchangeException(currencyPair + " is not subscribed to");
+    }
+    return book;
+  }
+}
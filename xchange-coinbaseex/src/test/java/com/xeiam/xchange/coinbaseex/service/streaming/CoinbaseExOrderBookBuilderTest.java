@@ -0,0 +1,97 @@
+package com.xeiam.xchange.coinbaseex.service.streaming;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xeiam.xchange.coinbaseex.dto.marketdata.CoinbaseExProductFullBook;
+import com.xeiam.xchange.coinbaseex.dto.streaming.CoinbaseExStreamingMessage;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+
+public class CoinbaseExOrderBookBuilderTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  public void testSnapshotAndSequencedMessages() throws IOException {
+
+    CoinbaseExOrderBookBuilder builder = new CoinbaseExOrderBookBuilder(CurrencyPair.BTC_USD);
+
+    // buffered until the snapshot, the one it already includes is dropped
+    assertThat(builder.apply(message("{\"type\":\"received\",\"sequence\":10,\"order_id\":\"x\"}"))).isFalse();
+    assertThat(builder.apply(message("{\"type\":\"open\",\"sequence\":11,\"order_id\":\"e\",\"side\":\"sell\",\"price\":\"101\",\"remaining_size\":\"2\"}")))
+        .isFalse();
+    assertThat(builder.getOrderBook()).isNull();
+    assertThat(builder.requestSnapshot()).isTrue();
+    assertThat(builder.requestSnapshot()).isFalse();
+
+    List<CoinbaseExStreamingMessage> replayed = builder.applySnapshot(mapper.readValue("{\"sequence\":10,"
+        + "\"bids\":[[\"100\",\"1\",\"a\"],[\"100\",\"2\",\"b\"],[\"99\",\"1\",\"c\"]],\"asks\":[[\"101\",\"1\",\"d\"]]}",
+        CoinbaseExProductFullBook.class));
+    assertThat(replayed).hasSize(1);
+    assertThat(replayed.get(0).getSequence()).isEqualTo(11L);
+    assertThat(builder.isSynced()).isTrue();
+
+    OrderBook orderBook = builder.getOrderBook();
+    assertThat(orderBook.getAsks()).hasSize(1);
+    assertLevel(orderBook.getAsks().get(0), "101", "3");
+    assertThat(orderBook.getBids()).hasSize(2);
+    assertLevel(orderBook.getBids().get(0), "100", "3");
+    assertLevel(orderBook.getBids().get(1), "99", "1");
+
+    assertThat(builder.apply(message("{\"type\":\"match\",\"sequence\":12,\"maker_order_id\":\"a\",\"taker_order_id\":\"y\",\"side\":\"buy\","
+        + "\"price\":\"100\",\"size\":\"0.5\",\"trade_id\":1}"))).isTrue();
+    assertThat(builder.apply(message("{\"type\":\"done\",\"sequence\":13,\"order_id\":\"d\",\"reason\":\"canceled\"}"))).isTrue();
+    assertThat(builder.apply(message("{\"type\":\"change\",\"sequence\":14,\"order_id\":\"b\",\"new_size\":\"1\",\"old_size\":\"2\"}"))).isTrue();
+    assertThat(builder.apply(message("{\"type\":\"done\",\"sequence\":13,\"order_id\":\"e\",\"reason\":\"canceled\"}"))).isFalse();
+
+    orderBook = builder.getOrderBook();
+    assertLevel(orderBook.getAsks().get(0), "101", "2");
+    assertLevel(orderBook.getBids().get(0), "100", "1.5");
+
+    // the queue of a price keeps its time priority
+    OrderBook fullOrderBook = builder.getFullOrderBook();
+    assertThat(fullOrderBook.getBids()).hasSize(3);
+    assertThat(fullOrderBook.getBids().get(0).getId()).isEqualTo("a");
+    assertThat(fullOrderBook.getBids().get(0).getTradableAmount()).isEqualTo(new BigDecimal("0.5"));
+    assertThat(fullOrderBook.getBids().get(1).getId()).isEqualTo("b");
+    assertThat(fullOrderBook.getAsks().get(0).getId()).isEqualTo("e");
+  }
+
+  @Test
+  public void testGapTriggersResync() throws IOException {
+
+    CoinbaseExOrderBookBuilder builder = new CoinbaseExOrderBookBuilder(CurrencyPair.BTC_USD);
+    builder.requestSnapshot();
+    builder.applySnapshot(mapper.readValue("{\"sequence\":10,\"bids\":[[\"100\",\"1\",\"a\"]],\"asks\":[]}", CoinbaseExProductFullBook.class));
+
+    assertThat(builder.apply(message("{\"type\":\"received\",\"sequence\":12,\"order_id\":\"x\"}"))).isFalse();
+    assertThat(builder.isSynced()).isFalse();
+    assertThat(builder.getOrderBook()).isNull();
+    assertThat(builder.requestSnapshot()).isTrue();
+
+    builder.applySnapshot(mapper.readValue("{\"sequence\":12,\"bids\":[[\"100\",\"1\",\"a\"]],\"asks\":[[\"101\",\"1\",\"x\"]]}",
+        CoinbaseExProductFullBook.class));
+    assertThat(builder.isSynced()).isTrue();
+    assertThat(builder.getSequence()).isEqualTo(12L);
+    assertThat(builder.getOrderBook().getAsks()).hasSize(1);
+  }
+
+  private CoinbaseExStreamingMessage message(String json) throws IOException {
+
+    return mapper.readValue(json, CoinbaseExStreamingMessage.class);
+  }
+
+  private static void assertLevel(LimitOrder level, String price, String amount) {
+
+    assertThat(level.getLimitPrice().compareTo(new BigDecimal(price))).isZero();
+    assertThat(level.getTradableAmount().compareTo(new BigDecimal(amount))).isZero();
+  }
+}
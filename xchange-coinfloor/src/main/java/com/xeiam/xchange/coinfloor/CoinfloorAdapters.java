@@ -5,10 +5,12 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.xeiam.xchange.coinfloor.dto.streaming.CoinfloorOrder;
@@ -43,22 +45,45 @@ public class CoinfloorAdapters {
 
   private static final ObjectMapper streamObjectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
-  private Object cachedDataSynchronizationObject = new Object();
-  private Wallet cachedWallet;
-  private Trades cachedTrades;
-  private OrderBook cachedOrderBook;
-  private Ticker cachedTicker;
+  /** the number of trades kept by {@link #getCachedTrades()} */
+  public static final int MAX_CACHED_TRADES = 1000;
 
-  public Map<String, Object> adaptBalances(String data) throws ExchangeException {
+  // the adapt methods are only called by the websocket thread, the getters by any thread
 
-    Map<String, Object> resultMap = new HashMap<String, Object>();
+  // immutable snapshots, replaced on each update
+  private volatile Wallet cachedWallet;
+  private volatile Ticker cachedTicker;
+
+  // orders by id, updated in place, copied by the getter
+  private final Map<String, LimitOrder> cachedBids = new LinkedHashMap<String, LimitOrder>();
+  private final Map<String, LimitOrder> cachedAsks = new LinkedHashMap<String, LimitOrder>();
+  private boolean orderBookCached;
+
+  // the last trades, trade i in slot i % TRADE_SLOTS, which is written before the count is raised past it; the spare slot is the one being written
+  private static final int TRADE_SLOTS = MAX_CACHED_TRADES + 1;
+  private final AtomicReferenceArray<Trade> cachedTrades = new AtomicReferenceArray<Trade>(TRADE_SLOTS);
+  private final AtomicLong cachedTradeCount = new AtomicLong();
+
+  /**
+   * Binds a streaming message to its DTO, so the listener parses each message only once
+   */
+  public static <T> T readValue(String data, Class<T> type) throws ExchangeException {
 
-    CoinfloorBalances rawRetObj;
     try {
-      rawRetObj = streamObjectMapper.readValue(data, CoinfloorBalances.class);
+      return streamObjectMapper.readValue(data, type);
     } catch (IOException e) {
       throw new ExchangeException("JSON parse error", e);
     }
+  }
+
+  public Map<String, Object> adaptBalances(String data) throws ExchangeException {
+
+    return adaptBalances(readValue(data, CoinfloorBalances.class));
+  }
+
+  public Map<String, Object> adaptBalances(CoinfloorBalances rawRetObj) {
+
+    Map<String, Object> resultMap = new HashMap<String, Object>();
     resultMap.put("raw", rawRetObj);
 
     List<Balance> balances = new ArrayList<Balance>();
@@ -72,9 +97,7 @@ public class CoinfloorAdapters {
     }
 
     Wallet wallet = new Wallet(null, balances);
-    synchronized (cachedDataSynchronizationObject) {
-      cachedWallet = wallet;
-    }
+    cachedWallet = wallet;
     resultMap.put("generic", wallet);
 
     return resultMap;
@@ -98,14 +121,12 @@ public class CoinfloorAdapters {
 
   public Map<String, Object> adaptOpenOrders(String data) throws ExchangeException {
 
-    Map<String, Object> resultMap = new HashMap<String, Object>();
+    return adaptOpenOrders(readValue(data, CoinfloorOpenOrders.class));
+  }
 
-    CoinfloorOpenOrders rawRetObj;
-    try {
-      rawRetObj = streamObjectMapper.readValue(data, CoinfloorOpenOrders.class);
-    } catch (IOException e) {
-      throw new ExchangeException("JSON parse error", e);
-    }
+  public Map<String, Object> adaptOpenOrders(CoinfloorOpenOrders rawRetObj) {
+
+    Map<String, Object> resultMap = new HashMap<String, Object>();
     resultMap.put("raw", rawRetObj);
 
     List<LimitOrder> openOrdersList = new ArrayList<LimitOrder>();
@@ -123,19 +144,14 @@ public class CoinfloorAdapters {
 
   public Map<String, Object> adaptPlaceOrder(String data) {
 
-    Map<String, Object> resultMap = new HashMap<String, Object>();
+    return adaptPlaceOrder(readValue(data, CoinfloorPlaceOrder.class));
+  }
 
-    CoinfloorPlaceOrder rawRetObj;
-    Map<String, Object> jsonData;
-    try {
-      jsonData = streamObjectMapper.readValue(data, new TypeReference<Map<String, Object>>() {
-      });
-      rawRetObj = streamObjectMapper.readValue(data, CoinfloorPlaceOrder.class);
-    } catch (IOException e) {
-      throw new ExchangeException("JSON parse error", e);
-    }
+  public Map<String, Object> adaptPlaceOrder(CoinfloorPlaceOrder rawRetObj) {
 
-    resultMap.put("generic", jsonData.get("id").toString());
+    Map<String, Object> resultMap = new HashMap<String, Object>();
+
+    resultMap.put("generic", String.valueOf(rawRetObj.getId()));
     resultMap.put("raw", rawRetObj);
 
     return resultMap;
@@ -143,14 +159,12 @@ public class CoinfloorAdapters {
 
   public Map<String, Object> adaptCancelOrder(String data) {
 
-    Map<String, Object> resultMap = new HashMap<String, Object>();
+    return adaptCancelOrder(readValue(data, CoinfloorCancelOrder.class));
+  }
 
-    CoinfloorCancelOrder rawRetObj;
-    try {
-      rawRetObj = streamObjectMapper.readValue(data, CoinfloorCancelOrder.class);
-    } catch (IOException e) {
-      throw new ExchangeException("JSON parse error", e);
-    }
+  public Map<String, Object> adaptCancelOrder(CoinfloorCancelOrder rawRetObj) {
+
+    Map<String, Object> resultMap = new HashMap<String, Object>();
 
     resultMap.put("generic", true);
     resultMap.put("raw", rawRetObj);
@@ -160,14 +174,12 @@ public class CoinfloorAdapters {
 
   public Map<String, Object> adaptTradeVolume(String data) {
 
-    Map<String, Object> resultMap = new HashMap<String, Object>();
+    return adaptTradeVolume(readValue(data, CoinfloorTradeVolume.class));
+  }
 
-    CoinfloorTradeVolume rawRetObj;
-    try {
-      rawRetObj = streamObjectMapper.readValue(data, CoinfloorTradeVolume.class);
-    } catch (IOException e) {
-      throw new ExchangeException("JSON parse error", e);
-    }
+  public Map<String, Object> adaptTradeVolume(CoinfloorTradeVolume rawRetObj) {
+
+    Map<String, Object> resultMap = new HashMap<String, Object>();
 
     resultMap.put("generic", rawRetObj.getAssetVol());
     resultMap.put("raw", rawRetObj);
@@ -179,14 +191,12 @@ public class CoinfloorAdapters {
   // same.
   public Map<String, Object> adaptEstimateMarketOrder(String data) {
 
-    Map<String, Object> resultMap = new HashMap<String, Object>();
+    return adaptEstimateMarketOrder(readValue(data, CoinfloorEstimateMarketOrder.class));
+  }
 
-    CoinfloorEstimateMarketOrder rawRetObj;
-    try {
-      rawRetObj = streamObjectMapper.readValue(data, CoinfloorEstimateMarketOrder.class);
-    } catch (IOException e) {
-      throw new ExchangeException("JSON parse error", e);
-    }
+  public Map<String, Object> adaptEstimateMarketOrder(CoinfloorEstimateMarketOrder rawRetObj) {
+
+    Map<String, Object> resultMap = new HashMap<String, Object>();
 
     resultMap.put("generic", rawRetObj);
     resultMap.put("raw", rawRetObj);
@@ -196,14 +206,12 @@ public class CoinfloorAdapters {
 
   public Map<String, Object> adaptTicker(String data) {
 
-    Map<String, Object> resultMap = new HashMap<String, Object>();
+    return adaptTicker(readValue(data, CoinfloorTicker.class));
+  }
 
-    CoinfloorTicker rawRetObj;
-    try {
-      rawRetObj = streamObjectMapper.readValue(data, CoinfloorTicker.class);
-    } catch (IOException e) {
-      throw new ExchangeException("JSON parse error", e);
-    }
+  public Map<String, Object> adaptTicker(CoinfloorTicker rawRetObj) {
+
+    Map<String, Object> resultMap = new HashMap<String, Object>();
 
     // String tradableIdentifier, BigDecimal last, BigDecimal bid, BigDecimal
     // ask, BigDecimal high, BigDecimal low, BigDecimal volume, Date timestamp
@@ -217,9 +225,7 @@ public class CoinfloorAdapters {
     Ticker genericTicker = new Ticker.Builder().volume(rawRetObj.getVolume()).ask(ask).currencyPair(new CurrencyPair("BTC", "GBP")).bid(bid)
         .high(high).low(low).last(last).build();
 
-    synchronized (cachedDataSynchronizationObject) {
-      cachedTicker = genericTicker;
-    }
+    cachedTicker = genericTicker;
 
     resultMap.put("generic", genericTicker);
     resultMap.put("raw", rawRetObj);
@@ -229,30 +235,29 @@ public class CoinfloorAdapters {
 
   public Map<String, Object> adaptTickerUpdate(String data) {
 
+    return adaptTickerUpdate(readValue(data, CoinfloorTicker.class));
+  }
+
+  public Map<String, Object> adaptTickerUpdate(CoinfloorTicker rawRetObj) {
+
     Map<String, Object> resultMap = new HashMap<String, Object>();
 
-    CoinfloorTicker rawRetObj;
-    try {
-      rawRetObj = streamObjectMapper.readValue(data, CoinfloorTicker.class);
-    } catch (IOException e) {
-      throw new ExchangeException("JSON parse error", e);
-    }
-    Ticker genericTicker;
-
-    synchronized (cachedDataSynchronizationObject) {
-      // base & counter currencies hard coded in; no way to make it dynamic with
-      // return data - may change over time.
-      BigDecimal last = (rawRetObj.getLast().doubleValue() == 0 ? cachedTicker.getLast() : rawRetObj.getLast());
-      BigDecimal bid = (rawRetObj.getBid().doubleValue() == 0 ? cachedTicker.getBid() : rawRetObj.getBid());
-      BigDecimal ask = (rawRetObj.getAsk().doubleValue() == 0 ? cachedTicker.getAsk() : rawRetObj.getAsk());
-      BigDecimal low = (rawRetObj.getLow().doubleValue() == 0 ? cachedTicker.getLow() : rawRetObj.getLow());
-      BigDecimal high = (rawRetObj.getHigh().doubleValue() == 0 ? cachedTicker.getHigh() : rawRetObj.getHigh());
-      BigDecimal volume = (rawRetObj.getVolume().doubleValue() == 0 ? cachedTicker.getVolume() : rawRetObj.getVolume());
-
-      genericTicker = new Ticker.Builder().currencyPair(new CurrencyPair(rawRetObj.getBase().toString(), rawRetObj.getCounter().toString()))
-          .last(last).bid(bid).ask(ask).low(low).high(high).volume(volume).build();
-      cachedTicker = genericTicker;
+    Ticker previousTicker = cachedTicker;
+    if (previousTicker == null) {
+      throw new ExchangeException("watchTicker method has not been called yet, or data has not been recieved");
     }
+    // base & counter currencies hard coded in; no way to make it dynamic with
+    // return data - may change over time.
+    BigDecimal last = (rawRetObj.getLast().doubleValue() == 0 ? previousTicker.getLast() : rawRetObj.getLast());
+    BigDecimal bid = (rawRetObj.getBid().doubleValue() == 0 ? previousTicker.getBid() : rawRetObj.getBid());
+    BigDecimal ask = (rawRetObj.getAsk().doubleValue() == 0 ? previousTicker.getAsk() : rawRetObj.getAsk());
+    BigDecimal low = (rawRetObj.getLow().doubleValue() == 0 ? previousTicker.getLow() : rawRetObj.getLow());
+    BigDecimal high = (rawRetObj.getHigh().doubleValue() == 0 ? previousTicker.getHigh() : rawRetObj.getHigh());
+    BigDecimal volume = (rawRetObj.getVolume().doubleValue() == 0 ? previousTicker.getVolume() : rawRetObj.getVolume());
+
+    Ticker genericTicker = new Ticker.Builder().currencyPair(new CurrencyPair(rawRetObj.getBase().toString(), rawRetObj.getCounter().toString()))
+        .last(last).bid(bid).ask(ask).low(low).high(high).volume(volume).build();
+    cachedTicker = genericTicker;
 
     resultMap.put("generic", genericTicker);
     resultMap.put("raw", rawRetObj);
@@ -262,35 +267,35 @@ public class CoinfloorAdapters {
 
   public Map<String, Object> adaptOrders(String data) throws ExchangeException {
 
-    Map<String, Object> resultMap = new HashMap<String, Object>();
+    return adaptOrders(readValue(data, CoinfloorOrderbook.class));
+  }
 
-    CoinfloorOrderbook rawRetObj;
-    try {
-      rawRetObj = streamObjectMapper.readValue(data, CoinfloorOrderbook.class);
-    } catch (IOException e) {
-      throw new ExchangeException("JSON parse error", e);
-    }
+  public Map<String, Object> adaptOrders(CoinfloorOrderbook rawRetObj) {
+
+    Map<String, Object> resultMap = new HashMap<String, Object>();
     resultMap.put("raw", rawRetObj);
-    OrderBook orderbook;
 
-    synchronized (cachedDataSynchronizationObject) {
-      List<LimitOrder> bidList = (cachedOrderBook == null ? new ArrayList<LimitOrder>() : cachedOrderBook.getBids());
-      List<LimitOrder> askList = (cachedOrderBook == null ? new ArrayList<LimitOrder>() : cachedOrderBook.getAsks());
-      List<CoinfloorOrder> orders = rawRetObj.getOrders();
-
-      if (orders != null) {
-        for (CoinfloorOrder order : orders) {
-          if (order.getBaseQty().doubleValue() > 0) {
-            bidList.add(adaptOrder(order));
-          } else {
-            askList.add(adaptOrder(order));
-          }
+    List<LimitOrder> newBids = new ArrayList<LimitOrder>();
+    List<LimitOrder> newAsks = new ArrayList<LimitOrder>();
+    List<CoinfloorOrder> orders = rawRetObj.getOrders();
+    if (orders != null) {
+      for (CoinfloorOrder order : orders) {
+        if (order.getBaseQty().doubleValue() > 0) {
+          newBids.add(adaptOrder(order));
+        } else {
+          newAsks.add(adaptOrder(order));
         }
       }
+    }
 
-      orderbook = new OrderBook(null, askList, bidList);
-      cachedOrderBook = orderbook;
+    OrderBook orderbook;
+    synchronized (cachedBids) {
+      putById(cachedBids, newBids);
+      putById(cachedAsks, newAsks);
+      orderBookCached = true;
+      orderbook = copyOrderBook();
     }
+
     resultMap.put("generic", orderbook);
 
     return resultMap;
@@ -298,27 +303,20 @@ public class CoinfloorAdapters {
 
   public Map<String, Object> adaptOrderOpened(String data) {
 
-    Map<String, Object> resultMap = new HashMap<String, Object>();
+    return adaptOrderOpened(readValue(data, CoinfloorOrder.class));
+  }
 
-    CoinfloorOrder rawRetObj;
-    try {
-      rawRetObj = streamObjectMapper.readValue(data, CoinfloorOrder.class);
-    } catch (IOException e) {
-      throw new ExchangeException("JSON parse error", e);
-    }
+  public Map<String, Object> adaptOrderOpened(CoinfloorOrder rawRetObj) {
 
-    synchronized (cachedDataSynchronizationObject) {
-      List<LimitOrder> bidList = (cachedOrderBook == null ? new ArrayList<LimitOrder>() : cachedOrderBook.getBids());
-      List<LimitOrder> askList = (cachedOrderBook == null ? new ArrayList<LimitOrder>() : cachedOrderBook.getAsks());
-      if (rawRetObj.getBaseQty().doubleValue() > 0) {
-        bidList.add(adaptOrder(rawRetObj));
-      } else {
-        askList.add(adaptOrder(rawRetObj));
-      }
-      cachedOrderBook = new OrderBook(null, askList, bidList);
+    Map<String, Object> resultMap = new HashMap<String, Object>();
+
+    LimitOrder order = adaptOrder(rawRetObj);
+    synchronized (cachedBids) {
+      (rawRetObj.getBaseQty().doubleValue() > 0 ? cachedBids : cachedAsks).put(order.getId(), order);
+      orderBookCached = true;
     }
 
-    resultMap.put("generic", adaptOrder(rawRetObj));
+    resultMap.put("generic", order);
     resultMap.put("raw", rawRetObj);
 
     return resultMap;
@@ -326,34 +324,17 @@ public class CoinfloorAdapters {
 
   public Map<String, Object> adaptOrderClosed(String data) {
 
-    Map<String, Object> resultMap = new HashMap<String, Object>();
+    return adaptOrderClosed(readValue(data, CoinfloorOrder.class));
+  }
 
-    CoinfloorOrder rawRetObj;
-    try {
-      rawRetObj = streamObjectMapper.readValue(data, CoinfloorOrder.class);
-    } catch (IOException e) {
-      throw new ExchangeException("JSON parse error", e);
-    }
+  public Map<String, Object> adaptOrderClosed(CoinfloorOrder rawRetObj) {
 
-    synchronized (cachedDataSynchronizationObject) {
-      List<LimitOrder> bidList = (cachedOrderBook == null ? new ArrayList<LimitOrder>() : cachedOrderBook.getBids());
-      List<LimitOrder> askList = (cachedOrderBook == null ? new ArrayList<LimitOrder>() : cachedOrderBook.getAsks());
-      if (rawRetObj.getBaseQty().doubleValue() > 0) {
-        for (int i = 0; i < bidList.size(); i++) {
-          if (bidList.get(i).getId().equals(String.valueOf(rawRetObj.getId()))) {
-            bidList.remove(i);
-            break;
-          }
-        }
-      } else {
-        for (int i = 0; i < askList.size(); i++) {
-          if (askList.get(i).getId().equals(String.valueOf(rawRetObj.getId()))) {
-            askList.remove(i);
-            break;
-          }
-        }
-      }
-      cachedOrderBook = new OrderBook(null, askList, bidList);
+    Map<String, Object> resultMap = new HashMap<String, Object>();
+
+    String id = String.valueOf(rawRetObj.getId());
+    synchronized (cachedBids) {
+      (rawRetObj.getBaseQty().doubleValue() > 0 ? cachedBids : cachedAsks).remove(id);
+      orderBookCached = true;
     }
 
     resultMap.put("generic", adaptOrder(rawRetObj));
@@ -364,50 +345,32 @@ public class CoinfloorAdapters {
 
   public Map<String, Object> adaptOrdersMatched(String data) {
 
-    Map<String, Object> resultMap = new HashMap<String, Object>();
+    return adaptOrdersMatched(readValue(data, CoinfloorOrder.class));
+  }
 
-    CoinfloorOrder rawRetObj;
-    try {
-      rawRetObj = streamObjectMapper.readValue(data, CoinfloorOrder.class);
-    } catch (IOException e) {
-      throw new ExchangeException("JSON parse error", e);
-    }
+  public Map<String, Object> adaptOrdersMatched(CoinfloorOrder rawRetObj) {
 
-    Trade trade;
+    Map<String, Object> resultMap = new HashMap<String, Object>();
 
-    synchronized (cachedDataSynchronizationObject) {
-      List<LimitOrder> bidList = (cachedOrderBook == null ? new ArrayList<LimitOrder>() : cachedOrderBook.getBids());
-      List<LimitOrder> askList = (cachedOrderBook == null ? new ArrayList<LimitOrder>() : cachedOrderBook.getAsks());
+    synchronized (cachedBids) {
       if (rawRetObj.getBidId() != 0) {
-        for (int i = 0; i < bidList.size(); i++) {
-          if (bidList.get(i).getId().equals(String.valueOf(rawRetObj.getBidId()))) {
-            bidList.remove(i);
-            break;
-          }
-        }
+        cachedBids.remove(String.valueOf(rawRetObj.getBidId()));
       }
       if (rawRetObj.getAskId() != 0) {
-        for (int i = 0; i < askList.size(); i++) {
-          if (askList.get(i).getId().equals(String.valueOf(rawRetObj.getAskId()))) {
-            askList.remove(i);
-            break;
-          }
-        }
+        cachedAsks.remove(String.valueOf(rawRetObj.getAskId()));
       }
-      cachedOrderBook = new OrderBook(null, askList, bidList);
-
-      OrderType type = (rawRetObj.getBidId() > rawRetObj.getAskId() ? OrderType.BID : OrderType.ASK);
-      BigDecimal limitPrice = rawRetObj.getPrice();
+      orderBookCached = true;
+    }
 
-      trade = new Trade(type, rawRetObj.getBaseQty(), new CurrencyPair(rawRetObj.getBase().toString(), rawRetObj.getCounter().toString()), limitPrice,
-          null, String.valueOf(rawRetObj.getId()));
+    OrderType type = (rawRetObj.getBidId() > rawRetObj.getAskId() ? OrderType.BID : OrderType.ASK);
+    BigDecimal limitPrice = rawRetObj.getPrice();
 
-      List<Trade> newTradesList = (cachedTrades == null ? new ArrayList<Trade>() : cachedTrades.getTrades());
-      newTradesList.add(trade);
+    Trade trade = new Trade(type, rawRetObj.getBaseQty(), new CurrencyPair(rawRetObj.getBase().toString(), rawRetObj.getCounter().toString()),
+        limitPrice, null, String.valueOf(rawRetObj.getId()));
 
-      Trades newCachedTrades = new Trades(newTradesList, TradeSortType.SortByID);
-      cachedTrades = newCachedTrades;
-    }
+    long tradeCount = cachedTradeCount.get();
+    cachedTrades.set((int) (tradeCount % TRADE_SLOTS), trade);
+    cachedTradeCount.set(tradeCount + 1);
 
     resultMap.put("generic", trade);
     resultMap.put("raw", rawRetObj);
@@ -417,43 +380,37 @@ public class CoinfloorAdapters {
 
   public Map<String, Object> adaptBalancesChanged(String data) {
 
+    return adaptBalancesChanged(readValue(data, CoinfloorAssetBalance.class));
+  }
+
+  public Map<String, Object> adaptBalancesChanged(CoinfloorAssetBalance rawRetObj) {
+
     // TODO it appears coinfloor uses a wallet delta, can this be passed straight to the application in a standardized way?
 
     Map<String, Object> resultMap = new HashMap<String, Object>();
 
-    CoinfloorAssetBalance rawRetObj;
-    try {
-      rawRetObj = streamObjectMapper.readValue(data, CoinfloorAssetBalance.class);
-    } catch (IOException e) {
-      throw new ExchangeException("JSON parse error", e);
-    }
-
+    Wallet previousWallet = cachedWallet;
     List<Balance> newBalances = new ArrayList<Balance>();
-    Wallet accountInfoTemporaryName;
-
-    synchronized (cachedDataSynchronizationObject) {
-      if (cachedWallet == null) {
-        Currency currency = Currency.getInstance(rawRetObj.getAsset().toString());
-        BigDecimal balance = rawRetObj.getBalance();
-
-        newBalances.add(new Balance(currency, balance));
-      } else {
-        Map<Currency, Balance> oldBalances = cachedWallet.getBalances();
-        for (Balance wallet : oldBalances.values()) {
-          if (wallet.getCurrency().toString().equals(rawRetObj.getAsset())) {
-            Currency currency = Currency.getInstance(rawRetObj.getAsset().toString());
-            BigDecimal balance = rawRetObj.getBalance();
-
-            newBalances.add(new Balance(currency, balance));
-          } else {
-            newBalances.add(wallet);
-          }
+    if (previousWallet == null) {
+      Currency currency = Currency.getInstance(rawRetObj.getAsset().toString());
+      BigDecimal balance = rawRetObj.getBalance();
+
+      newBalances.add(new Balance(currency, balance));
+    } else {
+      Map<Currency, Balance> oldBalances = previousWallet.getBalances();
+      for (Balance wallet : oldBalances.values()) {
+        if (wallet.getCurrency().toString().equals(rawRetObj.getAsset())) {
+          Currency currency = Currency.getInstance(rawRetObj.getAsset().toString());
+          BigDecimal balance = rawRetObj.getBalance();
+
+          newBalances.add(new Balance(currency, balance));
+        } else {
+          newBalances.add(wallet);
         }
       }
-
-      accountInfoTemporaryName = new Wallet(null, newBalances);
-      cachedWallet = accountInfoTemporaryName;
     }
+    Wallet accountInfoTemporaryName = new Wallet(null, newBalances);
+    cachedWallet = accountInfoTemporaryName;
 
     resultMap.put("generic", accountInfoTemporaryName);
     resultMap.put("raw", rawRetObj);
@@ -461,6 +418,21 @@ public class CoinfloorAdapters {
     return resultMap;
   }
 
+  private static void putById(Map<String, LimitOrder> ordersById, List<LimitOrder> orders) {
+
+    for (LimitOrder order : orders) {
+      ordersById.put(order.getId(), order);
+    }
+  }
+
+  /**
+   * Published order books are never modified, each one is a copy of the cached orders. The caller holds their lock.
+   */
+  private OrderBook copyOrderBook() {
+
+    return new OrderBook(null, new ArrayList<LimitOrder>(cachedAsks.values()), new ArrayList<LimitOrder>(cachedBids.values()));
+  }
+
   /**
    * Experimental: USE WITH CAUTION. Adapters take every "BalancesUpdated" event, update local Wallet object with said new balance. This method
    * will return that cached Wallet object.
@@ -470,12 +442,11 @@ public class CoinfloorAdapters {
    */
   public Wallet getCachedWallet() {
 
-    synchronized (cachedDataSynchronizationObject) {
-      if (cachedWallet == null) {
-        throw new ExchangeException("getBalances method has not been called yet, or balance data has not been recieved!");
-      }
-      return cachedWallet;
+    Wallet wallet = cachedWallet;
+    if (wallet == null) {
+      throw new ExchangeException("getBalances method has not been called yet, or balance data has not been recieved!");
     }
+    return wallet;
   }
 
   /**
@@ -487,11 +458,11 @@ public class CoinfloorAdapters {
    */
   public OrderBook getCachedOrderBook() {
 
-    synchronized (cachedDataSynchronizationObject) {
-      if (cachedOrderBook == null) {
+    synchronized (cachedBids) {
+      if (!orderBookCached) {
         throw new ExchangeException("watchOrders method has not been called yet!");
       }
-      return cachedOrderBook;
+      return copyOrderBook();
     }
   }
 
@@ -500,17 +471,26 @@ public class CoinfloorAdapters {
    * cached Trades object. Notes: Will not survive program restarts, will only cache user's transactions, unless \tWatchOrders method is called, in
    * which case it will cache ALL transctions happening on that market.
    *
-   * @return Trades object representing all OrdersMatched trades recieved.
+   * @return Trades object representing the last {@link #MAX_CACHED_TRADES} OrdersMatched trades recieved.
    * @throws ExchangeException if watchOrders method has not been called, or no trades have occurred.
    */
   public Trades getCachedTrades() {
 
-    synchronized (cachedDataSynchronizationObject) {
-      if (cachedTrades == null) {
-        throw new ExchangeException("watchOrders method has not been called yet, or no trades have occurred!");
-      }
-      return cachedTrades;
+    long tradeCount = cachedTradeCount.get();
+    if (tradeCount == 0) {
+      throw new ExchangeException("watchOrders method has not been called yet, or no trades have occurred!");
+    }
+    long first = Math.max(0, tradeCount - MAX_CACHED_TRADES);
+    List<Trade> trades = new ArrayList<Trade>((int) (tradeCount - first));
+    for (long i = first; i < tradeCount; i++) {
+      trades.add(cachedTrades.get((int) (i % TRADE_SLOTS)));
     }
+    // the slots of the oldest ones may have been overwritten meanwhile
+    long firstKept = cachedTradeCount.get() - MAX_CACHED_TRADES;
+    if (firstKept > first) {
+      trades = trades.subList((int) Math.min(firstKept - first, trades.size()), trades.size());
+    }
+    return new Trades(trades, TradeSortType.SortByID);
   }
 
   /**
@@ -523,11 +503,10 @@ public class CoinfloorAdapters {
    */
   public Ticker getCachedTicker() {
 
-    synchronized (cachedDataSynchronizationObject) {
-      if (cachedTicker == null) {
-        throw new ExchangeException("watchTicker method has not been called yet, or data has not been recieved");
-      }
-      return cachedTicker;
+    Ticker ticker = cachedTicker;
+    if (ticker == null) {
+      throw new ExchangeException("watchTicker method has not been called yet, or data has not been recieved");
     }
+    return ticker;
   }
 }
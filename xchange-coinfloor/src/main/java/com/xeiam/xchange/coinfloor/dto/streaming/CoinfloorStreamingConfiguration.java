@@ -1,5 +1,6 @@
 package com.xeiam.xchange.coinfloor.dto.streaming;
 
+import com.xeiam.xchange.service.streaming.EventQueueConfiguration;
 import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
 
 /**
@@ -13,6 +14,7 @@ public class CoinfloorStreamingConfiguration implements ExchangeStreamingConfigu
   private final boolean isEncryptedChannel;
   private final boolean keepAlive;
   private final boolean authenticateOnConnect;
+  private EventQueueConfiguration eventQueueConfiguration = EventQueueConfiguration.UNBOUNDED;
 
   /**
    * @param maxReconnectAttempts
@@ -67,6 +69,17 @@ public class CoinfloorStreamingConfiguration implements ExchangeStreamingConfigu
     return keepAlive;
   }
 
+  @Override
+  public EventQueueConfiguration getEventQueueConfiguration() {
+
+    return eventQueueConfiguration;
+  }
+
+  public void setEventQueueConfiguration(EventQueueConfiguration eventQueueConfiguration) {
+
+    this.eventQueueConfiguration = eventQueueConfiguration;
+  }
+
   public boolean getauthenticateOnConnect() {
 
     return authenticateOnConnect;
@@ -1,12 +1,15 @@
 package com.xeiam.xchange.coinfloor.streaming;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -24,20 +27,21 @@ import com.xeiam.xchange.service.streaming.ExchangeEventType;
 public class CoinfloorEventListener extends ExchangeEventListener {
 
   private static final Logger log = LoggerFactory.getLogger(CoinfloorEventListener.class);
-  private final BlockingQueue<ExchangeEvent> systemEventQueue;
   private final BlockingQueue<ExchangeEvent> consumerEventQueue;
+  private final CoinfloorPendingRequests pendingRequests;
   private final ObjectMapper streamObjectMapper;
   private final CoinfloorAdapters coinfloorAdapters = new CoinfloorAdapters();
 
-  private String serverNonce;
+  private volatile String serverNonce;
 
   /**
    * @param consumerEventQueue
+   * @param pendingRequests the requests waiting for a response, completed as the tagged responses are received
    */
-  public CoinfloorEventListener(BlockingQueue<ExchangeEvent> consumerEventQueue, BlockingQueue<ExchangeEvent> systemEventQueue) {
+  public CoinfloorEventListener(BlockingQueue<ExchangeEvent> consumerEventQueue, CoinfloorPendingRequests pendingRequests) {
 
     this.consumerEventQueue = consumerEventQueue;
-    this.systemEventQueue = systemEventQueue;
+    this.pendingRequests = pendingRequests;
     this.streamObjectMapper = new ObjectMapper();
     this.streamObjectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
   }
@@ -46,86 +50,97 @@ public class CoinfloorEventListener extends ExchangeEventListener {
   public void handleEvent(ExchangeEvent event) throws ExchangeException {
 
     log.debug("Received event: " + event.getData());
-    Map<String, Object> jsonData;
+
+    // only the routing fields are read here, the adapters then bind the message to its DTO once
+    MessageHeader header = readHeader(event.getData());
     try {
-      jsonData = streamObjectMapper.readValue(event.getData(), new TypeReference<Map<String, Object>>() {
-      });
-    } catch (IOException e) {
-      throw new ExchangeException("JSON parse error", e);
+      CoinfloorUtils.checkSuccess(header.status);
+      handleMessage(event, header);
+    } catch (RuntimeException e) {
+      // the request waiting for this response would otherwise never be answered
+      Integer pendingTag = header.getPendingTag();
+      if (pendingTag != null) {
+        pendingRequests.fail(pendingTag, e);
+      }
+      throw e;
     }
-    CoinfloorUtils.checkSuccess(jsonData);
-    if (jsonData.containsKey("tag")) {
-      switch (((Integer) jsonData.get("tag") & (1 << 10) - 1)) {
+  }
+
+  private void handleMessage(ExchangeEvent event, MessageHeader header) {
+
+    if (header.tag != null) {
+      switch (header.tag & (1 << 10) - 1) {
       case 1:
-        CoinfloorExchangeEvent authenticationEvent = new CoinfloorExchangeEvent((Integer) jsonData.get("tag"), ExchangeEventType.AUTHENTICATION,
-            event.getData(), jsonData);
-        addToEventQueue(authenticationEvent);
+        CoinfloorExchangeEvent authenticationEvent = new CoinfloorExchangeEvent(header.tag, ExchangeEventType.AUTHENTICATION, event.getData(),
+            readMap(event.getData()));
+        addResponse(authenticationEvent);
         break;
       case 101:
-        CoinfloorExchangeEvent getBalancesEvent = new CoinfloorExchangeEvent((Integer) jsonData.get("tag"), ExchangeEventType.USER_WALLET,
+        CoinfloorExchangeEvent getBalancesEvent = new CoinfloorExchangeEvent(header.tag, ExchangeEventType.USER_WALLET,
             event.getData(), coinfloorAdapters.adaptBalances(event.getData()));
-        addToEventQueue(getBalancesEvent);
+        addResponse(getBalancesEvent);
         break;
       case 102:
       case 103:
-        CoinfloorExchangeEvent getTradeVolumeEvent = new CoinfloorExchangeEvent((Integer) jsonData.get("tag"), ExchangeEventType.USER_TRADE_VOLUME,
+        CoinfloorExchangeEvent getTradeVolumeEvent = new CoinfloorExchangeEvent(header.tag, ExchangeEventType.USER_TRADE_VOLUME,
             event.getData(), coinfloorAdapters.adaptTradeVolume(event.getData()));
-        addToEventQueue(getTradeVolumeEvent);
+        addResponse(getTradeVolumeEvent);
         break;
       case 201:
-        CoinfloorExchangeEvent watchOrdersReturn = new CoinfloorExchangeEvent((Integer) jsonData.get("tag"), ExchangeEventType.SUBSCRIBE_ORDERS,
+        CoinfloorExchangeEvent watchOrdersReturn = new CoinfloorExchangeEvent(header.tag, ExchangeEventType.SUBSCRIBE_ORDERS,
             event.getData(), coinfloorAdapters.adaptOrders(event.getData()));
-        addToEventQueue(watchOrdersReturn);
+        addResponse(watchOrdersReturn);
         break;
       case 202:
-        CoinfloorExchangeEvent watchTickerReturn = new CoinfloorExchangeEvent((Integer) jsonData.get("tag"), ExchangeEventType.SUBSCRIBE_TICKER,
+        CoinfloorExchangeEvent watchTickerReturn = new CoinfloorExchangeEvent(header.tag, ExchangeEventType.SUBSCRIBE_TICKER,
             event.getData(), coinfloorAdapters.adaptTicker(event.getData()));
-        addToEventQueue(watchTickerReturn);
+        addResponse(watchTickerReturn);
         break;
       case 301:
-        CoinfloorExchangeEvent getOpenOrdersReturn = new CoinfloorExchangeEvent((Integer) jsonData.get("tag"), ExchangeEventType.USER_ORDERS_LIST,
+        CoinfloorExchangeEvent getOpenOrdersReturn = new CoinfloorExchangeEvent(header.tag, ExchangeEventType.USER_ORDERS_LIST,
             event.getData(), coinfloorAdapters.adaptOpenOrders(event.getData()));
-        addToEventQueue(getOpenOrdersReturn);
+        addResponse(getOpenOrdersReturn);
         break;
       case 302:
-        CoinfloorExchangeEvent placeOrderReturn = new CoinfloorExchangeEvent((Integer) jsonData.get("tag"), ExchangeEventType.USER_ORDER,
+        CoinfloorExchangeEvent placeOrderReturn = new CoinfloorExchangeEvent(header.tag, ExchangeEventType.USER_ORDER,
             event.getData(), coinfloorAdapters.adaptPlaceOrder(event.getData()));
-        addToEventQueue(placeOrderReturn);
+        addResponse(placeOrderReturn);
         break;
       case 303:
-        CoinfloorExchangeEvent cancelOrderReturn = new CoinfloorExchangeEvent((Integer) jsonData.get("tag"), ExchangeEventType.USER_ORDER_CANCELED,
+        CoinfloorExchangeEvent cancelOrderReturn = new CoinfloorExchangeEvent(header.tag, ExchangeEventType.USER_ORDER_CANCELED,
             event.getData(), coinfloorAdapters.adaptCancelOrder(event.getData()));
-        addToEventQueue(cancelOrderReturn);
+        addResponse(cancelOrderReturn);
         break;
       case 304:
-        CoinfloorExchangeEvent estMarketOrderReturn = new CoinfloorExchangeEvent((Integer) jsonData.get("tag"),
+        CoinfloorExchangeEvent estMarketOrderReturn = new CoinfloorExchangeEvent(header.tag,
             ExchangeEventType.USER_MARKET_ORDER_EST, event.getData(), coinfloorAdapters.adaptEstimateMarketOrder(event.getData()));
-        addToEventQueue(estMarketOrderReturn);
+        addResponse(estMarketOrderReturn);
         break;
       }
-    } else if (jsonData.containsKey("notice")) {
-      if (jsonData.get("notice").equals("Welcome")) {
+    } else if (header.notice != null) {
+      if (header.notice.equals("Welcome")) {
+        Map<String, Object> jsonData = readMap(event.getData());
         CoinfloorExchangeEvent welcomeEvent = new CoinfloorExchangeEvent(0, ExchangeEventType.WELCOME, event.getData(), jsonData);
-        addToEventQueue(welcomeEvent);
-
+        // set before the welcome completes, authentication reads it right after
         serverNonce = (String) jsonData.get("nonce");
-      } else if (jsonData.get("notice").equals("BalanceChanged")) {
+        addResponse(welcomeEvent);
+      } else if (header.notice.equals("BalanceChanged")) {
         CoinfloorExchangeEvent balancesChangedEvent = new CoinfloorExchangeEvent(0, ExchangeEventType.USER_WALLET_UPDATE, event.getData(),
             coinfloorAdapters.adaptBalancesChanged(event.getData()));
         addToEventQueue(balancesChangedEvent);
-      } else if (jsonData.get("notice").equals("OrderOpened")) {
+      } else if (header.notice.equals("OrderOpened")) {
         CoinfloorExchangeEvent orderOpenedEvent = new CoinfloorExchangeEvent(0, ExchangeEventType.ORDER_ADDED, event.getData(),
             coinfloorAdapters.adaptOrderOpened(event.getData()));
         addToEventQueue(orderOpenedEvent);
-      } else if (jsonData.get("notice").equals("OrdersMatched")) {
+      } else if (header.notice.equals("OrdersMatched")) {
         CoinfloorExchangeEvent tradeEvent = new CoinfloorExchangeEvent(0, ExchangeEventType.TRADE, event.getData(),
             coinfloorAdapters.adaptOrdersMatched(event.getData()));
         addToEventQueue(tradeEvent);
-      } else if (jsonData.get("notice").equals("OrderClosed")) {
+      } else if (header.notice.equals("OrderClosed")) {
         CoinfloorExchangeEvent orderClosedEvent = new CoinfloorExchangeEvent(0, ExchangeEventType.ORDER_CANCELED, event.getData(),
             coinfloorAdapters.adaptOrderClosed(event.getData()));
         addToEventQueue(orderClosedEvent);
-      } else if (jsonData.get("notice").equals("TickerChanged")) {
+      } else if (header.notice.equals("TickerChanged")) {
         CoinfloorExchangeEvent tickerChangedEvent = new CoinfloorExchangeEvent(0, ExchangeEventType.TICKER, event.getData(),
             coinfloorAdapters.adaptTickerUpdate(event.getData()));
         addToEventQueue(tickerChangedEvent);
@@ -145,16 +160,79 @@ public class CoinfloorEventListener extends ExchangeEventListener {
     return serverNonce;
   }
 
+  private MessageHeader readHeader(String data) {
+
+    MessageHeader header = new MessageHeader();
+    try {
+      JsonParser parser = streamObjectMapper.getFactory().createParser(data);
+      try {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+          throw new ExchangeException("Unexpected message: " + data);
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String field = parser.getCurrentName();
+          JsonToken value = parser.nextToken();
+          if (field.equals("tag") && value == JsonToken.VALUE_NUMBER_INT) {
+            header.tag = parser.getIntValue();
+          } else if (field.equals("notice")) {
+            header.notice = parser.getValueAsString();
+          } else if (field.equals("error_code")) {
+            header.status.put(field, value == JsonToken.VALUE_NUMBER_INT ? Integer.valueOf(parser.getIntValue()) : parser.getValueAsString());
+          } else if (field.equals("error_msg")) {
+            header.status.put(field, parser.getValueAsString());
+          } else {
+            parser.skipChildren();
+          }
+        }
+      } finally {
+        parser.close();
+      }
+    } catch (IOException e) {
+      throw new ExchangeException("JSON parse error", e);
+    }
+    return header;
+  }
+
+  private Map<String, Object> readMap(String data) {
+
+    try {
+      return streamObjectMapper.readValue(data, new TypeReference<Map<String, Object>>() {
+      });
+    } catch (IOException e) {
+      throw new ExchangeException("JSON parse error", e);
+    }
+  }
+
+  private void addResponse(CoinfloorExchangeEvent event) {
+
+    addToEventQueue(event);
+    pendingRequests.complete(event);
+  }
+
   private void addToEventQueue(CoinfloorExchangeEvent event) {
 
     try {
       consumerEventQueue.put(event);
-      systemEventQueue.put(event);
-      synchronized (systemEventQueue) {
-        systemEventQueue.notifyAll();
-      }
     } catch (InterruptedException e) {
       throw new ExchangeException("InterruptedException!", e);
     }
   }
+
+  /**
+   * The fields of a message needed to route it
+   */
+  private static class MessageHeader {
+
+    private Integer tag;
+    private String notice;
+    private final Map<String, Object> status = new HashMap<String, Object>(2);
+
+    /**
+     * @return the tag of the request this message answers, 0 for the welcome notice, null for the other notices
+     */
+    private Integer getPendingTag() {
+
+      return tag != null ? tag : "Welcome".equals(notice) ? Integer.valueOf(0) : null;
+    }
+  }
 }
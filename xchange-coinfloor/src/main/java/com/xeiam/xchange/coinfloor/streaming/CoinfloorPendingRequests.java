@@ -0,0 +1,154 @@
+package com.xeiam.xchange.coinfloor.streaming;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.xeiam.xchange.coinfloor.dto.streaming.CoinfloorExchangeEvent;
+
+/**
+ * <p>
+ * Table of the requests sent over the Coinfloor websocket that are still waiting for their response, keyed by request tag. This provides the
+ * following:
+ * </p>
+ * <ul>
+ * <li>Any number of requests in flight on one socket, each answered through its own {@link Future}</li>
+ * <li>Responses matched by tag as they are received, without polling or re-queuing unrelated events</li>
+ * </ul>
+ */
+public class CoinfloorPendingRequests {
+
+  private final ConcurrentMap<Integer, ResponseFuture> pending = new ConcurrentHashMap<Integer, ResponseFuture>();
+
+  /**
+   * Registers a request before it is sent, so its response cannot arrive unnoticed
+   *
+   * @param tag the tag of the request, echoed by the server in the response
+   * @return the future completed with the response
+   */
+  public Future<CoinfloorExchangeEvent> register(int tag) {
+
+    ResponseFuture future = new ResponseFuture(tag);
+    if (pending.putIfAbsent(tag, future) != null) {
+      throw new IllegalStateException("A request with tag " + tag + " is already pending");
+    }
+    return future;
+  }
+
+  /**
+   * @return true if a request was waiting for this response
+   */
+  public boolean complete(CoinfloorExchangeEvent response) {
+
+    ResponseFuture future = pending.remove(response.getTag());
+    return future != null && future.complete(response, null);
+  }
+
+  /**
+   * @return true if a request was waiting for a response with this tag
+   */
+  public boolean fail(int tag, Throwable cause) {
+
+    ResponseFuture future = pending.remove(tag);
+    return future != null && future.complete(null, cause);
+  }
+
+  /**
+   * Fails every pending request, e.g. when the connection is closed and no response will arrive
+   */
+  public void failAll(Throwable cause) {
+
+    for (Integer tag : pending.keySet()) {
+      fail(tag, cause);
+    }
+  }
+
+  public int size() {
+
+    return pending.size();
+  }
+
+  private class ResponseFuture implements Future<CoinfloorExchangeEvent> {
+
+    private final int tag;
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    private volatile CoinfloorExchangeEvent response;
+    private volatile Throwable cause;
+    private volatile boolean cancelled;
+
+    ResponseFuture(int tag) {
+
+      this.tag = tag;
+    }
+
+    private synchronized boolean complete(CoinfloorExchangeEvent response, Throwable cause) {
+
+      if (isDone()) {
+        return false;
+      }
+      this.response = response;
+      this.cause = cause;
+      done.countDown();
+      return true;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+
+      synchronized (this) {
+        if (isDone()) {
+          return false;
+        }
+        cancelled = true;
+        done.countDown();
+      }
+      pending.remove(tag, this);
+      return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+
+      return cancelled;
+    }
+
+    @Override
+    public boolean isDone() {
+
+      return done.getCount() == 0;
+    }
+
+    @Override
+    public CoinfloorExchangeEvent get() throws InterruptedException, ExecutionException {
+
+      done.await();
+      return getResponse();
+    }
+
+    @Override
+    public CoinfloorExchangeEvent get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+
+      if (!done.await(timeout, unit)) {
+        throw new TimeoutException("No response to request with tag " + tag);
+      }
+      return getResponse();
+    }
+
+    private CoinfloorExchangeEvent getResponse() throws ExecutionException {
+
+      if (cancelled) {
+        throw new CancellationException();
+      }
+      if (cause != null) {
+        throw new ExecutionException(cause);
+      }
+      return response;
+    }
+  }
+}
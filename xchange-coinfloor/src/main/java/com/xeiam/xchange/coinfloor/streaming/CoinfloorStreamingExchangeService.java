@@ -3,8 +3,10 @@ package com.xeiam.xchange.coinfloor.streaming;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import com.xeiam.xchange.dto.account.Wallet;
 import org.slf4j.Logger;
@@ -23,7 +25,6 @@ import com.xeiam.xchange.dto.marketdata.Trades;
 import com.xeiam.xchange.dto.trade.MarketOrder;
 import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.service.streaming.BaseWebSocketExchangeService;
-import com.xeiam.xchange.service.streaming.ExchangeEvent;
 import com.xeiam.xchange.service.streaming.ExchangeEventType;
 import com.xeiam.xchange.service.streaming.StreamingExchangeService;
 
@@ -36,8 +37,7 @@ public class CoinfloorStreamingExchangeService extends BaseWebSocketExchangeServ
 
   private final CoinfloorStreamingConfiguration configuration;
   private final CoinfloorEventListener exchangeEventListener;
-  private final BlockingQueue<ExchangeEvent> systemEventQueue = new LinkedBlockingQueue<ExchangeEvent>();
-  private final BlockingQueue<CoinfloorExchangeEvent> updateEventQueue = new LinkedBlockingQueue<CoinfloorExchangeEvent>();
+  private final CoinfloorPendingRequests pendingRequests = new CoinfloorPendingRequests();
 
   ObjectMapper jsonObjectMapper;
 
@@ -52,7 +52,7 @@ public class CoinfloorStreamingExchangeService extends BaseWebSocketExchangeServ
     super(exchange, exchangeStreamingConfiguration);
 
     this.configuration = exchangeStreamingConfiguration;
-    this.exchangeEventListener = new CoinfloorEventListener(consumerEventQueue, systemEventQueue);
+    this.exchangeEventListener = new CoinfloorEventListener(consumerEventQueue, pendingRequests);
 
     this.jsonObjectMapper = new ObjectMapper();
 
@@ -75,15 +75,25 @@ public class CoinfloorStreamingExchangeService extends BaseWebSocketExchangeServ
 
     logger.debug("Streaming URI='{}'", uri);
 
+    // The welcome notice carries no tag, the listener completes it as tag 0
+    Future<CoinfloorExchangeEvent> welcome = pendingRequests.register(0);
+
     // Use the default internal connect
     internalConnect(uri, exchangeEventListener, headers);
 
     try {
-      if (getNextSystemEvent().getEventType() != ExchangeEventType.WELCOME) {
+      if (awaitResponse(welcome).getEventType() != ExchangeEventType.WELCOME) {
         throw new ExchangeException("Could not connect.");
       }
     } catch (InterruptedException e) {
-      throw new ExchangeException("Could not connect.");
+      pendingRequests.fail(0, e);
+      Thread.currentThread().interrupt();
+      throw new ExchangeException("Could not connect.", e);
+    } catch (ExecutionException e) {
+      throw new ExchangeException("Could not connect.", e.getCause());
+    } catch (TimeoutException e) {
+      welcome.cancel(false);
+      throw new ExchangeException("Could not connect, no welcome within " + configuration.getTimeoutInMs() + " ms", e);
     }
 
     if (configuration.getauthenticateOnConnect()) {
@@ -91,6 +101,13 @@ public class CoinfloorStreamingExchangeService extends BaseWebSocketExchangeServ
     }
   }
 
+  @Override
+  public void disconnect() {
+
+    super.disconnect();
+    pendingRequests.failAll(new ExchangeException("Disconnected before the response was received"));
+  }
+
   public void authenticate() {
 
     if (exchange.getExchangeSpecification().getUserName() == null || exchange.getExchangeSpecification().getUserName() == null
@@ -108,52 +125,75 @@ public class CoinfloorStreamingExchangeService extends BaseWebSocketExchangeServ
         (String) exchange.getExchangeSpecification().getExchangeSpecificParametersItem("cookie"), exchange.getExchangeSpecification().getPassword(),
         exchangeEventListener.getServerNonce());
 
-    doNewRequest(authVars, ExchangeEventType.AUTHENTICATION);
+    doNewRequest(authVars);
 
   }
 
-  @SuppressWarnings("incomplete-switch")
-  private CoinfloorExchangeEvent doNewRequest(CoinfloorRequest requestObject, ExchangeEventType expectedEventType) {
+  /**
+   * Sends a request without waiting for its response, so any number of requests can be in flight on the one socket. The response is still
+   * published to the event queue as well.
+   *
+   * @param requestObject any of the {@link RequestFactory} requests
+   * @return the future completed with the response carrying the request's tag, or failed with the ExchangeException of an error response
+   */
+  public Future<CoinfloorExchangeEvent> sendRequest(CoinfloorRequest requestObject) {
 
+    String message;
     try {
-      try {
-        logger.trace("Sent message: " + jsonObjectMapper.writeValueAsString(requestObject));
-        send(jsonObjectMapper.writeValueAsString(requestObject));
-      } catch (JsonProcessingException e) {
-        throw new ExchangeException("Cannot convert Object to String", e);
-      }
+      message = jsonObjectMapper.writeValueAsString(requestObject);
+    } catch (JsonProcessingException e) {
+      throw new ExchangeException("Cannot convert Object to String", e);
+    }
 
-      CoinfloorExchangeEvent nextEvent = checkNextSystemEvent();
-      while (!nextEvent.getEventType().equals(expectedEventType) || nextEvent.getTag() != requestObject.getTag()) {
-        switch (nextEvent.getEventType()) {
-        case USER_WALLET_UPDATE:
-        case ORDER_ADDED:
-        case TRADE:
-        case ORDER_CANCELED:
-        case TICKER:
-        case AUTHENTICATION:
-        case WELCOME:
-          updateEventQueue.put(getNextSystemEvent());
-          break;
-
-        }
-        synchronized (this) {
-          nextEvent = checkNextSystemEvent();
-        }
+    // registered before sending, the response may arrive before send returns
+    Future<CoinfloorExchangeEvent> response = pendingRequests.register(requestObject.getTag());
+    try {
+      logger.trace("Sent message: " + message);
+      send(message);
+    } catch (RuntimeException e) {
+      pendingRequests.fail(requestObject.getTag(), e);
+      throw e;
+    }
+    return response;
+  }
+
+  private CoinfloorExchangeEvent doNewRequest(CoinfloorRequest requestObject) {
+
+    Future<CoinfloorExchangeEvent> response = sendRequest(requestObject);
+    try {
+      return awaitResponse(response);
+    } catch (TimeoutException e) {
+      response.cancel(false);
+      throw new ExchangeException("No response within " + configuration.getTimeoutInMs() + " ms", e);
+    } catch (InterruptedException e) {
+      response.cancel(false);
+      Thread.currentThread().interrupt();
+      throw new ExchangeException("Interrupted while waiting for response", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof ExchangeException) {
+        throw (ExchangeException) e.getCause();
       }
-      return getNextSystemEvent();
-    } catch (Exception e) {
-      throw new ExchangeException("Error processing request", e);
+      throw new ExchangeException("Error processing request", e.getCause());
     }
   }
 
+  /**
+   * Waits for a response for the timeout of the configuration, or without a bound if the timeout is not positive
+   */
+  private CoinfloorExchangeEvent awaitResponse(Future<CoinfloorExchangeEvent> response) throws InterruptedException, ExecutionException,
+      TimeoutException {
+
+    int timeoutInMs = configuration.getTimeoutInMs();
+    return timeoutInMs > 0 ? response.get(timeoutInMs, TimeUnit.MILLISECONDS) : response.get();
+  }
+
   /**
    * Get user's balances Upon receipt of response, a CoinfloorExchangeEvent with payload Map<String, Object>, consisting of: > A raw object of type
    * CoinfloorBalances (key "raw") > A generic object of type Wallet (key "generic")
    */
   public CoinfloorExchangeEvent getBalances() {
 
-    return doNewRequest(new RequestFactory.GetBalancesRequest(), ExchangeEventType.USER_WALLET);
+    return doNewRequest(new RequestFactory.GetBalancesRequest());
   }
 
   /**
@@ -162,7 +202,7 @@ public class CoinfloorStreamingExchangeService extends BaseWebSocketExchangeServ
    */
   public CoinfloorExchangeEvent getOrders() {
 
-    return doNewRequest(new RequestFactory.GetOrdersRequest(), ExchangeEventType.USER_ORDERS_LIST);
+    return doNewRequest(new RequestFactory.GetOrdersRequest());
   }
 
   /**
@@ -171,7 +211,15 @@ public class CoinfloorStreamingExchangeService extends BaseWebSocketExchangeServ
    */
   public CoinfloorExchangeEvent placeOrder(Order order) {
 
-    return doNewRequest(new RequestFactory.PlaceOrderRequest(order), ExchangeEventType.USER_ORDER);
+    return doNewRequest(new RequestFactory.PlaceOrderRequest(order));
+  }
+
+  /**
+   * Place an order without waiting for the response, see {@link #placeOrder(Order)}
+   */
+  public Future<CoinfloorExchangeEvent> placeOrderAsync(Order order) {
+
+    return sendRequest(new RequestFactory.PlaceOrderRequest(order));
   }
 
   /**
@@ -180,7 +228,15 @@ public class CoinfloorStreamingExchangeService extends BaseWebSocketExchangeServ
    */
   public CoinfloorExchangeEvent cancelOrder(int orderID) {
 
-    return doNewRequest(new RequestFactory.CancelOrderRequest(orderID), ExchangeEventType.USER_ORDER_CANCELED);
+    return doNewRequest(new RequestFactory.CancelOrderRequest(orderID));
+  }
+
+  /**
+   * Cancel an order without waiting for the response, see {@link #cancelOrder(int)}
+   */
+  public Future<CoinfloorExchangeEvent> cancelOrderAsync(int orderID) {
+
+    return sendRequest(new RequestFactory.CancelOrderRequest(orderID));
   }
 
   /**
@@ -189,7 +245,7 @@ public class CoinfloorStreamingExchangeService extends BaseWebSocketExchangeServ
    */
   public CoinfloorExchangeEvent getTradeVolume(String currency) {
 
-    return doNewRequest(new RequestFactory.GetTradeVolumeRequest(currency), ExchangeEventType.USER_TRADE_VOLUME);
+    return doNewRequest(new RequestFactory.GetTradeVolumeRequest(currency));
   }
 
   /**
@@ -199,7 +255,7 @@ public class CoinfloorStreamingExchangeService extends BaseWebSocketExchangeServ
    */
   public CoinfloorExchangeEvent estimateMarketOrder(MarketOrder order) {
 
-    return doNewRequest(new RequestFactory.EstimateMarketOrderRequest(order), ExchangeEventType.USER_MARKET_ORDER_EST);
+    return doNewRequest(new RequestFactory.EstimateMarketOrderRequest(order));
   }
 
   /**
@@ -208,7 +264,7 @@ public class CoinfloorStreamingExchangeService extends BaseWebSocketExchangeServ
    */
   public CoinfloorExchangeEvent watchOrders(String tradableIdentifier, String tradingCurrency) {
 
-    return doNewRequest(new RequestFactory.WatchOrdersRequest(tradableIdentifier, tradingCurrency), ExchangeEventType.SUBSCRIBE_ORDERS);
+    return doNewRequest(new RequestFactory.WatchOrdersRequest(tradableIdentifier, tradingCurrency));
   }
 
   /**
@@ -217,7 +273,7 @@ public class CoinfloorStreamingExchangeService extends BaseWebSocketExchangeServ
    */
   public CoinfloorExchangeEvent unwatchOrders(String tradableIdentifier, String tradingCurrency) {
 
-    return doNewRequest(new RequestFactory.UnwatchOrdersRequest(tradableIdentifier, tradingCurrency), ExchangeEventType.SUBSCRIBE_ORDERS);
+    return doNewRequest(new RequestFactory.UnwatchOrdersRequest(tradableIdentifier, tradingCurrency));
   }
 
   /**
@@ -226,7 +282,7 @@ public class CoinfloorStreamingExchangeService extends BaseWebSocketExchangeServ
    */
   public CoinfloorExchangeEvent watchTicker(String tradableIdentifier, String tradingCurrency) {
 
-    return doNewRequest(new RequestFactory.WatchTickerRequest(tradableIdentifier, tradingCurrency), ExchangeEventType.SUBSCRIBE_TICKER);
+    return doNewRequest(new RequestFactory.WatchTickerRequest(tradableIdentifier, tradingCurrency));
   }
 
   /**
@@ -235,7 +291,7 @@ public class CoinfloorStreamingExchangeService extends BaseWebSocketExchangeServ
    */
   public CoinfloorExchangeEvent unwatchTicker(String tradableIdentifier, String tradingCurrency) {
 
-    return doNewRequest(new RequestFactory.UnwatchTickerRequest(tradableIdentifier, tradingCurrency), ExchangeEventType.SUBSCRIBE_TICKER);
+    return doNewRequest(new RequestFactory.UnwatchTickerRequest(tradableIdentifier, tradingCurrency));
   }
 
   /**
@@ -287,26 +343,4 @@ public class CoinfloorStreamingExchangeService extends BaseWebSocketExchangeServ
 
     return (CoinfloorExchangeEvent) super.getNextEvent();
   }
-
-  public CoinfloorExchangeEvent getNextSystemEvent() throws InterruptedException {
-
-    CoinfloorExchangeEvent event = (CoinfloorExchangeEvent) systemEventQueue.take();
-    return event;
-  }
-
-  public CoinfloorExchangeEvent checkNextSystemEvent() throws InterruptedException {
-
-    while (true) {
-      synchronized (systemEventQueue) {
-        if (systemEventQueue.isEmpty()) {
-          systemEventQueue.wait();
-        }
-      }
-      CoinfloorExchangeEvent event = (CoinfloorExchangeEvent) systemEventQueue.peek();
-      if (event == null) {
-        continue;
-      }
-      return event;
-    }
-  }
 }
@@ -205,6 +205,37 @@ public class CoinfloorAdaptersTest {
     Assert.assertEquals("BTC", ((LimitOrder) testObj.get("generic")).getCurrencyPair().base.getCurrencyCode());
   }
 
+  @Test
+  public void testCachedOrderBookIsASnapshot() throws IOException {
+
+    // Read in the JSON from the example resources
+    BufferedReader br = new BufferedReader(new FileReader("src/test/resources/marketdata/example-orders-response.json"));
+
+    String result = "", line;
+    while ((line = br.readLine()) != null) {
+      result += line.trim();
+    }
+
+    br.close();
+
+    coinfloorAdapters.adaptOrders(result);
+    OrderBook snapshot = coinfloorAdapters.getCachedOrderBook();
+
+    br = new BufferedReader(new FileReader("src/test/resources/marketdata/example-orderOpened-update.json"));
+
+    result = "";
+    while ((line = br.readLine()) != null) {
+      result += line.trim();
+    }
+
+    br.close();
+
+    coinfloorAdapters.adaptOrderOpened(result);
+
+    Assert.assertEquals(7, snapshot.getBids().size());
+    Assert.assertEquals(8, coinfloorAdapters.getCachedOrderBook().getBids().size());
+  }
+
   @Test
   public void testAdaptOrderClosed() throws IOException {
 
@@ -247,6 +278,28 @@ public class CoinfloorAdaptersTest {
     Assert.assertEquals(OrderType.ASK, ((Trade) testObj.get("generic")).getType());
   }
 
+  @Test
+  public void testCachedTradesAreTheLastOnes() throws IOException {
+
+    // Read in the JSON from the example resources
+    BufferedReader br = new BufferedReader(new FileReader("src/test/resources/marketdata/example-ordersMatched-update.json"));
+
+    String result = "", line;
+    while ((line = br.readLine()) != null) {
+      result += line.trim();
+    }
+
+    br.close();
+
+    coinfloorAdapters.adaptOrdersMatched(result);
+    Assert.assertEquals(1, coinfloorAdapters.getCachedTrades().getTrades().size());
+
+    for (int i = 0; i < CoinfloorAdapters.MAX_CACHED_TRADES + 10; i++) {
+      coinfloorAdapters.adaptOrdersMatched(result);
+    }
+    Assert.assertEquals(CoinfloorAdapters.MAX_CACHED_TRADES, coinfloorAdapters.getCachedTrades().getTrades().size());
+  }
+
   @Test
   public void testAdaptBalancesChanged() throws IOException {
 
@@ -0,0 +1,117 @@
+package com.xeiam.xchange.coinfloor.streaming;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.fest.assertions.api.Assertions.fail;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.xeiam.xchange.coinfloor.dto.streaming.CoinfloorExchangeEvent;
+import com.xeiam.xchange.exceptions.ExchangeException;
+import com.xeiam.xchange.service.streaming.DefaultExchangeEvent;
+import com.xeiam.xchange.service.streaming.ExchangeEvent;
+import com.xeiam.xchange.service.streaming.ExchangeEventType;
+
+public class CoinfloorEventListenerTest {
+
+  private static final int PLACE_ORDER_TAG_1 = 302 + (1 << 10);
+  private static final int PLACE_ORDER_TAG_2 = 302 + (2 << 10);
+
+  private BlockingQueue<ExchangeEvent> consumerEventQueue;
+  private CoinfloorPendingRequests pendingRequests;
+  private CoinfloorEventListener listener;
+
+  @Before
+  public void setUp() {
+
+    consumerEventQueue = new LinkedBlockingQueue<ExchangeEvent>();
+    pendingRequests = new CoinfloorPendingRequests();
+    listener = new CoinfloorEventListener(consumerEventQueue, pendingRequests);
+  }
+
+  @Test
+  public void testResponsesCompleteTheirRequestInAnyOrder() throws Exception {
+
+    Future<CoinfloorExchangeEvent> first = pendingRequests.register(PLACE_ORDER_TAG_1);
+    Future<CoinfloorExchangeEvent> second = pendingRequests.register(PLACE_ORDER_TAG_2);
+
+    listener.handleEvent(message("{\"tag\":" + PLACE_ORDER_TAG_2 + ",\"error_code\":0,\"id\":2,\"time\":1393762153711925}"));
+    assertThat(first.isDone()).isFalse();
+    assertThat(second.isDone()).isTrue();
+    assertThat(second.get().getTag()).isEqualTo(PLACE_ORDER_TAG_2);
+    assertThat(second.get().getEventType()).isEqualTo(ExchangeEventType.USER_ORDER);
+
+    listener.handleEvent(message("{\"tag\":" + PLACE_ORDER_TAG_1 + ",\"error_code\":0,\"id\":1,\"time\":1393762153711925}"));
+    assertThat(first.get().getTag()).isEqualTo(PLACE_ORDER_TAG_1);
+    assertThat(pendingRequests.size()).isZero();
+    assertThat(consumerEventQueue).hasSize(2);
+  }
+
+  @Test
+  public void testUnsolicitedEventsOnlyGoToTheConsumer() throws Exception {
+
+    Future<CoinfloorExchangeEvent> pending = pendingRequests.register(PLACE_ORDER_TAG_1);
+
+    // the ticker subscription response, which nobody waits for here, seeds the cached ticker the update is applied to
+    listener.handleEvent(message(IOUtils.toString(CoinfloorEventListenerTest.class.getResourceAsStream("/marketdata/example-ticker-response.json"))));
+    listener.handleEvent(message(IOUtils.toString(CoinfloorEventListenerTest.class.getResourceAsStream("/marketdata/example-ticker-update.json"))));
+
+    assertThat(pending.isDone()).isFalse();
+    assertThat(consumerEventQueue).hasSize(2);
+    consumerEventQueue.take();
+    assertThat(consumerEventQueue.take().getEventType()).isEqualTo(ExchangeEventType.TICKER);
+  }
+
+  @Test
+  public void testErrorResponseFailsItsRequest() throws Exception {
+
+    Future<CoinfloorExchangeEvent> pending = pendingRequests.register(PLACE_ORDER_TAG_1);
+
+    try {
+      listener.handleEvent(message("{\"tag\":" + PLACE_ORDER_TAG_1 + ",\"error_code\":4,\"error_msg\":\"Insufficient funds\"}"));
+      fail("Expected ExchangeException");
+    } catch (ExchangeException e) {
+      // also reported to the websocket thread, as before
+    }
+
+    try {
+      pending.get();
+      fail("Expected ExecutionException");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isInstanceOf(ExchangeException.class);
+    }
+  }
+
+  @Test
+  public void testUnreadableResponseFailsItsRequest() throws Exception {
+
+    Future<CoinfloorExchangeEvent> pending = pendingRequests.register(PLACE_ORDER_TAG_1);
+
+    try {
+      listener.handleEvent(message("{\"tag\":" + PLACE_ORDER_TAG_1 + ",\"error_code\":0,\"id\":\"not a number\",\"time\":{}}"));
+      fail("Expected an exception");
+    } catch (RuntimeException e) {
+      // the adapter could not read the response
+    }
+
+    assertThat(pending.isDone()).isTrue();
+    assertThat(pendingRequests.size()).isZero();
+    try {
+      pending.get();
+      fail("Expected ExecutionException");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isInstanceOf(RuntimeException.class);
+    }
+  }
+
+  private static ExchangeEvent message(String json) {
+
+    return new DefaultExchangeEvent(ExchangeEventType.MESSAGE, json);
+  }
+}
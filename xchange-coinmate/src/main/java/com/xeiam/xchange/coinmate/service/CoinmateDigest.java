@@ -23,8 +23,6 @@
  */
 package com.xeiam.xchange.coinmate.service;
 
-import java.math.BigInteger;
-
 import javax.crypto.Mac;
 import javax.ws.rs.FormParam;
 
@@ -65,10 +63,10 @@ public class CoinmateDigest extends BaseParamsDigest {
   public String digestParams(RestInvocation restInvocation) {
 
     Mac mac256 = getMac();
-    mac256.update(restInvocation.getParamValue(FormParam.class, "nonce").toString().getBytes());
-    mac256.update(clientId.getBytes());
-    mac256.update(publicApiKey.getBytes());
+    updateNonce(mac256, restInvocation.getParamValue(FormParam.class, "nonce"));
+    update(mac256, clientId);
+    update(mac256, publicApiKey);
 
-    return String.format("%064x", new BigInteger(1, mac256.doFinal())).toUpperCase();
+    return doFinalHex(mac256, true);
   }
 }
@@ -33,8 +33,6 @@ import com.xeiam.xchange.coinmate.dto.account.CoinmateDepositAddresses;
 import com.xeiam.xchange.coinmate.dto.trade.CoinmateTradeResponse;
 import com.xeiam.xchange.coinmate.service.CoinmateDigest;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * @author Martin Stachon
  */
@@ -46,7 +44,7 @@ public class CoinmateAccountServiceRaw extends CoinmateBasePollingService {
   public CoinmateAccountServiceRaw(Exchange exchange) {
     super(exchange);
 
-    this.coinmateAuthenticated = RestProxyFactory.createProxy(CoinmateAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.coinmateAuthenticated = createPrivateProxy(CoinmateAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = CoinmateDigest.createInstance(exchange.getExchangeSpecification().getSecretKey(),
         exchange.getExchangeSpecification().getUserName(), exchange.getExchangeSpecification().getApiKey());
   }
@@ -31,8 +31,6 @@ import com.xeiam.xchange.coinmate.dto.marketdata.CoinmateOrderBook;
 import com.xeiam.xchange.coinmate.dto.marketdata.CoinmateTicker;
 import com.xeiam.xchange.coinmate.dto.marketdata.CoinmateTransactions;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * @author Martin Stachon
  */
@@ -42,7 +40,7 @@ public class CoinmateMarketDataServiceRaw extends CoinmateBasePollingService {
 
   public CoinmateMarketDataServiceRaw(Exchange exchange) {
     super(exchange);
-    this.coinmate = RestProxyFactory.createProxy(Coinmate.class, exchange.getExchangeSpecification().getSslUri());
+    this.coinmate = createPublicProxy(Coinmate.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public CoinmateTicker getCoinmateTicker(String currencyPair) throws IOException {
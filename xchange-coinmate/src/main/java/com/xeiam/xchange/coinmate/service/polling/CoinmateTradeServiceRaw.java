@@ -34,8 +34,6 @@ import com.xeiam.xchange.coinmate.dto.trade.CoinmateTradeResponse;
 import com.xeiam.xchange.coinmate.dto.trade.CoinmateTransactionHistory;
 import com.xeiam.xchange.coinmate.service.CoinmateDigest;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * @author Martin Stachon
  */
@@ -47,7 +45,7 @@ public class CoinmateTradeServiceRaw extends CoinmateBasePollingService {
   public CoinmateTradeServiceRaw(Exchange exchange) {
     super(exchange);
 
-    this.coinmateAuthenticated = RestProxyFactory.createProxy(CoinmateAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.coinmateAuthenticated = createPrivateProxy(CoinmateAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = CoinmateDigest.createInstance(exchange.getExchangeSpecification().getSecretKey(),
         exchange.getExchangeSpecification().getUserName(), exchange.getExchangeSpecification().getApiKey());
   }
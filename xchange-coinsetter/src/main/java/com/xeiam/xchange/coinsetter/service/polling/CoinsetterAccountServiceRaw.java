@@ -28,7 +28,7 @@ public class CoinsetterAccountServiceRaw extends BaseExchangeService {
     super(exchange);
 
     String baseUrl = exchange.getExchangeSpecification().getSslUri();
-    account = RestProxyFactory.createProxy(com.xeiam.xchange.coinsetter.rs.CoinsetterAccount.class, baseUrl);
+    account = RestProxyFactory.createProxy(com.xeiam.xchange.coinsetter.rs.CoinsetterAccount.class, baseUrl, exchange.createClientConfig());
   }
 
   public CoinsetterAccount get(UUID clientSessionId, UUID accountUuid) throws CoinsetterException, IOException {
@@ -29,7 +29,8 @@ public class CoinsetterClientSessionServiceRaw extends BaseExchangeService {
     super(exchange);
 
     String baseUrl = exchange.getExchangeSpecification().getSslUri();
-    clientSession = RestProxyFactory.createProxy(com.xeiam.xchange.coinsetter.rs.CoinsetterClientSession.class, baseUrl);
+    clientSession = RestProxyFactory.createProxy(com.xeiam.xchange.coinsetter.rs.CoinsetterClientSession.class, baseUrl,
+        exchange.createClientConfig());
   }
 
   public CoinsetterClientSession login(String username, String password, String ipAddress) throws IOException {
@@ -27,7 +27,8 @@ public class CoinsetterFinancialTransactionServiceRaw extends BaseExchangeServic
 
     super(exchange);
     String baseUrl = exchange.getExchangeSpecification().getSslUri();
-    financialTransaction = RestProxyFactory.createProxy(com.xeiam.xchange.coinsetter.rs.CoinsetterFinancialTransaction.class, baseUrl);
+    financialTransaction = RestProxyFactory.createProxy(com.xeiam.xchange.coinsetter.rs.CoinsetterFinancialTransaction.class, baseUrl,
+        exchange.createClientConfig());
   }
 
   public CoinsetterFinancialTransaction get(UUID clientSessionId, UUID financialTransactionUuid) throws CoinsetterException, IOException {
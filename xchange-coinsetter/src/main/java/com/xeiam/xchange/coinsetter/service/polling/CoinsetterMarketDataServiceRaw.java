@@ -32,7 +32,7 @@ public class CoinsetterMarketDataServiceRaw extends CoinsetterBasePollingService
     super(exchange);
 
     String baseUrl = exchange.getExchangeSpecification().getSslUri();
-    marketData = RestProxyFactory.createProxy(CoinsetterMarketData.class, baseUrl);
+    marketData = RestProxyFactory.createProxy(CoinsetterMarketData.class, baseUrl, exchange.createClientConfig());
   }
 
   /**
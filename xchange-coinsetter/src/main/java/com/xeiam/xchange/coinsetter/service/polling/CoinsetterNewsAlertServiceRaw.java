@@ -26,7 +26,7 @@ public class CoinsetterNewsAlertServiceRaw extends BaseExchangeService {
 
     super(exchange);
     String baseUrl = exchange.getExchangeSpecification().getSslUri();
-    newsAlert = RestProxyFactory.createProxy(com.xeiam.xchange.coinsetter.rs.CoinsetterNewsAlert.class, baseUrl);
+    newsAlert = RestProxyFactory.createProxy(com.xeiam.xchange.coinsetter.rs.CoinsetterNewsAlert.class, baseUrl, exchange.createClientConfig());
   }
 
   public CoinsetterNewsAlertList list(UUID clientSessionId) throws CoinsetterException, IOException {
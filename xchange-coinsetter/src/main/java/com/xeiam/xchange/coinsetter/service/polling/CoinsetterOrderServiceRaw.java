@@ -29,7 +29,7 @@ public class CoinsetterOrderServiceRaw extends CoinsetterBasePollingService {
     super(exchange);
 
     String baseUrl = exchange.getExchangeSpecification().getSslUri();
-    order = RestProxyFactory.createProxy(com.xeiam.xchange.coinsetter.rs.CoinsetterOrder.class, baseUrl);
+    order = RestProxyFactory.createProxy(com.xeiam.xchange.coinsetter.rs.CoinsetterOrder.class, baseUrl, exchange.createClientConfig());
   }
 
   public CoinsetterOrderResponse add(UUID clientSessionId, CoinsetterOrderRequest request) throws CoinsetterException, IOException {
@@ -25,7 +25,7 @@ public class CoinsetterPingServiceRaw extends BaseExchangeService {
     super(exchange);
 
     String baseUrl = exchange.getExchangeSpecification().getSslUri();
-    ping = RestProxyFactory.createProxy(CoinsetterPing.class, baseUrl);
+    ping = RestProxyFactory.createProxy(CoinsetterPing.class, baseUrl, exchange.createClientConfig());
   }
 
   public String ping(String text) throws IOException {
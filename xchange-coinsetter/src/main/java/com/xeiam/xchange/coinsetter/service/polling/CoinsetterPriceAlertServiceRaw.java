@@ -30,7 +30,7 @@ public class CoinsetterPriceAlertServiceRaw extends BaseExchangeService {
     super(exchange);
 
     String baseUrl = exchange.getExchangeSpecification().getSslUri();
-    priceAlert = RestProxyFactory.createProxy(com.xeiam.xchange.coinsetter.rs.CoinsetterPriceAlert.class, baseUrl);
+    priceAlert = RestProxyFactory.createProxy(com.xeiam.xchange.coinsetter.rs.CoinsetterPriceAlert.class, baseUrl, exchange.createClientConfig());
   }
 
   public CoinsetterPriceAlertResponse add(UUID clientSessionId, CoinsetterPriceAlertRequest request) throws CoinsetterException, IOException {
@@ -1,7 +1,7 @@
 package com.xeiam.xchange.coinsetter.service.streaming;
 
+import java.util.Collection;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import org.java_websocket.WebSocket.READYSTATE;
 
@@ -27,7 +27,7 @@ import io.socket.SocketIOException;
  */
 public class CoinsetterSocketIOService extends CoinsetterSocketIOServiceRaw implements StreamingExchangeService {
 
-  private final BlockingQueue<ExchangeEvent> consumerEventQueue = new LinkedBlockingQueue<ExchangeEvent>();
+  private final BlockingQueue<ExchangeEvent> consumerEventQueue;
 
   private volatile READYSTATE webSocketStatus = READYSTATE.NOT_YET_CONNECTED;
 
@@ -44,6 +44,8 @@ public class CoinsetterSocketIOService extends CoinsetterSocketIOServiceRaw impl
 
     super(exchange, coinsetterStreamingConfiguration);
 
+    consumerEventQueue = coinsetterStreamingConfiguration.getEventQueueConfiguration().newQueue();
+
     super.addListener(new CoinsetterSocketAdapter() {
 
       @Override
@@ -116,6 +118,15 @@ public class CoinsetterSocketIOService extends CoinsetterSocketIOServiceRaw impl
     return consumerEventQueue.size();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int drainEvents(Collection<? super ExchangeEvent> events, int maxEvents) {
+
+    return consumerEventQueue.drainTo(events, maxEvents);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -3,6 +3,7 @@ package com.xeiam.xchange.coinsetter.service.streaming;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.xeiam.xchange.service.streaming.EventQueueConfiguration;
 import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
 
 /**
@@ -11,6 +12,7 @@ import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
 public class CoinsetterStreamingConfiguration implements ExchangeStreamingConfiguration {
 
   private final Map<String, Object[]> events = new HashMap<String, Object[]>();
+  private EventQueueConfiguration eventQueueConfiguration = EventQueueConfiguration.UNBOUNDED;
 
   public CoinsetterStreamingConfiguration() {
 
@@ -61,6 +63,17 @@ public class CoinsetterStreamingConfiguration implements ExchangeStreamingConfig
     return false;
   }
 
+  @Override
+  public EventQueueConfiguration getEventQueueConfiguration() {
+
+    return eventQueueConfiguration;
+  }
+
+  public void setEventQueueConfiguration(EventQueueConfiguration eventQueueConfiguration) {
+
+    this.eventQueueConfiguration = eventQueueConfiguration;
+  }
+
   public Map<String, Object[]> getEvents() {
 
     return events;
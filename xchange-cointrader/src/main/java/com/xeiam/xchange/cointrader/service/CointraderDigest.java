@@ -1,7 +1,5 @@
 package com.xeiam.xchange.cointrader.service;
 
-import java.math.BigInteger;
-
 import javax.crypto.Mac;
 
 import com.xeiam.xchange.service.BaseParamsDigest;
@@ -21,8 +19,8 @@ public class CointraderDigest extends BaseParamsDigest {
 
   String digest(String requestBody) {
     Mac mac256 = getMac();
-    mac256.update(requestBody.getBytes());
+    update(mac256, requestBody);
 
-    return String.format("%064x", new BigInteger(1, mac256.doFinal()));
+    return doFinalHex(mac256, false);
   }
 }
\ No newline at end of file
@@ -9,8 +9,6 @@ import com.xeiam.xchange.cointrader.dto.CointraderRequest;
 import com.xeiam.xchange.cointrader.dto.account.CointraderBalance;
 import com.xeiam.xchange.cointrader.service.CointraderDigest;
 
-import si.mazi.rescu.RestProxyFactory;
-
 public class CointraderAccountServiceRaw extends CointraderBasePollingService {
 
   private final CointraderDigest signatureCreator;
@@ -18,7 +16,7 @@ public class CointraderAccountServiceRaw extends CointraderBasePollingService {
 
   protected CointraderAccountServiceRaw(Exchange exchange) {
     super(exchange);
-    this.cointraderAuthenticated = RestProxyFactory.createProxy(CointraderAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.cointraderAuthenticated = createPrivateProxy(CointraderAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = new CointraderDigest(exchange.getExchangeSpecification().getSecretKey());
   }
 
@@ -8,15 +8,13 @@ import com.xeiam.xchange.cointrader.Cointrader;
 import com.xeiam.xchange.cointrader.dto.marketdata.CointraderOrderBook;
 import com.xeiam.xchange.cointrader.dto.marketdata.CointraderTicker;
 
-import si.mazi.rescu.RestProxyFactory;
-
 public class CointraderMarketDataServiceRaw extends CointraderBasePollingService {
 
   private final Cointrader cointrader;
 
   public CointraderMarketDataServiceRaw(Exchange exchange) {
     super(exchange);
-    this.cointrader = RestProxyFactory.createProxy(Cointrader.class, exchange.getExchangeSpecification().getSslUri());
+    this.cointrader = createPublicProxy(Cointrader.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public CointraderTicker getCointraderTicker(Cointrader.Pair currencyPair, CointraderTicker.Type type) {
@@ -21,8 +21,6 @@ import com.xeiam.xchange.cointrader.dto.trade.CointraderUserTrade;
 import com.xeiam.xchange.cointrader.service.CointraderDigest;
 import com.xeiam.xchange.currency.CurrencyPair;
 
-import si.mazi.rescu.RestProxyFactory;
-
 public class CointraderTradeServiceRaw extends CointraderBasePollingService {
 
   private final CointraderAuthenticated cointraderAuthenticated;
@@ -31,7 +29,7 @@ public class CointraderTradeServiceRaw extends CointraderBasePollingService {
   public CointraderTradeServiceRaw(Exchange exchange) {
     super(exchange);
     final ExchangeSpecification spec = exchange.getExchangeSpecification();
-    this.cointraderAuthenticated = RestProxyFactory.createProxy(CointraderAuthenticated.class, spec.getSslUri());
+    this.cointraderAuthenticated = createPrivateProxy(CointraderAuthenticated.class, spec.getSslUri());
     this.signatureCreator = new CointraderDigest(spec.getSecretKey());
   }
 
@@ -4,8 +4,16 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.ws.rs.HeaderParam;
+
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,12 +22,25 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.xeiam.xchange.dto.meta.ExchangeMetaData;
 import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.service.BaseExchangeService;
+import com.xeiam.xchange.service.polling.AsyncPollingExecutor;
+import com.xeiam.xchange.service.polling.RateLimiter;
+import com.xeiam.xchange.service.polling.account.AsyncPollingAccountService;
+import com.xeiam.xchange.service.polling.account.AsyncPollingAccountServiceAdapter;
+import com.xeiam.xchange.service.polling.account.LockedPollingAccountService;
 import com.xeiam.xchange.service.polling.account.PollingAccountService;
+import com.xeiam.xchange.service.polling.marketdata.AsyncPollingMarketDataService;
+import com.xeiam.xchange.service.polling.marketdata.AsyncPollingMarketDataServiceAdapter;
 import com.xeiam.xchange.service.polling.marketdata.PollingMarketDataService;
+import com.xeiam.xchange.service.polling.trade.AsyncPollingTradeService;
+import com.xeiam.xchange.service.polling.trade.AsyncPollingTradeServiceAdapter;
+import com.xeiam.xchange.service.polling.trade.KeyPoolPollingTradeService;
+import com.xeiam.xchange.service.polling.trade.OrderRegistry;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
 import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
 import com.xeiam.xchange.service.streaming.StreamingExchangeService;
 
+import si.mazi.rescu.ClientConfig;
+
 public abstract class BaseExchange implements Exchange {
 
   protected final Logger logger = LoggerFactory.getLogger(getClass());
@@ -27,11 +48,28 @@ public abstract class BaseExchange implements Exchange {
   protected ExchangeSpecification exchangeSpecification;
   protected ExchangeMetaData metaData;
 
+  protected RateLimiter publicRateLimiter = RateLimiter.UNLIMITED;
+  protected RateLimiter privateRateLimiter = RateLimiter.UNLIMITED;
+
+  protected OrderRegistry orderRegistry = new OrderRegistry();
+
   protected PollingMarketDataService pollingMarketDataService;
   protected PollingTradeService pollingTradeService;
   protected PollingAccountService pollingAccountService;
   protected StreamingExchangeService streamingExchangeService;
 
+  /** the exchange of the first API key, whose transport and rate limiters this one shares, null unless this one is of an additional key */
+  private BaseExchange keyPoolParent;
+  /** of the additional API keys, remote initialized with this one */
+  private final List<Exchange> keyExchanges = new ArrayList<Exchange>();
+  /** spreading the calls of {@link #pollingTradeService} over the additional API keys, null without additional keys */
+  private KeyPoolPollingTradeService keyPoolTradeService;
+  /** serializing the calls of {@link #pollingAccountService} with the trade calls of the first key, null without additional keys */
+  private PollingAccountService keyPoolAccountService;
+
+  /** of an SSL context of this exchange, shared by all its proxies so they reuse each other's connections and TLS sessions */
+  private SSLSocketFactory sslSocketFactory;
+
   @Override
   public void applySpecification(ExchangeSpecification exchangeSpecification) {
 
@@ -107,14 +145,131 @@ public abstract class BaseExchange implements Exchange {
           "No \"exchange name\" found in the ExchangeSpecification. The name is used to load the meta data file from the classpath and may lead to unexpected results.");
     }
 
+    initTransport();
+    initRateLimiters();
     initServices();
+    initKeyPool();
+  }
+
+  /**
+   * Creates the SSL socket factory of the proxies, and applies the keep-alive settings of the specification to the JVM when it allows so
+   */
+  protected void initTransport() {
+
+    if (keyPoolParent != null) {
+      // one connection pool and TLS session cache for all the keys
+      sslSocketFactory = keyPoolParent.sslSocketFactory;
+      return;
+    }
+    if (exchangeSpecification.isHttpSettingsAppliedToJvm()) {
+      if (exchangeSpecification.getHttpKeepAlive() != null) {
+        System.setProperty("http.keepAlive", exchangeSpecification.getHttpKeepAlive().toString());
+      }
+      if (exchangeSpecification.getHttpMaxConnections() > 0) {
+        System.setProperty("http.maxConnections", String.valueOf(exchangeSpecification.getHttpMaxConnections()));
+      }
+    } else if (exchangeSpecification.getHttpKeepAlive() != null || exchangeSpecification.getHttpMaxConnections() > 0) {
+      logger.warn("The keep-alive settings are system properties of the JVM, left unchanged as httpSettingsAppliedToJvm is not set");
+    }
+
+    // a pooled connection is only reused by a caller with the same factory, and each SSL context has its own TLS session cache
+    try {
+      SSLContext sslContext = SSLContext.getInstance("TLS");
+      sslContext.init(null, null, null);
+      sslSocketFactory = sslContext.getSocketFactory();
+    } catch (GeneralSecurityException e) {
+      logger.warn("Cannot create the SSL context of the exchange, using the default one: {}", e.getMessage());
+      sslSocketFactory = HttpsURLConnection.getDefaultSSLSocketFactory();
+    }
+  }
+
+  @Override
+  public ClientConfig createClientConfig() {
+
+    ClientConfig clientConfig = new ClientConfig();
+    if (exchangeSpecification.getHttpConnTimeout() > 0) {
+      clientConfig.setHttpConnTimeout(exchangeSpecification.getHttpConnTimeout());
+    }
+    if (exchangeSpecification.getHttpReadTimeout() > 0) {
+      clientConfig.setHttpReadTimeout(exchangeSpecification.getHttpReadTimeout());
+    }
+    if (exchangeSpecification.isHttpGzip()) {
+      clientConfig.addDefaultParam(HeaderParam.class, "Accept-Encoding", "gzip");
+    }
+    clientConfig.setSslSocketFactory(sslSocketFactory);
+    return clientConfig;
+  }
+
+  /**
+   * Creates the rate limiters from the meta data, before the services that use them
+   */
+  protected void initRateLimiters() {
+
+    if (keyPoolParent != null) {
+      // the limits are those of the account, whichever key makes the call
+      privateRateLimiter = keyPoolParent.privateRateLimiter;
+      publicRateLimiter = keyPoolParent.publicRateLimiter;
+      return;
+    }
+    if (metaData == null) {
+      return;
+    }
+    privateRateLimiter = new RateLimiter(metaData.getPrivateRateLimits());
+    publicRateLimiter = metaData.isShareRateLimits() ? privateRateLimiter : new RateLimiter(metaData.getPublicRateLimits());
   }
 
   protected void initServices() {
   }
 
+  /**
+   * Spreads the polling trade service over the additional API keys of the specification, if there are any. An exchange of the same class is
+   * created for each key, so each key has its own nonce factory, proxies and digest, while the transport, the rate limiters and the order registry
+   * are those of this exchange. The services of this exchange are kept as they are, see {@link #getPrimaryTradeService()} and
+   * {@link #getPrimaryAccountService()}.
+   */
+  protected void initKeyPool() {
+
+    Map<String, String> additionalApiKeys = exchangeSpecification.getAdditionalApiKeys();
+    if (pollingTradeService == null || additionalApiKeys == null || additionalApiKeys.isEmpty()) {
+      return;
+    }
+
+    List<PollingTradeService> tradeServices = new ArrayList<PollingTradeService>();
+    tradeServices.add(pollingTradeService);
+    for (Map.Entry<String, String> apiKey : additionalApiKeys.entrySet()) {
+      BaseExchange keyExchange;
+      try {
+        keyExchange = getClass().newInstance();
+      } catch (InstantiationException e) {
+        throw new ExchangeException("Problem creating the exchange of an API key (instantiation)", e);
+      } catch (IllegalAccessException e) {
+        throw new ExchangeException("Problem creating the exchange of an API key (illegal access)", e);
+      }
+      keyExchange.keyPoolParent = this;
+      // an order placed with one key may be cancelled with another
+      keyExchange.orderRegistry = orderRegistry;
+      keyExchange.applySpecification(exchangeSpecification.copyWithApiKey(apiKey.getKey(), apiKey.getValue()));
+      keyExchanges.add(keyExchange);
+      tradeServices.add(keyExchange.getPollingTradeService());
+    }
+    keyPoolTradeService = new KeyPoolPollingTradeService(tradeServices);
+    // the account service shares the nonce factory of the first key
+    if (pollingAccountService != null) {
+      keyPoolAccountService = new LockedPollingAccountService(pollingAccountService, keyPoolTradeService.getLock(0));
+    }
+  }
+
+  /**
+   * Remote initializes the exchanges of the additional API keys. Exchanges with a remote initialization of their own call it afterwards.
+   */
   public void remoteInit() throws IOException, ExchangeException {
-    logger.debug("No remote initialization for {}", exchangeSpecification.getExchangeName());
+
+    if (keyExchanges.isEmpty()) {
+      logger.debug("No remote initialization for {}", exchangeSpecification.getExchangeName());
+    }
+    for (Exchange keyExchange : keyExchanges) {
+      keyExchange.remoteInit();
+    }
   }
 
   protected void loadMetaData(InputStream is) {
@@ -157,6 +312,24 @@ public abstract class BaseExchange implements Exchange {
     return metaData;
   }
 
+  @Override
+  public RateLimiter getPublicRateLimiter() {
+
+    return publicRateLimiter;
+  }
+
+  @Override
+  public RateLimiter getPrivateRateLimiter() {
+
+    return privateRateLimiter;
+  }
+
+  @Override
+  public OrderRegistry getOrderRegistry() {
+
+    return orderRegistry;
+  }
+
   @Override
   public PollingMarketDataService getPollingMarketDataService() {
 
@@ -166,15 +339,58 @@ public abstract class BaseExchange implements Exchange {
   @Override
   public PollingTradeService getPollingTradeService() {
 
+    return keyPoolTradeService == null ? pollingTradeService : keyPoolTradeService;
+  }
+
+  @Override
+  public PollingTradeService getPrimaryTradeService() {
+
     return pollingTradeService;
   }
 
   @Override
   public PollingAccountService getPollingAccountService() {
 
+    return keyPoolAccountService == null ? pollingAccountService : keyPoolAccountService;
+  }
+
+  @Override
+  public PollingAccountService getPrimaryAccountService() {
+
     return pollingAccountService;
   }
 
+  /**
+   * Runs the blocking polling market data service on the shared {@link AsyncPollingExecutor}. Exchanges with a non-blocking transport may override
+   * this.
+   */
+  @Override
+  public AsyncPollingMarketDataService getAsyncPollingMarketDataService() {
+
+    PollingMarketDataService service = getPollingMarketDataService();
+    return service == null ? null : new AsyncPollingMarketDataServiceAdapter(service, AsyncPollingExecutor.getSharedExecutor());
+  }
+
+  /**
+   * Runs the blocking polling trade service on the shared {@link AsyncPollingExecutor}. Exchanges with a non-blocking transport may override this.
+   */
+  @Override
+  public AsyncPollingTradeService getAsyncPollingTradeService() {
+
+    PollingTradeService service = getPollingTradeService();
+    return service == null ? null : new AsyncPollingTradeServiceAdapter(service, AsyncPollingExecutor.getSharedExecutor());
+  }
+
+  /**
+   * Runs the blocking polling account service on the shared {@link AsyncPollingExecutor}. Exchanges with a non-blocking transport may override this.
+   */
+  @Override
+  public AsyncPollingAccountService getAsyncPollingAccountService() {
+
+    PollingAccountService service = getPollingAccountService();
+    return service == null ? null : new AsyncPollingAccountServiceAdapter(service, AsyncPollingExecutor.getSharedExecutor());
+  }
+
   @Override
   public StreamingExchangeService getStreamingExchangeService(ExchangeStreamingConfiguration configuration) {
 
@@ -4,12 +4,18 @@ import java.io.IOException;
 
 import com.xeiam.xchange.dto.meta.ExchangeMetaData;
 import com.xeiam.xchange.exceptions.ExchangeException;
+import com.xeiam.xchange.service.polling.account.AsyncPollingAccountService;
 import com.xeiam.xchange.service.polling.account.PollingAccountService;
+import com.xeiam.xchange.service.polling.RateLimiter;
+import com.xeiam.xchange.service.polling.marketdata.AsyncPollingMarketDataService;
 import com.xeiam.xchange.service.polling.marketdata.PollingMarketDataService;
+import com.xeiam.xchange.service.polling.trade.AsyncPollingTradeService;
+import com.xeiam.xchange.service.polling.trade.OrderRegistry;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
 import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
 import com.xeiam.xchange.service.streaming.StreamingExchangeService;
 
+import si.mazi.rescu.ClientConfig;
 import si.mazi.rescu.SynchronizedValueFactory;
 
 /**
@@ -46,6 +52,43 @@ public interface Exchange {
    */
   SynchronizedValueFactory<Long> getNonceFactory();
 
+  /**
+   * The limiter shared by all public (market data) calls to this exchange, built from {@link ExchangeMetaData#getPublicRateLimits()}. If the rate
+   * limits are shared, this is the same limiter as {@link #getPrivateRateLimiter()}.
+   * <p>
+   * The rest proxies only wait for it when {@link ExchangeSpecification#setRateLimitsEnforced(boolean)} is set, otherwise it is there for callers
+   * pacing their own calls. Even then, only the proxies created with the helpers of {@link com.xeiam.xchange.service.BaseExchangeService} wait:
+   * the exchanges without rate limits in their meta data still create theirs with RestProxyFactory directly.
+   * </p>
+   *
+   * @return the public rate limiter, {@link RateLimiter#UNLIMITED} if the meta data has no rate limits
+   */
+  RateLimiter getPublicRateLimiter();
+
+  /**
+   * The limiter shared by all private (authenticated) calls to this exchange, built from {@link ExchangeMetaData#getPrivateRateLimits()}.
+   *
+   * @return the private rate limiter, {@link RateLimiter#UNLIMITED} if the meta data has no rate limits
+   */
+  RateLimiter getPrivateRateLimiter();
+
+  /**
+   * The pair and side of the orders of this account, registered by the trade services so that cancelling an order does not need to look it up on
+   * the exchange first. All the API keys of the account share it.
+   *
+   * @return the order registry
+   */
+  OrderRegistry getOrderRegistry();
+
+  /**
+   * Creates the rescu client config of a rest proxy of this exchange, carrying the transport settings of the {@link ExchangeSpecification}. All the
+   * proxies of an exchange share the SSL socket factory of one SSL context of the exchange, so their persistent connections and TLS sessions are
+   * reused across the market data, trade and account services, apart from those of other exchanges and of the rest of the process.
+   *
+   * @return a new client config, which the caller may customize further
+   */
+  ClientConfig createClientConfig();
+
   /**
    * @return A default ExchangeSpecification to use during the creation process if one is not supplied
    */
@@ -97,6 +140,15 @@ public interface Exchange {
    */
   PollingTradeService getPollingTradeService();
 
+  /**
+   * The trade service of the API key of the specification, of the exchange specific type. It is the one returned by {@link #getPollingTradeService()}
+   * unless the specification has additional API keys, in which case that one spreads the calls over the keys. A call made on this one while the
+   * keys are in use should hold {@link com.xeiam.xchange.service.polling.trade.KeyPoolPollingTradeService#getLock(int)} of the first key.
+   *
+   * @return the exchange's polling trade service of the first API key
+   */
+  PollingTradeService getPrimaryTradeService();
+
   /**
    * <p>
    * An account service typically provides access to the user's private exchange data
@@ -110,6 +162,42 @@ public interface Exchange {
    */
   PollingAccountService getPollingAccountService();
 
+  /**
+   * The account service of the exchange specific type. It is the one returned by {@link #getPollingAccountService()} unless the specification has
+   * additional API keys, in which case that one serializes the calls with the trade calls of the first key, see {@link #getPrimaryTradeService()}.
+   *
+   * @return the exchange's polling account service
+   */
+  PollingAccountService getPrimaryAccountService();
+
+  /**
+   * <p>
+   * The non-blocking version of {@link #getPollingMarketDataService()}. Each call returns a {@link java.util.concurrent.Future} at once, so that the
+   * same request can be fanned out to many exchanges without a thread per call.
+   * </p>
+   *
+   * @return The exchange's asynchronous polling market data service, or null if the exchange has no polling market data service
+   */
+  AsyncPollingMarketDataService getAsyncPollingMarketDataService();
+
+  /**
+   * <p>
+   * The non-blocking version of {@link #getPollingTradeService()}
+   * </p>
+   *
+   * @return The exchange's asynchronous polling trade service, or null if the exchange has no polling trade service
+   */
+  AsyncPollingTradeService getAsyncPollingTradeService();
+
+  /**
+   * <p>
+   * The non-blocking version of {@link #getPollingAccountService()}
+   * </p>
+   *
+   * @return The exchange's asynchronous polling account service, or null if the exchange has no polling account service
+   */
+  AsyncPollingAccountService getAsyncPollingAccountService();
+
   /**
    * Initialize this instance with the remote meta data. Most exchanges require this method to be called before {@link #getMetaData()}. Some exchanges
    * require it before using some of their services.
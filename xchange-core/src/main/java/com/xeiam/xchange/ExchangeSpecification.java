@@ -1,6 +1,7 @@
 package com.xeiam.xchange;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -45,6 +46,33 @@ public class ExchangeSpecification {
   /** arbitrary exchange params that can be set for unique cases */
   private Map<String, Object> exchangeSpecificParameters = new HashMap<String, Object>();
 
+  /** further API keys of the same account, by API key, see {@link #addApiKey(String, String)} */
+  private Map<String, String> additionalApiKeys = new LinkedHashMap<String, String>();
+
+  /** connect timeout of the rest proxies in ms, 0 for the rescu default */
+  private int httpConnTimeout = 0;
+
+  /** read timeout of the rest proxies in ms, 0 for the rescu default */
+  private int httpReadTimeout = 0;
+
+  /** idle persistent connections kept per host, 0 for the JVM default */
+  private int httpMaxConnections = 0;
+
+  /** whether connections are kept alive between calls, null for the JVM default */
+  private Boolean httpKeepAlive = null;
+
+  /** whether httpMaxConnections and httpKeepAlive may be applied to the system properties of the JVM */
+  private boolean httpSettingsAppliedToJvm = false;
+
+  /** whether gzip encoded responses are asked for */
+  private boolean httpGzip = false;
+
+  /** whether the rest proxies wait for the rate limits of the meta data */
+  private boolean rateLimitsEnforced = false;
+
+  /** longest wait for a rate limit permit in ms, beyond which the call fails */
+  private long rateLimitMaxWaitInMs = 10000;
+
   /**
    * Dynamic binding
    *
@@ -392,4 +420,209 @@ public class ExchangeSpecification {
     this.metaDataJsonFileOverride = metaDataJsonFileOverride;
   }
 
+  /**
+   * Adds a further API key of the same account, next to {@link #getApiKey()}. Each key gets its own nonce sequence, proxies and digest, and the
+   * polling trade service of the exchange then sends calls on different keys in parallel, keeping the calls of each key in order. This is how order
+   * entry scales on exchanges requiring strictly increasing nonces per key.
+   *
+   * @param apiKey the API key
+   * @param secretKey the secret key of that API key
+   */
+  public void addApiKey(String apiKey, String secretKey) {
+
+    additionalApiKeys.put(apiKey, secretKey);
+  }
+
+  /**
+   * @return the further API keys of the same account, by API key, in the order they were added
+   */
+  public Map<String, String> getAdditionalApiKeys() {
+
+    return additionalApiKeys;
+  }
+
+  /**
+   * @param additionalApiKeys the further API keys of the same account, by API key
+   */
+  public void setAdditionalApiKeys(Map<String, String> additionalApiKeys) {
+
+    this.additionalApiKeys = additionalApiKeys;
+  }
+
+  /**
+   * @return the connect timeout of the rest proxies in ms, 0 for the rescu default
+   */
+  public int getHttpConnTimeout() {
+
+    return httpConnTimeout;
+  }
+
+  /**
+   * @param httpConnTimeout the connect timeout of the rest proxies in ms, 0 for the rescu default
+   */
+  public void setHttpConnTimeout(int httpConnTimeout) {
+
+    this.httpConnTimeout = httpConnTimeout;
+  }
+
+  /**
+   * @return the read timeout of the rest proxies in ms, 0 for the rescu default
+   */
+  public int getHttpReadTimeout() {
+
+    return httpReadTimeout;
+  }
+
+  /**
+   * @param httpReadTimeout the read timeout of the rest proxies in ms, 0 for the rescu default
+   */
+  public void setHttpReadTimeout(int httpReadTimeout) {
+
+    this.httpReadTimeout = httpReadTimeout;
+  }
+
+  /**
+   * @return the idle persistent connections kept per host, 0 for the JVM default
+   */
+  public int getHttpMaxConnections() {
+
+    return httpMaxConnections;
+  }
+
+  /**
+   * Sets the idle persistent connections kept per host, which should be at least the number of calls in flight to the exchange. The connections are
+   * pooled by the JVM for all hosts (the "http.maxConnections" system property), so this is only applied with
+   * {@link #setHttpSettingsAppliedToJvm(boolean)} and only takes effect when set before the first connection of the process.
+   *
+   * @param httpMaxConnections the idle persistent connections kept per host, 0 for the JVM default
+   */
+  public void setHttpMaxConnections(int httpMaxConnections) {
+
+    this.httpMaxConnections = httpMaxConnections;
+  }
+
+  /**
+   * @return whether connections are kept alive between calls, null for the JVM default
+   */
+  public Boolean getHttpKeepAlive() {
+
+    return httpKeepAlive;
+  }
+
+  /**
+   * Sets whether connections are kept alive between calls, sparing a TCP and TLS handshake per call. Like {@link #setHttpMaxConnections(int)} this is
+   * a setting of the JVM (the "http.keepAlive" system property), only applied with {@link #setHttpSettingsAppliedToJvm(boolean)}, and only takes
+   * effect before the first connection of the process.
+   *
+   * @param httpKeepAlive whether connections are kept alive between calls, null for the JVM default
+   */
+  public void setHttpKeepAlive(Boolean httpKeepAlive) {
+
+    this.httpKeepAlive = httpKeepAlive;
+  }
+
+  /**
+   * @return whether {@link #getHttpMaxConnections()} and {@link #getHttpKeepAlive()} may be applied to the system properties of the JVM
+   */
+  public boolean isHttpSettingsAppliedToJvm() {
+
+    return httpSettingsAppliedToJvm;
+  }
+
+  /**
+   * Allows the exchange to set the "http.maxConnections" and "http.keepAlive" system properties from this specification. Off by default, as they
+   * change the connections of every library of the process to every host, and the last exchange created wins.
+   *
+   * @param httpSettingsAppliedToJvm whether the HTTP connection settings may be applied to the system properties of the JVM
+   */
+  public void setHttpSettingsAppliedToJvm(boolean httpSettingsAppliedToJvm) {
+
+    this.httpSettingsAppliedToJvm = httpSettingsAppliedToJvm;
+  }
+
+  /**
+   * @return whether gzip encoded responses are asked for
+   */
+  public boolean isHttpGzip() {
+
+    return httpGzip;
+  }
+
+  /**
+   * @param httpGzip whether gzip encoded responses are asked for, which pays for large order books and trade histories on slow links
+   */
+  public void setHttpGzip(boolean httpGzip) {
+
+    this.httpGzip = httpGzip;
+  }
+
+  /**
+   * @return whether the rest proxies wait for the rate limits of the meta data
+   */
+  public boolean isRateLimitsEnforced() {
+
+    return rateLimitsEnforced;
+  }
+
+  /**
+   * Sets whether the rest proxies wait for the rate limits of the meta data before each call. Off by default: the rate limits of most meta data files
+   * only document the exchange's policy, and are then left to the caller, see {@link Exchange#getPublicRateLimiter()}.
+   *
+   * @param rateLimitsEnforced whether the rest proxies wait for the rate limits of the meta data
+   */
+  public void setRateLimitsEnforced(boolean rateLimitsEnforced) {
+
+    this.rateLimitsEnforced = rateLimitsEnforced;
+  }
+
+  /**
+   * @return the longest wait for a rate limit permit in ms, beyond which the call fails
+   */
+  public long getRateLimitMaxWaitInMs() {
+
+    return rateLimitMaxWaitInMs;
+  }
+
+  /**
+   * Sets how long an enforced rate limit may hold a call back. A call whose permit is further away fails with a FrequencyLimitExceededException
+   * and takes no permit, so a polling loop faster than the limits is told so instead of stalling.
+   *
+   * @param rateLimitMaxWaitInMs the longest wait for a rate limit permit in ms, beyond which the call fails
+   */
+  public void setRateLimitMaxWaitInMs(long rateLimitMaxWaitInMs) {
+
+    this.rateLimitMaxWaitInMs = rateLimitMaxWaitInMs;
+  }
+
+  /**
+   * @return a copy of this specification signing with the given key instead, and without additional keys
+   */
+  public ExchangeSpecification copyWithApiKey(String apiKey, String secretKey) {
+
+    ExchangeSpecification copy = new ExchangeSpecification(exchangeClassName);
+    copy.exchangeName = exchangeName;
+    copy.exchangeDescription = exchangeDescription;
+    copy.userName = userName;
+    copy.password = password;
+    copy.secretKey = secretKey;
+    copy.apiKey = apiKey;
+    copy.sslUri = sslUri;
+    copy.plainTextUri = plainTextUri;
+    copy.sslUriStreaming = sslUriStreaming;
+    copy.plainTextUriStreaming = plainTextUriStreaming;
+    copy.host = host;
+    copy.port = port;
+    copy.metaDataJsonFileOverride = metaDataJsonFileOverride;
+    copy.exchangeSpecificParameters = new HashMap<String, Object>(exchangeSpecificParameters);
+    copy.httpConnTimeout = httpConnTimeout;
+    copy.httpReadTimeout = httpReadTimeout;
+    copy.httpMaxConnections = httpMaxConnections;
+    copy.httpKeepAlive = httpKeepAlive;
+    copy.httpSettingsAppliedToJvm = httpSettingsAppliedToJvm;
+    copy.httpGzip = httpGzip;
+    copy.rateLimitsEnforced = rateLimitsEnforced;
+    copy.rateLimitMaxWaitInMs = rateLimitMaxWaitInMs;
+    return copy;
+  }
+
 }
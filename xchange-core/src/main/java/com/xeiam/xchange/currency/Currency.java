@@ -16,7 +16,10 @@ import java.util.TreeSet;
  */
 public class Currency implements Comparable <Currency> {
 
-  private static final Map<String, Currency> currencies = new HashMap<String, Currency>();
+  /**
+   * Copy-on-write registry: lookups read the published map without locking, creations copy it under the class lock and publish the copy
+   */
+  private static volatile Map<String, Currency> currencies = new HashMap<String, Currency>();
 
   /**
    * Global currency codes
@@ -247,11 +250,14 @@ public class Currency implements Comparable <Currency> {
 
     Currency currency = getInstanceNoCreate(currencyCode);
 
-    if (currency == null) {
-      return createCurrency(currencyCode, null, null);
-    } else {
+    if (currency != null) {
       return currency;
     }
+    synchronized (Currency.class) {
+      // another thread may have created it since the unlocked lookup
+      currency = getInstanceNoCreate(currencyCode);
+      return currency == null ? createCurrency(currencyCode, null, null) : currency;
+    }
   }
 
   /**
@@ -358,12 +364,14 @@ public class Currency implements Comparable <Currency> {
    * @param unicode Unicode symbol for the currency: "\u20BF" or "฿"
    * @param alternativeCodes Alternative codes for the currency: "XBT"
    */
-  private static Currency createCurrency(String commonCode, String name, String unicode, String... alternativeCodes) {
+  private static synchronized Currency createCurrency(String commonCode, String name, String unicode, String... alternativeCodes) {
 
     CurrencyAttributes attributes = new CurrencyAttributes(commonCode, name, unicode, alternativeCodes);
 
     Currency currency = new Currency(commonCode, attributes);
 
+    Map<String, Currency> currencies = new HashMap<String, Currency>(Currency.currencies);
+
     for(String code : attributes.codes) {
       if (commonCode.equals(code)) {
         // common code will always be part of the currencies map
@@ -376,6 +384,7 @@ public class Currency implements Comparable <Currency> {
         currencies.put(code, new Currency(code, attributes));
       }
     }
+    Currency.currencies = currencies;
 
     return currency;
   }
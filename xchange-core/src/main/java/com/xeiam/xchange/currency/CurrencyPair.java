@@ -1,5 +1,8 @@
 package com.xeiam.xchange.currency;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 /**
@@ -13,156 +16,165 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
  * <p>
  * Symbol pairs are quoted, for example, as EUR/USD 1.25 such that 1 EUR can be purchased with 1.25 USD
  * </p>
+ * <p>
+ * {@link #getInstance(String, String)} and {@link #getInstance(Currency, Currency)} return one canonical instance per pair of registered currencies,
+ * the constants below included, so adapters parsing a pair for every message do not allocate and such pairs may be compared by identity
+ * </p>
  */
 @JsonSerialize(using = CustomCurrencyPairSerializer.class)
 public class CurrencyPair implements Comparable<CurrencyPair> {
 
+  /**
+   * Canonical instances by base currency code, then counter currency code
+   */
+  private static final ConcurrentMap<String, ConcurrentMap<String, CurrencyPair>> pairs = new ConcurrentHashMap<String, ConcurrentMap<String, CurrencyPair>>();
+
   // Provide some standard major symbols
-  public static final CurrencyPair EUR_USD = new CurrencyPair(Currency.EUR, Currency.USD);
-  public static final CurrencyPair GBP_USD = new CurrencyPair(Currency.GBP, Currency.USD);
-  public static final CurrencyPair USD_JPY = new CurrencyPair(Currency.USD, Currency.JPY);
-  public static final CurrencyPair JPY_USD = new CurrencyPair(Currency.JPY, Currency.USD);
-  public static final CurrencyPair USD_CHF = new CurrencyPair(Currency.USD, Currency.CHF);
-  public static final CurrencyPair USD_AUD = new CurrencyPair(Currency.USD, Currency.AUD);
-  public static final CurrencyPair USD_CAD = new CurrencyPair(Currency.USD, Currency.CAD);
-  public static final CurrencyPair USD_RUR = new CurrencyPair(Currency.USD, Currency.RUR);
-  public static final CurrencyPair EUR_RUR = new CurrencyPair(Currency.EUR, Currency.RUR);
-  public static final CurrencyPair USD_XRP = new CurrencyPair(Currency.USD, Currency.XRP);
-  public static final CurrencyPair EUR_XRP = new CurrencyPair(Currency.EUR, Currency.XRP);
-  public static final CurrencyPair USD_XVN = new CurrencyPair(Currency.USD, Currency.XVN);
-  public static final CurrencyPair EUR_XVN = new CurrencyPair(Currency.EUR, Currency.XVN);
-  public static final CurrencyPair KRW_XRP = new CurrencyPair(Currency.KRW, Currency.XRP);
+  public static final CurrencyPair EUR_USD = createCurrencyPair(Currency.EUR, Currency.USD);
+  public static final CurrencyPair GBP_USD = createCurrencyPair(Currency.GBP, Currency.USD);
+  public static final CurrencyPair USD_JPY = createCurrencyPair(Currency.USD, Currency.JPY);
+  public static final CurrencyPair JPY_USD = createCurrencyPair(Currency.JPY, Currency.USD);
+  public static final CurrencyPair USD_CHF = createCurrencyPair(Currency.USD, Currency.CHF);
+  public static final CurrencyPair USD_AUD = createCurrencyPair(Currency.USD, Currency.AUD);
+  public static final CurrencyPair USD_CAD = createCurrencyPair(Currency.USD, Currency.CAD);
+  public static final CurrencyPair USD_RUR = createCurrencyPair(Currency.USD, Currency.RUR);
+  public static final CurrencyPair EUR_RUR = createCurrencyPair(Currency.EUR, Currency.RUR);
+  public static final CurrencyPair USD_XRP = createCurrencyPair(Currency.USD, Currency.XRP);
+  public static final CurrencyPair EUR_XRP = createCurrencyPair(Currency.EUR, Currency.XRP);
+  public static final CurrencyPair USD_XVN = createCurrencyPair(Currency.USD, Currency.XVN);
+  public static final CurrencyPair EUR_XVN = createCurrencyPair(Currency.EUR, Currency.XVN);
+  public static final CurrencyPair KRW_XRP = createCurrencyPair(Currency.KRW, Currency.XRP);
 
   // Provide some courtesy BTC major symbols
-  public static final CurrencyPair BTC_USD = new CurrencyPair(Currency.BTC, Currency.USD);
-  public static final CurrencyPair BTC_GBP = new CurrencyPair(Currency.BTC, Currency.GBP);
-  public static final CurrencyPair BTC_EUR = new CurrencyPair(Currency.BTC, Currency.EUR);
-  public static final CurrencyPair BTC_JPY = new CurrencyPair(Currency.BTC, Currency.JPY);
-  public static final CurrencyPair BTC_CHF = new CurrencyPair(Currency.BTC, Currency.CHF);
-  public static final CurrencyPair BTC_AUD = new CurrencyPair(Currency.BTC, Currency.AUD);
-  public static final CurrencyPair BTC_CAD = new CurrencyPair(Currency.BTC, Currency.CAD);
-  public static final CurrencyPair BTC_CNY = new CurrencyPair(Currency.BTC, Currency.CNY);
-  public static final CurrencyPair BTC_DKK = new CurrencyPair(Currency.BTC, Currency.DKK);
-  public static final CurrencyPair BTC_HKD = new CurrencyPair(Currency.BTC, Currency.HKD);
-  public static final CurrencyPair BTC_MXN = new CurrencyPair(Currency.BTC, Currency.MXN);
-  public static final CurrencyPair BTC_NZD = new CurrencyPair(Currency.BTC, Currency.NZD);
-  public static final CurrencyPair BTC_PLN = new CurrencyPair(Currency.BTC, Currency.PLN);
-  public static final CurrencyPair BTC_RUB = new CurrencyPair(Currency.BTC, Currency.RUB);
-  public static final CurrencyPair BTC_SEK = new CurrencyPair(Currency.BTC, Currency.SEK);
-  public static final CurrencyPair BTC_SGD = new CurrencyPair(Currency.BTC, Currency.SGD);
-  public static final CurrencyPair BTC_NOK = new CurrencyPair(Currency.BTC, Currency.NOK);
-  public static final CurrencyPair BTC_THB = new CurrencyPair(Currency.BTC, Currency.THB);
-  public static final CurrencyPair BTC_RUR = new CurrencyPair(Currency.BTC, Currency.RUR);
-  public static final CurrencyPair BTC_ZAR = new CurrencyPair(Currency.BTC, Currency.ZAR);
-  public static final CurrencyPair BTC_BRL = new CurrencyPair(Currency.BTC, Currency.BRL);
-  public static final CurrencyPair BTC_CZK = new CurrencyPair(Currency.BTC, Currency.CZK);
-  public static final CurrencyPair BTC_ILS = new CurrencyPair(Currency.BTC, Currency.ILS);
-  public static final CurrencyPair BTC_KRW = new CurrencyPair(Currency.BTC, Currency.KRW);
-  public static final CurrencyPair BTC_LTC = new CurrencyPair(Currency.BTC, Currency.LTC);
-  public static final CurrencyPair BTC_XRP = new CurrencyPair(Currency.BTC, Currency.XRP);
-  public static final CurrencyPair BTC_NMC = new CurrencyPair(Currency.BTC, Currency.NMC);
-  public static final CurrencyPair BTC_XVN = new CurrencyPair(Currency.BTC, Currency.XVN);
-  public static final CurrencyPair BTC_IDR = new CurrencyPair(Currency.BTC, Currency.IDR);
-  public static final CurrencyPair BTC_PHP = new CurrencyPair(Currency.BTC, Currency.PHP);
-  public static final CurrencyPair BTC_STR = new CurrencyPair(Currency.BTC, Currency.STR);
-
-  public static final CurrencyPair ETH_BTC = new CurrencyPair(Currency.ETH, Currency.BTC);
-
-  public static final CurrencyPair XDC_BTC = new CurrencyPair(Currency.XDC, Currency.BTC);
-
-  public static final CurrencyPair XRP_BTC = new CurrencyPair(Currency.XRP, Currency.BTC);
-
-  public static final CurrencyPair LTC_USD = new CurrencyPair(Currency.LTC, Currency.USD);
-  public static final CurrencyPair LTC_KRW = new CurrencyPair(Currency.LTC, Currency.KRW);
-  public static final CurrencyPair LTC_CNY = new CurrencyPair(Currency.LTC, Currency.CNY);
-  public static final CurrencyPair LTC_RUR = new CurrencyPair(Currency.LTC, Currency.RUR);
-  public static final CurrencyPair LTC_EUR = new CurrencyPair(Currency.LTC, Currency.EUR);
-  public static final CurrencyPair LTC_BTC = new CurrencyPair(Currency.LTC, Currency.BTC);
-  public static final CurrencyPair LTC_XRP = new CurrencyPair(Currency.LTC, Currency.XRP);
-
-  public static final CurrencyPair NMC_USD = new CurrencyPair(Currency.NMC, Currency.USD);
-  public static final CurrencyPair NMC_CNY = new CurrencyPair(Currency.NMC, Currency.CNY);
-  public static final CurrencyPair NMC_EUR = new CurrencyPair(Currency.NMC, Currency.EUR);
-  public static final CurrencyPair NMC_KRW = new CurrencyPair(Currency.NMC, Currency.KRW);
-  public static final CurrencyPair NMC_BTC = new CurrencyPair(Currency.NMC, Currency.BTC);
-  public static final CurrencyPair NMC_LTC = new CurrencyPair(Currency.NMC, Currency.LTC);
-  public static final CurrencyPair NMC_XRP = new CurrencyPair(Currency.NMC, Currency.XRP);
-
-  public static final CurrencyPair NVC_USD = new CurrencyPair(Currency.NVC, Currency.USD);
-  public static final CurrencyPair NVC_BTC = new CurrencyPair(Currency.NVC, Currency.BTC);
-
-  public static final CurrencyPair TRC_BTC = new CurrencyPair(Currency.TRC, Currency.BTC);
-
-  public static final CurrencyPair PPC_USD = new CurrencyPair(Currency.PPC, Currency.USD);
-  public static final CurrencyPair PPC_BTC = new CurrencyPair(Currency.PPC, Currency.BTC);
-  public static final CurrencyPair PPC_LTC = new CurrencyPair(Currency.PPC, Currency.LTC);
-
-  public static final CurrencyPair FTC_USD = new CurrencyPair(Currency.FTC, Currency.USD);
-  public static final CurrencyPair FTC_CNY = new CurrencyPair(Currency.FTC, Currency.CNY);
-  public static final CurrencyPair FTC_BTC = new CurrencyPair(Currency.FTC, Currency.BTC);
-  public static final CurrencyPair FTC_LTC = new CurrencyPair(Currency.FTC, Currency.LTC);
-
-  public static final CurrencyPair XPM_USD = new CurrencyPair(Currency.XPM, Currency.USD);
-  public static final CurrencyPair XPM_CNY = new CurrencyPair(Currency.XPM, Currency.CNY);
-  public static final CurrencyPair XPM_BTC = new CurrencyPair(Currency.XPM, Currency.BTC);
-  public static final CurrencyPair XPM_LTC = new CurrencyPair(Currency.XPM, Currency.LTC);
-  public static final CurrencyPair XPM_PPC = new CurrencyPair(Currency.XPM, Currency.PPC);
-
-  public static final CurrencyPair XVN_XRP = new CurrencyPair(Currency.XVN, Currency.XRP);
+  public static final CurrencyPair BTC_USD = createCurrencyPair(Currency.BTC, Currency.USD);
+  public static final CurrencyPair BTC_GBP = createCurrencyPair(Currency.BTC, Currency.GBP);
+  public static final CurrencyPair BTC_EUR = createCurrencyPair(Currency.BTC, Currency.EUR);
+  public static final CurrencyPair BTC_JPY = createCurrencyPair(Currency.BTC, Currency.JPY);
+  public static final CurrencyPair BTC_CHF = createCurrencyPair(Currency.BTC, Currency.CHF);
+  public static final CurrencyPair BTC_AUD = createCurrencyPair(Currency.BTC, Currency.AUD);
+  public static final CurrencyPair BTC_CAD = createCurrencyPair(Currency.BTC, Currency.CAD);
+  public static final CurrencyPair BTC_CNY = createCurrencyPair(Currency.BTC, Currency.CNY);
+  public static final CurrencyPair BTC_DKK = createCurrencyPair(Currency.BTC, Currency.DKK);
+  public static final CurrencyPair BTC_HKD = createCurrencyPair(Currency.BTC, Currency.HKD);
+  public static final CurrencyPair BTC_MXN = createCurrencyPair(Currency.BTC, Currency.MXN);
+  public static final CurrencyPair BTC_NZD = createCurrencyPair(Currency.BTC, Currency.NZD);
+  public static final CurrencyPair BTC_PLN = createCurrencyPair(Currency.BTC, Currency.PLN);
+  public static final CurrencyPair BTC_RUB = createCurrencyPair(Currency.BTC, Currency.RUB);
+  public static final CurrencyPair BTC_SEK = createCurrencyPair(Currency.BTC, Currency.SEK);
+  public static final CurrencyPair BTC_SGD = createCurrencyPair(Currency.BTC, Currency.SGD);
+  public static final CurrencyPair BTC_NOK = createCurrencyPair(Currency.BTC, Currency.NOK);
+  public static final CurrencyPair BTC_THB = createCurrencyPair(Currency.BTC, Currency.THB);
+  public static final CurrencyPair BTC_RUR = createCurrencyPair(Currency.BTC, Currency.RUR);
+  public static final CurrencyPair BTC_ZAR = createCurrencyPair(Currency.BTC, Currency.ZAR);
+  public static final CurrencyPair BTC_BRL = createCurrencyPair(Currency.BTC, Currency.BRL);
+  public static final CurrencyPair BTC_CZK = createCurrencyPair(Currency.BTC, Currency.CZK);
+  public static final CurrencyPair BTC_ILS = createCurrencyPair(Currency.BTC, Currency.ILS);
+  public static final CurrencyPair BTC_KRW = createCurrencyPair(Currency.BTC, Currency.KRW);
+  public static final CurrencyPair BTC_LTC = createCurrencyPair(Currency.BTC, Currency.LTC);
+  public static final CurrencyPair BTC_XRP = createCurrencyPair(Currency.BTC, Currency.XRP);
+  public static final CurrencyPair BTC_NMC = createCurrencyPair(Currency.BTC, Currency.NMC);
+  public static final CurrencyPair BTC_XVN = createCurrencyPair(Currency.BTC, Currency.XVN);
+  public static final CurrencyPair BTC_IDR = createCurrencyPair(Currency.BTC, Currency.IDR);
+  public static final CurrencyPair BTC_PHP = createCurrencyPair(Currency.BTC, Currency.PHP);
+  public static final CurrencyPair BTC_STR = createCurrencyPair(Currency.BTC, Currency.STR);
+
+  public static final CurrencyPair ETH_BTC = createCurrencyPair(Currency.ETH, Currency.BTC);
+
+  public static final CurrencyPair XDC_BTC = createCurrencyPair(Currency.XDC, Currency.BTC);
+
+  public static final CurrencyPair XRP_BTC = createCurrencyPair(Currency.XRP, Currency.BTC);
+
+  public static final CurrencyPair LTC_USD = createCurrencyPair(Currency.LTC, Currency.USD);
+  public static final CurrencyPair LTC_KRW = createCurrencyPair(Currency.LTC, Currency.KRW);
+  public static final CurrencyPair LTC_CNY = createCurrencyPair(Currency.LTC, Currency.CNY);
+  public static final CurrencyPair LTC_RUR = createCurrencyPair(Currency.LTC, Currency.RUR);
+  public static final CurrencyPair LTC_EUR = createCurrencyPair(Currency.LTC, Currency.EUR);
+  public static final CurrencyPair LTC_BTC = createCurrencyPair(Currency.LTC, Currency.BTC);
+  public static final CurrencyPair LTC_XRP = createCurrencyPair(Currency.LTC, Currency.XRP);
+
+  public static final CurrencyPair NMC_USD = createCurrencyPair(Currency.NMC, Currency.USD);
+  public static final CurrencyPair NMC_CNY = createCurrencyPair(Currency.NMC, Currency.CNY);
+  public static final CurrencyPair NMC_EUR = createCurrencyPair(Currency.NMC, Currency.EUR);
+  public static final CurrencyPair NMC_KRW = createCurrencyPair(Currency.NMC, Currency.KRW);
+  public static final CurrencyPair NMC_BTC = createCurrencyPair(Currency.NMC, Currency.BTC);
+  public static final CurrencyPair NMC_LTC = createCurrencyPair(Currency.NMC, Currency.LTC);
+  public static final CurrencyPair NMC_XRP = createCurrencyPair(Currency.NMC, Currency.XRP);
+
+  public static final CurrencyPair NVC_USD = createCurrencyPair(Currency.NVC, Currency.USD);
+  public static final CurrencyPair NVC_BTC = createCurrencyPair(Currency.NVC, Currency.BTC);
+
+  public static final CurrencyPair TRC_BTC = createCurrencyPair(Currency.TRC, Currency.BTC);
+
+  public static final CurrencyPair PPC_USD = createCurrencyPair(Currency.PPC, Currency.USD);
+  public static final CurrencyPair PPC_BTC = createCurrencyPair(Currency.PPC, Currency.BTC);
+  public static final CurrencyPair PPC_LTC = createCurrencyPair(Currency.PPC, Currency.LTC);
+
+  public static final CurrencyPair FTC_USD = createCurrencyPair(Currency.FTC, Currency.USD);
+  public static final CurrencyPair FTC_CNY = createCurrencyPair(Currency.FTC, Currency.CNY);
+  public static final CurrencyPair FTC_BTC = createCurrencyPair(Currency.FTC, Currency.BTC);
+  public static final CurrencyPair FTC_LTC = createCurrencyPair(Currency.FTC, Currency.LTC);
+
+  public static final CurrencyPair XPM_USD = createCurrencyPair(Currency.XPM, Currency.USD);
+  public static final CurrencyPair XPM_CNY = createCurrencyPair(Currency.XPM, Currency.CNY);
+  public static final CurrencyPair XPM_BTC = createCurrencyPair(Currency.XPM, Currency.BTC);
+  public static final CurrencyPair XPM_LTC = createCurrencyPair(Currency.XPM, Currency.LTC);
+  public static final CurrencyPair XPM_PPC = createCurrencyPair(Currency.XPM, Currency.PPC);
+
+  public static final CurrencyPair XVN_XRP = createCurrencyPair(Currency.XVN, Currency.XRP);
 
   // start of extra ANX supported pair
   // BTC
-  public static final CurrencyPair BTC_XDC = new CurrencyPair(Currency.BTC, Currency.XDC);
-  public static final CurrencyPair BTC_PPC = new CurrencyPair(Currency.BTC, Currency.PPC);
-  public static final CurrencyPair STR_BTC = new CurrencyPair(Currency.STR, Currency.BTC);
+  public static final CurrencyPair BTC_XDC = createCurrencyPair(Currency.BTC, Currency.XDC);
+  public static final CurrencyPair BTC_PPC = createCurrencyPair(Currency.BTC, Currency.PPC);
+  public static final CurrencyPair STR_BTC = createCurrencyPair(Currency.STR, Currency.BTC);
 
   // LTC
-  public static final CurrencyPair LTC_HKD = new CurrencyPair(Currency.LTC, Currency.HKD);
-  public static final CurrencyPair LTC_XDC = new CurrencyPair(Currency.LTC, Currency.XDC);
-  public static final CurrencyPair LTC_NMC = new CurrencyPair(Currency.LTC, Currency.NMC);
-  public static final CurrencyPair LTC_PPC = new CurrencyPair(Currency.LTC, Currency.PPC);
+  public static final CurrencyPair LTC_HKD = createCurrencyPair(Currency.LTC, Currency.HKD);
+  public static final CurrencyPair LTC_XDC = createCurrencyPair(Currency.LTC, Currency.XDC);
+  public static final CurrencyPair LTC_NMC = createCurrencyPair(Currency.LTC, Currency.NMC);
+  public static final CurrencyPair LTC_PPC = createCurrencyPair(Currency.LTC, Currency.PPC);
 
   // DOGE
-  public static final CurrencyPair DOGE_HKD = new CurrencyPair(Currency.DOGE, Currency.HKD);
-  public static final CurrencyPair DOGE_BTC = new CurrencyPair(Currency.DOGE, Currency.BTC);
-  public static final CurrencyPair DOGE_LTC = new CurrencyPair(Currency.DOGE, Currency.LTC);
-  public static final CurrencyPair DOGE_NMC = new CurrencyPair(Currency.DOGE, Currency.NMC);
-  public static final CurrencyPair DOGE_PPC = new CurrencyPair(Currency.DOGE, Currency.PPC);
-  public static final CurrencyPair DOGE_USD = new CurrencyPair(Currency.DOGE, Currency.USD);
-
-  public static final CurrencyPair XDC_HKD = new CurrencyPair(Currency.XDC, Currency.HKD);
-  public static final CurrencyPair XDC_LTC = new CurrencyPair(Currency.XDC, Currency.LTC);
-  public static final CurrencyPair XDC_NMC = new CurrencyPair(Currency.XDC, Currency.NMC);
-  public static final CurrencyPair XDC_PPC = new CurrencyPair(Currency.XDC, Currency.PPC);
-  public static final CurrencyPair XDC_USD = new CurrencyPair(Currency.XDC, Currency.USD);
+  public static final CurrencyPair DOGE_HKD = createCurrencyPair(Currency.DOGE, Currency.HKD);
+  public static final CurrencyPair DOGE_BTC = createCurrencyPair(Currency.DOGE, Currency.BTC);
+  public static final CurrencyPair DOGE_LTC = createCurrencyPair(Currency.DOGE, Currency.LTC);
+  public static final CurrencyPair DOGE_NMC = createCurrencyPair(Currency.DOGE, Currency.NMC);
+  public static final CurrencyPair DOGE_PPC = createCurrencyPair(Currency.DOGE, Currency.PPC);
+  public static final CurrencyPair DOGE_USD = createCurrencyPair(Currency.DOGE, Currency.USD);
+
+  public static final CurrencyPair XDC_HKD = createCurrencyPair(Currency.XDC, Currency.HKD);
+  public static final CurrencyPair XDC_LTC = createCurrencyPair(Currency.XDC, Currency.LTC);
+  public static final CurrencyPair XDC_NMC = createCurrencyPair(Currency.XDC, Currency.NMC);
+  public static final CurrencyPair XDC_PPC = createCurrencyPair(Currency.XDC, Currency.PPC);
+  public static final CurrencyPair XDC_USD = createCurrencyPair(Currency.XDC, Currency.USD);
 
   // NMC
-  public static final CurrencyPair NMC_HKD = new CurrencyPair(Currency.NMC, Currency.HKD);
-  public static final CurrencyPair NMC_XDC = new CurrencyPair(Currency.NMC, Currency.XDC);
-  public static final CurrencyPair NMC_PPC = new CurrencyPair(Currency.NMC, Currency.PPC);
+  public static final CurrencyPair NMC_HKD = createCurrencyPair(Currency.NMC, Currency.HKD);
+  public static final CurrencyPair NMC_XDC = createCurrencyPair(Currency.NMC, Currency.XDC);
+  public static final CurrencyPair NMC_PPC = createCurrencyPair(Currency.NMC, Currency.PPC);
 
   // PPC
-  public static final CurrencyPair PPC_HKD = new CurrencyPair(Currency.PPC, Currency.HKD);
-  public static final CurrencyPair PPC_XDC = new CurrencyPair(Currency.PPC, Currency.XDC);
-  public static final CurrencyPair PPC_NMC = new CurrencyPair(Currency.PPC, Currency.NMC);
+  public static final CurrencyPair PPC_HKD = createCurrencyPair(Currency.PPC, Currency.HKD);
+  public static final CurrencyPair PPC_XDC = createCurrencyPair(Currency.PPC, Currency.XDC);
+  public static final CurrencyPair PPC_NMC = createCurrencyPair(Currency.PPC, Currency.NMC);
   // end
 
   // not real currencies, but tradable commodities (GH/s)
-  public static final CurrencyPair GHs_BTC = new CurrencyPair(Currency.GHs, Currency.BTC);
-  public static final CurrencyPair GHs_NMC = new CurrencyPair(Currency.GHs, Currency.NMC);
+  public static final CurrencyPair GHs_BTC = createCurrencyPair(Currency.GHs, Currency.BTC);
+  public static final CurrencyPair GHs_NMC = createCurrencyPair(Currency.GHs, Currency.NMC);
 
-  public static final CurrencyPair CNC_BTC = new CurrencyPair(Currency.CNC, Currency.BTC);
+  public static final CurrencyPair CNC_BTC = createCurrencyPair(Currency.CNC, Currency.BTC);
 
-  public static final CurrencyPair WDC_USD = new CurrencyPair(Currency.WDC, Currency.USD);
-  public static final CurrencyPair WDC_BTC = new CurrencyPair(Currency.WDC, Currency.BTC);
-  public static final CurrencyPair DVC_BTC = new CurrencyPair(Currency.DVC, Currency.BTC);
+  public static final CurrencyPair WDC_USD = createCurrencyPair(Currency.WDC, Currency.USD);
+  public static final CurrencyPair WDC_BTC = createCurrencyPair(Currency.WDC, Currency.BTC);
+  public static final CurrencyPair DVC_BTC = createCurrencyPair(Currency.DVC, Currency.BTC);
 
-  public static final CurrencyPair DGC_BTC = new CurrencyPair(Currency.DGC, Currency.BTC);
+  public static final CurrencyPair DGC_BTC = createCurrencyPair(Currency.DGC, Currency.BTC);
 
-  public static final CurrencyPair UTC_USD = new CurrencyPair(Currency.UTC, Currency.USD);
-  public static final CurrencyPair UTC_EUR = new CurrencyPair(Currency.UTC, Currency.EUR);
-  public static final CurrencyPair UTC_BTC = new CurrencyPair(Currency.UTC, Currency.BTC);
-  public static final CurrencyPair UTC_LTC = new CurrencyPair(Currency.UTC, Currency.LTC);
+  public static final CurrencyPair UTC_USD = createCurrencyPair(Currency.UTC, Currency.USD);
+  public static final CurrencyPair UTC_EUR = createCurrencyPair(Currency.UTC, Currency.EUR);
+  public static final CurrencyPair UTC_BTC = createCurrencyPair(Currency.UTC, Currency.BTC);
+  public static final CurrencyPair UTC_LTC = createCurrencyPair(Currency.UTC, Currency.LTC);
 
   public final Currency base;
   public final Currency counter;
@@ -198,6 +210,52 @@ public class CurrencyPair implements Comparable<CurrencyPair> {
     this(Currency.getInstance(baseSymbol), Currency.getInstance(counterSymbol));
   }
 
+  /**
+   * Returns the canonical instance of the pair of the given currency codes, creating the currencies and the pair when first seen.
+   *
+   * @param baseSymbol The base symbol is what you're wanting to buy/sell
+   * @param counterSymbol The counter symbol is what currency you want to use to pay/receive for your purchase/sale.
+   */
+  public static CurrencyPair getInstance(String baseSymbol, String counterSymbol) {
+
+    ConcurrentMap<String, CurrencyPair> counters = pairs.get(baseSymbol);
+    CurrencyPair currencyPair = counters == null ? null : counters.get(counterSymbol);
+    return currencyPair == null ? getInstance(Currency.getInstance(baseSymbol), Currency.getInstance(counterSymbol)) : currencyPair;
+  }
+
+  /**
+   * Returns the canonical instance of the pair of the given currencies. A pair of currencies which are not the registered instances of their codes
+   * (e.g. {@link Currency#GHS}, whose code is registered for {@link Currency#GHs}) is not interned and a new instance is returned.
+   */
+  public static CurrencyPair getInstance(Currency base, Currency counter) {
+
+    ConcurrentMap<String, CurrencyPair> counters = pairs.get(base.getCurrencyCode());
+    CurrencyPair currencyPair = counters == null ? null : counters.get(counter.getCurrencyCode());
+    if (currencyPair != null && currencyPair.base == base && currencyPair.counter == counter) {
+      return currencyPair;
+    }
+    if (currencyPair == null && Currency.getInstanceNoCreate(base.getCurrencyCode()) == base
+        && Currency.getInstanceNoCreate(counter.getCurrencyCode()) == counter) {
+      return createCurrencyPair(base, counter);
+    }
+    return new CurrencyPair(base, counter);
+  }
+
+  private static CurrencyPair createCurrencyPair(Currency base, Currency counter) {
+
+    ConcurrentMap<String, CurrencyPair> counters = pairs.get(base.getCurrencyCode());
+    if (counters == null) {
+      counters = new ConcurrentHashMap<String, CurrencyPair>();
+      ConcurrentMap<String, CurrencyPair> existing = pairs.putIfAbsent(base.getCurrencyCode(), counters);
+      if (existing != null) {
+        counters = existing;
+      }
+    }
+    CurrencyPair currencyPair = new CurrencyPair(base, counter);
+    CurrencyPair existing = counters.putIfAbsent(counter.getCurrencyCode(), currencyPair);
+    return existing == null ? currencyPair : existing;
+  }
+
   /**
    * Parse currency pair from a string in the same format as returned by toString() method - ABC/XYZ
    */
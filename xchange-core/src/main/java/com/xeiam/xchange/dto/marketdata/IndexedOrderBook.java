@@ -0,0 +1,494 @@
+package com.xeiam.xchange.dto.marketdata;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.utils.FixedPointUtils;
+
+/**
+ * <p>
+ * Order book for a single currency pair that is kept up to date by applying incremental {@link OrderBookUpdate}s.
+ * </p>
+ * <p>
+ * Each side is indexed by price scaled to a <code>long</code> in a skip list, so that applying an update is O(log n) and reading the best bid or ask
+ * is O(1). Removed price levels are recycled, so a book of stable depth does not allocate while updates are applied. {@link #getAsks()} and {@link #getBids()} provide the familiar {@link OrderBook} views, built lazily from the index.
+ * </p>
+ * <p>
+ * This class is not thread safe; it is meant to be owned by the thread consuming the exchange's market data stream.
+ * </p>
+ *
+ * @see com.xeiam.xchange.dto.meta.MarketMetaData#getPriceScale()
+ */
+public final class IndexedOrderBook {
+
+  private final CurrencyPair currencyPair;
+
+  private final int priceScale;
+
+  private final PriceLevels asks;
+
+  private final PriceLevels bids;
+
+  /**
+   * the timestamp of the orderbook according to the exchange's server, null if not provided
+   */
+  private Date timeStamp;
+
+  /**
+   * Constructor
+   *
+   * @param currencyPair the currency pair of this book
+   * @param priceScale the number of decimal places of every price in this book, as in {@link com.xeiam.xchange.dto.meta.MarketMetaData#getPriceScale()}
+   */
+  public IndexedOrderBook(CurrencyPair currencyPair, int priceScale) {
+
+    this.currencyPair = currencyPair;
+    this.priceScale = priceScale;
+    this.asks = new PriceLevels(OrderType.ASK);
+    this.bids = new PriceLevels(OrderType.BID);
+  }
+
+  /**
+   * Constructor, initialized with the content of a full order book snapshot
+   *
+   * @param currencyPair the currency pair of this book
+   * @param priceScale the number of decimal places of every price in this book
+   * @param orderBook the snapshot
+   */
+  public IndexedOrderBook(CurrencyPair currencyPair, int priceScale, OrderBook orderBook) {
+
+    this(currencyPair, priceScale);
+    replace(orderBook);
+  }
+
+  public CurrencyPair getCurrencyPair() {
+
+    return currencyPair;
+  }
+
+  public int getPriceScale() {
+
+    return priceScale;
+  }
+
+  public Date getTimeStamp() {
+
+    return timeStamp;
+  }
+
+  /**
+   * Discards the content of this book and loads the given snapshot. Orders at the same price are aggregated into one level.
+   *
+   * @param orderBook the snapshot
+   */
+  public void replace(OrderBook orderBook) {
+
+    clear();
+    for (LimitOrder ask : orderBook.getAsks()) {
+      asks.add(toKey(ask.getLimitPrice()), ask.getLimitPrice(), ask.getTradableAmount());
+    }
+    for (LimitOrder bid : orderBook.getBids()) {
+      bids.add(toKey(bid.getLimitPrice()), bid.getLimitPrice(), bid.getTradableAmount());
+    }
+    timeStamp = orderBook.getTimeStamp();
+  }
+
+  /**
+   * Removes all price levels from both sides of the book and resets the timestamp.
+   */
+  public void clear() {
+
+    asks.clear();
+    bids.clear();
+    timeStamp = null;
+  }
+
+  /**
+   * Given a new LimitOrder, it will replace the amount at the order's price level if one is found, or add the new level if one is not. A zero amount
+   * removes the level. timeStamp will be updated if the new timestamp is non-null and in the future.
+   *
+   * @param limitOrder the new LimitOrder
+   */
+  public void update(LimitOrder limitOrder) {
+
+    update(limitOrder.getType(), limitOrder.getLimitPrice(), limitOrder.getTradableAmount(), limitOrder.getTimestamp());
+  }
+
+  /**
+   * Given an OrderBookUpdate, it will set the total volume at the update's price level, adding the level if needed and removing it if the total
+   * volume is zero. timeStamp will be updated if the new timestamp is non-null and in the future.
+   *
+   * @param orderBookUpdate the new OrderBookUpdate
+   */
+  public void update(OrderBookUpdate orderBookUpdate) {
+
+    LimitOrder limitOrder = orderBookUpdate.getLimitOrder();
+    update(limitOrder.getType(), limitOrder.getLimitPrice(), orderBookUpdate.getTotalVolume(), limitOrder.getTimestamp());
+  }
+
+  /**
+   * Sets the total volume at a price level. A zero volume removes the level.
+   *
+   * @param type the side of the book
+   * @param price the price of the level
+   * @param totalVolume the new total volume at this price, in the base currency
+   * @param timestamp the timestamp of the update, or null
+   */
+  public void update(OrderType type, BigDecimal price, BigDecimal totalVolume, Date timestamp) {
+
+    update(type, toKey(price), price, totalVolume, timestamp);
+  }
+
+  /**
+   * Sets the total volume at a price level like {@link #update(OrderType, BigDecimal, BigDecimal, Date)}, the price being already scaled, e.g. by
+   * {@link FixedPointUtils#parse(CharSequence, int)} from the feed. Only a new level creates a BigDecimal for its price.
+   *
+   * @param type the side of the book
+   * @param price the price of the level, at the scale of {@link #getPriceScale()}
+   * @param totalVolume the new total volume at this price, in the base currency
+   * @param timestamp the timestamp of the update, or null
+   */
+  public void update(OrderType type, long price, BigDecimal totalVolume, Date timestamp) {
+
+    update(type, price, null, totalVolume, timestamp);
+  }
+
+  /**
+   * @param type the side of the book
+   * @param price the price of the level
+   * @return the total volume at this price, or null if there is no such level
+   */
+  public BigDecimal getVolume(OrderType type, BigDecimal price) {
+
+    return getLevels(type).get(toKey(price));
+  }
+
+  /**
+   * @return the lowest ask price, or null if there are no asks
+   */
+  public BigDecimal getBestAskPrice() {
+
+    return asks.bestPrice();
+  }
+
+  /**
+   * @return the volume at the lowest ask price, or null if there are no asks
+   */
+  public BigDecimal getBestAskVolume() {
+
+    return asks.bestVolume();
+  }
+
+  /**
+   * @return the highest bid price, or null if there are no bids
+   */
+  public BigDecimal getBestBidPrice() {
+
+    return bids.bestPrice();
+  }
+
+  /**
+   * @return the volume at the highest bid price, or null if there are no bids
+   */
+  public BigDecimal getBestBidVolume() {
+
+    return bids.bestVolume();
+  }
+
+  /**
+   * @param type the side of the book
+   * @return the number of price levels on this side
+   */
+  public int getDepth(OrderType type) {
+
+    return getLevels(type).size;
+  }
+
+  /**
+   * @return The ASK levels, lowest price first. The returned list is an unmodifiable snapshot that is reused until the asks change.
+   */
+  public List<LimitOrder> getAsks() {
+
+    return asks.view();
+  }
+
+  /**
+   * @return The BID levels, highest price first. The returned list is an unmodifiable snapshot that is reused until the bids change.
+   */
+  public List<LimitOrder> getBids() {
+
+    return bids.view();
+  }
+
+  public List<LimitOrder> getOrders(OrderType type) {
+
+    return getLevels(type).view();
+  }
+
+  /**
+   * @return a new, independent {@link OrderBook} holding the current content of this book
+   */
+  public OrderBook toOrderBook() {
+
+    return new OrderBook(timeStamp, new ArrayList<LimitOrder>(getAsks()), new ArrayList<LimitOrder>(getBids()));
+  }
+
+  // displayPrice is null if it is to be built from the key for a new level
+  private void update(OrderType type, long key, BigDecimal displayPrice, BigDecimal totalVolume, Date timestamp) {
+
+    PriceLevels levels = getLevels(type);
+    if (totalVolume.signum() == 0) {
+      levels.remove(key);
+    } else {
+      levels.put(key, displayPrice, totalVolume);
+    }
+    updateDate(timestamp);
+  }
+
+  private PriceLevels getLevels(OrderType type) {
+
+    return type == OrderType.ASK ? asks : bids;
+  }
+
+  private long toKey(BigDecimal price) {
+
+    try {
+      return FixedPointUtils.toLong(price, priceScale);
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Price " + price + " cannot be represented with scale " + priceScale + " for " + currencyPair, e);
+    }
+  }
+
+  // Replace timeStamp if the provided date is non-null and in the future
+  private void updateDate(Date updateDate) {
+
+    if (updateDate != null && (timeStamp == null || updateDate.after(timeStamp))) {
+      this.timeStamp = updateDate;
+    }
+  }
+
+  @Override
+  public String toString() {
+
+    return "IndexedOrderBook [currencyPair=" + currencyPair + ", timestamp: " + timeStamp + ", asks=" + getAsks() + ", bids=" + getBids() + "]";
+  }
+
+  /**
+   * One side of the book: a skip list ordered best price first. Bids negate their keys so that both sides keep ascending order internally.
+   */
+  private final class PriceLevels {
+
+    private static final int MAX_HEIGHT = 16;
+
+    private final OrderType type;
+
+    private final Level head = new Level(MAX_HEIGHT);
+
+    /** free levels by height, chained through next[0] */
+    private final Level[] pool = new Level[MAX_HEIGHT + 1];
+
+    /** scratch array holding the predecessors found by a search */
+    private final Level[] preds = new Level[MAX_HEIGHT];
+
+    private int height = 1;
+
+    private int size;
+
+    private int seed = 0x2545F491;
+
+    private List<LimitOrder> view;
+
+    PriceLevels(OrderType type) {
+
+      this.type = type;
+    }
+
+    BigDecimal bestPrice() {
+
+      Level first = head.next[0];
+      return first == null ? null : first.price;
+    }
+
+    BigDecimal bestVolume() {
+
+      Level first = head.next[0];
+      return first == null ? null : first.volume;
+    }
+
+    BigDecimal get(long price) {
+
+      long key = type == OrderType.BID ? -price : price;
+      Level x = head;
+      for (int i = height - 1; i >= 0; i--) {
+        while (x.next[i] != null && x.next[i].key < key) {
+          x = x.next[i];
+        }
+      }
+      x = x.next[0];
+      return x != null && x.key == key ? x.volume : null;
+    }
+
+    void put(long price, BigDecimal displayPrice, BigDecimal volume) {
+
+      Level found = search(type == OrderType.BID ? -price : price);
+      if (found != null) {
+        found.volume = volume;
+        view = null;
+      } else {
+        insert(type == OrderType.BID ? -price : price, displayPrice == null ? FixedPointUtils.toBigDecimal(price, priceScale) : displayPrice, volume);
+      }
+    }
+
+    void add(long price, BigDecimal displayPrice, BigDecimal volume) {
+
+      Level found = search(type == OrderType.BID ? -price : price);
+      if (found != null) {
+        found.volume = found.volume.add(volume);
+        view = null;
+      } else {
+        insert(type == OrderType.BID ? -price : price, displayPrice, volume);
+      }
+    }
+
+    void remove(long price) {
+
+      Level found = search(type == OrderType.BID ? -price : price);
+      if (found == null) {
+        return;
+      }
+      for (int i = 0; i < found.next.length; i++) {
+        preds[i].next[i] = found.next[i];
+      }
+      while (height > 1 && head.next[height - 1] == null) {
+        height--;
+      }
+      size--;
+      view = null;
+      release(found);
+    }
+
+    void clear() {
+
+      Level x = head.next[0];
+      while (x != null) {
+        Level next = x.next[0];
+        release(x);
+        x = next;
+      }
+      for (int i = 0; i < MAX_HEIGHT; i++) {
+        head.next[i] = null;
+      }
+      height = 1;
+      size = 0;
+      view = null;
+    }
+
+    List<LimitOrder> view() {
+
+      if (view == null) {
+        List<LimitOrder> orders = new ArrayList<LimitOrder>(size);
+        for (Level x = head.next[0]; x != null; x = x.next[0]) {
+          orders.add(new LimitOrder(type, x.volume, currencyPair, "", null, x.price));
+        }
+        view = Collections.unmodifiableList(orders);
+      }
+      return view;
+    }
+
+    // Fills preds with the last level before key on every height and returns the level holding key, if any.
+    private Level search(long key) {
+
+      Level x = head;
+      for (int i = height - 1; i >= 0; i--) {
+        while (x.next[i] != null && x.next[i].key < key) {
+          x = x.next[i];
+        }
+        preds[i] = x;
+      }
+      x = x.next[0];
+      return x != null && x.key == key ? x : null;
+    }
+
+    // Must directly follow a search(key) that found nothing.
+    private void insert(long key, BigDecimal displayPrice, BigDecimal volume) {
+
+      int levelHeight = randomHeight();
+      if (levelHeight > height) {
+        for (int i = height; i < levelHeight; i++) {
+          preds[i] = head;
+        }
+        height = levelHeight;
+      }
+      Level level = acquire(levelHeight);
+      level.key = key;
+      level.price = displayPrice;
+      level.volume = volume;
+      for (int i = 0; i < levelHeight; i++) {
+        level.next[i] = preds[i].next[i];
+        preds[i].next[i] = level;
+      }
+      size++;
+      view = null;
+    }
+
+    private Level acquire(int levelHeight) {
+
+      Level level = pool[levelHeight];
+      if (level == null) {
+        return new Level(levelHeight);
+      }
+      pool[levelHeight] = level.next[0];
+      return level;
+    }
+
+    private void release(Level level) {
+
+      int levelHeight = level.next.length;
+      for (int i = 1; i < levelHeight; i++) {
+        level.next[i] = null;
+      }
+      level.price = null;
+      level.volume = null;
+      level.next[0] = pool[levelHeight];
+      pool[levelHeight] = level;
+    }
+
+    // Geometric distribution with p = 1/4, from an allocation free xorshift generator
+    private int randomHeight() {
+
+      int x = seed;
+      x ^= x << 13;
+      x ^= x >>> 17;
+      x ^= x << 5;
+      seed = x;
+      int levelHeight = 1;
+      while ((x & 3) == 0 && levelHeight < MAX_HEIGHT) {
+        levelHeight++;
+        x >>>= 2;
+      }
+      return levelHeight;
+    }
+  }
+
+  private static final class Level {
+
+    private final Level[] next;
+
+    private long key;
+
+    private BigDecimal price;
+
+    private BigDecimal volume;
+
+    Level(int height) {
+
+      this.next = new Level[height];
+    }
+  }
+}
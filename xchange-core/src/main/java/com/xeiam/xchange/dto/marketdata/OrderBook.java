@@ -11,6 +11,8 @@ import com.xeiam.xchange.dto.trade.LimitOrder;
 
 /**
  * DTO representing the exchange order book
+ *
+ * @see IndexedOrderBook for a book that is maintained from a stream of updates
  */
 public final class OrderBook {
 
@@ -80,8 +82,7 @@ public final class OrderBook {
 
     int idx = Collections.binarySearch(asks, limitOrder);
     if (idx >= 0) {
-      asks.remove(idx);
-      asks.add(idx, limitOrder);
+      asks.set(idx, limitOrder);
     } else {
       asks.add(-idx - 1, limitOrder);
     }
@@ -98,15 +99,18 @@ public final class OrderBook {
     LimitOrder limitOrder = orderBookUpdate.getLimitOrder();
     List<LimitOrder> limitOrders = getOrders(limitOrder.getType());
     int idx = Collections.binarySearch(limitOrders, limitOrder);
-    if (idx >= 0) {
-      limitOrders.remove(idx);
+    if (orderBookUpdate.getTotalVolume().compareTo(BigDecimal.ZERO) == 0) {
+      if (idx >= 0) {
+        limitOrders.remove(idx);
+      }
     } else {
-      idx = -idx - 1;
-    }
-
-    if (orderBookUpdate.getTotalVolume().compareTo(BigDecimal.ZERO) != 0) {
       LimitOrder updatedOrder = withAmount(limitOrder, orderBookUpdate.getTotalVolume());
-      limitOrders.add(idx, updatedOrder);
+      // replace in place when the level exists, so the list is only shifted when levels come or go
+      if (idx >= 0) {
+        limitOrders.set(idx, updatedOrder);
+      } else {
+        limitOrders.add(-idx - 1, updatedOrder);
+      }
     }
 
     updateDate(limitOrder.getTimestamp());
@@ -0,0 +1,302 @@
+package com.xeiam.xchange.dto.marketdata;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.meta.MarketMetaData;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.utils.FixedPointUtils;
+
+/**
+ * <p>
+ * Order book for a single currency pair, with prices and amounts held as fixed point <code>long</code>s in primitive arrays.
+ * </p>
+ * <p>
+ * This is an opt-in alternative to {@link OrderBook} for consumers ingesting many full books: a book can be {@link #clear() cleared} and refilled
+ * for every snapshot without allocating, and levels compare as longs. Use {@link #toOrderBook()} and {@link #fromOrderBook(OrderBook, int, int)} to
+ * convert to and from the BigDecimal DTOs, and {@link FixedPointUtils} to convert single values.
+ * </p>
+ */
+public final class ScaledOrderBook {
+
+  /**
+   * Amount scale used when the market meta data does not require more decimal places
+   */
+  public static final int DEFAULT_AMOUNT_SCALE = 8;
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final CurrencyPair currencyPair;
+
+  private final int priceScale;
+
+  private final int amountScale;
+
+  private final Side asks = new Side();
+
+  private final Side bids = new Side();
+
+  /**
+   * the timestamp of the orderbook according to the exchange's server, null if not provided
+   */
+  private Date timeStamp;
+
+  /**
+   * Constructor
+   *
+   * @param currencyPair the currency pair of this book
+   * @param priceScale the number of decimal places of the prices
+   * @param amountScale the number of decimal places of the amounts
+   */
+  public ScaledOrderBook(CurrencyPair currencyPair, int priceScale, int amountScale) {
+
+    this.currencyPair = currencyPair;
+    this.priceScale = priceScale;
+    this.amountScale = amountScale;
+  }
+
+  /**
+   * Constructor taking the scales from the market's meta data
+   *
+   * @param currencyPair the currency pair of this book
+   * @param marketMetaData the meta data of the market, see {@link com.xeiam.xchange.dto.meta.ExchangeMetaData#getMarketMetaDataMap()}
+   */
+  public ScaledOrderBook(CurrencyPair currencyPair, MarketMetaData marketMetaData) {
+
+    this(currencyPair, marketMetaData.getPriceScale(), getAmountScale(marketMetaData));
+  }
+
+  /**
+   * @param marketMetaData the meta data of a market
+   * @return the amount scale to use for the market: {@link #DEFAULT_AMOUNT_SCALE}, or more if the minimum amount requires it
+   */
+  public static int getAmountScale(MarketMetaData marketMetaData) {
+
+    BigDecimal minimumAmount = marketMetaData.getMinimumAmount();
+    return minimumAmount == null ? DEFAULT_AMOUNT_SCALE : Math.max(DEFAULT_AMOUNT_SCALE, minimumAmount.scale());
+  }
+
+  /**
+   * Converts an {@link OrderBook}. All orders must belong to the same currency pair.
+   *
+   * @param orderBook the order book
+   * @param priceScale the number of decimal places of the prices
+   * @param amountScale the number of decimal places of the amounts
+   * @return the equivalent ScaledOrderBook
+   * @throws ArithmeticException if a price or amount has more decimal places than its scale
+   */
+  public static ScaledOrderBook fromOrderBook(OrderBook orderBook, int priceScale, int amountScale) {
+
+    List<LimitOrder> asks = orderBook.getAsks();
+    List<LimitOrder> bids = orderBook.getBids();
+    CurrencyPair currencyPair = asks.isEmpty() ? (bids.isEmpty() ? null : bids.get(0).getCurrencyPair()) : asks.get(0).getCurrencyPair();
+    ScaledOrderBook scaledOrderBook = new ScaledOrderBook(currencyPair, priceScale, amountScale);
+    for (LimitOrder ask : asks) {
+      scaledOrderBook.add(OrderType.ASK, ask.getLimitPrice(), ask.getTradableAmount());
+    }
+    for (LimitOrder bid : bids) {
+      scaledOrderBook.add(OrderType.BID, bid.getLimitPrice(), bid.getTradableAmount());
+    }
+    scaledOrderBook.setTimeStamp(orderBook.getTimeStamp());
+    return scaledOrderBook;
+  }
+
+  /**
+   * @return a new {@link OrderBook} holding the content of this book
+   */
+  public OrderBook toOrderBook() {
+
+    return new OrderBook(timeStamp, toLimitOrders(OrderType.ASK), toLimitOrders(OrderType.BID));
+  }
+
+  /**
+   * @param type the side of the book
+   * @return the levels of this side as LimitOrders, in book order
+   */
+  public List<LimitOrder> toLimitOrders(OrderType type) {
+
+    Side side = getSide(type);
+    List<LimitOrder> limitOrders = new ArrayList<LimitOrder>(side.size);
+    for (int i = 0; i < side.size; i++) {
+      limitOrders.add(new LimitOrder(type, FixedPointUtils.toBigDecimal(side.amounts[i], amountScale), currencyPair, "", timeStamp,
+          FixedPointUtils.toBigDecimal(side.prices[i], priceScale)));
+    }
+    return limitOrders;
+  }
+
+  /**
+   * Appends a level to one side of the book. Levels are expected in book order (asks ascending, bids descending), as exchanges return them.
+   *
+   * @param type the side of the book
+   * @param price the price, at this book's price scale
+   * @param amount the amount, at this book's amount scale
+   */
+  public void add(OrderType type, long price, long amount) {
+
+    getSide(type).add(price, amount);
+  }
+
+  /**
+   * Appends a level to one side of the book, converting the BigDecimal values.
+   *
+   * @param type the side of the book
+   * @param price the price
+   * @param amount the amount
+   * @throws ArithmeticException if price or amount has more decimal places than its scale
+   */
+  public void add(OrderType type, BigDecimal price, BigDecimal amount) {
+
+    add(type, FixedPointUtils.toLong(price, priceScale), FixedPointUtils.toLong(amount, amountScale));
+  }
+
+  /**
+   * Appends a level to one side of the book, parsing the decimal strings directly.
+   *
+   * @param type the side of the book
+   * @param price the price
+   * @param amount the amount
+   * @throws ArithmeticException if price or amount has more decimal places than its scale
+   */
+  public void add(OrderType type, CharSequence price, CharSequence amount) {
+
+    add(type, FixedPointUtils.parse(price, priceScale), FixedPointUtils.parse(amount, amountScale));
+  }
+
+  /**
+   * Sorts both sides into book order, for exchanges that do not return sorted levels.
+   */
+  public void sort() {
+
+    asks.sort(false);
+    bids.sort(true);
+  }
+
+  /**
+   * Empties both sides, keeping the allocated arrays for the next snapshot.
+   */
+  public void clear() {
+
+    asks.size = 0;
+    bids.size = 0;
+    timeStamp = null;
+  }
+
+  public CurrencyPair getCurrencyPair() {
+
+    return currencyPair;
+  }
+
+  public int getPriceScale() {
+
+    return priceScale;
+  }
+
+  public int getAmountScale() {
+
+    return amountScale;
+  }
+
+  public Date getTimeStamp() {
+
+    return timeStamp;
+  }
+
+  public void setTimeStamp(Date timeStamp) {
+
+    this.timeStamp = timeStamp;
+  }
+
+  /**
+   * @param type the side of the book
+   * @return the number of levels on this side
+   */
+  public int getSize(OrderType type) {
+
+    return getSide(type).size;
+  }
+
+  /**
+   * @param type the side of the book
+   * @param index the level, 0 being the best
+   * @return the price of the level, at this book's price scale
+   */
+  public long getPrice(OrderType type, int index) {
+
+    Side side = getSide(type);
+    checkIndex(side, index);
+    return side.prices[index];
+  }
+
+  /**
+   * @param type the side of the book
+   * @param index the level, 0 being the best
+   * @return the amount of the level, at this book's amount scale
+   */
+  public long getAmount(OrderType type, int index) {
+
+    Side side = getSide(type);
+    checkIndex(side, index);
+    return side.amounts[index];
+  }
+
+  private Side getSide(OrderType type) {
+
+    return type == OrderType.ASK ? asks : bids;
+  }
+
+  private static void checkIndex(Side side, int index) {
+
+    if (index < 0 || index >= side.size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + side.size);
+    }
+  }
+
+  @Override
+  public String toString() {
+
+    return "ScaledOrderBook [currencyPair=" + currencyPair + ", priceScale=" + priceScale + ", amountScale=" + amountScale + ", timestamp: "
+        + timeStamp + ", asks=" + asks.size + ", bids=" + bids.size + "]";
+  }
+
+  private static final class Side {
+
+    private long[] prices = new long[INITIAL_CAPACITY];
+
+    private long[] amounts = new long[INITIAL_CAPACITY];
+
+    private int size;
+
+    void add(long price, long amount) {
+
+      if (size == prices.length) {
+        prices = Arrays.copyOf(prices, size * 2);
+        amounts = Arrays.copyOf(amounts, size * 2);
+      }
+      prices[size] = price;
+      amounts[size] = amount;
+      size++;
+    }
+
+    // Insertion sort: snapshots are usually sorted or nearly sorted already
+    void sort(boolean descending) {
+
+      for (int i = 1; i < size; i++) {
+        long price = prices[i];
+        long amount = amounts[i];
+        int j = i - 1;
+        while (j >= 0 && (descending ? prices[j] < price : prices[j] > price)) {
+          prices[j + 1] = prices[j];
+          amounts[j + 1] = amounts[j];
+          j--;
+        }
+        prices[j + 1] = price;
+        amounts[j + 1] = amount;
+      }
+    }
+  }
+}
@@ -0,0 +1,219 @@
+package com.xeiam.xchange.dto.marketdata;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.Trades.TradeSortType;
+import com.xeiam.xchange.dto.meta.MarketMetaData;
+import com.xeiam.xchange.utils.FixedPointUtils;
+
+/**
+ * <p>
+ * Trades of a single currency pair, with prices, amounts and timestamps held in primitive arrays.
+ * </p>
+ * <p>
+ * This is the trade counterpart of {@link ScaledOrderBook}: prices and amounts are fixed point <code>long</code>s, timestamps are milliseconds from
+ * epoch (or {@link #NO_TIMESTAMP}). Use {@link #toTrades(TradeSortType)} and {@link #fromTrades(Trades, int, int)} to convert to and from the
+ * BigDecimal DTOs.
+ * </p>
+ */
+public final class ScaledTrades {
+
+  /**
+   * Timestamp of trades for which the exchange did not provide one
+   */
+  public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final CurrencyPair currencyPair;
+
+  private final int priceScale;
+
+  private final int amountScale;
+
+  private OrderType[] types = new OrderType[INITIAL_CAPACITY];
+
+  private long[] prices = new long[INITIAL_CAPACITY];
+
+  private long[] amounts = new long[INITIAL_CAPACITY];
+
+  private long[] timestamps = new long[INITIAL_CAPACITY];
+
+  private String[] ids = new String[INITIAL_CAPACITY];
+
+  private int size;
+
+  /**
+   * Constructor
+   *
+   * @param currencyPair the currency pair of the trades
+   * @param priceScale the number of decimal places of the prices
+   * @param amountScale the number of decimal places of the amounts
+   */
+  public ScaledTrades(CurrencyPair currencyPair, int priceScale, int amountScale) {
+
+    this.currencyPair = currencyPair;
+    this.priceScale = priceScale;
+    this.amountScale = amountScale;
+  }
+
+  /**
+   * Constructor taking the scales from the market's meta data
+   *
+   * @param currencyPair the currency pair of the trades
+   * @param marketMetaData the meta data of the market
+   */
+  public ScaledTrades(CurrencyPair currencyPair, MarketMetaData marketMetaData) {
+
+    this(currencyPair, marketMetaData.getPriceScale(), ScaledOrderBook.getAmountScale(marketMetaData));
+  }
+
+  /**
+   * Converts {@link Trades}. All trades must belong to the same currency pair.
+   *
+   * @param trades the trades
+   * @param priceScale the number of decimal places of the prices
+   * @param amountScale the number of decimal places of the amounts
+   * @return the equivalent ScaledTrades, in the same order
+   * @throws ArithmeticException if a price or amount has more decimal places than its scale
+   */
+  public static ScaledTrades fromTrades(Trades trades, int priceScale, int amountScale) {
+
+    List<Trade> tradeList = trades.getTrades();
+    ScaledTrades scaledTrades = new ScaledTrades(tradeList.isEmpty() ? null : tradeList.get(0).getCurrencyPair(), priceScale, amountScale);
+    for (Trade trade : tradeList) {
+      scaledTrades.add(trade.getType(), trade.getPrice(), trade.getTradableAmount(), trade.getTimestamp(), trade.getId());
+    }
+    return scaledTrades;
+  }
+
+  /**
+   * @param tradeSortType the sort order of the returned Trades
+   * @return a new {@link Trades} holding these trades
+   */
+  public Trades toTrades(TradeSortType tradeSortType) {
+
+    List<Trade> trades = new ArrayList<Trade>(size);
+    for (int i = 0; i < size; i++) {
+      trades.add(new Trade(types[i], FixedPointUtils.toBigDecimal(amounts[i], amountScale), currencyPair,
+          FixedPointUtils.toBigDecimal(prices[i], priceScale), timestamps[i] == NO_TIMESTAMP ? null : new Date(timestamps[i]), ids[i]));
+    }
+    return new Trades(trades, tradeSortType);
+  }
+
+  /**
+   * Appends a trade.
+   *
+   * @param type the trade type (BID side or ASK side)
+   * @param price the price, at the price scale
+   * @param amount the amount, at the amount scale
+   * @param timestamp milliseconds from epoch, or {@link #NO_TIMESTAMP}
+   * @param id the id of the trade
+   */
+  public void add(OrderType type, long price, long amount, long timestamp, String id) {
+
+    if (size == prices.length) {
+      int capacity = size * 2;
+      types = Arrays.copyOf(types, capacity);
+      prices = Arrays.copyOf(prices, capacity);
+      amounts = Arrays.copyOf(amounts, capacity);
+      timestamps = Arrays.copyOf(timestamps, capacity);
+      ids = Arrays.copyOf(ids, capacity);
+    }
+    types[size] = type;
+    prices[size] = price;
+    amounts[size] = amount;
+    timestamps[size] = timestamp;
+    ids[size] = id;
+    size++;
+  }
+
+  /**
+   * Appends a trade, converting the BigDecimal values.
+   *
+   * @throws ArithmeticException if price or amount has more decimal places than its scale
+   */
+  public void add(OrderType type, BigDecimal price, BigDecimal amount, Date timestamp, String id) {
+
+    add(type, FixedPointUtils.toLong(price, priceScale), FixedPointUtils.toLong(amount, amountScale), timestamp == null ? NO_TIMESTAMP
+        : timestamp.getTime(), id);
+  }
+
+  /**
+   * Empties this container, keeping the allocated arrays.
+   */
+  public void clear() {
+
+    Arrays.fill(ids, 0, size, null);
+    size = 0;
+  }
+
+  public CurrencyPair getCurrencyPair() {
+
+    return currencyPair;
+  }
+
+  public int getPriceScale() {
+
+    return priceScale;
+  }
+
+  public int getAmountScale() {
+
+    return amountScale;
+  }
+
+  public int size() {
+
+    return size;
+  }
+
+  public OrderType getType(int index) {
+
+    checkIndex(index);
+    return types[index];
+  }
+
+  public long getPrice(int index) {
+
+    checkIndex(index);
+    return prices[index];
+  }
+
+  public long getAmount(int index) {
+
+    checkIndex(index);
+    return amounts[index];
+  }
+
+  public long getTimestamp(int index) {
+
+    checkIndex(index);
+    return timestamps[index];
+  }
+
+  public String getId(int index) {
+
+    checkIndex(index);
+    return ids[index];
+  }
+
+  private void checkIndex(int index) {
+
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+
+  @Override
+  public String toString() {
+
+    return "ScaledTrades [currencyPair=" + currencyPair + ", priceScale=" + priceScale + ", amountScale=" + amountScale + ", size=" + size + "]";
+  }
+}
@@ -0,0 +1,53 @@
+package com.xeiam.xchange.exceptions;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Exception to provide the following to API:
+ * </p>
+ * <ul>
+ * <li>Indication that some orders of a batch have an unknown outcome: their call failed without an answer from the exchange, so they may still have
+ * been cancelled, see the open orders</li>
+ * <li>Whether the exchange cancelled each of the other orders of the batch</li>
+ * </ul>
+ */
+public class PartialCancellationException extends IOException {
+
+  private final Map<String, Boolean> cancelled;
+  private final List<String> unknownOrderIds;
+
+  /**
+   * Constructor
+   *
+   * @param cancelled whether each order with a known outcome was cancelled, keyed by order ID in the order of the batch
+   * @param unknownOrderIds the IDs of the orders whose outcome is unknown, in the order of the batch
+   * @param cause the failure of the first order whose outcome is unknown
+   */
+  public PartialCancellationException(Map<String, Boolean> cancelled, List<String> unknownOrderIds, Throwable cause) {
+
+    super(unknownOrderIds.size() + " of " + (cancelled.size() + unknownOrderIds.size()) + " orders have an unknown outcome", cause);
+    this.cancelled = Collections.unmodifiableMap(cancelled);
+    this.unknownOrderIds = Collections.unmodifiableList(unknownOrderIds);
+  }
+
+  /**
+   * @return whether each order with a known outcome was cancelled, keyed by order ID in the order of the batch, without the orders of
+   *         {@link #getUnknownOrderIds()}
+   */
+  public Map<String, Boolean> getCancelled() {
+
+    return cancelled;
+  }
+
+  /**
+   * @return the IDs of the orders whose outcome is unknown, in the order of the batch
+   */
+  public List<String> getUnknownOrderIds() {
+
+    return unknownOrderIds;
+  }
+}
@@ -0,0 +1,51 @@
+package com.xeiam.xchange.exceptions;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * Exception to provide the following to API:
+ * </p>
+ * <ul>
+ * <li>Indication that some orders of a batch have an unknown outcome: their call failed without an answer from the exchange, so they may still have
+ * been placed, see the open orders</li>
+ * <li>The IDs of the other orders of the batch, which the exchange did place or reject</li>
+ * </ul>
+ */
+public class PartialPlacementException extends IOException {
+
+  private final List<String> orderIds;
+  private final List<Integer> unknownIndexes;
+
+  /**
+   * Constructor
+   *
+   * @param orderIds the order IDs, in the order of the batch, null for an order which was rejected or whose outcome is unknown
+   * @param unknownIndexes the indexes in orderIds of the orders whose outcome is unknown, in increasing order
+   * @param cause the failure of the first order whose outcome is unknown
+   */
+  public PartialPlacementException(List<String> orderIds, List<Integer> unknownIndexes, Throwable cause) {
+
+    super(unknownIndexes.size() + " of " + orderIds.size() + " orders have an unknown outcome", cause);
+    this.orderIds = Collections.unmodifiableList(orderIds);
+    this.unknownIndexes = Collections.unmodifiableList(unknownIndexes);
+  }
+
+  /**
+   * @return the order IDs, in the order of the batch, null for an order which was rejected or whose outcome is unknown
+   */
+  public List<String> getOrderIds() {
+
+    return orderIds;
+  }
+
+  /**
+   * @return the indexes in {@link #getOrderIds()} of the orders whose outcome is unknown, in increasing order
+   */
+  public List<Integer> getUnknownIndexes() {
+
+    return unknownIndexes;
+  }
+}
@@ -5,13 +5,23 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import com.xeiam.xchange.Exchange;
+import com.xeiam.xchange.ExchangeSpecification;
 import com.xeiam.xchange.currency.CurrencyPair;
 import com.xeiam.xchange.dto.Order;
 import com.xeiam.xchange.dto.meta.ExchangeMetaData;
 import com.xeiam.xchange.dto.meta.MarketMetaData;
 import com.xeiam.xchange.dto.trade.LimitOrder;
 import com.xeiam.xchange.dto.trade.MarketOrder;
+import com.xeiam.xchange.service.polling.RateLimitInterceptor;
+import com.xeiam.xchange.service.polling.RateLimiter;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
+
+import si.mazi.rescu.ClientConfig;
+import si.mazi.rescu.RestProxyFactory;
+import si.mazi.rescu.serialization.jackson.JacksonConfigureListener;
 
 /**
  * Top of the hierarchy abstract class for an "exchange service"
@@ -31,6 +41,107 @@ public abstract class BaseExchangeService {
     this.exchange = exchange;
   }
 
+  /**
+   * Creates a rest proxy whose calls wait for the public rate limits of the exchange, if the specification enforces them (see
+   * {@link ExchangeSpecification#setRateLimitsEnforced(boolean)})
+   *
+   * @param restInterface the rest interface
+   * @param baseUrl the base url of the rest interface
+   * @return the rest proxy
+   */
+  protected <I> I createPublicProxy(Class<I> restInterface, String baseUrl) {
+
+    return createPublicProxy(restInterface, baseUrl, exchange.createClientConfig());
+  }
+
+  /**
+   * Creates a rest proxy like {@link #createPublicProxy(Class, String)} with a client config of its own
+   *
+   * @param restInterface the rest interface
+   * @param baseUrl the base url of the rest interface
+   * @param clientConfig the client config, usually from {@link Exchange#createClientConfig()}
+   * @return the rest proxy
+   */
+  protected <I> I createPublicProxy(Class<I> restInterface, String baseUrl, ClientConfig clientConfig) {
+
+    return createProxy(restInterface, baseUrl, clientConfig, exchange.getPublicRateLimiter(), exchange.getPublicRateLimiter(), Object.class);
+  }
+
+  /**
+   * Creates a rest proxy whose calls wait for the private rate limits of the exchange, if the specification enforces them (see
+   * {@link ExchangeSpecification#setRateLimitsEnforced(boolean)})
+   *
+   * @param restInterface the rest interface
+   * @param baseUrl the base url of the rest interface
+   * @return the rest proxy
+   */
+  protected <I> I createPrivateProxy(Class<I> restInterface, String baseUrl) {
+
+    return createPrivateProxy(restInterface, baseUrl, exchange.createClientConfig());
+  }
+
+  /**
+   * Creates a rest proxy like {@link #createPrivateProxy(Class, String)} with a client config of its own
+   *
+   * @param restInterface the rest interface
+   * @param baseUrl the base url of the rest interface
+   * @param clientConfig the client config, usually from {@link Exchange#createClientConfig()}
+   * @return the rest proxy
+   */
+  protected <I> I createPrivateProxy(Class<I> restInterface, String baseUrl, ClientConfig clientConfig) {
+
+    return createProxy(restInterface, baseUrl, clientConfig, exchange.getPrivateRateLimiter(), exchange.getPrivateRateLimiter(), Object.class);
+  }
+
+  /**
+   * Creates a rest proxy of an interface mixing public and private calls (e.g. an authenticated interface extending the public one): the methods
+   * declared by publicInterface wait for the public rate limits of the exchange, the others for the private ones
+   *
+   * @param restInterface the rest interface
+   * @param baseUrl the base url of the rest interface
+   * @param publicInterface the interface declaring the public methods
+   * @return the rest proxy
+   */
+  protected <I> I createProxy(Class<I> restInterface, String baseUrl, Class<?> publicInterface) {
+
+    return createProxy(restInterface, baseUrl, exchange.createClientConfig(), exchange.getPublicRateLimiter(), exchange.getPrivateRateLimiter(),
+        publicInterface);
+  }
+
+  /**
+   * Creates a rest proxy like {@link #createPublicProxy(Class, String)} whose responses are decoded knowing the currency pair they are about, so that
+   * order books which do not name their pair can be built straight from the token stream, see {@link OrderBookParser}. One proxy and mapper serve
+   * every pair: set the pair of each call with {@link OrderBookParser#setCurrentCurrencyPair(CurrencyPair)}, and set the former one back after it.
+   *
+   * @param restInterface the rest interface
+   * @param baseUrl the base url of the rest interface
+   * @return the rest proxy
+   */
+  protected <I> I createCurrencyPairProxy(Class<I> restInterface, String baseUrl) {
+
+    ClientConfig clientConfig = exchange.createClientConfig();
+    clientConfig.setJacksonConfigureListener(new JacksonConfigureListener() {
+
+      @Override
+      public void configureObjectMapper(ObjectMapper objectMapper) {
+
+        OrderBookParser.injectCurrentCurrencyPair(objectMapper);
+      }
+    });
+    return createPublicProxy(restInterface, baseUrl, clientConfig);
+  }
+
+  private <I> I createProxy(Class<I> restInterface, String baseUrl, ClientConfig clientConfig, RateLimiter publicRateLimiter,
+      RateLimiter privateRateLimiter, Class<?> publicInterface) {
+
+    ExchangeSpecification exchangeSpecification = exchange.getExchangeSpecification();
+    if (exchangeSpecification == null || !exchangeSpecification.isRateLimitsEnforced()) {
+      return RestProxyFactory.createProxy(restInterface, baseUrl, clientConfig);
+    }
+    return RestProxyFactory.createProxy(restInterface, baseUrl, clientConfig, new RateLimitInterceptor(publicRateLimiter, privateRateLimiter,
+        publicInterface, exchangeSpecification.getRateLimitMaxWaitInMs()));
+  }
+
   public void verifyOrder(LimitOrder limitOrder) {
     ExchangeMetaData exchangeMetaData = exchange.getMetaData();
     verifyOrder(limitOrder, exchangeMetaData);
@@ -2,16 +2,33 @@ package com.xeiam.xchange.service;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.security.DigestException;
 import java.security.InvalidKeyException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 
 import net.iharder.Base64;
 import si.mazi.rescu.ParamsDigest;
 
+/**
+ * <p>
+ * Base class of the {@link ParamsDigest}s signing private REST calls. This provides the following:
+ * </p>
+ * <ul>
+ * <li>A per-thread {@link Mac} initialised with the secret key, for the digests which sign with one</li>
+ * <li>Per-thread cached {@link MessageDigest}s, see {@link #getMessageDigest(String)}</li>
+ * <li>Feeding strings and nonces into digests through a reusable per-thread buffer, and hex or Base64 results built from one, so signing a request
+ * allocates little more than the returned string</li>
+ * </ul>
+ */
 public abstract class BaseParamsDigest implements ParamsDigest {
 
   public static final String HMAC_SHA_512 = "HmacSHA512";
@@ -19,6 +36,20 @@ public abstract class BaseParamsDigest implements ParamsDigest {
   public static final String HMAC_SHA_256 = "HmacSHA256";
   public static final String HMAC_SHA_1 = "HmacSHA1";
 
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final char[] HEX_LOWER = "0123456789abcdef".toCharArray();
+  private static final char[] HEX_UPPER = "0123456789ABCDEF".toCharArray();
+  private static final char[] BASE64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+  private static final ThreadLocal<SigningBuffers> threadLocalBuffers = new ThreadLocal<SigningBuffers>() {
+
+    @Override
+    protected SigningBuffers initialValue() {
+
+      return new SigningBuffers();
+    }
+  };
+
   private final ThreadLocal<Mac> threadLocalMac;
 
   /**
@@ -79,11 +110,158 @@ public abstract class BaseParamsDigest implements ParamsDigest {
     };
   }
 
+  /**
+   * Constructor of the digests which sign with a {@link MessageDigest} only, without a secret key for a {@link Mac}
+   */
+  protected BaseParamsDigest() {
+
+    threadLocalMac = null;
+  }
+
   protected Mac getMac() {
 
+    if (threadLocalMac == null) {
+      throw new IllegalStateException(getClass().getSimpleName() + " has no secret key for a mac");
+    }
     return threadLocalMac.get();
   }
 
+  /**
+   * @param algorithm e.g. "SHA-256"
+   * @return this thread's instance of the digest, reset
+   */
+  protected static MessageDigest getMessageDigest(String algorithm) {
+
+    Map<String, MessageDigest> digests = threadLocalBuffers.get().digests;
+    MessageDigest digest = digests.get(algorithm);
+    if (digest == null) {
+      try {
+        digest = MessageDigest.getInstance(algorithm);
+      } catch (NoSuchAlgorithmException e) {
+        throw new RuntimeException("Illegal algorithm for post body digest. Check the implementation.", e);
+      }
+      digests.put(algorithm, digest);
+    } else {
+      digest.reset();
+    }
+    return digest;
+  }
+
+  /**
+   * Updates the digest with the UTF-8 bytes of the characters
+   */
+  protected static void update(MessageDigest digest, CharSequence chars) {
+
+    SigningBuffers buffers = threadLocalBuffers.get();
+    int length = buffers.encode(chars);
+    if (length < 0) {
+      digest.update(chars.toString().getBytes(UTF_8));
+    } else {
+      digest.update(buffers.bytes, 0, length);
+    }
+  }
+
+  /**
+   * Updates the mac with the UTF-8 bytes of the characters
+   */
+  protected static void update(Mac mac, CharSequence chars) {
+
+    SigningBuffers buffers = threadLocalBuffers.get();
+    int length = buffers.encode(chars);
+    if (length < 0) {
+      mac.update(chars.toString().getBytes(UTF_8));
+    } else {
+      mac.update(buffers.bytes, 0, length);
+    }
+  }
+
+  /**
+   * Updates the digest with the nonce as it is sent, i.e. its decimal digits, without converting a {@link Long} to a string first
+   */
+  protected static void updateNonce(MessageDigest digest, Object nonce) {
+
+    if (nonce instanceof Long || nonce instanceof Integer) {
+      SigningBuffers buffers = threadLocalBuffers.get();
+      digest.update(buffers.bytes, 0, buffers.encode(((Number) nonce).longValue()));
+    } else {
+      update(digest, nonce.toString());
+    }
+  }
+
+  /**
+   * Updates the mac with the nonce as it is sent, i.e. its decimal digits, without converting a {@link Long} to a string first
+   */
+  protected static void updateNonce(Mac mac, Object nonce) {
+
+    if (nonce instanceof Long || nonce instanceof Integer) {
+      updateNonce(mac, ((Number) nonce).longValue());
+    } else {
+      update(mac, nonce.toString());
+    }
+  }
+
+  /**
+   * Updates the mac with the decimal digits of the nonce
+   */
+  protected static void updateNonce(Mac mac, long nonce) {
+
+    SigningBuffers buffers = threadLocalBuffers.get();
+    mac.update(buffers.bytes, 0, buffers.encode(nonce));
+  }
+
+  /**
+   * Completes the digest and updates the mac with the result
+   */
+  protected static void updateDigest(Mac mac, MessageDigest digest) {
+
+    byte[] output = threadLocalBuffers.get().digestOutput;
+    try {
+      mac.update(output, 0, digest.digest(output, 0, output.length));
+    } catch (DigestException e) {
+      throw new IllegalStateException("Digest longer than " + output.length + " bytes", e);
+    }
+  }
+
+  /**
+   * Completes the mac.
+   *
+   * @return the mac in Base64, with padding and without line breaks
+   */
+  protected static String doFinalBase64(Mac mac) {
+
+    SigningBuffers buffers = threadLocalBuffers.get();
+    int length = buffers.doFinal(mac);
+    return buffers.toBase64(length);
+  }
+
+  /**
+   * Completes the mac.
+   *
+   * @return the mac as hex digits
+   */
+  protected static String doFinalHex(Mac mac, boolean upperCase) {
+
+    SigningBuffers buffers = threadLocalBuffers.get();
+    int length = buffers.doFinal(mac);
+    return buffers.toHex(buffers.macOutput, length, upperCase ? HEX_UPPER : HEX_LOWER);
+  }
+
+  /**
+   * Completes the digest.
+   *
+   * @return the digest as hex digits
+   */
+  protected static String doFinalHex(MessageDigest digest, boolean upperCase) {
+
+    SigningBuffers buffers = threadLocalBuffers.get();
+    try {
+      int length = digest.digest(buffers.digestOutput, 0, buffers.digestOutput.length);
+      return buffers.toHex(buffers.digestOutput, length, upperCase ? HEX_UPPER : HEX_LOWER);
+    } catch (DigestException e) {
+      throw new IllegalStateException("Digest longer than " + buffers.digestOutput.length + " bytes", e);
+    }
+  }
+
   protected static byte[] decodeBase64(String secretKey) {
     try {
       return Base64.decode(secretKey);
@@ -91,4 +269,104 @@ public abstract class BaseParamsDigest implements ParamsDigest {
       throw new RuntimeException("Can't decode secret key as Base 64", e);
     }
   }
+
+  /**
+   * Per-thread scratch space of the signing helpers
+   */
+  private static final class SigningBuffers {
+
+    private final Map<String, MessageDigest> digests = new HashMap<String, MessageDigest>();
+    /** Large enough for SHA-512 */
+    private final byte[] digestOutput = new byte[64];
+    private final byte[] macOutput = new byte[64];
+    private byte[] bytes = new byte[256];
+    private char[] chars = new char[128];
+
+    /**
+     * @return the number of bytes written to {@link #bytes}, or -1 if the characters are not all ASCII
+     */
+    private int encode(CharSequence value) {
+
+      int length = value.length();
+      if (bytes.length < length) {
+        bytes = new byte[Math.max(length, bytes.length * 2)];
+      }
+      for (int i = 0; i < length; i++) {
+        char c = value.charAt(i);
+        if (c >= 0x80) {
+          return -1;
+        }
+        bytes[i] = (byte) c;
+      }
+      return length;
+    }
+
+    /**
+     * @return the number of decimal digits written to {@link #bytes}
+     */
+    private int encode(long value) {
+
+      if (value < 0) {
+        return encode(Long.toString(value));
+      }
+      int length = 1;
+      for (long rest = value / 10; rest > 0; rest /= 10) {
+        length++;
+      }
+      for (int i = length - 1; i >= 0; i--) {
+        bytes[i] = (byte) ('0' + value % 10);
+        value /= 10;
+      }
+      return length;
+    }
+
+    private int doFinal(Mac mac) {
+
+      try {
+        int length = mac.getMacLength();
+        mac.doFinal(macOutput, 0);
+        return length;
+      } catch (ShortBufferException e) {
+        throw new IllegalStateException("Mac longer than " + macOutput.length + " bytes", e);
+      }
+    }
+
+    private String toHex(byte[] output, int length, char[] digits) {
+
+      char[] chars = chars(length * 2);
+      for (int i = 0; i < length; i++) {
+        chars[2 * i] = digits[(output[i] >> 4) & 0x0F];
+        chars[2 * i + 1] = digits[output[i] & 0x0F];
+      }
+      return new String(chars, 0, length * 2);
+    }
+
+    private String toBase64(int length) {
+
+      char[] chars = chars((length + 2) / 3 * 4);
+      int j = 0;
+      for (int i = 0; i < length; i += 3) {
+        int b = (macOutput[i] & 0xFF) << 16;
+        if (i + 1 < length) {
+          b |= (macOutput[i + 1] & 0xFF) << 8;
+        }
+        if (i + 2 < length) {
+          b |= macOutput[i + 2] & 0xFF;
+        }
+        chars[j++] = BASE64[(b >> 18) & 0x3F];
+        chars[j++] = BASE64[(b >> 12) & 0x3F];
+        chars[j++] = i + 1 < length ? BASE64[(b >> 6) & 0x3F] : '=';
+        chars[j++] = i + 2 < length ? BASE64[b & 0x3F] : '=';
+      }
+      return new String(chars, 0, j);
+    }
+
+    private char[] chars(int length) {
+
+      if (chars.length < length) {
+        chars = new char[length];
+      }
+      return chars;
+    }
+  }
 }
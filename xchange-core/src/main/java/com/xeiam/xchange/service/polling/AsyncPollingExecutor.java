@@ -0,0 +1,65 @@
+package com.xeiam.xchange.service.polling;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Utilities to provide the following to the asynchronous polling services:
+ * </p>
+ * <ul>
+ * <li>A single, bounded thread pool shared by all exchanges, so that fanning a request out to many exchanges does not start a thread per call</li>
+ * </ul>
+ * The pool size can be set with the system property <code>xchange.asyncPollingThreads</code> (default {@value #DEFAULT_THREADS}). Idle threads are
+ * daemons and time out, so the pool does not keep an application alive.
+ */
+public final class AsyncPollingExecutor {
+
+  /**
+   * Number of threads of the shared pool if the system property is not set
+   */
+  public static final int DEFAULT_THREADS = 16;
+
+  /**
+   * private Constructor
+   */
+  private AsyncPollingExecutor() {
+
+  }
+
+  /**
+   * @return the executor shared by all asynchronous polling services
+   */
+  public static ExecutorService getSharedExecutor() {
+
+    return Holder.EXECUTOR;
+  }
+
+  private static final class Holder {
+
+    private static final ExecutorService EXECUTOR = create(Integer.getInteger("xchange.asyncPollingThreads", DEFAULT_THREADS));
+
+    private static ExecutorService create(int threads) {
+
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+          new ThreadFactory() {
+
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+
+              Thread thread = new Thread(runnable, "xchange-polling-" + count.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  }
+}
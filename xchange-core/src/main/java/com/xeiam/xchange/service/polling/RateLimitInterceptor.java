@@ -0,0 +1,82 @@
+package com.xeiam.xchange.service.polling;
+
+import java.io.InterruptedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import com.xeiam.xchange.exceptions.FrequencyLimitExceededException;
+import com.xeiam.xchange.utils.Assert;
+
+import si.mazi.rescu.Interceptor;
+
+/**
+ * <p>
+ * rescu interceptor to provide the following to rest proxies:
+ * </p>
+ * <ul>
+ * <li>Waiting for a {@link RateLimiter} permit before every remote call</li>
+ * <li>Failing the call with a {@link FrequencyLimitExceededException} instead when the permit is further away than the maximum wait</li>
+ * </ul>
+ * <p>
+ * Proxies of interfaces that mix public and private methods (e.g. an authenticated interface extending the public one) can use two limiters: methods
+ * declared by the public interface use the public limiter, all others the private one.
+ * </p>
+ */
+public class RateLimitInterceptor implements Interceptor {
+
+  private final RateLimiter publicRateLimiter;
+  private final RateLimiter privateRateLimiter;
+  private final Class<?> publicInterface;
+  private final long maxWaitInMs;
+
+  /**
+   * Constructor for proxies whose calls all share one scope
+   *
+   * @param rateLimiter the limiter of all calls
+   * @param maxWaitInMs the longest wait for a permit, beyond which the call fails
+   */
+  public RateLimitInterceptor(RateLimiter rateLimiter, long maxWaitInMs) {
+
+    this(rateLimiter, rateLimiter, Object.class, maxWaitInMs);
+  }
+
+  /**
+   * Constructor for proxies mixing public and private calls
+   *
+   * @param publicRateLimiter the limiter of the methods declared by publicInterface (or its super interfaces)
+   * @param privateRateLimiter the limiter of all other methods
+   * @param publicInterface the interface declaring the public methods
+   * @param maxWaitInMs the longest wait for a permit, beyond which the call fails
+   */
+  public RateLimitInterceptor(RateLimiter publicRateLimiter, RateLimiter privateRateLimiter, Class<?> publicInterface, long maxWaitInMs) {
+
+    Assert.notNull(publicRateLimiter, "publicRateLimiter cannot be null");
+    Assert.notNull(privateRateLimiter, "privateRateLimiter cannot be null");
+    Assert.notNull(publicInterface, "publicInterface cannot be null");
+    this.publicRateLimiter = publicRateLimiter;
+    this.privateRateLimiter = privateRateLimiter;
+    this.publicInterface = publicInterface;
+    this.maxWaitInMs = maxWaitInMs;
+  }
+
+  @Override
+  public Object aroundInvoke(InvocationHandler invocationHandler, Object proxy, Method method, Object[] args) throws Throwable {
+
+    RateLimiter rateLimiter = method.getDeclaringClass().isAssignableFrom(publicInterface) ? publicRateLimiter : privateRateLimiter;
+    boolean acquired;
+    try {
+      acquired = rateLimiter.tryAcquire(maxWaitInMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      InterruptedIOException exception = new InterruptedIOException("Interrupted while waiting for the rate limit of " + method.getName());
+      exception.initCause(e);
+      throw exception;
+    }
+    if (!acquired) {
+      throw new FrequencyLimitExceededException("Calling " + method.getName() + " now would exceed the rate limits of the exchange, the next permit is"
+          + " more than " + maxWaitInMs + " ms away");
+    }
+    return invocationHandler.invoke(proxy, method, args);
+  }
+}
@@ -0,0 +1,179 @@
+package com.xeiam.xchange.service.polling;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.xeiam.xchange.dto.meta.RateLimit;
+import com.xeiam.xchange.utils.Assert;
+
+/**
+ * <p>
+ * Thread safe throttle to provide the following to polling services:
+ * </p>
+ * <ul>
+ * <li>Enforcement of all the {@link RateLimit}s of a scope (e.g. the private calls of an exchange) at once</li>
+ * <li>Blocking, non-blocking and scheduled acquisition of a permit to make a call</li>
+ * </ul>
+ * <p>
+ * Each rate limit is a token bucket of <code>calls</code> tokens refilled over <code>timeSpan</code>, implemented as a virtual scheduling (GCRA)
+ * timestamp so that no background refill is needed. A permit is only granted when every bucket holds a token, so short burst windows and long
+ * windows such as calls per hour are honoured together.
+ * </p>
+ */
+public final class RateLimiter {
+
+  /**
+   * A limiter that never waits, for exchanges without rate limits in their meta data
+   */
+  public static final RateLimiter UNLIMITED = new RateLimiter(Collections.<RateLimit> emptySet());
+
+  /** per bucket: the time between two calls at the sustained rate */
+  private final long[] intervals;
+
+  /** per bucket: how far ahead of the sustained rate a burst may go */
+  private final long[] tolerances;
+
+  /** per bucket: the time at which the bucket would be full again if no more calls were made */
+  private final long[] theoreticalArrivals;
+
+  /**
+   * Constructor
+   *
+   * @param rateLimits the rate limits to enforce together; null or empty for no limit
+   */
+  public RateLimiter(Collection<RateLimit> rateLimits) {
+
+    int size = rateLimits == null ? 0 : rateLimits.size();
+    intervals = new long[size];
+    tolerances = new long[size];
+    theoreticalArrivals = new long[size];
+
+    long now = System.nanoTime();
+    int i = 0;
+    for (RateLimit rateLimit : size == 0 ? Collections.<RateLimit> emptySet() : rateLimits) {
+      Assert.isTrue(rateLimit.calls > 0 && rateLimit.timeSpan > 0, "Invalid rate limit: " + rateLimit.calls + " calls per " + rateLimit.timeSpan + " "
+          + rateLimit.timeUnit);
+      intervals[i] = Math.max(1, rateLimit.timeUnit.toNanos(rateLimit.timeSpan) / rateLimit.calls);
+      tolerances[i] = intervals[i] * (rateLimit.calls - 1);
+      theoreticalArrivals[i] = now;
+      i++;
+    }
+  }
+
+  /**
+   * Takes a permit if one is available right now.
+   *
+   * @return true if the call may be made now, false if it would exceed a rate limit (no permit is taken then)
+   */
+  public boolean tryAcquire() {
+
+    return reserve(0) == 0;
+  }
+
+  /**
+   * Takes a permit if one becomes available within the given time, waiting for it.
+   *
+   * @param timeout the longest time to wait for the permit
+   * @param unit the unit of timeout
+   * @return true once the permit is taken, false if none would be available in time (no permit is taken then)
+   * @throws InterruptedException if interrupted while waiting; the permit is taken nevertheless
+   */
+  public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+
+    long delay = reserve(unit.toNanos(timeout));
+    if (delay < 0) {
+      return false;
+    }
+    if (delay > 0) {
+      TimeUnit.NANOSECONDS.sleep(delay);
+    }
+    return true;
+  }
+
+  /**
+   * Takes a permit, waiting until one is available, however long that is. Prefer {@link #tryAcquire(long, TimeUnit)} when the limits may span
+   * minutes or more.
+   *
+   * @throws InterruptedException if interrupted while waiting; the permit is taken nevertheless
+   */
+  public void acquire() throws InterruptedException {
+
+    long delay = reserve();
+    if (delay > 0) {
+      TimeUnit.NANOSECONDS.sleep(delay);
+    }
+  }
+
+  /**
+   * Takes the next permit without waiting for it.
+   *
+   * @return the number of nanoseconds the caller must wait before making the call, 0 if it may be made now
+   */
+  public long reserve() {
+
+    return reserve(Long.MAX_VALUE);
+  }
+
+  /**
+   * Takes the next permit and schedules the call for when it becomes usable, without blocking the calling thread.
+   *
+   * @param call the remote call
+   * @param executor the executor running the call
+   * @return the future result of the call
+   */
+  public <T> ScheduledFuture<T> schedule(Callable<T> call, ScheduledExecutorService executor) {
+
+    return executor.schedule(call, reserve(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @return true if this limiter has no rate limit to enforce
+   */
+  public boolean isUnlimited() {
+
+    return intervals.length == 0;
+  }
+
+  /**
+   * @return the wait before the permit taken, or -1 if it would exceed maxDelay (no permit is taken then)
+   */
+  private long reserve(long maxDelay) {
+
+    if (isUnlimited()) {
+      return 0;
+    }
+    synchronized (this) {
+      long now = System.nanoTime();
+      long start = earliestStart(now);
+      if (start - now > maxDelay) {
+        return -1;
+      }
+      take(start);
+      return start - now;
+    }
+  }
+
+  private long earliestStart(long now) {
+
+    long start = now;
+    for (int i = 0; i < intervals.length; i++) {
+      long allowedAt = theoreticalArrivals[i] - tolerances[i];
+      if (allowedAt - start > 0) {
+        start = allowedAt;
+      }
+    }
+    return start;
+  }
+
+  private void take(long start) {
+
+    for (int i = 0; i < intervals.length; i++) {
+      long arrival = theoreticalArrivals[i] - start > 0 ? theoreticalArrivals[i] : start;
+      theoreticalArrivals[i] = arrival + intervals[i];
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.xeiam.xchange.service.polling.account;
+
+import java.math.BigDecimal;
+import java.util.concurrent.Future;
+
+import com.xeiam.xchange.Exchange;
+import com.xeiam.xchange.currency.Currency;
+import com.xeiam.xchange.dto.account.AccountInfo;
+
+/**
+ * <p>
+ * Interface to provide the following to {@link Exchange}:
+ * </p>
+ * <ul>
+ * <li>Non-blocking versions of the {@link PollingAccountService} methods</li>
+ * </ul>
+ * <p>
+ * Each method returns immediately. Errors are reported by {@link Future#get()} as an {@link java.util.concurrent.ExecutionException} whose cause is
+ * the exception the blocking method would have thrown.
+ * </p>
+ */
+public interface AsyncPollingAccountService {
+
+  /**
+   * @see PollingAccountService#getAccountInfo()
+   */
+  Future<AccountInfo> getAccountInfo();
+
+  /**
+   * @see PollingAccountService#withdrawFunds(Currency, BigDecimal, String)
+   */
+  Future<String> withdrawFunds(Currency currency, BigDecimal amount, String address);
+
+  /**
+   * @see PollingAccountService#requestDepositAddress(Currency, String...)
+   */
+  Future<String> requestDepositAddress(Currency currency, String... args);
+
+}
@@ -0,0 +1,73 @@
+package com.xeiam.xchange.service.polling.account;
+
+import java.math.BigDecimal;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.xeiam.xchange.currency.Currency;
+import com.xeiam.xchange.dto.account.AccountInfo;
+import com.xeiam.xchange.utils.Assert;
+
+/**
+ * {@link AsyncPollingAccountService} running the calls of a blocking {@link PollingAccountService} on an executor, by default
+ * {@link com.xeiam.xchange.service.polling.AsyncPollingExecutor#getSharedExecutor()}
+ */
+public class AsyncPollingAccountServiceAdapter implements AsyncPollingAccountService {
+
+  private final PollingAccountService pollingAccountService;
+  private final ExecutorService executor;
+
+  /**
+   * Constructor
+   *
+   * @param pollingAccountService the blocking service
+   * @param executor the executor running the blocking calls
+   */
+  public AsyncPollingAccountServiceAdapter(PollingAccountService pollingAccountService, ExecutorService executor) {
+
+    Assert.notNull(pollingAccountService, "pollingAccountService cannot be null");
+    Assert.notNull(executor, "executor cannot be null");
+    this.pollingAccountService = pollingAccountService;
+    this.executor = executor;
+  }
+
+  @Override
+  public Future<AccountInfo> getAccountInfo() {
+
+    return executor.submit(new Callable<AccountInfo>() {
+
+      @Override
+      public AccountInfo call() throws Exception {
+
+        return pollingAccountService.getAccountInfo();
+      }
+    });
+  }
+
+  @Override
+  public Future<String> withdrawFunds(final Currency currency, final BigDecimal amount, final String address) {
+
+    return executor.submit(new Callable<String>() {
+
+      @Override
+      public String call() throws Exception {
+
+        return pollingAccountService.withdrawFunds(currency, amount, address);
+      }
+    });
+  }
+
+  @Override
+  public Future<String> requestDepositAddress(final Currency currency, final String... args) {
+
+    return executor.submit(new Callable<String>() {
+
+      @Override
+      public String call() throws Exception {
+
+        return pollingAccountService.requestDepositAddress(currency, args);
+      }
+    });
+  }
+}
@@ -0,0 +1,82 @@
+package com.xeiam.xchange.service.polling.account;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+import com.xeiam.xchange.currency.Currency;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.account.AccountInfo;
+import com.xeiam.xchange.exceptions.ExchangeException;
+import com.xeiam.xchange.exceptions.NotAvailableFromExchangeException;
+import com.xeiam.xchange.exceptions.NotYetImplementedForExchangeException;
+
+/**
+ * <p>
+ * {@link PollingAccountService} holding a lock around each call of another one. This provides the following:
+ * </p>
+ * <ul>
+ * <li>The account calls serialized with the trade calls of the same API key, see
+ * {@link com.xeiam.xchange.service.polling.trade.KeyPoolPollingTradeService#getLock(int)}, so the nonces of the key reach the exchange in order</li>
+ * </ul>
+ */
+public class LockedPollingAccountService implements PollingAccountService {
+
+  private final PollingAccountService accountService;
+  private final Lock lock;
+
+  /**
+   * Constructor
+   *
+   * @param accountService the account service making the calls
+   * @param lock the lock held around each call
+   */
+  public LockedPollingAccountService(PollingAccountService accountService, Lock lock) {
+
+    this.accountService = accountService;
+    this.lock = lock;
+  }
+
+  @Override
+  public AccountInfo getAccountInfo() throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException {
+
+    lock.lock();
+    try {
+      return accountService.getAccountInfo();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public String withdrawFunds(Currency currency, BigDecimal amount, String address)
+      throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException {
+
+    lock.lock();
+    try {
+      return accountService.withdrawFunds(currency, amount, address);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public String requestDepositAddress(Currency currency, String... args)
+      throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException {
+
+    lock.lock();
+    try {
+      return accountService.requestDepositAddress(currency, args);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  @Deprecated
+  public List<CurrencyPair> getExchangeSymbols() throws IOException {
+
+    return accountService.getExchangeSymbols();
+  }
+}
@@ -0,0 +1,52 @@
+package com.xeiam.xchange.service.polling.marketdata;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import com.xeiam.xchange.Exchange;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.Ticker;
+import com.xeiam.xchange.dto.marketdata.Trades;
+
+/**
+ * <p>
+ * Interface to provide the following to {@link Exchange}:
+ * </p>
+ * <ul>
+ * <li>Non-blocking versions of the {@link PollingMarketDataService} methods</li>
+ * </ul>
+ * <p>
+ * Each method returns immediately. Errors are reported by {@link Future#get()} as an {@link java.util.concurrent.ExecutionException} whose cause is
+ * the exception the blocking method would have thrown.
+ * </p>
+ */
+public interface AsyncPollingMarketDataService {
+
+  /**
+   * @see PollingMarketDataService#getTicker(CurrencyPair, Object...)
+   */
+  Future<Ticker> getTicker(CurrencyPair currencyPair, Object... args);
+
+  /**
+   * @see PollingMarketDataService#getOrderBook(CurrencyPair, Object...)
+   */
+  Future<OrderBook> getOrderBook(CurrencyPair currencyPair, Object... args);
+
+  /**
+   * @see PollingMarketDataService#getTrades(CurrencyPair, Object...)
+   */
+  Future<Trades> getTrades(CurrencyPair currencyPair, Object... args);
+
+  /**
+   * @see PollingMarketDataService#getTickers(Collection)
+   */
+  Future<Map<CurrencyPair, Ticker>> getTickers(Collection<CurrencyPair> currencyPairs);
+
+  /**
+   * @see PollingMarketDataService#getOrderBooks(Collection, Object...)
+   */
+  Future<Map<CurrencyPair, OrderBook>> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args);
+
+}
@@ -0,0 +1,102 @@
+package com.xeiam.xchange.service.polling.marketdata;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.Ticker;
+import com.xeiam.xchange.dto.marketdata.Trades;
+import com.xeiam.xchange.utils.Assert;
+
+/**
+ * {@link AsyncPollingMarketDataService} running the calls of a blocking {@link PollingMarketDataService} on an executor, by default
+ * {@link com.xeiam.xchange.service.polling.AsyncPollingExecutor#getSharedExecutor()}
+ */
+public class AsyncPollingMarketDataServiceAdapter implements AsyncPollingMarketDataService {
+
+  private final PollingMarketDataService pollingMarketDataService;
+  private final ExecutorService executor;
+
+  /**
+   * Constructor
+   *
+   * @param pollingMarketDataService the blocking service
+   * @param executor the executor running the blocking calls
+   */
+  public AsyncPollingMarketDataServiceAdapter(PollingMarketDataService pollingMarketDataService, ExecutorService executor) {
+
+    Assert.notNull(pollingMarketDataService, "pollingMarketDataService cannot be null");
+    Assert.notNull(executor, "executor cannot be null");
+    this.pollingMarketDataService = pollingMarketDataService;
+    this.executor = executor;
+  }
+
+  @Override
+  public Future<Ticker> getTicker(final CurrencyPair currencyPair, final Object... args) {
+
+    return executor.submit(new Callable<Ticker>() {
+
+      @Override
+      public Ticker call() throws Exception {
+
+        return pollingMarketDataService.getTicker(currencyPair, args);
+      }
+    });
+  }
+
+  @Override
+  public Future<OrderBook> getOrderBook(final CurrencyPair currencyPair, final Object... args) {
+
+    return executor.submit(new Callable<OrderBook>() {
+
+      @Override
+      public OrderBook call() throws Exception {
+
+        return pollingMarketDataService.getOrderBook(currencyPair, args);
+      }
+    });
+  }
+
+  @Override
+  public Future<Trades> getTrades(final CurrencyPair currencyPair, final Object... args) {
+
+    return executor.submit(new Callable<Trades>() {
+
+      @Override
+      public Trades call() throws Exception {
+
+        return pollingMarketDataService.getTrades(currencyPair, args);
+      }
+    });
+  }
+
+  @Override
+  public Future<Map<CurrencyPair, Ticker>> getTickers(final Collection<CurrencyPair> currencyPairs) {
+
+    return executor.submit(new Callable<Map<CurrencyPair, Ticker>>() {
+
+      @Override
+      public Map<CurrencyPair, Ticker> call() throws Exception {
+
+        return pollingMarketDataService.getTickers(currencyPairs);
+      }
+    });
+  }
+
+  @Override
+  public Future<Map<CurrencyPair, OrderBook>> getOrderBooks(final Collection<CurrencyPair> currencyPairs, final Object... args) {
+
+    return executor.submit(new Callable<Map<CurrencyPair, OrderBook>>() {
+
+      @Override
+      public Map<CurrencyPair, OrderBook> call() throws Exception {
+
+        return pollingMarketDataService.getOrderBooks(currencyPairs, args);
+      }
+    });
+  }
+}
@@ -0,0 +1,60 @@
+package com.xeiam.xchange.service.polling.marketdata;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.Ticker;
+
+/**
+ * <p>
+ * Utilities to provide the following to {@link PollingMarketDataService} implementations:
+ * </p>
+ * <ul>
+ * <li>The one-request-per-pair implementation of the multi-pair methods, for exchanges without a bulk endpoint</li>
+ * </ul>
+ */
+public final class MarketDataServiceUtils {
+
+  /**
+   * private Constructor
+   */
+  private MarketDataServiceUtils() {
+
+  }
+
+  /**
+   * Calls {@link PollingMarketDataService#getTicker(CurrencyPair, Object...)} once per pair
+   */
+  public static Map<CurrencyPair, Ticker> getTickers(PollingMarketDataService marketDataService, Collection<CurrencyPair> currencyPairs)
+      throws IOException {
+
+    Map<CurrencyPair, Ticker> tickers = new LinkedHashMap<CurrencyPair, Ticker>();
+    for (CurrencyPair currencyPair : currencyPairs) {
+      Ticker ticker = marketDataService.getTicker(currencyPair);
+      if (ticker != null) {
+        tickers.put(currencyPair, ticker);
+      }
+    }
+    return tickers;
+  }
+
+  /**
+   * Calls {@link PollingMarketDataService#getOrderBook(CurrencyPair, Object...)} once per pair
+   */
+  public static Map<CurrencyPair, OrderBook> getOrderBooks(PollingMarketDataService marketDataService, Collection<CurrencyPair> currencyPairs,
+      Object... args) throws IOException {
+
+    Map<CurrencyPair, OrderBook> orderBooks = new LinkedHashMap<CurrencyPair, OrderBook>();
+    for (CurrencyPair currencyPair : currencyPairs) {
+      OrderBook orderBook = marketDataService.getOrderBook(currencyPair, args);
+      if (orderBook != null) {
+        orderBooks.put(currencyPair, orderBook);
+      }
+    }
+    return orderBooks;
+  }
+}
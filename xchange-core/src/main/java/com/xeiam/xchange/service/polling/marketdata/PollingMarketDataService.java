@@ -1,6 +1,8 @@
 package com.xeiam.xchange.service.polling.marketdata;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.currency.CurrencyPair;
@@ -75,4 +77,46 @@ public interface PollingMarketDataService extends BasePollingService {
   Trades getTrades(CurrencyPair currencyPair, Object... args)
       throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException;
 
+  /**
+   * <p>
+   * Get the tickers of several currency pairs
+   * </p>
+   * <p>
+   * Exchanges that return all their markets in one request fetch them with a single call, the others call {@link #getTicker(CurrencyPair, Object...)}
+   * once per pair (see {@link MarketDataServiceUtils#getTickers(PollingMarketDataService, Collection)})
+   * </p>
+   *
+   * @param currencyPairs The currency pairs (e.g. BTC/USD, LTC/BTC)
+   * @return The tickers keyed by currency pair, in the iteration order of currencyPairs. Pairs the exchange has no ticker for are left out.
+   * @throws ExchangeException - Indication that the exchange reported some kind of error with the request or response
+   * @throws NotAvailableFromExchangeException - Indication that the exchange does not support the requested function or data
+   * @throws NotYetImplementedForExchangeException - Indication that the exchange supports the requested function or data, but it has not yet been
+   *         implemented
+   * @throws IOException - Indication that a networking error occurred while fetching JSON data
+   */
+  Map<CurrencyPair, Ticker> getTickers(Collection<CurrencyPair> currencyPairs)
+      throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException;
+
+  /**
+   * <p>
+   * Get the order books of several currency pairs
+   * </p>
+   * <p>
+   * Exchanges that return all their markets in one request fetch them with a single call, the others call
+   * {@link #getOrderBook(CurrencyPair, Object...)} once per pair (see {@link MarketDataServiceUtils#getOrderBooks(PollingMarketDataService, Collection,
+   * Object...)})
+   * </p>
+   *
+   * @param currencyPairs The currency pairs (e.g. BTC/USD, LTC/BTC)
+   * @param args Optional arguments, the same as for {@link #getOrderBook(CurrencyPair, Object...)}. Exchange-specific
+   * @return The order books keyed by currency pair, in the iteration order of currencyPairs. Pairs the exchange has no order book for are left out.
+   * @throws ExchangeException - Indication that the exchange reported some kind of error with the request or response
+   * @throws NotAvailableFromExchangeException - Indication that the exchange does not support the requested function or data
+   * @throws NotYetImplementedForExchangeException - Indication that the exchange supports the requested function or data, but it has not yet been
+   *         implemented
+   * @throws IOException - Indication that a networking error occurred while fetching JSON data
+   */
+  Map<CurrencyPair, OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args)
+      throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException;
+
 }
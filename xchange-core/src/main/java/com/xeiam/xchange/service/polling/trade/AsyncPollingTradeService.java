@@ -0,0 +1,64 @@
+package com.xeiam.xchange.service.polling.trade;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import com.xeiam.xchange.Exchange;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.dto.trade.MarketOrder;
+import com.xeiam.xchange.dto.trade.OpenOrders;
+import com.xeiam.xchange.dto.trade.UserTrades;
+import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
+
+/**
+ * <p>
+ * Interface to provide the following to {@link Exchange}:
+ * </p>
+ * <ul>
+ * <li>Non-blocking versions of the {@link PollingTradeService} methods</li>
+ * </ul>
+ * <p>
+ * Each method returns immediately. Errors are reported by {@link Future#get()} as an {@link java.util.concurrent.ExecutionException} whose cause is
+ * the exception the blocking method would have thrown.
+ * </p>
+ */
+public interface AsyncPollingTradeService {
+
+  /**
+   * @see PollingTradeService#getOpenOrders()
+   */
+  Future<OpenOrders> getOpenOrders();
+
+  /**
+   * @see PollingTradeService#placeMarketOrder(MarketOrder)
+   */
+  Future<String> placeMarketOrder(MarketOrder marketOrder);
+
+  /**
+   * @see PollingTradeService#placeLimitOrder(LimitOrder)
+   */
+  Future<String> placeLimitOrder(LimitOrder limitOrder);
+
+  /**
+   * @see PollingTradeService#cancelOrder(String)
+   */
+  Future<Boolean> cancelOrder(String orderId);
+
+  /**
+   * @see PollingTradeService#placeLimitOrders(List)
+   */
+  Future<List<String>> placeLimitOrders(List<LimitOrder> limitOrders);
+
+  /**
+   * @see PollingTradeService#cancelOrders(Collection)
+   */
+  Future<Map<String, Boolean>> cancelOrders(Collection<String> orderIds);
+
+  /**
+   * @see PollingTradeService#getTradeHistory(TradeHistoryParams)
+   */
+  Future<UserTrades> getTradeHistory(TradeHistoryParams params);
+
+}
@@ -0,0 +1,130 @@
+package com.xeiam.xchange.service.polling.trade;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.dto.trade.MarketOrder;
+import com.xeiam.xchange.dto.trade.OpenOrders;
+import com.xeiam.xchange.dto.trade.UserTrades;
+import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
+import com.xeiam.xchange.utils.Assert;
+
+/**
+ * {@link AsyncPollingTradeService} running the calls of a blocking {@link PollingTradeService} on an executor, by default
+ * {@link com.xeiam.xchange.service.polling.AsyncPollingExecutor#getSharedExecutor()}
+ */
+public class AsyncPollingTradeServiceAdapter implements AsyncPollingTradeService {
+
+  private final PollingTradeService pollingTradeService;
+  private final ExecutorService executor;
+
+  /**
+   * Constructor
+   *
+   * @param pollingTradeService the blocking service
+   * @param executor the executor running the blocking calls
+   */
+  public AsyncPollingTradeServiceAdapter(PollingTradeService pollingTradeService, ExecutorService executor) {
+
+    Assert.notNull(pollingTradeService, "pollingTradeService cannot be null");
+    Assert.notNull(executor, "executor cannot be null");
+    this.pollingTradeService = pollingTradeService;
+    this.executor = executor;
+  }
+
+  @Override
+  public Future<OpenOrders> getOpenOrders() {
+
+    return executor.submit(new Callable<OpenOrders>() {
+
+      @Override
+      public OpenOrders call() throws Exception {
+
+        return pollingTradeService.getOpenOrders();
+      }
+    });
+  }
+
+  @Override
+  public Future<String> placeMarketOrder(final MarketOrder marketOrder) {
+
+    return executor.submit(new Callable<String>() {
+
+      @Override
+      public String call() throws Exception {
+
+        return pollingTradeService.placeMarketOrder(marketOrder);
+      }
+    });
+  }
+
+  @Override
+  public Future<String> placeLimitOrder(final LimitOrder limitOrder) {
+
+    return executor.submit(new Callable<String>() {
+
+      @Override
+      public String call() throws Exception {
+
+        return pollingTradeService.placeLimitOrder(limitOrder);
+      }
+    });
+  }
+
+  @Override
+  public Future<Boolean> cancelOrder(final String orderId) {
+
+    return executor.submit(new Callable<Boolean>() {
+
+      @Override
+      public Boolean call() throws Exception {
+
+        return pollingTradeService.cancelOrder(orderId);
+      }
+    });
+  }
+
+  @Override
+  public Future<List<String>> placeLimitOrders(final List<LimitOrder> limitOrders) {
+
+    return executor.submit(new Callable<List<String>>() {
+
+      @Override
+      public List<String> call() throws Exception {
+
+        return pollingTradeService.placeLimitOrders(limitOrders);
+      }
+    });
+  }
+
+  @Override
+  public Future<Map<String, Boolean>> cancelOrders(final Collection<String> orderIds) {
+
+    return executor.submit(new Callable<Map<String, Boolean>>() {
+
+      @Override
+      public Map<String, Boolean> call() throws Exception {
+
+        return pollingTradeService.cancelOrders(orderIds);
+      }
+    });
+  }
+
+  @Override
+  public Future<UserTrades> getTradeHistory(final TradeHistoryParams params) {
+
+    return executor.submit(new Callable<UserTrades>() {
+
+      @Override
+      public UserTrades call() throws Exception {
+
+        return pollingTradeService.getTradeHistory(params);
+      }
+    });
+  }
+}
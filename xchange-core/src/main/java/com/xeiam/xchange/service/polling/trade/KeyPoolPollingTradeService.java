@@ -0,0 +1,375 @@
+package com.xeiam.xchange.service.polling.trade;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.dto.trade.MarketOrder;
+import com.xeiam.xchange.dto.trade.OpenOrders;
+import com.xeiam.xchange.dto.trade.UserTrades;
+import com.xeiam.xchange.exceptions.ExchangeException;
+import com.xeiam.xchange.exceptions.NotAvailableFromExchangeException;
+import com.xeiam.xchange.exceptions.NotYetImplementedForExchangeException;
+import com.xeiam.xchange.exceptions.PartialCancellationException;
+import com.xeiam.xchange.exceptions.PartialPlacementException;
+import com.xeiam.xchange.service.polling.AsyncPollingExecutor;
+import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
+import com.xeiam.xchange.utils.Assert;
+
+/**
+ * <p>
+ * {@link PollingTradeService} spreading the calls over the trade services of several API keys of one account, see
+ * {@link com.xeiam.xchange.ExchangeSpecification#addApiKey(String, String)}. This provides the following:
+ * </p>
+ * <ul>
+ * <li>Calls on different keys in flight at the same time, each call taking a key which is idle if there is one</li>
+ * <li>At most one call per key at a time, so the nonces of each key reach the exchange in order</li>
+ * <li>Batches of orders split into one contiguous chunk per key, the chunks being sent on the shared {@link AsyncPollingExecutor} pool</li>
+ * <li>The results of the chunks merged even when some fail, the orders of a failed chunk having an unknown outcome, see
+ * {@link PartialPlacementException} and {@link PartialCancellationException}</li>
+ * </ul>
+ */
+public class KeyPoolPollingTradeService implements PollingTradeService {
+
+  private final List<PollingTradeService> tradeServices;
+  private final ReentrantLock[] locks;
+  private final AtomicInteger next = new AtomicInteger();
+
+  /**
+   * Constructor
+   *
+   * @param tradeServices the trade services, one per API key, the first one answering the calls which do not reach the exchange
+   */
+  public KeyPoolPollingTradeService(List<? extends PollingTradeService> tradeServices) {
+
+    Assert.isTrue(!tradeServices.isEmpty(), "tradeServices cannot be empty");
+    this.tradeServices = Collections.unmodifiableList(new ArrayList<PollingTradeService>(tradeServices));
+    this.locks = new ReentrantLock[tradeServices.size()];
+    for (int i = 0; i < locks.length; i++) {
+      locks[i] = new ReentrantLock();
+    }
+  }
+
+  /**
+   * @return the trade services, one per API key
+   */
+  public List<PollingTradeService> getTradeServices() {
+
+    return tradeServices;
+  }
+
+  /**
+   * The services sharing the nonce factory of a key, such as the account service of the first one, take its lock around their calls too
+   *
+   * @param key the index of the key
+   * @return the lock held by the calls of this service on the key
+   */
+  public Lock getLock(int key) {
+
+    return locks[key];
+  }
+
+  /**
+   * Takes an idle key, starting from the one after the last taken, or waits for a key if all are busy
+   *
+   * @return the index of the key, which must be released after the call
+   */
+  private int acquire() {
+
+    int start = (next.getAndIncrement() & Integer.MAX_VALUE) % locks.length;
+    for (int i = 0; i < locks.length; i++) {
+      int key = (start + i) % locks.length;
+      if (locks[key].tryLock()) {
+        return key;
+      }
+    }
+    locks[start].lock();
+    return start;
+  }
+
+  private void release(int key) {
+
+    locks[key].unlock();
+  }
+
+  @Override
+  public OpenOrders getOpenOrders() throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException {
+
+    int key = acquire();
+    try {
+      return tradeServices.get(key).getOpenOrders();
+    } finally {
+      release(key);
+    }
+  }
+
+  @Override
+  public String placeMarketOrder(MarketOrder marketOrder)
+      throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException {
+
+    int key = acquire();
+    try {
+      return tradeServices.get(key).placeMarketOrder(marketOrder);
+    } finally {
+      release(key);
+    }
+  }
+
+  @Override
+  public String placeLimitOrder(LimitOrder limitOrder)
+      throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException {
+
+    int key = acquire();
+    try {
+      return tradeServices.get(key).placeLimitOrder(limitOrder);
+    } finally {
+      release(key);
+    }
+  }
+
+  @Override
+  public boolean cancelOrder(String orderId) throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException {
+
+    int key = acquire();
+    try {
+      return tradeServices.get(key).cancelOrder(orderId);
+    } finally {
+      release(key);
+    }
+  }
+
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders)
+      throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException {
+
+    List<List<LimitOrder>> chunks = split(limitOrders);
+    List<Callable<List<String>>> calls = new ArrayList<Callable<List<String>>>(chunks.size());
+    for (final List<LimitOrder> chunk : chunks) {
+      calls.add(new Callable<List<String>>() {
+
+        @Override
+        public List<String> call() throws IOException {
+
+          int key = acquire();
+          try {
+            return tradeServices.get(key).placeLimitOrders(chunk);
+          } finally {
+            release(key);
+          }
+        }
+      });
+    }
+
+    List<String> orderIds = new ArrayList<String>(limitOrders.size());
+    List<Integer> unknownIndexes = new ArrayList<Integer>();
+    Exception failure = null;
+    List<FutureTask<List<String>>> tasks = runAll(calls);
+    for (int i = 0; i < tasks.size(); i++) {
+      int offset = orderIds.size();
+      try {
+        orderIds.addAll(get(tasks.get(i)));
+      } catch (PartialPlacementException e) {
+        orderIds.addAll(e.getOrderIds());
+        for (int index : e.getUnknownIndexes()) {
+          unknownIndexes.add(offset + index);
+        }
+        failure = addFailure(failure, e);
+      } catch (UnsupportedOperationException e) {
+        throw e;
+      } catch (ExchangeException e) {
+        // the exchange rejected the whole chunk
+        orderIds.addAll(Collections.<String> nCopies(chunks.get(i).size(), null));
+      } catch (IOException | RuntimeException e) {
+        for (int j = 0; j < chunks.get(i).size(); j++) {
+          unknownIndexes.add(offset + j);
+          orderIds.add(null);
+        }
+        failure = addFailure(failure, e);
+      }
+    }
+    if (failure != null) {
+      throw new PartialPlacementException(orderIds, unknownIndexes, failure);
+    }
+    return orderIds;
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds)
+      throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException {
+
+    List<List<String>> chunks = split(new ArrayList<String>(orderIds));
+    List<Callable<Map<String, Boolean>>> calls = new ArrayList<Callable<Map<String, Boolean>>>(chunks.size());
+    for (final List<String> chunk : chunks) {
+      calls.add(new Callable<Map<String, Boolean>>() {
+
+        @Override
+        public Map<String, Boolean> call() throws IOException {
+
+          int key = acquire();
+          try {
+            return tradeServices.get(key).cancelOrders(chunk);
+          } finally {
+            release(key);
+          }
+        }
+      });
+    }
+
+    Map<String, Boolean> cancelled = new LinkedHashMap<String, Boolean>();
+    List<String> unknownOrderIds = new ArrayList<String>();
+    Exception failure = null;
+    List<FutureTask<Map<String, Boolean>>> tasks = runAll(calls);
+    for (int i = 0; i < tasks.size(); i++) {
+      try {
+        cancelled.putAll(get(tasks.get(i)));
+      } catch (PartialCancellationException e) {
+        cancelled.putAll(e.getCancelled());
+        unknownOrderIds.addAll(e.getUnknownOrderIds());
+        failure = addFailure(failure, e);
+      } catch (UnsupportedOperationException e) {
+        throw e;
+      } catch (ExchangeException e) {
+        // the exchange rejected the whole chunk
+        for (String orderId : chunks.get(i)) {
+          cancelled.put(orderId, false);
+        }
+      } catch (IOException | RuntimeException e) {
+        unknownOrderIds.addAll(chunks.get(i));
+        failure = addFailure(failure, e);
+      }
+    }
+    if (failure != null) {
+      throw new PartialCancellationException(cancelled, unknownOrderIds, failure);
+    }
+    return cancelled;
+  }
+
+  /**
+   * @return the items split into at most one contiguous chunk per key, keeping their order
+   */
+  private <T> List<List<T>> split(List<T> items) {
+
+    int chunkCount = Math.min(tradeServices.size(), items.size());
+    List<List<T>> chunks = new ArrayList<List<T>>(chunkCount);
+    for (int i = 0; i < chunkCount; i++) {
+      chunks.add(items.subList(i * items.size() / chunkCount, (i + 1) * items.size() / chunkCount));
+    }
+    return chunks;
+  }
+
+  /**
+   * Runs the calls on the shared pool, the calling thread running the first one and any other the pool has not picked up yet
+   *
+   * @return the completed calls, in the order of the calls, so that a failed chunk does not hide the results of the others
+   */
+  private static <T> List<FutureTask<T>> runAll(List<Callable<T>> calls) throws InterruptedIOException {
+
+    List<FutureTask<T>> tasks = new ArrayList<FutureTask<T>>(calls.size());
+    for (Callable<T> call : calls) {
+      FutureTask<T> task = new FutureTask<T>(call);
+      if (!tasks.isEmpty()) {
+        AsyncPollingExecutor.getSharedExecutor().execute(task);
+      }
+      tasks.add(task);
+    }
+
+    for (FutureTask<T> task : tasks) {
+      // a no-op if the pool already started it, so a busy pool cannot stall the batch
+      task.run();
+      try {
+        task.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("interrupted while waiting for a batch of orders");
+      } catch (ExecutionException e) {
+        // reported by get(FutureTask)
+      }
+    }
+    return tasks;
+  }
+
+  /**
+   * @return the result of the completed call, rethrowing its failure
+   * @throws UnsupportedOperationException if the exchange does not support the call, as this fails the whole batch
+   */
+  private static <T> T get(FutureTask<T> task) throws IOException {
+
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while waiting for a batch of orders");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new ExchangeException("Batch of orders failed", cause);
+    }
+  }
+
+  /**
+   * @return the first failure, the later ones being added to it as suppressed exceptions
+   */
+  private static Exception addFailure(Exception first, Exception failure) {
+
+    if (first == null) {
+      return failure;
+    }
+    first.addSuppressed(failure);
+    return first;
+  }
+
+  @Override
+  public UserTrades getTradeHistory(TradeHistoryParams params) throws IOException {
+
+    int key = acquire();
+    try {
+      return tradeServices.get(key).getTradeHistory(params);
+    } finally {
+      release(key);
+    }
+  }
+
+  @Override
+  public TradeHistoryParams createTradeHistoryParams() {
+
+    return tradeServices.get(0).createTradeHistoryParams();
+  }
+
+  @Override
+  public void verifyOrder(LimitOrder limitOrder) {
+
+    tradeServices.get(0).verifyOrder(limitOrder);
+  }
+
+  @Override
+  public void verifyOrder(MarketOrder marketOrder) {
+
+    tradeServices.get(0).verifyOrder(marketOrder);
+  }
+
+  @Override
+  @Deprecated
+  public List<CurrencyPair> getExchangeSymbols() throws IOException {
+
+    return tradeServices.get(0).getExchangeSymbols();
+  }
+}
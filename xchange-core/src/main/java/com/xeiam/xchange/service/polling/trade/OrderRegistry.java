@@ -0,0 +1,135 @@
+package com.xeiam.xchange.service.polling.trade;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.dto.trade.OpenOrders;
+import com.xeiam.xchange.utils.Assert;
+
+/**
+ * <p>
+ * The currency pair and side of the orders of an account, by order ID, see {@link com.xeiam.xchange.Exchange#getOrderRegistry()}. This provides
+ * the following:
+ * </p>
+ * <ul>
+ * <li>Cancelling an order on an exchange whose cancel call needs its pair or side, without first fetching the open orders to find them</li>
+ * <li>A bounded size, the least recently used orders being forgotten first</li>
+ * </ul>
+ * <p>
+ * Trade services register the orders they place and the open orders they fetch, and forget an order once it is cancelled. A miss only means the
+ * order was placed elsewhere or has been forgotten, the caller then falls back to looking it up on the exchange.
+ * </p>
+ */
+public class OrderRegistry {
+
+  public static final int DEFAULT_MAX_SIZE = 10000;
+
+  private final Map<String, Entry> orders;
+
+  /**
+   * Constructor keeping up to {@link #DEFAULT_MAX_SIZE} orders
+   */
+  public OrderRegistry() {
+
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param maxSize the number of orders kept, the least recently used ones being forgotten first
+   */
+  public OrderRegistry(final int maxSize) {
+
+    Assert.isTrue(maxSize > 0, "maxSize must be positive");
+    this.orders = Collections.synchronizedMap(new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+
+        return size() > maxSize;
+      }
+    });
+  }
+
+  /**
+   * @param orderId the ID the exchange gave the order, ignored if null
+   */
+  public void register(String orderId, CurrencyPair currencyPair, OrderType type) {
+
+    if (orderId != null && currencyPair != null) {
+      orders.put(orderId, new Entry(currencyPair, type));
+    }
+  }
+
+  /**
+   * Registers an order under its own ID, ignored if it has none
+   */
+  public void register(Order order) {
+
+    register(order.getId(), order.getCurrencyPair(), order.getType());
+  }
+
+  /**
+   * Registers all the given open orders
+   */
+  public void register(OpenOrders openOrders) {
+
+    for (LimitOrder openOrder : openOrders.getOpenOrders()) {
+      register(openOrder);
+    }
+  }
+
+  /**
+   * @return the pair of the order, null if it is not registered
+   */
+  public CurrencyPair getCurrencyPair(String orderId) {
+
+    Entry entry = orders.get(orderId);
+    return entry == null ? null : entry.currencyPair;
+  }
+
+  /**
+   * @return the side of the order, null if it is not registered
+   */
+  public OrderType getType(String orderId) {
+
+    Entry entry = orders.get(orderId);
+    return entry == null ? null : entry.type;
+  }
+
+  /**
+   * Forgets an order, once it is cancelled or filled
+   */
+  public void remove(String orderId) {
+
+    orders.remove(orderId);
+  }
+
+  public int size() {
+
+    return orders.size();
+  }
+
+  public void clear() {
+
+    orders.clear();
+  }
+
+  private static final class Entry {
+
+    private final CurrencyPair currencyPair;
+    private final OrderType type;
+
+    Entry(CurrencyPair currencyPair, OrderType type) {
+
+      this.currencyPair = currencyPair;
+      this.type = type;
+    }
+  }
+}
@@ -1,6 +1,9 @@
 package com.xeiam.xchange.service.polling.trade;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.dto.trade.LimitOrder;
 import com.xeiam.xchange.dto.trade.MarketOrder;
@@ -9,6 +12,8 @@ import com.xeiam.xchange.dto.trade.UserTrades;
 import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.exceptions.NotAvailableFromExchangeException;
 import com.xeiam.xchange.exceptions.NotYetImplementedForExchangeException;
+import com.xeiam.xchange.exceptions.PartialCancellationException;
+import com.xeiam.xchange.exceptions.PartialPlacementException;
 import com.xeiam.xchange.service.polling.BasePollingService;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
 
@@ -21,6 +26,7 @@ import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
  * <li>Cancel user's open orders on the exchange</li>
  * <li>Place market orders on the exchange</li>
  * <li>Place limit orders on the exchange</li>
+ * <li>Place and cancel batches of orders on the exchange</li>
  * </ul>
  * <p>
  * The implementation of this service is expected to be based on a client polling mechanism of some kind
@@ -82,6 +88,52 @@ public interface PollingTradeService extends BasePollingService {
   public boolean cancelOrder(String orderId)
       throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException;
 
+  /**
+   * <p>
+   * Place several limit orders
+   * </p>
+   * <p>
+   * Exchanges with a batch endpoint place them with a single call, the others call {@link #placeLimitOrder(LimitOrder)} once per order (see
+   * {@link TradeServiceUtils#placeLimitOrders(PollingTradeService, List)}). Those calls are sequential on purpose: the nonces of an API key must
+   * reach the exchange in increasing order, which concurrent calls on one key do not guarantee. Spread a batch over several keys with
+   * {@link KeyPoolPollingTradeService} to place it faster.
+   * </p>
+   *
+   * @param limitOrders
+   * @return the order IDs, in the order of limitOrders, null for an order the exchange rejected
+   * @throws ExchangeException - Indication that the exchange rejected the whole batch
+   * @throws PartialPlacementException - Indication that some orders have an unknown outcome, carrying the IDs of the others
+   * @throws NotAvailableFromExchangeException - Indication that the exchange does not support the requested function or data
+   * @throws NotYetImplementedForExchangeException - Indication that the exchange supports the requested function or data, but it has not yet been
+   *         implemented
+   * @throws IOException - Indication that a networking error occurred while fetching JSON data
+   */
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders)
+      throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException;
+
+  /**
+   * <p>
+   * Cancel several orders
+   * </p>
+   * <p>
+   * Exchanges with a batch endpoint cancel them with a single call, the others call {@link #cancelOrder(String)} once per order (see
+   * {@link TradeServiceUtils#cancelOrders(PollingTradeService, Collection)}), one after the other for the same nonce ordering reason as
+   * {@link #placeLimitOrders(List)}
+   * </p>
+   *
+   * @param orderIds
+   * @return whether each order was successfully cancelled, keyed by order ID in the iteration order of orderIds, false for an order the exchange
+   *         rejected
+   * @throws ExchangeException - Indication that the exchange rejected the whole batch
+   * @throws PartialCancellationException - Indication that some orders have an unknown outcome, carrying the outcome of the others
+   * @throws NotAvailableFromExchangeException - Indication that the exchange does not support the requested function or data
+   * @throws NotYetImplementedForExchangeException - Indication that the exchange supports the requested function or data, but it has not yet been
+   *         implemented
+   * @throws IOException - Indication that a networking error occurred while fetching JSON data
+   */
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds)
+      throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException;
+
   /**
    * Fetch the history of user trades.
    * <p/>
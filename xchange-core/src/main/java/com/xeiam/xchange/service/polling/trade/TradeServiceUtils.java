@@ -0,0 +1,118 @@
+package com.xeiam.xchange.service.polling.trade;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.exceptions.ExchangeException;
+import com.xeiam.xchange.exceptions.PartialCancellationException;
+import com.xeiam.xchange.exceptions.PartialPlacementException;
+
+/**
+ * <p>
+ * Utilities to provide the following to {@link PollingTradeService} implementations:
+ * </p>
+ * <ul>
+ * <li>The one-request-per-order implementation of the batch methods, for exchanges without a batch endpoint. The calls are made one after the other,
+ * so the nonces of an API key reach the exchange in order</li>
+ * <li>A failed order does not fail the batch: the remaining orders are still sent, so the caller always learns the IDs of the orders that were
+ * placed</li>
+ * <li>An order the exchange rejected (an {@link ExchangeException}) is reported in the result, while an order whose call failed otherwise has an
+ * unknown outcome: it is reported by the exception thrown once every order was sent, which carries the results of the others</li>
+ * </ul>
+ */
+public final class TradeServiceUtils {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TradeServiceUtils.class);
+
+  /**
+   * private Constructor
+   */
+  private TradeServiceUtils() {
+
+  }
+
+  /**
+   * Calls {@link PollingTradeService#placeLimitOrder(LimitOrder)} once per order
+   *
+   * @return the order IDs, in the order of limitOrders, null for an order the exchange rejected
+   * @throws PartialPlacementException if the call of some orders failed without an answer from the exchange, once every order was sent
+   * @throws UnsupportedOperationException if the exchange does not support placing limit orders, before any order is placed
+   */
+  public static List<String> placeLimitOrders(PollingTradeService tradeService, List<LimitOrder> limitOrders) throws PartialPlacementException {
+
+    List<String> orderIds = new ArrayList<String>(limitOrders.size());
+    List<Integer> unknownIndexes = new ArrayList<Integer>();
+    Exception failure = null;
+    for (LimitOrder limitOrder : limitOrders) {
+      try {
+        orderIds.add(tradeService.placeLimitOrder(limitOrder));
+      } catch (UnsupportedOperationException e) {
+        throw e;
+      } catch (ExchangeException e) {
+        LOG.warn("Order {} rejected: {}", limitOrder, e.toString());
+        orderIds.add(null);
+      } catch (IOException | RuntimeException e) {
+        LOG.warn("Order {} failed: {}", limitOrder, e.toString());
+        unknownIndexes.add(orderIds.size());
+        orderIds.add(null);
+        failure = addFailure(failure, e);
+      }
+    }
+    if (failure != null) {
+      throw new PartialPlacementException(orderIds, unknownIndexes, failure);
+    }
+    return orderIds;
+  }
+
+  /**
+   * Calls {@link PollingTradeService#cancelOrder(String)} once per order
+   *
+   * @return whether each order was cancelled, keyed by order ID in the iteration order of orderIds, false for an order the exchange rejected
+   * @throws PartialCancellationException if the call of some orders failed without an answer from the exchange, once every order was sent
+   * @throws UnsupportedOperationException if the exchange does not support cancelling orders, before any order is cancelled
+   */
+  public static Map<String, Boolean> cancelOrders(PollingTradeService tradeService, Collection<String> orderIds) throws PartialCancellationException {
+
+    Map<String, Boolean> cancelled = new LinkedHashMap<String, Boolean>();
+    List<String> unknownOrderIds = new ArrayList<String>();
+    Exception failure = null;
+    for (String orderId : orderIds) {
+      try {
+        cancelled.put(orderId, tradeService.cancelOrder(orderId));
+      } catch (UnsupportedOperationException e) {
+        throw e;
+      } catch (ExchangeException e) {
+        LOG.warn("Cancel of order {} rejected: {}", orderId, e.toString());
+        cancelled.put(orderId, false);
+      } catch (IOException | RuntimeException e) {
+        LOG.warn("Cancel of order {} failed: {}", orderId, e.toString());
+        unknownOrderIds.add(orderId);
+        failure = addFailure(failure, e);
+      }
+    }
+    if (failure != null) {
+      throw new PartialCancellationException(cancelled, unknownOrderIds, failure);
+    }
+    return cancelled;
+  }
+
+  /**
+   * @return the first failure, the later ones being added to it as suppressed exceptions
+   */
+  private static Exception addFailure(Exception first, Exception failure) {
+
+    if (first == null) {
+      return failure;
+    }
+    first.addSuppressed(failure);
+    return first;
+  }
+}
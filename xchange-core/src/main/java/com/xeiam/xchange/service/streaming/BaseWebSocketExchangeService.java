@@ -2,11 +2,11 @@ package com.xeiam.xchange.service.streaming;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 import org.java_websocket.WebSocket.READYSTATE;
@@ -35,9 +35,9 @@ public abstract class BaseWebSocketExchangeService extends BaseExchangeService i
   private final ExchangeStreamingConfiguration exchangeStreamingConfiguration;
 
   /**
-   * The event queue for the consumer
+   * The event queue for the consumer, as given by {@link ExchangeStreamingConfiguration#getEventQueueConfiguration()}
    */
-  protected final BlockingQueue<ExchangeEvent> consumerEventQueue = new LinkedBlockingQueue<ExchangeEvent>();
+  protected final BlockingQueue<ExchangeEvent> consumerEventQueue;
 
   protected ReconnectService reconnectService;
 
@@ -56,6 +56,7 @@ public abstract class BaseWebSocketExchangeService extends BaseExchangeService i
 
     super(exchange);
     this.exchangeStreamingConfiguration = exchangeStreamingConfiguration;
+    this.consumerEventQueue = exchangeStreamingConfiguration.getEventQueueConfiguration().newQueue();
     reconnectService = new ReconnectService(this, exchangeStreamingConfiguration);
   }
 
@@ -103,6 +104,15 @@ public abstract class BaseWebSocketExchangeService extends BaseExchangeService i
     return consumerEventQueue.size();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int drainEvents(Collection<? super ExchangeEvent> events, int maxEvents) {
+
+    return consumerEventQueue.drainTo(events, maxEvents);
+  }
+
   public synchronized ExchangeEvent checkNextEvent() throws InterruptedException {
 
     if (consumerEventQueue.isEmpty()) {
@@ -0,0 +1,174 @@
+package com.xeiam.xchange.service.streaming;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.xeiam.xchange.utils.Assert;
+
+/**
+ * <p>
+ * Event queue that only keeps the latest {@link ExchangeEventType#TICKER} and {@link ExchangeEventType#DEPTH} event of each currency pair.
+ * </p>
+ * <p>
+ * Every ticker and depth event overwrites the slot of its (event type, currency pair), so a consumer that falls behind receives the current state of
+ * each pair instead of every intermediate update. All other events, such as trades, orders and connection events, go through a lossless FIFO lane.
+ * Memory is therefore bounded by the number of subscribed pairs for market state, and only grows with the lossless events.
+ * </p>
+ * <p>
+ * Ordering: a slot keeps the position in the queue of the first update put into it since it was last taken, and is delivered there with its
+ * latest update. A newer ticker or depth thus overtakes the lossless events queued after that first update, e.g. a consumer may receive a book
+ * that already reflects trades whose TRADE events come after it. The events of the lossless lane keep their order, and so do the updates of one
+ * slot. Consumers that need ticker and depth strictly interleaved with the other events must use a lossless queue.
+ * </p>
+ * <p>
+ * Depth events are assumed to carry full order books: a feed that publishes incremental depth (e.g. Bitstamp's <code>diff_order_book</code>
+ * channel) must not use this queue, as merging its events would lose levels. The streaming configurations of such feeds reject it.
+ * </p>
+ */
+public class ConflatingEventQueue extends AbstractQueue<ExchangeEvent> implements BlockingQueue<ExchangeEvent> {
+
+  private final ConflationSlots conflationSlots = new ConflationSlots();
+
+  /** lossless events and the slots of conflated ones, in arrival order; a slot is queued at most once */
+  private final LinkedBlockingQueue<Object> lane = new LinkedBlockingQueue<Object>();
+
+  /**
+   * Inserts the event, replacing the unconsumed event of the same type and currency pair if there is one. Never blocks nor fails.
+   */
+  @Override
+  public boolean offer(ExchangeEvent event) {
+
+    Assert.notNull(event, "event cannot be null");
+
+    ConflationSlots.Slot slot = conflationSlots.getSlot(event);
+    if (slot == null) {
+      lane.offer(event);
+    } else if (slot.put(event) == null) {
+      lane.offer(slot);
+    }
+    return true;
+  }
+
+  @Override
+  public void put(ExchangeEvent event) {
+
+    offer(event);
+  }
+
+  @Override
+  public boolean offer(ExchangeEvent event, long timeout, TimeUnit unit) {
+
+    return offer(event);
+  }
+
+  @Override
+  public ExchangeEvent poll() {
+
+    Object entry;
+    while ((entry = lane.poll()) != null) {
+      ExchangeEvent event = resolve(entry);
+      if (event != null) {
+        return event;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public ExchangeEvent take() throws InterruptedException {
+
+    while (true) {
+      ExchangeEvent event = resolve(lane.take());
+      if (event != null) {
+        return event;
+      }
+    }
+  }
+
+  @Override
+  public ExchangeEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    while (true) {
+      Object entry = lane.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+      if (entry == null) {
+        return null;
+      }
+      ExchangeEvent event = resolve(entry);
+      if (event != null) {
+        return event;
+      }
+    }
+  }
+
+  @Override
+  public ExchangeEvent peek() {
+
+    Object entry = lane.peek();
+    return entry instanceof ConflationSlots.Slot ? ((ConflationSlots.Slot) entry).peek() : (ExchangeEvent) entry;
+  }
+
+  /**
+   * @return the number of lossless events plus the number of currency pairs with a pending ticker or depth event
+   */
+  @Override
+  public int size() {
+
+    return lane.size();
+  }
+
+  @Override
+  public int remainingCapacity() {
+
+    return Integer.MAX_VALUE;
+  }
+
+  @Override
+  public int drainTo(Collection<? super ExchangeEvent> collection) {
+
+    return drainTo(collection, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(Collection<? super ExchangeEvent> collection, int maxElements) {
+
+    Assert.notNull(collection, "collection cannot be null");
+    Assert.isTrue(collection != this, "cannot drain a queue into itself");
+
+    int drained = 0;
+    ExchangeEvent event;
+    while (drained < maxElements && (event = poll()) != null) {
+      collection.add(event);
+      drained++;
+    }
+    return drained;
+  }
+
+  /**
+   * @return a read only snapshot of the queued events
+   */
+  @Override
+  public Iterator<ExchangeEvent> iterator() {
+
+    List<ExchangeEvent> snapshot = new ArrayList<ExchangeEvent>(lane.size());
+    for (Object entry : lane) {
+      ExchangeEvent event = entry instanceof ConflationSlots.Slot ? ((ConflationSlots.Slot) entry).peek() : (ExchangeEvent) entry;
+      if (event != null) {
+        snapshot.add(event);
+      }
+    }
+    return Collections.unmodifiableList(snapshot).iterator();
+  }
+
+  private static ExchangeEvent resolve(Object entry) {
+
+    return entry instanceof ConflationSlots.Slot ? ((ConflationSlots.Slot) entry).take() : (ExchangeEvent) entry;
+  }
+}
@@ -0,0 +1,108 @@
+package com.xeiam.xchange.service.streaming;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.Ticker;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+
+/**
+ * One overwritable slot per (event type, currency pair) for events whose latest value supersedes the previous ones. Slots are created on first use
+ * and then reused, so conflating an event does not allocate.
+ */
+final class ConflationSlots {
+
+  private final ConcurrentMap<CurrencyPair, Slot> tickers = new ConcurrentHashMap<CurrencyPair, Slot>();
+
+  private final ConcurrentMap<CurrencyPair, Slot> depths = new ConcurrentHashMap<CurrencyPair, Slot>();
+
+  /**
+   * @param event an event
+   * @return the slot of the event, or null if the event cannot be conflated
+   */
+  Slot getSlot(ExchangeEvent event) {
+
+    ConcurrentMap<CurrencyPair, Slot> slots;
+    if (event.getEventType() == ExchangeEventType.TICKER) {
+      slots = tickers;
+    } else if (event.getEventType() == ExchangeEventType.DEPTH) {
+      slots = depths;
+    } else {
+      return null;
+    }
+    CurrencyPair currencyPair = getCurrencyPair(event.getPayload());
+    if (currencyPair == null) {
+      return null;
+    }
+    Slot slot = slots.get(currencyPair);
+    if (slot == null) {
+      Slot newSlot = new Slot();
+      slot = slots.putIfAbsent(currencyPair, newSlot);
+      if (slot == null) {
+        slot = newSlot;
+      }
+    }
+    return slot;
+  }
+
+  private static CurrencyPair getCurrencyPair(Object payload) {
+
+    if (payload instanceof Ticker) {
+      return ((Ticker) payload).getCurrencyPair();
+    }
+    if (payload instanceof OrderBook) {
+      OrderBook orderBook = (OrderBook) payload;
+      CurrencyPair currencyPair = getCurrencyPair(orderBook.getAsks());
+      return currencyPair != null ? currencyPair : getCurrencyPair(orderBook.getBids());
+    }
+    if (payload instanceof Map) {
+      // some services (e.g. Coinfloor) publish the raw and generic DTOs in a map
+      return getCurrencyPair(((Map<?, ?>) payload).get("generic"));
+    }
+    return null;
+  }
+
+  private static CurrencyPair getCurrencyPair(List<LimitOrder> limitOrders) {
+
+    return limitOrders == null || limitOrders.isEmpty() ? null : limitOrders.get(0).getCurrencyPair();
+  }
+
+  /**
+   * Holds the latest unconsumed event of one (event type, currency pair)
+   */
+  static final class Slot {
+
+    private final AtomicReference<ExchangeEvent> event = new AtomicReference<ExchangeEvent>();
+
+    /**
+     * @return the event this one replaced, or null if the slot was empty
+     */
+    ExchangeEvent put(ExchangeEvent newEvent) {
+
+      return event.getAndSet(newEvent);
+    }
+
+    /**
+     * @return the latest event, or null if the slot was empty; the slot is empty afterwards
+     */
+    ExchangeEvent take() {
+
+      return event.getAndSet(null);
+    }
+
+    ExchangeEvent peek() {
+
+      return event.get();
+    }
+
+    boolean isEmpty() {
+
+      return event.get() == null;
+    }
+  }
+}
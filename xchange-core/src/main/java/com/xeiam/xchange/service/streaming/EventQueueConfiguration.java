@@ -0,0 +1,111 @@
+package com.xeiam.xchange.service.streaming;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import com.xeiam.xchange.utils.Assert;
+
+/**
+ * <p>
+ * Value object to provide the following to streaming exchange services:
+ * </p>
+ * <ul>
+ * <li>The kind of queue events are dispatched through, from the socket thread to the consumer</li>
+ * </ul>
+ * <p>
+ * The default, {@link #UNBOUNDED}, is a {@link LinkedBlockingQueue}. A bounded configuration uses a pre-allocated {@link RingBufferEventQueue} with
+ * the given wait strategy and overflow policy, so that a stalled consumer cannot make the queue grow without limit. {@link #CONFLATING} keeps only
+ * the latest ticker and depth of each currency pair, see {@link ConflatingEventQueue}.
+ * </p>
+ */
+public final class EventQueueConfiguration {
+
+  /**
+   * An unbounded, lossless {@link LinkedBlockingQueue}
+   */
+  public static final EventQueueConfiguration UNBOUNDED = new EventQueueConfiguration(0, null, null, false);
+
+  /**
+   * A {@link ConflatingEventQueue}: one slot per (event type, currency pair) for tickers and full-book depth, a lossless lane for everything else
+   */
+  public static final EventQueueConfiguration CONFLATING = new EventQueueConfiguration(0, null, null, true);
+
+  private final int capacity;
+  private final WaitStrategy waitStrategy;
+  private final OverflowPolicy overflowPolicy;
+  private final boolean conflating;
+
+  private EventQueueConfiguration(int capacity, WaitStrategy waitStrategy, OverflowPolicy overflowPolicy, boolean conflating) {
+
+    this.capacity = capacity;
+    this.waitStrategy = waitStrategy;
+    this.overflowPolicy = overflowPolicy;
+    this.conflating = conflating;
+  }
+
+  /**
+   * @param capacity the maximum number of queued events, rounded up to a power of two
+   * @param waitStrategy how waiting producers and consumers spend their time
+   * @param overflowPolicy what to do with new events when the queue is full
+   * @return a configuration for a bounded ring buffer queue
+   */
+  public static EventQueueConfiguration bounded(int capacity, WaitStrategy waitStrategy, OverflowPolicy overflowPolicy) {
+
+    Assert.isTrue(capacity > 0, "capacity must be positive");
+    Assert.notNull(waitStrategy, "waitStrategy cannot be null");
+    Assert.notNull(overflowPolicy, "overflowPolicy cannot be null");
+    return new EventQueueConfiguration(capacity, waitStrategy, overflowPolicy, false);
+  }
+
+  /**
+   * @return a new, empty event queue as configured
+   */
+  public BlockingQueue<ExchangeEvent> newQueue() {
+
+    if (conflating) {
+      return new ConflatingEventQueue();
+    }
+    if (isUnbounded()) {
+      return new LinkedBlockingQueue<ExchangeEvent>();
+    }
+    return new RingBufferEventQueue(capacity, waitStrategy, overflowPolicy);
+  }
+
+  public boolean isUnbounded() {
+
+    return capacity == 0;
+  }
+
+  /**
+   * @return true if only the latest ticker and depth of each currency pair are kept
+   */
+  public boolean isConflating() {
+
+    return conflating;
+  }
+
+  /**
+   * @return the maximum number of queued events, 0 if unbounded
+   */
+  public int getCapacity() {
+
+    return capacity;
+  }
+
+  public WaitStrategy getWaitStrategy() {
+
+    return waitStrategy;
+  }
+
+  public OverflowPolicy getOverflowPolicy() {
+
+    return overflowPolicy;
+  }
+
+  @Override
+  public String toString() {
+
+    return "EventQueueConfiguration [capacity=" + capacity + ", waitStrategy=" + waitStrategy + ", overflowPolicy=" + overflowPolicy + ", conflating="
+        + conflating + "]";
+  }
+}
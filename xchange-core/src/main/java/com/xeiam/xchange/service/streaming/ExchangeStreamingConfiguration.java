@@ -49,4 +49,11 @@ public interface ExchangeStreamingConfiguration {
    */
   public boolean keepAlive();
 
+  /**
+   * How should events be queued for the consumer? {@link EventQueueConfiguration#UNBOUNDED} keeps every event in an unbounded queue.
+   * 
+   * @return
+   */
+  public EventQueueConfiguration getEventQueueConfiguration();
+
 }
@@ -0,0 +1,29 @@
+package com.xeiam.xchange.service.streaming;
+
+/**
+ * <p>
+ * Enum to provide the following to {@link RingBufferEventQueue}:
+ * </p>
+ * <ul>
+ * <li>What happens to a new event when the bounded event queue is full</li>
+ * </ul>
+ */
+public enum OverflowPolicy {
+
+  /**
+   * The producer waits until the consumer frees space (non-blocking offers fail)
+   */
+  BLOCK,
+
+  /**
+   * The oldest queued event is discarded to make room for the new one
+   */
+  DROP_OLDEST,
+
+  /**
+   * {@link ExchangeEventType#TICKER} and {@link ExchangeEventType#DEPTH} events are parked in one slot per event type and currency pair, where a newer
+   * event replaces an older one that has not been consumed yet. All other events are handled as with {@link #BLOCK}. To always conflate, not only
+   * when the queue is full, see {@link ConflatingEventQueue}
+   */
+  CONFLATE
+}
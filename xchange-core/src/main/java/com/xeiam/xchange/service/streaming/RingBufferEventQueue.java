@@ -0,0 +1,385 @@
+package com.xeiam.xchange.service.streaming;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.xeiam.xchange.utils.Assert;
+
+/**
+ * <p>
+ * Bounded, lock-free event queue backed by a pre-allocated ring buffer.
+ * </p>
+ * <p>
+ * Unlike a {@link java.util.concurrent.LinkedBlockingQueue}, publishing an event neither allocates nor takes a lock, and the queue never grows beyond
+ * its capacity: what happens when it is full is decided by its {@link OverflowPolicy}, and how waiting threads spend their time by its
+ * {@link WaitStrategy}. The queue is designed for one producer (the socket thread) and one consumer, but every slot is claimed with a CAS so that
+ * occasional extra producers, such as reconnect or system event handlers, are safe.
+ * </p>
+ * <p>
+ * Events only leave the queue from its head: iteration is weakly consistent and read only, and removing an arbitrary element
+ * ({@link #remove(Object)}, {@link #removeAll(Collection)}, {@link #retainAll(Collection)}) is not supported. {@link #clear()} and the drain
+ * methods are.
+ * </p>
+ */
+public class RingBufferEventQueue extends AbstractQueue<ExchangeEvent> implements BlockingQueue<ExchangeEvent> {
+
+  private final int capacity;
+  private final int mask;
+  private final AtomicReferenceArray<ExchangeEvent> events;
+
+  /** per slot: the position that may next be published there (free) or that position + 1 (published) */
+  private final AtomicLongArray sequences;
+
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+
+  private final WaitStrategy waitStrategy;
+  private final OverflowPolicy overflowPolicy;
+
+  /** only used with OverflowPolicy.CONFLATE */
+  private final ConflationSlots conflationSlots;
+  private final ConcurrentLinkedQueue<ConflationSlots.Slot> parkedSlots;
+  private final AtomicInteger parkedCount = new AtomicInteger();
+
+  /**
+   * Constructor
+   *
+   * @param capacity the maximum number of queued events, rounded up to a power of two (at least 2)
+   * @param waitStrategy how waiting producers and consumers spend their time
+   * @param overflowPolicy what to do with new events when the queue is full
+   */
+  public RingBufferEventQueue(int capacity, WaitStrategy waitStrategy, OverflowPolicy overflowPolicy) {
+
+    Assert.isTrue(capacity > 0 && capacity <= 1 << 30, "capacity must be between 1 and 2^30");
+    Assert.notNull(waitStrategy, "waitStrategy cannot be null");
+    Assert.notNull(overflowPolicy, "overflowPolicy cannot be null");
+
+    // a single slot cannot tell a published position from the next free one, so the ring has at least two
+    this.capacity = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+    this.mask = this.capacity - 1;
+    this.events = new AtomicReferenceArray<ExchangeEvent>(this.capacity);
+    this.sequences = new AtomicLongArray(this.capacity);
+    for (int i = 0; i < this.capacity; i++) {
+      sequences.set(i, i);
+    }
+    this.waitStrategy = waitStrategy;
+    this.overflowPolicy = overflowPolicy;
+    if (overflowPolicy == OverflowPolicy.CONFLATE) {
+      this.conflationSlots = new ConflationSlots();
+      this.parkedSlots = new ConcurrentLinkedQueue<ConflationSlots.Slot>();
+    } else {
+      this.conflationSlots = null;
+      this.parkedSlots = null;
+    }
+  }
+
+  public int getCapacity() {
+
+    return capacity;
+  }
+
+  public WaitStrategy getWaitStrategy() {
+
+    return waitStrategy;
+  }
+
+  public OverflowPolicy getOverflowPolicy() {
+
+    return overflowPolicy;
+  }
+
+  /**
+   * Inserts the event, applying the overflow policy if the queue is full. Under {@link OverflowPolicy#BLOCK} (and for events that cannot be
+   * conflated under {@link OverflowPolicy#CONFLATE}) this returns false instead of waiting.
+   */
+  @Override
+  public boolean offer(ExchangeEvent event) {
+
+    Assert.notNull(event, "event cannot be null");
+
+    switch (overflowPolicy) {
+    case DROP_OLDEST:
+      while (!tryPublish(event)) {
+        tryConsume();
+      }
+      return true;
+    case CONFLATE:
+      ConflationSlots.Slot slot = conflationSlots.getSlot(event);
+      if (slot == null) {
+        return tryPublish(event);
+      }
+      // once an event of this slot is parked, newer ones are parked behind it so they are not delivered out of order
+      if (slot.isEmpty() && tryPublish(event)) {
+        return true;
+      }
+      park(slot, event);
+      return true;
+    default:
+      return tryPublish(event);
+    }
+  }
+
+  @Override
+  public void put(ExchangeEvent event) throws InterruptedException {
+
+    int attempt = 0;
+    while (!offer(event)) {
+      idle(++attempt);
+    }
+  }
+
+  @Override
+  public boolean offer(ExchangeEvent event, long timeout, TimeUnit unit) throws InterruptedException {
+
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int attempt = 0;
+    while (!offer(event)) {
+      if (System.nanoTime() - deadline >= 0) {
+        return false;
+      }
+      idle(++attempt);
+    }
+    return true;
+  }
+
+  @Override
+  public ExchangeEvent poll() {
+
+    ExchangeEvent event = tryConsume();
+    if (event == null && parkedSlots != null) {
+      // queued events are older than parked ones of the same slot, so parked events are only released once the ring is empty
+      ConflationSlots.Slot slot;
+      while (event == null && (slot = parkedSlots.poll()) != null) {
+        parkedCount.decrementAndGet();
+        event = slot.take();
+      }
+    }
+    return event;
+  }
+
+  @Override
+  public ExchangeEvent take() throws InterruptedException {
+
+    int attempt = 0;
+    ExchangeEvent event;
+    while ((event = poll()) == null) {
+      idle(++attempt);
+    }
+    return event;
+  }
+
+  @Override
+  public ExchangeEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int attempt = 0;
+    ExchangeEvent event;
+    while ((event = poll()) == null) {
+      if (System.nanoTime() - deadline >= 0) {
+        return null;
+      }
+      idle(++attempt);
+    }
+    return event;
+  }
+
+  @Override
+  public ExchangeEvent peek() {
+
+    long position = head.get();
+    int index = (int) (position & mask);
+    if (sequences.get(index) == position + 1) {
+      ExchangeEvent event = events.get(index);
+      if (event != null) {
+        return event;
+      }
+    }
+    if (parkedSlots != null) {
+      ConflationSlots.Slot slot = parkedSlots.peek();
+      if (slot != null) {
+        return slot.peek();
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public int size() {
+
+    // read head first: tail can only move further while we read it
+    long position = head.get();
+    long size = tail.get() - position;
+    return (int) Math.max(0, Math.min(size, capacity)) + (parkedSlots == null ? 0 : parkedCount.get());
+  }
+
+  @Override
+  public int remainingCapacity() {
+
+    return capacity - (int) Math.max(0, Math.min(tail.get() - head.get(), capacity));
+  }
+
+  @Override
+  public int drainTo(Collection<? super ExchangeEvent> collection) {
+
+    return drainTo(collection, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(Collection<? super ExchangeEvent> collection, int maxElements) {
+
+    Assert.notNull(collection, "collection cannot be null");
+    Assert.isTrue(collection != this, "cannot drain a queue into itself");
+
+    int drained = 0;
+    ExchangeEvent event;
+    while (drained < maxElements && (event = poll()) != null) {
+      collection.add(event);
+      drained++;
+    }
+    return drained;
+  }
+
+  /**
+   * Not supported, a slot in the middle of the ring cannot be freed without stopping the producers
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public boolean remove(Object o) {
+
+    throw new UnsupportedOperationException("Events can only be taken from the head of the queue");
+  }
+
+  /**
+   * Not supported, see {@link #remove(Object)}
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public boolean removeAll(Collection<?> c) {
+
+    throw new UnsupportedOperationException("Events can only be taken from the head of the queue");
+  }
+
+  /**
+   * Not supported, see {@link #remove(Object)}
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public boolean retainAll(Collection<?> c) {
+
+    throw new UnsupportedOperationException("Events can only be taken from the head of the queue");
+  }
+
+  @Override
+  public Iterator<ExchangeEvent> iterator() {
+
+    List<ExchangeEvent> snapshot = new ArrayList<ExchangeEvent>();
+    long end = tail.get();
+    for (long position = head.get(); position < end; position++) {
+      ExchangeEvent event = events.get((int) (position & mask));
+      if (event != null) {
+        snapshot.add(event);
+      }
+    }
+    if (parkedSlots != null) {
+      for (ConflationSlots.Slot slot : parkedSlots) {
+        ExchangeEvent event = slot.peek();
+        if (event != null) {
+          snapshot.add(event);
+        }
+      }
+    }
+    final Iterator<ExchangeEvent> iterator = snapshot.iterator();
+    return new Iterator<ExchangeEvent>() {
+
+      @Override
+      public boolean hasNext() {
+
+        return iterator.hasNext();
+      }
+
+      @Override
+      public ExchangeEvent next() {
+
+        return iterator.next();
+      }
+
+      @Override
+      public void remove() {
+
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  private boolean tryPublish(ExchangeEvent event) {
+
+    long position = tail.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          events.lazySet(index, event);
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (difference < 0) {
+        return false; // full
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  private ExchangeEvent tryConsume() {
+
+    long position = head.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        if (head.compareAndSet(position, position + 1)) {
+          ExchangeEvent event = events.get(index);
+          events.lazySet(index, null);
+          sequences.set(index, position + capacity);
+          return event;
+        }
+        position = head.get();
+      } else if (difference < 0) {
+        return null; // empty
+      } else {
+        position = head.get();
+      }
+    }
+  }
+
+  private void park(ConflationSlots.Slot slot, ExchangeEvent event) {
+
+    if (slot.put(event) == null) {
+      parkedCount.incrementAndGet();
+      parkedSlots.offer(slot);
+    }
+  }
+
+  private void idle(int attempt) throws InterruptedException {
+
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+    waitStrategy.idle(attempt);
+  }
+}
@@ -1,5 +1,7 @@
 package com.xeiam.xchange.service.streaming;
 
+import java.util.Collection;
+
 import org.java_websocket.WebSocket.READYSTATE;
 
 /**
@@ -46,6 +48,17 @@ public interface StreamingExchangeService {
    */
   int countEventsAvailable();
 
+  /**
+   * <p>
+   * Removes up to maxEvents events from the consumer event queue and adds them to the given collection, without waiting.
+   * </p>
+   * 
+   * @param events The collection to add the events to
+   * @param maxEvents The maximum number of events to transfer
+   * @return The number of events transferred
+   */
+  int drainEvents(Collection<? super ExchangeEvent> events, int maxEvents);
+
   /**
    * <p>
    * Sends a msg over the socket.
@@ -0,0 +1,68 @@
+package com.xeiam.xchange.service.streaming;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * Enum to provide the following to {@link RingBufferEventQueue}:
+ * </p>
+ * <ul>
+ * <li>The way a consumer waiting for an event, or a producer waiting for free space, spends its time</li>
+ * </ul>
+ * Each strategy trades CPU usage for wake-up latency.
+ */
+public enum WaitStrategy {
+
+  /**
+   * Spin continuously. Lowest latency, but keeps a core busy while idle
+   */
+  BUSY_SPIN {
+
+    @Override
+    void idle(int attempt) {
+
+      // spin
+    }
+  },
+
+  /**
+   * Spin briefly, then yield the CPU to other threads
+   */
+  YIELD {
+
+    @Override
+    void idle(int attempt) {
+
+      if (attempt > SPIN_TRIES) {
+        Thread.yield();
+      }
+    }
+  },
+
+  /**
+   * Spin briefly, yield for a while, then park the thread for short periods. Lowest CPU usage
+   */
+  PARK {
+
+    @Override
+    void idle(int attempt) {
+
+      if (attempt > 2 * SPIN_TRIES) {
+        LockSupport.parkNanos(PARK_NANOS);
+      } else if (attempt > SPIN_TRIES) {
+        Thread.yield();
+      }
+    }
+  };
+
+  private static final int SPIN_TRIES = 100;
+
+  private static final long PARK_NANOS = 50000L;
+
+  /**
+   * Called once per unsuccessful attempt while waiting
+   *
+   * @param attempt the number of unsuccessful attempts so far, starting at 1
+   */
+  abstract void idle(int attempt);
+}
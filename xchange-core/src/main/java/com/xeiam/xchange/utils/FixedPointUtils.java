@@ -0,0 +1,162 @@
+package com.xeiam.xchange.utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * <p>
+ * Utilities to provide the following to application:
+ * </p>
+ * <ul>
+ * <li>Conversion between {@link BigDecimal} and fixed point <code>long</code> values, where a value is stored as its mantissa at a given scale
+ * (e.g. 123.45 at scale 2 is 12345)</li>
+ * <li>Parsing of decimal strings straight into fixed point values, without creating a BigDecimal</li>
+ * </ul>
+ * The scale of a market's prices is normally taken from {@link com.xeiam.xchange.dto.meta.MarketMetaData#getPriceScale()}.
+ */
+public final class FixedPointUtils {
+
+  private static final long[] POWERS_OF_TEN = new long[19];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  /**
+   * private Constructor
+   */
+  private FixedPointUtils() {
+
+  }
+
+  /**
+   * @param value the decimal value
+   * @param scale the number of decimal places of the fixed point value
+   * @return the mantissa of value at the given scale
+   * @throws ArithmeticException if value has non-zero digits beyond scale or does not fit in a long
+   */
+  public static long toLong(BigDecimal value, int scale) {
+
+    // prices and amounts have an unscaled value fitting in a long, only its scale changes, without an intermediate BigDecimal
+    BigInteger unscaledValue = value.unscaledValue();
+    if (unscaledValue.bitLength() < Long.SIZE) {
+      return rescale(unscaledValue.longValue(), value.scale(), scale);
+    }
+    return value.movePointRight(scale).longValueExact();
+  }
+
+  /**
+   * @param mantissa the fixed point value
+   * @param scale the number of decimal places of the fixed point value
+   * @return the equivalent BigDecimal, with the given scale
+   */
+  public static BigDecimal toBigDecimal(long mantissa, int scale) {
+
+    return BigDecimal.valueOf(mantissa, scale);
+  }
+
+  /**
+   * Parses a plain decimal string such as "-123.4500" into a fixed point value. Strings in scientific notation are delegated to {@link BigDecimal}.
+   *
+   * @param value the decimal string
+   * @param scale the number of decimal places of the fixed point value
+   * @return the mantissa of value at the given scale
+   * @throws NumberFormatException if value is not a decimal number
+   * @throws ArithmeticException if value has non-zero digits beyond scale or does not fit in a long
+   */
+  public static long parse(CharSequence value, int scale) {
+
+    Assert.isTrue(scale >= 0 && scale < POWERS_OF_TEN.length, "Unsupported scale: " + scale);
+    int length = value.length();
+    int i = 0;
+    boolean negative = false;
+    if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+      negative = value.charAt(0) == '-';
+      i++;
+    }
+    if (i == length) {
+      throw new NumberFormatException("Not a decimal number: '" + value + "'");
+    }
+
+    long mantissa = 0;
+    int fractionDigits = -1;
+    boolean digits = false;
+    for (; i < length; i++) {
+      char c = value.charAt(i);
+      if (c >= '0' && c <= '9') {
+        digits = true;
+        if (fractionDigits >= 0) {
+          if (fractionDigits == scale) {
+            if (c != '0') {
+              throw new ArithmeticException("Value " + value + " has more than " + scale + " decimal places");
+            }
+            continue;
+          }
+          fractionDigits++;
+        }
+        long shifted = mantissa * 10;
+        if (mantissa > Long.MAX_VALUE / 10 || shifted > Long.MAX_VALUE - (c - '0')) {
+          throw new ArithmeticException("Value " + value + " does not fit in a long at scale " + scale);
+        }
+        mantissa = shifted + (c - '0');
+      } else if (c == '.' && fractionDigits < 0) {
+        fractionDigits = 0;
+      } else if (c == 'e' || c == 'E') {
+        return toLong(new BigDecimal(value.toString()), scale);
+      } else {
+        throw new NumberFormatException("Not a decimal number: '" + value + "'");
+      }
+    }
+    if (!digits) {
+      throw new NumberFormatException("Not a decimal number: '" + value + "'");
+    }
+
+    int missingDigits = scale - Math.max(fractionDigits, 0);
+    if (missingDigits > 0) {
+      if (mantissa > Long.MAX_VALUE / POWERS_OF_TEN[missingDigits]) {
+        throw new ArithmeticException("Value " + value + " does not fit in a long at scale " + scale);
+      }
+      mantissa *= POWERS_OF_TEN[missingDigits];
+    }
+    return negative ? -mantissa : mantissa;
+  }
+
+  /**
+   * Changes the scale of a fixed point value.
+   *
+   * @param mantissa the fixed point value
+   * @param fromScale its current scale
+   * @param toScale the requested scale
+   * @return the mantissa at toScale
+   * @throws ArithmeticException if digits would be lost or the result does not fit in a long
+   */
+  public static long rescale(long mantissa, int fromScale, int toScale) {
+
+    if (fromScale == toScale || mantissa == 0) {
+      return mantissa;
+    }
+    // 10^19 and beyond do not fit in a long, no non-zero mantissa survives such a change
+    if (toScale - fromScale >= POWERS_OF_TEN.length) {
+      throw new ArithmeticException("Value " + mantissa + " does not fit in a long at scale " + toScale);
+    }
+    if (fromScale - toScale >= POWERS_OF_TEN.length) {
+      throw new ArithmeticException("Value " + toBigDecimal(mantissa, fromScale) + " has more than " + toScale + " decimal places");
+    }
+    if (toScale > fromScale) {
+      long factor = POWERS_OF_TEN[toScale - fromScale];
+      long result = mantissa * factor;
+      if (result / factor != mantissa) {
+        throw new ArithmeticException("Value " + mantissa + " does not fit in a long at scale " + toScale);
+      }
+      return result;
+    }
+    long divisor = POWERS_OF_TEN[fromScale - toScale];
+    if (mantissa % divisor != 0) {
+      throw new ArithmeticException("Value " + toBigDecimal(mantissa, fromScale) + " has more than " + toScale + " decimal places");
+    }
+    return mantissa / divisor;
+  }
+}
@@ -1,6 +1,8 @@
 package com.xeiam.xchange.utils.jackson;
 
 import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -13,6 +15,16 @@ import com.xeiam.xchange.currency.CurrencyPair;
 
 public class CurrencyPairDeserializer extends JsonDeserializer<CurrencyPair> {
 
+  /**
+   * Bound of the cache, so arbitrary input cannot grow it without limit; exchanges list far fewer pairs
+   */
+  private static final int MAX_CACHED_SYMBOLS = 4096;
+
+  /**
+   * Parsed pairs by the exact string the exchange sent
+   */
+  private static final ConcurrentMap<String, CurrencyPair> pairsBySymbol = new ConcurrentHashMap<String, CurrencyPair>();
+
   @Override
   public CurrencyPair deserialize(JsonParser jsonParser, final DeserializationContext ctxt) throws IOException, JsonProcessingException {
 
@@ -23,26 +35,58 @@ public class CurrencyPairDeserializer extends JsonDeserializer<CurrencyPair> {
     return getCurrencyPairFromString(currencyPairString);
   }
 
+  /**
+   * Parses the pair, returning the canonical {@link CurrencyPair} instance. Repeated symbols are answered from a cache, without parsing or allocating.
+   */
   public static CurrencyPair getCurrencyPairFromString(String currencyPairString) {
 
     if (currencyPairString == null || currencyPairString.isEmpty()) {
       return null;
     }
 
+    CurrencyPair currencyPair = pairsBySymbol.get(currencyPairString);
+    if (currencyPair == null) {
+      currencyPair = parseCurrencyPair(currencyPairString);
+      if (pairsBySymbol.size() < MAX_CACHED_SYMBOLS) {
+        pairsBySymbol.putIfAbsent(currencyPairString, currencyPair);
+      }
+    }
+    return currencyPair;
+  }
+
+  private static CurrencyPair parseCurrencyPair(String currencyPairString) {
+
     /*
      * Preserve case if exchange is sending mixed-case, otherwise toUpperCase()
      */
-    final boolean isMixedCase = currencyPairString.matches(".*[a-z]+.*") && currencyPairString.matches(".*[A-Z]+.*");
-    if (!isMixedCase) {
+    boolean hasLowerCase = false;
+    boolean hasUpperCase = false;
+    for (int i = 0; i < currencyPairString.length(); i++) {
+      char c = currencyPairString.charAt(i);
+      hasLowerCase |= c >= 'a' && c <= 'z';
+      hasUpperCase |= c >= 'A' && c <= 'Z';
+    }
+    if (!(hasLowerCase && hasUpperCase)) {
       currencyPairString = currencyPairString.toUpperCase();
     }
 
     /*
-     * Assume all symbols are alphanumeric; anything else is a separator
+     * Assume all symbols are alphanumeric; anything else is a separator. Trailing separators are ignored.
      */
-    final String symbols[] = currencyPairString.split("[^a-zA-Z0-9]");
-    if (symbols.length == 2) {
-      return new CurrencyPair(symbols[0], symbols[1]);
+    int end = currencyPairString.length();
+    while (end > 0 && !isSymbolChar(currencyPairString.charAt(end - 1))) {
+      end--;
+    }
+    int separator = -1;
+    int separators = 0;
+    for (int i = 0; i < end; i++) {
+      if (!isSymbolChar(currencyPairString.charAt(i))) {
+        separator = i;
+        separators++;
+      }
+    }
+    if (separators == 1) {
+      return CurrencyPair.getInstance(currencyPairString.substring(0, separator), currencyPairString.substring(separator + 1, end));
     }
 
     /*
@@ -51,7 +95,7 @@ public class CurrencyPairDeserializer extends JsonDeserializer<CurrencyPair> {
     if (currencyPairString.length() == 6) {
       final String tradeCurrency = currencyPairString.substring(0, 3);
       final String priceCurrency = currencyPairString.substring(3);
-      return new CurrencyPair(tradeCurrency, priceCurrency);
+      return CurrencyPair.getInstance(tradeCurrency, priceCurrency);
     }
 
     /*
@@ -64,7 +108,7 @@ public class CurrencyPairDeserializer extends JsonDeserializer<CurrencyPair> {
       final Currency priceCurrency = Currency.getInstanceNoCreate(currencyPairString.substring(i));
       if (tradeCurrency != null) {
         if (priceCurrency != null) {
-          return new CurrencyPair(tradeCurrency, priceCurrency);
+          return CurrencyPair.getInstance(tradeCurrency, priceCurrency);
         } else if (i > bestLength) {
           bestLength = i;
           bestGuess = i;
@@ -76,6 +120,11 @@ public class CurrencyPairDeserializer extends JsonDeserializer<CurrencyPair> {
     }
     final String tradeCurrency = currencyPairString.substring(0, bestGuess);
     final String priceCurrency = currencyPairString.substring(bestGuess);
-    return new CurrencyPair(tradeCurrency, priceCurrency);
+    return CurrencyPair.getInstance(tradeCurrency, priceCurrency);
+  }
+
+  private static boolean isSymbolChar(char c) {
+
+    return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9';
   }
 }
@@ -0,0 +1,198 @@
+package com.xeiam.xchange.utils.jackson;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.InjectableValues;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+
+/**
+ * <p>
+ * Helpers for deserializers building the {@link LimitOrder}s of an order book straight from the token stream. This provides the following:
+ * </p>
+ * <ul>
+ * <li>One {@link BigDecimal} per price and amount and one {@link LimitOrder} per level, without an intermediate tree or exchange DTO per level</li>
+ * <li>The currency pair of a book that does not name it, injected into the {@link ObjectMapper} of the proxy fetching it, either for good or for
+ * the calls of the current thread</li>
+ * </ul>
+ */
+public final class OrderBookParser {
+
+  /** the pair of the calls of each thread, see {@link #injectCurrentCurrencyPair(ObjectMapper)} */
+  private static final ThreadLocal<CurrencyPair> CURRENT_CURRENCY_PAIR = new ThreadLocal<CurrencyPair>();
+
+  private static final InjectableValues CURRENT_CURRENCY_PAIR_VALUES = new InjectableValues() {
+
+    @Override
+    public Object findInjectableValue(Object valueId, DeserializationContext ctxt, BeanProperty forProperty, Object beanInstance) {
+
+      return CurrencyPair.class.getName().equals(valueId) ? CURRENT_CURRENCY_PAIR.get() : null;
+    }
+  };
+
+  private OrderBookParser() {
+
+  }
+
+  /**
+   * Makes the given pair available to the deserializers of the mapper, see {@link #getCurrencyPair(DeserializationContext)}
+   */
+  public static void injectCurrencyPair(ObjectMapper objectMapper, CurrencyPair currencyPair) {
+
+    objectMapper.setInjectableValues(new InjectableValues.Std().addValue(CurrencyPair.class, currencyPair));
+  }
+
+  /**
+   * Makes the pair set by {@link #setCurrentCurrencyPair(CurrencyPair)} on the decoding thread available to the deserializers of the mapper, so
+   * that one mapper decodes the books of every pair
+   */
+  public static void injectCurrentCurrencyPair(ObjectMapper objectMapper) {
+
+    objectMapper.setInjectableValues(CURRENT_CURRENCY_PAIR_VALUES);
+  }
+
+  /**
+   * Sets the pair of the books decoded by the current thread with a mapper of {@link #injectCurrentCurrencyPair(ObjectMapper)}
+   *
+   * @param currencyPair the pair, null to clear it
+   * @return the former pair of the thread, to be set back once the call is done
+   */
+  public static CurrencyPair setCurrentCurrencyPair(CurrencyPair currencyPair) {
+
+    CurrencyPair previous = CURRENT_CURRENCY_PAIR.get();
+    if (currencyPair == null) {
+      CURRENT_CURRENCY_PAIR.remove();
+    } else {
+      CURRENT_CURRENCY_PAIR.set(currencyPair);
+    }
+    return previous;
+  }
+
+  /**
+   * @return the pair injected with {@link #injectCurrencyPair(ObjectMapper, CurrencyPair)} or {@link #injectCurrentCurrencyPair(ObjectMapper)}
+   */
+  public static CurrencyPair getCurrencyPair(DeserializationContext ctxt) throws JsonMappingException {
+
+    Object currencyPair;
+    try {
+      currencyPair = ctxt.findInjectableValue(CurrencyPair.class.getName(), null, null);
+    } catch (IllegalStateException | IllegalArgumentException e) {
+      throw new JsonMappingException("No currency pair was injected to decode the order book", ctxt.getParser().getCurrentLocation(), e);
+    }
+    if (currencyPair == null) {
+      throw new JsonMappingException("No currency pair was set to decode the order book", ctxt.getParser().getCurrentLocation());
+    }
+    return (CurrencyPair) currencyPair;
+  }
+
+  /**
+   * @return the current token, a number or a string holding one, as a decimal keeping all its digits
+   */
+  public static BigDecimal getDecimalValue(JsonParser jsonParser) throws IOException {
+
+    JsonToken token = jsonParser.getCurrentToken();
+    if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+      return jsonParser.getDecimalValue();
+    }
+    if (token == JsonToken.VALUE_STRING) {
+      try {
+        return new BigDecimal(jsonParser.getText().trim());
+      } catch (NumberFormatException e) {
+        throw new JsonMappingException("Not a decimal: " + jsonParser.getText(), jsonParser.getCurrentLocation(), e);
+      }
+    }
+    throw new JsonMappingException("Expected a decimal but got " + token, jsonParser.getCurrentLocation());
+  }
+
+  /**
+   * Reads the levels of one side given as arrays, such as [["530.75", "0.248"], ...], the price coming first and the amount second. Further
+   * elements of a level are skipped.
+   *
+   * @param jsonParser the parser, positioned on the start of the outer array
+   * @param id the id given to every order
+   */
+  public static List<LimitOrder> readArrayLevels(JsonParser jsonParser, OrderType type, CurrencyPair currencyPair, String id) throws IOException {
+
+    checkToken(jsonParser, JsonToken.START_ARRAY);
+
+    List<LimitOrder> limitOrders = new ArrayList<LimitOrder>();
+    while (jsonParser.nextToken() == JsonToken.START_ARRAY) {
+      jsonParser.nextToken();
+      BigDecimal price = getDecimalValue(jsonParser);
+      jsonParser.nextToken();
+      BigDecimal amount = getDecimalValue(jsonParser);
+      skipToEnd(jsonParser);
+      limitOrders.add(new LimitOrder(type, amount, currencyPair, id, null, price));
+    }
+    checkToken(jsonParser, JsonToken.END_ARRAY);
+    return limitOrders;
+  }
+
+  /**
+   * Reads the levels of one side given as objects, such as [{"Rate": 530.75, "Quantity": 0.248}, ...]. Further fields of a level are skipped.
+   *
+   * @param jsonParser the parser, positioned on the start of the outer array
+   * @param priceField the name of the price field
+   * @param amountField the name of the amount field
+   * @param id the id given to every order
+   */
+  public static List<LimitOrder> readObjectLevels(JsonParser jsonParser, OrderType type, CurrencyPair currencyPair, String priceField,
+      String amountField, String id) throws IOException {
+
+    checkToken(jsonParser, JsonToken.START_ARRAY);
+
+    List<LimitOrder> limitOrders = new ArrayList<LimitOrder>();
+    while (jsonParser.nextToken() == JsonToken.START_OBJECT) {
+      BigDecimal price = null;
+      BigDecimal amount = null;
+      while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = jsonParser.getCurrentName();
+        jsonParser.nextToken();
+        if (field.equals(priceField)) {
+          price = getDecimalValue(jsonParser);
+        } else if (field.equals(amountField)) {
+          amount = getDecimalValue(jsonParser);
+        } else {
+          jsonParser.skipChildren();
+        }
+      }
+      limitOrders.add(new LimitOrder(type, amount, currencyPair, id, null, price));
+    }
+    checkToken(jsonParser, JsonToken.END_ARRAY);
+    return limitOrders;
+  }
+
+  /**
+   * Skips the remaining values of the current array or object, leaving the parser on its end
+   */
+  public static void skipToEnd(JsonParser jsonParser) throws IOException {
+
+    JsonToken token;
+    while ((token = jsonParser.nextToken()) != JsonToken.END_ARRAY && token != JsonToken.END_OBJECT) {
+      if (token == null) {
+        throw new JsonMappingException("Unexpected end of input", jsonParser.getCurrentLocation());
+      }
+      jsonParser.skipChildren();
+    }
+  }
+
+  /**
+   * @throws JsonMappingException if the current token is not the expected one
+   */
+  public static void checkToken(JsonParser jsonParser, JsonToken expected) throws JsonMappingException {
+
+    if (jsonParser.getCurrentToken() != expected) {
+      throw new JsonMappingException("Expected " + expected + " but got " + jsonParser.getCurrentToken(), jsonParser.getCurrentLocation());
+    }
+  }
+}
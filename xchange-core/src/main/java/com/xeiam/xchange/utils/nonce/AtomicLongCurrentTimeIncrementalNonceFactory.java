@@ -2,15 +2,19 @@ package com.xeiam.xchange.utils.nonce;
 
 import java.util.concurrent.atomic.AtomicLong;
 
-import si.mazi.rescu.SynchronizedValueFactory;
-
-public class AtomicLongCurrentTimeIncrementalNonceFactory implements SynchronizedValueFactory<Long> {
+public class AtomicLongCurrentTimeIncrementalNonceFactory implements SynchronizedLongValueFactory {
 
   private final AtomicLong incremental = new AtomicLong(System.currentTimeMillis());
 
   @Override
   public Long createValue() {
 
+    return createLongValue();
+  }
+
+  @Override
+  public long createLongValue() {
+
     return incremental.incrementAndGet();
   }
 }
@@ -2,9 +2,7 @@ package com.xeiam.xchange.utils.nonce;
 
 import java.util.concurrent.atomic.AtomicLong;
 
-import si.mazi.rescu.SynchronizedValueFactory;
-
-public class AtomicLongIncrementalTime2013NonceFactory implements SynchronizedValueFactory<Long> {
+public class AtomicLongIncrementalTime2013NonceFactory implements SynchronizedLongValueFactory {
 
   private static final long START_MILLIS = 1356998400000L; // Jan 1st, 2013 in milliseconds from epoch
 
@@ -14,7 +12,12 @@ public class AtomicLongIncrementalTime2013NonceFactory implements SynchronizedVa
   @Override
   public Long createValue() {
 
-    return lastNonce.incrementAndGet();
+    return createLongValue();
+  }
 
+  @Override
+  public long createLongValue() {
+
+    return lastNonce.incrementAndGet();
   }
 }
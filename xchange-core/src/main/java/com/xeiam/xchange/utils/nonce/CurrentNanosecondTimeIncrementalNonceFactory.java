@@ -1,14 +1,18 @@
 package com.xeiam.xchange.utils.nonce;
 
-import si.mazi.rescu.SynchronizedValueFactory;
-
-public class CurrentNanosecondTimeIncrementalNonceFactory implements SynchronizedValueFactory<Long> {
+public class CurrentNanosecondTimeIncrementalNonceFactory implements SynchronizedLongValueFactory {
 
   private long lastNonce = 0l;
 
   @Override
   public Long createValue() {
 
+    return createLongValue();
+  }
+
+  @Override
+  public synchronized long createLongValue() {
+
     long newNonce = System.currentTimeMillis() * 1000;
 
     while (newNonce <= lastNonce) {
@@ -18,6 +22,5 @@ public class CurrentNanosecondTimeIncrementalNonceFactory implements Synchronize
     lastNonce = newNonce;
 
     return newNonce;
-
   }
 }
@@ -0,0 +1,15 @@
+package com.xeiam.xchange.utils.nonce;
+
+import si.mazi.rescu.SynchronizedValueFactory;
+
+/**
+ * A nonce factory which can also hand out its values as a primitive, for callers building the signed request themselves (e.g. over FIX) that
+ * would otherwise box a {@link Long} per call
+ */
+public interface SynchronizedLongValueFactory extends SynchronizedValueFactory<Long> {
+
+  /**
+   * @return the next value of the same sequence as {@link #createValue()}
+   */
+  long createLongValue();
+}
@@ -0,0 +1,176 @@
+package com.xeiam.xchange;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.ws.rs.HeaderParam;
+
+import org.junit.Test;
+
+import com.xeiam.xchange.service.polling.account.PollingAccountService;
+import com.xeiam.xchange.service.polling.trade.KeyPoolPollingTradeService;
+import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+
+import si.mazi.rescu.ClientConfig;
+import si.mazi.rescu.SynchronizedValueFactory;
+
+public class BaseExchangeTest {
+
+  @Test
+  public void testClientConfigCarriesTransportSettings() {
+
+    ExchangeSpecification specification = new ExchangeSpecification(TestExchange.class);
+    specification.setHttpConnTimeout(1500);
+    specification.setHttpReadTimeout(3000);
+    specification.setHttpGzip(true);
+    Exchange exchange = new TestExchange();
+    exchange.applySpecification(specification);
+
+    ClientConfig first = exchange.createClientConfig();
+    ClientConfig second = exchange.createClientConfig();
+
+    assertThat(first).isNotSameAs(second);
+    assertThat(first.getHttpConnTimeout()).isEqualTo(1500);
+    assertThat(first.getHttpReadTimeout()).isEqualTo(3000);
+    assertThat(first.getDefaultParamsMap().get(HeaderParam.class).getParamValue("Accept-Encoding")).isEqualTo("gzip");
+    assertThat(first.getSslSocketFactory()).isNotNull().isSameAs(second.getSslSocketFactory());
+  }
+
+  @Test
+  public void testTransportIsPerExchange() {
+
+    Exchange exchange = new TestExchange();
+    exchange.applySpecification(null);
+    Exchange other = new TestExchange();
+    other.applySpecification(null);
+
+    assertThat(exchange.createClientConfig().getSslSocketFactory()).isNotSameAs(HttpsURLConnection.getDefaultSSLSocketFactory())
+        .isNotSameAs(other.createClientConfig().getSslSocketFactory());
+  }
+
+  @Test
+  public void testJvmSettingsNeedOptIn() {
+
+    String maxConnections = System.getProperty("http.maxConnections");
+    ExchangeSpecification specification = new ExchangeSpecification(TestExchange.class);
+    specification.setHttpMaxConnections(37);
+    new TestExchange().applySpecification(specification);
+
+    assertThat(System.getProperty("http.maxConnections")).isEqualTo(maxConnections);
+  }
+
+  @Test
+  public void testClientConfigKeepsRescuDefaults() {
+
+    ClientConfig defaults = new ClientConfig();
+    Exchange exchange = new TestExchange();
+    exchange.applySpecification(null);
+
+    ClientConfig clientConfig = exchange.createClientConfig();
+
+    assertThat(clientConfig.getHttpConnTimeout()).isEqualTo(defaults.getHttpConnTimeout());
+    assertThat(clientConfig.getHttpReadTimeout()).isEqualTo(defaults.getHttpReadTimeout());
+    assertThat(clientConfig.getDefaultParamsMap().get(HeaderParam.class)).isNull();
+  }
+
+  @Test
+  public void testKeyPoolKeepsThePrimaryServices() throws IOException {
+
+    ExchangeSpecification specification = new ExchangeSpecification(KeyExchange.class);
+    specification.addApiKey("second", "secret");
+    int remoteInits = KeyExchange.REMOTE_INITS.get();
+    int created = KeyExchange.CREATED.size();
+    Exchange exchange = new KeyExchange();
+    exchange.applySpecification(specification);
+
+    // the exchange of the second key shares the transport, limits and registry of the first one, and is remote initialized with it
+    assertThat(KeyExchange.CREATED).hasSize(created + 2);
+    Exchange keyExchange = KeyExchange.CREATED.get(created + 1);
+    assertThat(keyExchange.createClientConfig().getSslSocketFactory()).isSameAs(exchange.createClientConfig().getSslSocketFactory());
+    assertThat(keyExchange.getPrivateRateLimiter()).isSameAs(exchange.getPrivateRateLimiter());
+    assertThat(keyExchange.getPublicRateLimiter()).isSameAs(exchange.getPublicRateLimiter());
+    assertThat(keyExchange.getOrderRegistry()).isSameAs(exchange.getOrderRegistry());
+    assertThat(KeyExchange.REMOTE_INITS.get()).isEqualTo(remoteInits);
+    exchange.remoteInit();
+    assertThat(KeyExchange.REMOTE_INITS.get()).isEqualTo(remoteInits + 2);
+
+    assertThat(exchange.getPollingTradeService()).isInstanceOf(KeyPoolPollingTradeService.class);
+    assertThat(exchange.getPrimaryTradeService()).isSameAs(((KeyExchange) exchange).pollingTradeService);
+    assertThat(((KeyPoolPollingTradeService) exchange.getPollingTradeService()).getTradeServices()).hasSize(2);
+
+    // the account calls take the lock of the first key, as its trade calls do
+    final KeyPoolPollingTradeService pool = (KeyPoolPollingTradeService) exchange.getPollingTradeService();
+    ((KeyExchange) exchange).accountCall = new Runnable() {
+
+      @Override
+      public void run() {
+
+        assertThat(((ReentrantLock) pool.getLock(0)).isHeldByCurrentThread()).isTrue();
+      }
+    };
+    exchange.getPollingAccountService().getAccountInfo();
+    assertThat(exchange.getPrimaryAccountService()).isSameAs(((KeyExchange) exchange).pollingAccountService);
+  }
+
+  public static class TestExchange extends BaseExchange {
+
+    @Override
+    public ExchangeSpecification getDefaultExchangeSpecification() {
+
+      return new ExchangeSpecification(getClass());
+    }
+
+    @Override
+    public SynchronizedValueFactory<Long> getNonceFactory() {
+
+      return null;
+    }
+  }
+
+  public static class KeyExchange extends TestExchange {
+
+    static final AtomicInteger REMOTE_INITS = new AtomicInteger();
+    static final List<KeyExchange> CREATED = new CopyOnWriteArrayList<KeyExchange>();
+
+    Runnable accountCall;
+
+    @Override
+    protected void initServices() {
+
+      CREATED.add(this);
+      pollingTradeService = stub(PollingTradeService.class);
+      pollingAccountService = stub(PollingAccountService.class);
+    }
+
+    @Override
+    public void remoteInit() throws IOException {
+
+      REMOTE_INITS.incrementAndGet();
+      super.remoteInit();
+    }
+
+    private <T> T stub(Class<T> type) {
+
+      return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, new InvocationHandler() {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+
+          if (accountCall != null) {
+            accountCall.run();
+          }
+          return null;
+        }
+      }));
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.xeiam.xchange;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.IndexedOrderBook;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.OrderBookUpdate;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+
+public class IndexedOrderBookTest {
+
+  private IndexedOrderBook orderBook;
+
+  @Before
+  public void setUp() throws Exception {
+
+    LimitOrder askOrder = new LimitOrder(OrderType.ASK, BigDecimal.ONE, CurrencyPair.BTC_USD, "", null, new BigDecimal("11"));
+    LimitOrder bidOrder = new LimitOrder(OrderType.BID, BigDecimal.ONE, CurrencyPair.BTC_USD, "", null, new BigDecimal("10"));
+
+    List<LimitOrder> asks = new ArrayList<LimitOrder>(Arrays.asList(askOrder));
+    List<LimitOrder> bids = new ArrayList<LimitOrder>(Arrays.asList(bidOrder));
+    orderBook = new IndexedOrderBook(CurrencyPair.BTC_USD, 2, new OrderBook(new Date(0), asks, bids));
+  }
+
+  @Test
+  public void testUpdateAddOrder() {
+
+    orderBook.update(new OrderBookUpdate(OrderType.BID, BigDecimal.ONE, CurrencyPair.BTC_USD, new BigDecimal("10.5"), new Date(0), BigDecimal.ONE));
+    orderBook.update(new OrderBookUpdate(OrderType.BID, BigDecimal.ONE, CurrencyPair.BTC_USD, new BigDecimal("9"), new Date(0), BigDecimal.ONE));
+
+    assertThat(orderBook.getBids().size()).isEqualTo(3);
+    assertThat(orderBook.getBestBidPrice()).isEqualTo(new BigDecimal("10.5"));
+    assertThat(orderBook.getBids().get(2).getLimitPrice()).isEqualTo(new BigDecimal("9"));
+  }
+
+  @Test
+  public void testUpdateRemoveOrder() {
+
+    orderBook.update(new OrderBookUpdate(OrderType.BID, BigDecimal.ONE, CurrencyPair.BTC_USD, new BigDecimal("10.00"), new Date(0), BigDecimal.ZERO));
+
+    assertThat(orderBook.getBids()).isEmpty();
+    assertThat(orderBook.getBestBidPrice()).isNull();
+  }
+
+  @Test
+  public void testUpdateAddVolume() {
+
+    orderBook.update(new OrderBookUpdate(OrderType.ASK, BigDecimal.ONE, CurrencyPair.BTC_USD, new BigDecimal("11"), new Date(10), BigDecimal.TEN));
+
+    assertThat(orderBook.getAsks().size()).isEqualTo(1);
+    assertThat(orderBook.getBestAskVolume()).isEqualTo(BigDecimal.TEN);
+    assertThat(orderBook.getAsks().get(0).getTradableAmount()).isEqualTo(BigDecimal.TEN);
+    assertThat(orderBook.getTimeStamp()).isEqualTo(new Date(10));
+  }
+
+  @Test
+  public void testUpdateScaledPrice() {
+
+    orderBook.update(OrderType.ASK, 1100L, BigDecimal.TEN, null);
+    orderBook.update(OrderType.ASK, 1050L, new BigDecimal("2"), new Date(10));
+
+    assertThat(orderBook.getAsks().size()).isEqualTo(2);
+    assertThat(orderBook.getVolume(OrderType.ASK, new BigDecimal("11"))).isEqualTo(BigDecimal.TEN);
+    assertThat(orderBook.getBestAskPrice()).isEqualTo(new BigDecimal("10.50"));
+    assertThat(orderBook.getTimeStamp()).isEqualTo(new Date(10));
+
+    orderBook.update(OrderType.BID, 1000L, BigDecimal.ZERO, null);
+    assertThat(orderBook.getBids()).isEmpty();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPriceBeyondScale() {
+
+    orderBook.update(new OrderBookUpdate(OrderType.ASK, BigDecimal.ONE, CurrencyPair.BTC_USD, new BigDecimal("11.001"), null, BigDecimal.ONE));
+  }
+
+  @Test
+  public void testMatchesOrderBook() {
+
+    OrderBook reference = orderBook.toOrderBook();
+    Random random = new Random(42);
+    for (int i = 0; i < 20000; i++) {
+      OrderType type = random.nextBoolean() ? OrderType.ASK : OrderType.BID;
+      BigDecimal price = BigDecimal.valueOf(type == OrderType.ASK ? 1100 + random.nextInt(500) : 600 + random.nextInt(500), 2);
+      BigDecimal volume = random.nextInt(3) == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(1 + random.nextInt(1000), 3);
+      OrderBookUpdate update = new OrderBookUpdate(type, BigDecimal.ONE, CurrencyPair.BTC_USD, price, null, volume);
+      reference.update(update);
+      orderBook.update(update);
+    }
+
+    assertThat(orderBook.toOrderBook().ordersEqual(reference)).isTrue();
+    assertThat(orderBook.getBestAskPrice()).isEqualTo(reference.getAsks().get(0).getLimitPrice());
+    assertThat(orderBook.getBestBidPrice()).isEqualTo(reference.getBids().get(0).getLimitPrice());
+  }
+}
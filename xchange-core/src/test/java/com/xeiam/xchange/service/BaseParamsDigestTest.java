@@ -0,0 +1,88 @@
+package com.xeiam.xchange.service;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import net.iharder.Base64;
+
+import org.junit.Test;
+
+import si.mazi.rescu.RestInvocation;
+
+public class BaseParamsDigestTest {
+
+  private static final String SECRET = "N3UYyg2Ar7rDzctx1e3eeTNrFjc4wViP";
+
+  @Test
+  public void testSignsLikeTheAllocatingPath() throws Exception {
+
+    for (String body : new String[] { "", "nonce=1440640469133&pair=XXBTZEUR", "comment=café" }) {
+      for (Object nonce : new Object[] { 1440640469133L, 0L, 7, "1440640469.1338" }) {
+        TestDigest digest = new TestDigest();
+
+        MessageDigest expectedSha256 = MessageDigest.getInstance("SHA-256");
+        expectedSha256.update(nonce.toString().getBytes("UTF-8"));
+        expectedSha256.update(body.getBytes("UTF-8"));
+        Mac expectedMac = Mac.getInstance(BaseParamsDigest.HMAC_SHA_512);
+        expectedMac.init(new SecretKeySpec(SECRET.getBytes("UTF-8"), BaseParamsDigest.HMAC_SHA_512));
+        expectedMac.update(body.getBytes("UTF-8"));
+        expectedMac.update(expectedSha256.digest());
+        byte[] expected = expectedMac.doFinal();
+
+        assertThat(digest.sign(nonce, body, false)).isEqualTo(Base64.encodeBytes(expected));
+        assertThat(digest.sign(nonce, body, true)).isEqualTo(String.format("%0128x", new BigInteger(1, expected)));
+      }
+    }
+  }
+
+  @Test
+  public void testCachedMessageDigestIsReset() {
+
+    MessageDigest digest = BaseParamsDigest.getMessageDigest("SHA-256");
+    digest.update((byte) 1);
+
+    assertThat(BaseParamsDigest.getMessageDigest("SHA-256")).isSameAs(digest);
+    assertThat(digest.digest()).isEqualTo(BaseParamsDigest.getMessageDigest("SHA-256").digest());
+  }
+
+  @Test
+  public void testMessageDigestHex() throws Exception {
+
+    MessageDigest md5 = BaseParamsDigest.getMessageDigest("MD5");
+    BaseParamsDigest.update(md5, "amount=1&api_key=key&secret_key=secret");
+    byte[] expected = MessageDigest.getInstance("MD5").digest("amount=1&api_key=key&secret_key=secret".getBytes("UTF-8"));
+
+    assertThat(BaseParamsDigest.doFinalHex(md5, true)).isEqualTo(String.format("%032X", new BigInteger(1, expected)));
+  }
+
+  private static class TestDigest extends BaseParamsDigest {
+
+    TestDigest() {
+
+      super(SECRET, HMAC_SHA_512);
+    }
+
+    String sign(Object nonce, String body, boolean hex) {
+
+      MessageDigest sha256 = getMessageDigest("SHA-256");
+      updateNonce(sha256, nonce);
+      update(sha256, body);
+
+      Mac mac = getMac();
+      update(mac, body);
+      updateDigest(mac, sha256);
+      return hex ? doFinalHex(mac, false) : doFinalBase64(mac);
+    }
+
+    @Override
+    public String digestParams(RestInvocation restInvocation) {
+
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.xeiam.xchange.service.polling;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.xeiam.xchange.dto.meta.RateLimit;
+
+public class RateLimiterTest {
+
+  @Test
+  public void testUnlimited() {
+
+    RateLimiter rateLimiter = new RateLimiter(null);
+    assertThat(rateLimiter.isUnlimited()).isTrue();
+    for (int i = 0; i < 1000; i++) {
+      assertThat(rateLimiter.tryAcquire()).isTrue();
+    }
+    assertThat(RateLimiter.UNLIMITED.reserve()).isEqualTo(0);
+  }
+
+  @Test
+  public void testBurstThenWait() {
+
+    RateLimiter rateLimiter = new RateLimiter(Collections.singleton(new RateLimit(3, 1, TimeUnit.HOURS)));
+    assertThat(rateLimiter.tryAcquire()).isTrue();
+    assertThat(rateLimiter.tryAcquire()).isTrue();
+    assertThat(rateLimiter.tryAcquire()).isTrue();
+    assertThat(rateLimiter.tryAcquire()).isFalse();
+
+    // the next permit comes after a third of the hour
+    long delay = rateLimiter.reserve();
+    assertThat(delay).isGreaterThan(TimeUnit.MINUTES.toNanos(19)).isLessThanOrEqualTo(TimeUnit.MINUTES.toNanos(20));
+    // and the one after that is reserved behind it
+    assertThat(rateLimiter.reserve()).isGreaterThan(TimeUnit.MINUTES.toNanos(39));
+  }
+
+  @Test
+  public void testAllWindowsApply() {
+
+    // bursts of 2 per hour, but no more than 3 per day
+    RateLimiter rateLimiter = new RateLimiter(Arrays.asList(new RateLimit(2, 1, TimeUnit.HOURS), new RateLimit(3, 1, TimeUnit.DAYS)));
+    assertThat(rateLimiter.tryAcquire()).isTrue();
+    assertThat(rateLimiter.tryAcquire()).isTrue();
+    assertThat(rateLimiter.tryAcquire()).isFalse();
+
+    long delay = rateLimiter.reserve();
+    assertThat(delay).isGreaterThan(TimeUnit.MINUTES.toNanos(29)).isLessThanOrEqualTo(TimeUnit.MINUTES.toNanos(30));
+    // the daily window is exhausted now
+    assertThat(rateLimiter.reserve()).isGreaterThan(TimeUnit.HOURS.toNanos(7));
+  }
+
+  @Test
+  public void testBoundedWait() throws InterruptedException {
+
+    RateLimiter rateLimiter = new RateLimiter(Collections.singleton(new RateLimit(1, 1, TimeUnit.DAYS)));
+    assertThat(rateLimiter.tryAcquire(0, TimeUnit.SECONDS)).isTrue();
+    // the next permit is a day away: refused at once, and none is taken
+    long start = System.nanoTime();
+    assertThat(rateLimiter.tryAcquire(10, TimeUnit.SECONDS)).isFalse();
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+    assertThat(rateLimiter.reserve()).isLessThanOrEqualTo(TimeUnit.DAYS.toNanos(1));
+
+    rateLimiter = new RateLimiter(Collections.singleton(new RateLimit(1, 20, TimeUnit.MILLISECONDS)));
+    assertThat(rateLimiter.tryAcquire(1, TimeUnit.SECONDS)).isTrue();
+    assertThat(rateLimiter.tryAcquire(1, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void testAcquireAndSchedule() throws Exception {
+
+    RateLimiter rateLimiter = new RateLimiter(Collections.singleton(new RateLimit(1, 20, TimeUnit.MILLISECONDS)));
+    long start = System.nanoTime();
+    rateLimiter.acquire();
+    rateLimiter.acquire();
+    assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(15));
+
+    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    try {
+      Integer result = rateLimiter.schedule(new Callable<Integer>() {
+
+        @Override
+        public Integer call() {
+
+          return 42;
+        }
+      }, executor).get(1, TimeUnit.SECONDS);
+      assertThat(result).isEqualTo(42);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidRateLimit() {
+
+    new RateLimiter(Collections.singleton(new RateLimit(0, 1, TimeUnit.SECONDS)));
+  }
+}
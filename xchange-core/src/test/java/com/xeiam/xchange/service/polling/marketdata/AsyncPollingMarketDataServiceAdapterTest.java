@@ -0,0 +1,124 @@
+package com.xeiam.xchange.service.polling.marketdata;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.Ticker;
+import com.xeiam.xchange.dto.marketdata.Trades;
+import com.xeiam.xchange.service.polling.AsyncPollingExecutor;
+
+public class AsyncPollingMarketDataServiceAdapterTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  private final PollingMarketDataService blockingService = new PollingMarketDataService() {
+
+    @Override
+    public Ticker getTicker(CurrencyPair currencyPair, Object... args) throws IOException {
+
+      return new Ticker.Builder().currencyPair(currencyPair).last(new BigDecimal("250.5")).build();
+    }
+
+    @Override
+    public OrderBook getOrderBook(CurrencyPair currencyPair, Object... args) throws IOException {
+
+      throw new IOException("connection reset");
+    }
+
+    @Override
+    public Trades getTrades(CurrencyPair currencyPair, Object... args) throws IOException {
+
+      return null;
+    }
+
+    @Override
+    public Map<CurrencyPair, Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+      return MarketDataServiceUtils.getTickers(this, currencyPairs);
+    }
+
+    @Override
+    public Map<CurrencyPair, OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+      return MarketDataServiceUtils.getOrderBooks(this, currencyPairs, args);
+    }
+
+    @Override
+    @Deprecated
+    public List<CurrencyPair> getExchangeSymbols() {
+
+      return Collections.singletonList(CurrencyPair.BTC_USD);
+    }
+  };
+
+  @After
+  public void tearDown() {
+
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testResultIsDelivered() throws Exception {
+
+    AsyncPollingMarketDataService service = new AsyncPollingMarketDataServiceAdapter(blockingService, executor);
+
+    Future<Ticker> ticker = service.getTicker(CurrencyPair.BTC_USD);
+    assertThat(ticker.get().getCurrencyPair()).isEqualTo(CurrencyPair.BTC_USD);
+    assertThat(ticker.get().getLast()).isEqualTo(new BigDecimal("250.5"));
+  }
+
+  @Test
+  public void testTickersAreFetchedPerPair() throws Exception {
+
+    AsyncPollingMarketDataService service = new AsyncPollingMarketDataServiceAdapter(blockingService, executor);
+
+    Map<CurrencyPair, Ticker> tickers = service.getTickers(Arrays.asList(CurrencyPair.LTC_BTC, CurrencyPair.BTC_USD)).get();
+    assertThat(tickers.keySet()).containsExactly(CurrencyPair.LTC_BTC, CurrencyPair.BTC_USD);
+    assertThat(tickers.get(CurrencyPair.BTC_USD).getCurrencyPair()).isEqualTo(CurrencyPair.BTC_USD);
+  }
+
+  @Test
+  public void testFailureIsWrapped() throws Exception {
+
+    AsyncPollingMarketDataService service = new AsyncPollingMarketDataServiceAdapter(blockingService, executor);
+
+    try {
+      service.getOrderBook(CurrencyPair.BTC_USD).get();
+      fail("expected ExecutionException");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isInstanceOf(IOException.class).hasMessage("connection reset");
+    }
+  }
+
+  @Test
+  public void testSharedExecutor() throws Exception {
+
+    AsyncPollingMarketDataService service = new AsyncPollingMarketDataServiceAdapter(blockingService, AsyncPollingExecutor.getSharedExecutor());
+
+    assertThat(service.getTicker(CurrencyPair.LTC_BTC).get().getCurrencyPair()).isEqualTo(CurrencyPair.LTC_BTC);
+    assertThat(AsyncPollingExecutor.getSharedExecutor()).isSameAs(AsyncPollingExecutor.getSharedExecutor());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullService() {
+
+    new AsyncPollingMarketDataServiceAdapter(null, executor);
+  }
+}
@@ -0,0 +1,240 @@
+package com.xeiam.xchange.service.polling.trade;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.dto.trade.MarketOrder;
+import com.xeiam.xchange.dto.trade.OpenOrders;
+import com.xeiam.xchange.dto.trade.UserTrades;
+import com.xeiam.xchange.exceptions.ExchangeException;
+import com.xeiam.xchange.exceptions.PartialPlacementException;
+import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
+
+public class KeyPoolPollingTradeServiceTest {
+
+  private static final LimitOrder ORDER = new LimitOrder(OrderType.BID, BigDecimal.ONE, CurrencyPair.BTC_USD, null, null, BigDecimal.TEN);
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @After
+  public void tearDown() {
+
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testCallsOnDifferentKeysRunInParallel() throws Exception {
+
+    final CountDownLatch bothPlacing = new CountDownLatch(2);
+    KeyTradeService first = new KeyTradeService("1", bothPlacing);
+    KeyTradeService second = new KeyTradeService("2", bothPlacing);
+    final KeyPoolPollingTradeService pool = new KeyPoolPollingTradeService(Arrays.asList(first, second));
+
+    List<Future<String>> ids = new ArrayList<Future<String>>();
+    for (int i = 0; i < 2; i++) {
+      ids.add(executor.submit(new Callable<String>() {
+
+        @Override
+        public String call() throws Exception {
+
+          return pool.placeLimitOrder(ORDER);
+        }
+      }));
+    }
+
+    // each call only returns once the other one is in flight too
+    assertThat(ids.get(0).get(5, TimeUnit.SECONDS)).isNotEqualTo(ids.get(1).get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testCallsOnOneKeyAreSerialized() throws Exception {
+
+    final KeyTradeService first = new KeyTradeService("1", null);
+    final KeyTradeService second = new KeyTradeService("2", null);
+    final KeyPoolPollingTradeService pool = new KeyPoolPollingTradeService(Arrays.asList(first, second));
+
+    List<Future<String>> ids = new ArrayList<Future<String>>();
+    for (int i = 0; i < 200; i++) {
+      ids.add(executor.submit(new Callable<String>() {
+
+        @Override
+        public String call() throws Exception {
+
+          return pool.placeLimitOrder(ORDER);
+        }
+      }));
+    }
+    for (Future<String> id : ids) {
+      id.get(5, TimeUnit.SECONDS);
+    }
+
+    assertThat(first.maxInFlight.get()).isEqualTo(1);
+    assertThat(second.maxInFlight.get()).isEqualTo(1);
+    assertThat(first.calls.get() + second.calls.get()).isEqualTo(200);
+  }
+
+  @Test
+  public void testBatchIsSplitAcrossKeys() throws Exception {
+
+    KeyTradeService first = new KeyTradeService("1", null);
+    KeyTradeService second = new KeyTradeService("2", null);
+    KeyPoolPollingTradeService pool = new KeyPoolPollingTradeService(Arrays.asList(first, second));
+
+    LimitOrder rejected = new LimitOrder(OrderType.BID, BigDecimal.ZERO, CurrencyPair.BTC_USD, null, null, BigDecimal.TEN);
+    List<String> ids = pool.placeLimitOrders(Arrays.asList(ORDER, ORDER, rejected, ORDER, ORDER));
+
+    assertThat(ids).hasSize(5);
+    assertThat(ids.get(2)).isNull();
+    assertThat(ids.get(0)).isEqualTo(ids.get(1));
+    assertThat(ids.get(3)).isEqualTo(ids.get(4)).isNotEqualTo(ids.get(0));
+    assertThat(first.calls.get()).isGreaterThan(0);
+    assertThat(second.calls.get()).isGreaterThan(0);
+    assertThat(first.maxInFlight.get()).isEqualTo(1);
+    assertThat(second.maxInFlight.get()).isEqualTo(1);
+
+    assertThat(pool.placeLimitOrders(Collections.<LimitOrder> emptyList())).isEmpty();
+  }
+
+  @Test
+  public void testFailedChunkKeepsTheIdsOfTheOthers() throws Exception {
+
+    KeyPoolPollingTradeService pool = new KeyPoolPollingTradeService(Arrays.asList(new KeyTradeService("1", null), new KeyTradeService("2", null)));
+
+    LimitOrder timedOut = new LimitOrder(OrderType.BID, BigDecimal.ONE.negate(), CurrencyPair.BTC_USD, null, null, BigDecimal.TEN);
+    try {
+      pool.placeLimitOrders(Arrays.asList(ORDER, timedOut, ORDER, ORDER));
+      fail("Expected a PartialPlacementException");
+    } catch (PartialPlacementException e) {
+      assertThat(e.getOrderIds()).hasSize(4);
+      assertThat(e.getOrderIds().get(0)).isNotNull();
+      assertThat(e.getOrderIds().get(1)).isNull();
+      assertThat(e.getOrderIds().get(2)).isNotNull().isEqualTo(e.getOrderIds().get(3));
+      assertThat(e.getUnknownIndexes()).containsExactly(1);
+    }
+  }
+
+  private static class KeyTradeService implements PollingTradeService {
+
+    private final String key;
+    private final CountDownLatch latch;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    KeyTradeService(String key, CountDownLatch latch) {
+
+      this.key = key;
+      this.latch = latch;
+    }
+
+    @Override
+    public String placeLimitOrder(LimitOrder limitOrder) throws IOException {
+
+      if (limitOrder.getTradableAmount().signum() == 0) {
+        throw new ExchangeException("Invalid amount");
+      }
+      if (limitOrder.getTradableAmount().signum() < 0) {
+        throw new IOException("Read timed out");
+      }
+      int current = inFlight.incrementAndGet();
+      while (maxInFlight.get() < current) {
+        maxInFlight.compareAndSet(maxInFlight.get(), current);
+      }
+      calls.incrementAndGet();
+      try {
+        if (latch != null) {
+          latch.countDown();
+          latch.await(5, TimeUnit.SECONDS);
+        } else {
+          Thread.yield();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        inFlight.decrementAndGet();
+      }
+      return key;
+    }
+
+    @Override
+    public OpenOrders getOpenOrders() {
+
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String placeMarketOrder(MarketOrder marketOrder) {
+
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean cancelOrder(String orderId) {
+
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws IOException {
+
+      return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+    }
+
+    @Override
+    public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws IOException {
+
+      return TradeServiceUtils.cancelOrders(this, orderIds);
+    }
+
+    @Override
+    public UserTrades getTradeHistory(TradeHistoryParams params) {
+
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public TradeHistoryParams createTradeHistoryParams() {
+
+      return null;
+    }
+
+    @Override
+    public void verifyOrder(LimitOrder limitOrder) {
+
+    }
+
+    @Override
+    public void verifyOrder(MarketOrder marketOrder) {
+
+    }
+
+    @Override
+    @Deprecated
+    public List<CurrencyPair> getExchangeSymbols() {
+
+      return null;
+    }
+  }
+}
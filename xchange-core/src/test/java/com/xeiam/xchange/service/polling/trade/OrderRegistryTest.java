@@ -0,0 +1,52 @@
+package com.xeiam.xchange.service.polling.trade;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.dto.trade.OpenOrders;
+
+public class OrderRegistryTest {
+
+  @Test
+  public void testRegisterAndRemove() {
+
+    OrderRegistry registry = new OrderRegistry();
+    registry.register("1", CurrencyPair.BTC_USD, OrderType.BID);
+    registry.register(new OpenOrders(Arrays.asList(
+        new LimitOrder(OrderType.ASK, BigDecimal.ONE, CurrencyPair.LTC_BTC, "2", null, BigDecimal.TEN),
+        new LimitOrder(OrderType.ASK, BigDecimal.ONE, CurrencyPair.LTC_BTC, null, null, BigDecimal.TEN))));
+
+    assertThat(registry.size()).isEqualTo(2);
+    assertThat(registry.getCurrencyPair("1")).isEqualTo(CurrencyPair.BTC_USD);
+    assertThat(registry.getType("1")).isEqualTo(OrderType.BID);
+    assertThat(registry.getCurrencyPair("2")).isEqualTo(CurrencyPair.LTC_BTC);
+    assertThat(registry.getType("2")).isEqualTo(OrderType.ASK);
+    assertThat(registry.getCurrencyPair("3")).isNull();
+
+    registry.remove("1");
+    assertThat(registry.getCurrencyPair("1")).isNull();
+    assertThat(registry.getType("1")).isNull();
+  }
+
+  @Test
+  public void testLeastRecentlyUsedIsEvicted() {
+
+    OrderRegistry registry = new OrderRegistry(2);
+    registry.register("1", CurrencyPair.BTC_USD, OrderType.BID);
+    registry.register("2", CurrencyPair.BTC_USD, OrderType.BID);
+    registry.getCurrencyPair("1");
+    registry.register("3", CurrencyPair.BTC_USD, OrderType.BID);
+
+    assertThat(registry.size()).isEqualTo(2);
+    assertThat(registry.getCurrencyPair("1")).isNotNull();
+    assertThat(registry.getCurrencyPair("2")).isNull();
+    assertThat(registry.getCurrencyPair("3")).isNotNull();
+  }
+}
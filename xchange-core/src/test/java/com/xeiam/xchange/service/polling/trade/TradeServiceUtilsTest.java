@@ -0,0 +1,134 @@
+package com.xeiam.xchange.service.polling.trade;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.exceptions.ExchangeException;
+import com.xeiam.xchange.exceptions.NotAvailableFromExchangeException;
+import com.xeiam.xchange.exceptions.PartialCancellationException;
+import com.xeiam.xchange.exceptions.PartialPlacementException;
+
+public class TradeServiceUtilsTest {
+
+  @Test
+  public void testRejectedOrdersDoNotStopTheBatch() throws IOException {
+
+    PollingTradeService tradeService = tradeService(new Answer() {
+
+      @Override
+      public Object answer(String argument) {
+
+        if (argument.equals("2")) {
+          throw new ExchangeException("Insufficient funds");
+        }
+        return argument.equals("4") ? Boolean.FALSE : argument;
+      }
+    });
+
+    List<String> orderIds = TradeServiceUtils.placeLimitOrders(tradeService, Arrays.asList(order("1"), order("2"), order("5")));
+    assertThat(orderIds).containsExactly("1", null, "5");
+
+    Map<String, Boolean> cancelled = TradeServiceUtils.cancelOrders(tradeService, Arrays.asList("1", "2", "4"));
+    assertThat(cancelled.keySet()).containsExactly("1", "2", "4");
+    assertThat(cancelled.values()).containsExactly(true, false, false);
+  }
+
+  @Test
+  public void testFailedCallsHaveAnUnknownOutcome() {
+
+    PollingTradeService tradeService = tradeService(new Answer() {
+
+      @Override
+      public Object answer(String argument) throws IOException {
+
+        if (argument.equals("2")) {
+          throw new ExchangeException("Insufficient funds");
+        }
+        if (argument.equals("3")) {
+          throw new IOException("Read timed out");
+        }
+        return argument;
+      }
+    });
+
+    try {
+      TradeServiceUtils.placeLimitOrders(tradeService, Arrays.asList(order("1"), order("2"), order("3"), order("5")));
+      fail("Expected a PartialPlacementException");
+    } catch (PartialPlacementException e) {
+      assertThat(e.getOrderIds()).containsExactly("1", null, null, "5");
+      assertThat(e.getUnknownIndexes()).containsExactly(2);
+      assertThat(e.getCause()).hasMessage("Read timed out");
+    }
+
+    try {
+      TradeServiceUtils.cancelOrders(tradeService, Arrays.asList("1", "2", "3", "4"));
+      fail("Expected a PartialCancellationException");
+    } catch (PartialCancellationException e) {
+      assertThat(e.getCancelled().keySet()).containsExactly("1", "2", "4");
+      assertThat(e.getCancelled().values()).containsExactly(true, false, true);
+      assertThat(e.getUnknownOrderIds()).containsExactly("3");
+    }
+  }
+
+  @Test(expected = NotAvailableFromExchangeException.class)
+  public void testUnsupportedFailsTheBatch() throws IOException {
+
+    PollingTradeService tradeService = tradeService(new Answer() {
+
+      @Override
+      public Object answer(String argument) {
+
+        throw new NotAvailableFromExchangeException();
+      }
+    });
+
+    TradeServiceUtils.placeLimitOrders(tradeService, Arrays.asList(order("1"), order("2")));
+  }
+
+  private static LimitOrder order(String amount) {
+
+    return new LimitOrder(OrderType.BID, new BigDecimal(amount), CurrencyPair.BTC_USD, null, null, BigDecimal.ONE);
+  }
+
+  /**
+   * A trade service answering placeLimitOrder with the amount of the order and cancelOrder with true, unless the answer says otherwise
+   */
+  private static PollingTradeService tradeService(final Answer answer) {
+
+    return (PollingTradeService) Proxy.newProxyInstance(PollingTradeService.class.getClassLoader(), new Class<?>[] { PollingTradeService.class },
+        new InvocationHandler() {
+
+          @Override
+          public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+            if (method.getName().equals("placeLimitOrder")) {
+              return answer.answer(((LimitOrder) args[0]).getTradableAmount().toPlainString());
+            }
+            if (method.getName().equals("cancelOrder")) {
+              Object result = answer.answer((String) args[0]);
+              return result instanceof Boolean ? result : Boolean.TRUE;
+            }
+            throw new UnsupportedOperationException(method.getName());
+          }
+        });
+  }
+
+  private interface Answer {
+
+    Object answer(String argument) throws IOException;
+  }
+}
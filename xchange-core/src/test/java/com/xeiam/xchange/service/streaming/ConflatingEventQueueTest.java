@@ -0,0 +1,101 @@
+package com.xeiam.xchange.service.streaming;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.Ticker;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+
+public class ConflatingEventQueueTest {
+
+  @Test
+  public void testKeepsLatestPerTypeAndPair() {
+
+    ConflatingEventQueue queue = new ConflatingEventQueue();
+    queue.offer(ticker(CurrencyPair.BTC_USD, "1"));
+    queue.offer(depth(CurrencyPair.BTC_USD, "10"));
+    queue.offer(ticker(CurrencyPair.BTC_EUR, "2"));
+    queue.offer(ticker(CurrencyPair.BTC_USD, "3"));
+    queue.offer(depth(CurrencyPair.BTC_USD, "30"));
+
+    assertThat(queue.size()).isEqualTo(3);
+    assertThat(queue.peek().getData()).isEqualTo("3");
+    assertThat(queue.poll().getData()).isEqualTo("3");
+    assertThat(queue.poll().getData()).isEqualTo("30");
+    assertThat(queue.poll().getData()).isEqualTo("2");
+    assertThat(queue.poll()).isNull();
+
+    // once consumed, a new update is queued again
+    queue.offer(ticker(CurrencyPair.BTC_USD, "4"));
+    assertThat(queue.poll().getData()).isEqualTo("4");
+  }
+
+  @Test
+  public void testLosslessLane() throws InterruptedException {
+
+    ConflatingEventQueue queue = new ConflatingEventQueue();
+    queue.put(new DefaultExchangeEvent(ExchangeEventType.TRADE, "trade1"));
+    queue.put(ticker(CurrencyPair.BTC_USD, "1"));
+    queue.put(new DefaultExchangeEvent(ExchangeEventType.TRADE, "trade2"));
+    queue.put(new DefaultExchangeEvent(ExchangeEventType.ORDER_ADDED, "order"));
+    queue.put(ticker(CurrencyPair.BTC_USD, "2"));
+    // no currency pair to conflate on
+    queue.put(new DefaultExchangeEvent(ExchangeEventType.DEPTH, "empty", new OrderBook(null, Collections.<LimitOrder> emptyList(),
+        Collections.<LimitOrder> emptyList())));
+
+    List<ExchangeEvent> events = new ArrayList<ExchangeEvent>();
+    assertThat(queue.drainTo(events)).isEqualTo(5);
+    List<String> data = new ArrayList<String>();
+    for (ExchangeEvent event : events) {
+      data.add(event.getData());
+    }
+    assertThat(data).containsExactly("trade1", "2", "trade2", "order", "empty");
+    assertThat(queue.poll(1, TimeUnit.MILLISECONDS)).isNull();
+  }
+
+  @Test
+  public void testMapPayload() {
+
+    Map<String, Object> payload = new HashMap<String, Object>();
+    payload.put("generic", new Ticker.Builder().currencyPair(CurrencyPair.BTC_GBP).build());
+
+    ConflatingEventQueue queue = new ConflatingEventQueue();
+    queue.offer(new DefaultExchangeEvent(ExchangeEventType.TICKER, "1", payload));
+    queue.offer(new DefaultExchangeEvent(ExchangeEventType.TICKER, "2", payload));
+
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(queue.poll().getData()).isEqualTo("2");
+  }
+
+  @Test
+  public void testConfiguration() {
+
+    assertThat(EventQueueConfiguration.CONFLATING.newQueue()).isInstanceOf(ConflatingEventQueue.class);
+    assertThat(EventQueueConfiguration.UNBOUNDED.isConflating()).isFalse();
+  }
+
+  private static ExchangeEvent ticker(CurrencyPair currencyPair, String data) {
+
+    Ticker ticker = new Ticker.Builder().currencyPair(currencyPair).last(new BigDecimal(data)).build();
+    return new DefaultExchangeEvent(ExchangeEventType.TICKER, data, ticker);
+  }
+
+  private static ExchangeEvent depth(CurrencyPair currencyPair, String data) {
+
+    List<LimitOrder> asks = new ArrayList<LimitOrder>();
+    asks.add(new LimitOrder(OrderType.ASK, BigDecimal.ONE, currencyPair, "", null, new BigDecimal(data)));
+    return new DefaultExchangeEvent(ExchangeEventType.DEPTH, data, new OrderBook(null, asks, new ArrayList<LimitOrder>()));
+  }
+}
@@ -0,0 +1,158 @@
+package com.xeiam.xchange.service.streaming;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.Ticker;
+
+public class RingBufferEventQueueTest {
+
+  @Test
+  public void testCapacityIsRoundedUp() {
+
+    assertThat(new RingBufferEventQueue(5, WaitStrategy.YIELD, OverflowPolicy.BLOCK).getCapacity()).isEqualTo(8);
+    assertThat(new RingBufferEventQueue(8, WaitStrategy.YIELD, OverflowPolicy.BLOCK).getCapacity()).isEqualTo(8);
+    assertThat(new RingBufferEventQueue(1, WaitStrategy.YIELD, OverflowPolicy.BLOCK).getCapacity()).isEqualTo(2);
+  }
+
+  @Test
+  public void testFifoAndBlockWhenFull() throws InterruptedException {
+
+    RingBufferEventQueue queue = new RingBufferEventQueue(4, WaitStrategy.YIELD, OverflowPolicy.BLOCK);
+    for (int i = 0; i < 4; i++) {
+      assertThat(queue.offer(event(ExchangeEventType.TRADE, String.valueOf(i)))).isTrue();
+    }
+    assertThat(queue.offer(event(ExchangeEventType.TRADE, "4"))).isFalse();
+    assertThat(queue.offer(event(ExchangeEventType.TRADE, "4"), 1, TimeUnit.MILLISECONDS)).isFalse();
+    assertThat(queue.size()).isEqualTo(4);
+    assertThat(queue.remainingCapacity()).isEqualTo(0);
+
+    for (int i = 0; i < 4; i++) {
+      assertThat(queue.take().getData()).isEqualTo(String.valueOf(i));
+    }
+    assertThat(queue.poll()).isNull();
+    assertThat(queue.poll(1, TimeUnit.MILLISECONDS)).isNull();
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void testDropOldest() {
+
+    RingBufferEventQueue queue = new RingBufferEventQueue(2, WaitStrategy.YIELD, OverflowPolicy.DROP_OLDEST);
+    queue.offer(event(ExchangeEventType.TRADE, "0"));
+    queue.offer(event(ExchangeEventType.TRADE, "1"));
+    queue.offer(event(ExchangeEventType.TRADE, "2"));
+
+    assertThat(queue.size()).isEqualTo(2);
+    assertThat(queue.poll().getData()).isEqualTo("1");
+    assertThat(queue.poll().getData()).isEqualTo("2");
+  }
+
+  @Test
+  public void testConflateKeepsLatestTicker() {
+
+    RingBufferEventQueue queue = new RingBufferEventQueue(2, WaitStrategy.YIELD, OverflowPolicy.CONFLATE);
+    assertThat(queue.offer(event(ExchangeEventType.TRADE, "trade0"))).isTrue();
+    assertThat(queue.offer(event(ExchangeEventType.TRADE, "trade1"))).isTrue();
+    assertThat(queue.offer(ticker(CurrencyPair.BTC_USD, "1"))).isTrue();
+    assertThat(queue.offer(ticker(CurrencyPair.BTC_USD, "2"))).isTrue();
+    assertThat(queue.offer(ticker(CurrencyPair.BTC_EUR, "3"))).isTrue();
+    // trades are never conflated
+    assertThat(queue.offer(event(ExchangeEventType.TRADE, "lost"))).isFalse();
+    assertThat(queue.size()).isEqualTo(4);
+
+    assertThat(queue.poll().getData()).isEqualTo("trade0");
+    assertThat(queue.poll().getData()).isEqualTo("trade1");
+    assertThat(queue.poll().getData()).isEqualTo("2");
+    assertThat(queue.poll().getData()).isEqualTo("3");
+    assertThat(queue.poll()).isNull();
+  }
+
+  @Test
+  public void testDrainTo() {
+
+    RingBufferEventQueue queue = new RingBufferEventQueue(8, WaitStrategy.YIELD, OverflowPolicy.BLOCK);
+    for (int i = 0; i < 5; i++) {
+      queue.offer(event(ExchangeEventType.TRADE, String.valueOf(i)));
+    }
+    List<ExchangeEvent> events = new ArrayList<ExchangeEvent>();
+    assertThat(queue.drainTo(events, 3)).isEqualTo(3);
+    assertThat(queue.drainTo(events)).isEqualTo(2);
+    assertThat(events).hasSize(5);
+    assertThat(events.get(4).getData()).isEqualTo("4");
+  }
+
+  @Test
+  public void testOnlyTheHeadIsRemoved() {
+
+    RingBufferEventQueue queue = new RingBufferEventQueue(4, WaitStrategy.YIELD, OverflowPolicy.BLOCK);
+    ExchangeEvent first = event(ExchangeEventType.TRADE, "0");
+    queue.offer(first);
+    queue.offer(event(ExchangeEventType.TRADE, "1"));
+
+    try {
+      queue.remove(first);
+      fail("removed an element by value");
+    } catch (UnsupportedOperationException e) {
+      assertThat(queue.size()).isEqualTo(2);
+    }
+    assertThat(queue.remove()).isSameAs(first);
+    queue.clear();
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void testConcurrentProducers() throws InterruptedException {
+
+    final RingBufferEventQueue queue = new RingBufferEventQueue(16, WaitStrategy.YIELD, OverflowPolicy.BLOCK);
+    final int eventsPerProducer = 10000;
+    List<Thread> producers = new ArrayList<Thread>();
+    for (int p = 0; p < 2; p++) {
+      Thread producer = new Thread(new Runnable() {
+
+        @Override
+        public void run() {
+
+          try {
+            for (int i = 0; i < eventsPerProducer; i++) {
+              queue.put(event(ExchangeEventType.TRADE, String.valueOf(i)));
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      });
+      producers.add(producer);
+      producer.start();
+    }
+
+    int received = 0;
+    while (received < 2 * eventsPerProducer) {
+      assertThat(queue.poll(10, TimeUnit.SECONDS)).isNotNull();
+      received++;
+    }
+    for (Thread producer : producers) {
+      producer.join();
+    }
+    assertThat(queue.poll()).isNull();
+  }
+
+  private static ExchangeEvent event(ExchangeEventType type, String data) {
+
+    return new DefaultExchangeEvent(type, data);
+  }
+
+  private static ExchangeEvent ticker(CurrencyPair currencyPair, String data) {
+
+    Ticker ticker = new Ticker.Builder().currencyPair(currencyPair).last(new BigDecimal(data)).build();
+    return new DefaultExchangeEvent(ExchangeEventType.TICKER, data, ticker);
+  }
+}
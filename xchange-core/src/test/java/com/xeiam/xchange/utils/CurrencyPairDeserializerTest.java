@@ -38,4 +38,20 @@ public class CurrencyPairDeserializerTest {
     assertThat(currencyPair.counter.getCurrencyCode()).isEqualTo("HQXYVBC");
 
   }
+
+  @Test
+  public void testCurrencyPairFromStringIsCanonical() {
+
+    assertThat(CurrencyPairDeserializer.getCurrencyPairFromString("BTCUSD")).isSameAs(CurrencyPair.BTC_USD);
+    assertThat(CurrencyPairDeserializer.getCurrencyPairFromString("btc_usd")).isSameAs(CurrencyPair.BTC_USD);
+    assertThat(CurrencyPairDeserializer.getCurrencyPairFromString("LTC-BTC-")).isSameAs(CurrencyPair.LTC_BTC);
+
+    CurrencyPair currencyPair = CurrencyPairDeserializer.getCurrencyPairFromString("QQQ/ZZZ");
+    assertThat(CurrencyPairDeserializer.getCurrencyPairFromString("QQQ/ZZZ")).isSameAs(currencyPair);
+    assertThat(CurrencyPair.getInstance("QQQ", "ZZZ")).isSameAs(currencyPair);
+
+    // the cedi is not the currency registered for its code, so its pairs are not interned
+    assertThat(CurrencyPair.getInstance(Currency.GHS, Currency.BTC)).isNotSameAs(CurrencyPair.GHs_BTC);
+    assertThat(CurrencyPair.getInstance(Currency.GHs, Currency.BTC)).isSameAs(CurrencyPair.GHs_BTC);
+  }
 }
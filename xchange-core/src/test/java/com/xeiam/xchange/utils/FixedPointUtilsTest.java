@@ -0,0 +1,127 @@
+package com.xeiam.xchange.utils;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.ScaledOrderBook;
+import com.xeiam.xchange.dto.marketdata.ScaledTrades;
+import com.xeiam.xchange.dto.marketdata.Trade;
+import com.xeiam.xchange.dto.marketdata.Trades;
+import com.xeiam.xchange.dto.marketdata.Trades.TradeSortType;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+
+public class FixedPointUtilsTest {
+
+  @Test
+  public void testParse() {
+
+    assertThat(FixedPointUtils.parse("123.45", 2)).isEqualTo(12345L);
+    assertThat(FixedPointUtils.parse("123.4500", 2)).isEqualTo(12345L);
+    assertThat(FixedPointUtils.parse("-0.5", 3)).isEqualTo(-500L);
+    assertThat(FixedPointUtils.parse("7", 8)).isEqualTo(700000000L);
+    assertThat(FixedPointUtils.parse("1.5E-3", 4)).isEqualTo(15L);
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testParseTooManyDecimals() {
+
+    FixedPointUtils.parse("0.001", 2);
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void testParseInvalid() {
+
+    FixedPointUtils.parse("1.2.3", 2);
+  }
+
+  @Test
+  public void testConversions() {
+
+    assertThat(FixedPointUtils.toLong(new BigDecimal("250.1"), 5)).isEqualTo(25010000L);
+    assertThat(FixedPointUtils.toLong(new BigDecimal("250.100"), 1)).isEqualTo(2501L);
+    assertThat(FixedPointUtils.toLong(new BigDecimal("2.5E+2"), 2)).isEqualTo(25000L);
+    assertThat(FixedPointUtils.toLong(new BigDecimal("-0.5"), 3)).isEqualTo(-500L);
+    assertThat(FixedPointUtils.toBigDecimal(25010000L, 5).compareTo(new BigDecimal("250.1"))).isEqualTo(0);
+    assertThat(FixedPointUtils.rescale(12300L, 4, 2)).isEqualTo(123L);
+    assertThat(FixedPointUtils.rescale(123L, 2, 4)).isEqualTo(12300L);
+    assertThat(FixedPointUtils.rescale(0L, 0, 30)).isEqualTo(0L);
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testToLongBeyondScale() {
+
+    FixedPointUtils.toLong(new BigDecimal("250.11"), 1);
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testRescaleUpBeyondLong() {
+
+    FixedPointUtils.rescale(1L, 0, 19);
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testRescaleDownBeyondLong() {
+
+    FixedPointUtils.rescale(Long.MAX_VALUE, 25, 2);
+  }
+
+  @Test
+  public void testScaledOrderBookRoundTrip() {
+
+    List<LimitOrder> asks = new ArrayList<LimitOrder>(Arrays.asList(
+        new LimitOrder(OrderType.ASK, new BigDecimal("0.5"), CurrencyPair.BTC_USD, "", null, new BigDecimal("250.11")),
+        new LimitOrder(OrderType.ASK, new BigDecimal("1.25"), CurrencyPair.BTC_USD, "", null, new BigDecimal("251"))));
+    List<LimitOrder> bids = new ArrayList<LimitOrder>(Arrays.asList(
+        new LimitOrder(OrderType.BID, new BigDecimal("3"), CurrencyPair.BTC_USD, "", null, new BigDecimal("249.9"))));
+    OrderBook orderBook = new OrderBook(new Date(1000), asks, bids);
+
+    ScaledOrderBook scaledOrderBook = ScaledOrderBook.fromOrderBook(orderBook, 2, 8);
+
+    assertThat(scaledOrderBook.getSize(OrderType.ASK)).isEqualTo(2);
+    assertThat(scaledOrderBook.getPrice(OrderType.ASK, 0)).isEqualTo(25011L);
+    assertThat(scaledOrderBook.getAmount(OrderType.BID, 0)).isEqualTo(300000000L);
+    assertThat(scaledOrderBook.toOrderBook().getAsks().get(1).getLimitPrice().compareTo(new BigDecimal("251"))).isEqualTo(0);
+    assertThat(scaledOrderBook.toOrderBook().getTimeStamp()).isEqualTo(new Date(1000));
+  }
+
+  @Test
+  public void testScaledTradesRoundTrip() {
+
+    Trades trades = new Trades(Arrays.asList(new Trade(OrderType.BID, new BigDecimal("0.015"), CurrencyPair.BTC_USD, new BigDecimal("250.11"),
+        new Date(1000), "1"), new Trade(OrderType.ASK, new BigDecimal("2"), CurrencyPair.BTC_USD, new BigDecimal("249"), null, "2")),
+        TradeSortType.SortByID);
+
+    ScaledTrades scaledTrades = ScaledTrades.fromTrades(trades, 2, 8);
+
+    assertThat(scaledTrades.size()).isEqualTo(2);
+    assertThat(scaledTrades.getCurrencyPair()).isEqualTo(CurrencyPair.BTC_USD);
+    assertThat(scaledTrades.getPrice(0)).isEqualTo(25011L);
+    assertThat(scaledTrades.getAmount(0)).isEqualTo(1500000L);
+    assertThat(scaledTrades.getTimestamp(1)).isEqualTo(ScaledTrades.NO_TIMESTAMP);
+
+    List<Trade> roundTrip = scaledTrades.toTrades(TradeSortType.SortByID).getTrades();
+    assertThat(roundTrip).hasSize(2);
+    for (int i = 0; i < roundTrip.size(); i++) {
+      Trade expected = trades.getTrades().get(i);
+      Trade actual = roundTrip.get(i);
+      assertThat(actual.getType()).isEqualTo(expected.getType());
+      assertThat(actual.getPrice().compareTo(expected.getPrice())).isZero();
+      assertThat(actual.getTradableAmount().compareTo(expected.getTradableAmount())).isZero();
+      assertThat(actual.getTimestamp()).isEqualTo(expected.getTimestamp());
+      assertThat(actual.getId()).isEqualTo(expected.getId());
+    }
+
+    scaledTrades.clear();
+    assertThat(scaledTrades.size()).isZero();
+  }
+}
@@ -0,0 +1,110 @@
+package com.xeiam.xchange.utils.jackson;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+
+public class OrderBookParserTest {
+
+  @Test
+  public void testReadArrayLevels() throws IOException {
+
+    ObjectMapper mapper = new ObjectMapper();
+    OrderBookParser.injectCurrencyPair(mapper, CurrencyPair.BTC_EUR);
+
+    Levels levels = mapper.readValue("[[\"530.75513\", \"0.248\", 1391825343], [530.761, 1e-3, [1, 2], {\"a\": 1}]]", Levels.class);
+
+    assertThat(levels.orders).hasSize(2);
+    LimitOrder first = levels.orders.get(0);
+    assertThat(first.getType()).isEqualTo(OrderType.ASK);
+    assertThat(first.getCurrencyPair()).isSameAs(CurrencyPair.BTC_EUR);
+    assertThat(first.getLimitPrice()).isEqualTo(new BigDecimal("530.75513"));
+    assertThat(first.getTradableAmount()).isEqualTo(new BigDecimal("0.248"));
+    assertThat(levels.orders.get(1).getLimitPrice()).isEqualTo(new BigDecimal("530.761"));
+    assertThat(levels.orders.get(1).getTradableAmount().compareTo(new BigDecimal("0.001"))).isZero();
+  }
+
+  @Test
+  public void testReadObjectLevels() throws IOException {
+
+    JsonParser jsonParser = new ObjectMapper().getFactory().createParser(
+        "[{\"Quantity\": 2.5, \"Rate\": \"0.0123\", \"Extra\": {\"x\": [1]}}, {\"Rate\": 0.0124, \"Quantity\": \"1\"}]");
+    jsonParser.nextToken();
+
+    List<LimitOrder> orders = OrderBookParser.readObjectLevels(jsonParser, OrderType.BID, CurrencyPair.LTC_BTC, "Rate", "Quantity", "");
+
+    assertThat(orders).hasSize(2);
+    assertThat(orders.get(0).getLimitPrice()).isEqualTo(new BigDecimal("0.0123"));
+    assertThat(orders.get(0).getTradableAmount()).isEqualTo(new BigDecimal("2.5"));
+    assertThat(orders.get(1).getLimitPrice()).isEqualTo(new BigDecimal("0.0124"));
+    assertThat(orders.get(1).getId()).isEmpty();
+    assertThat(jsonParser.getCurrentToken()).isEqualTo(JsonToken.END_ARRAY);
+    assertThat(jsonParser.nextToken()).isNull();
+  }
+
+  @Test(expected = JsonMappingException.class)
+  public void testMissingCurrencyPair() throws IOException {
+
+    new ObjectMapper().readValue("[]", Levels.class);
+  }
+
+  @Test
+  public void testCurrentCurrencyPair() throws IOException {
+
+    ObjectMapper mapper = new ObjectMapper();
+    OrderBookParser.injectCurrentCurrencyPair(mapper);
+
+    assertThat(OrderBookParser.setCurrentCurrencyPair(CurrencyPair.BTC_EUR)).isNull();
+    try {
+      assertThat(mapper.readValue("[[1, 2]]", Levels.class).orders.get(0).getCurrencyPair()).isSameAs(CurrencyPair.BTC_EUR);
+      OrderBookParser.setCurrentCurrencyPair(CurrencyPair.LTC_BTC);
+      assertThat(mapper.readValue("[[1, 2]]", Levels.class).orders.get(0).getCurrencyPair()).isSameAs(CurrencyPair.LTC_BTC);
+    } finally {
+      OrderBookParser.setCurrentCurrencyPair(null);
+    }
+
+    try {
+      mapper.readValue("[]", Levels.class);
+      fail("decoded without a pair");
+    } catch (JsonMappingException e) {
+      assertThat(e.getMessage()).contains("No currency pair");
+    }
+  }
+
+  @JsonDeserialize(using = LevelsDeserializer.class)
+  static class Levels {
+
+    final List<LimitOrder> orders;
+
+    Levels(List<LimitOrder> orders) {
+
+      this.orders = orders;
+    }
+  }
+
+  static class LevelsDeserializer extends JsonDeserializer<Levels> {
+
+    @Override
+    public Levels deserialize(JsonParser jsonParser, DeserializationContext ctxt) throws IOException {
+
+      CurrencyPair currencyPair = OrderBookParser.getCurrencyPair(ctxt);
+      return new Levels(OrderBookParser.readArrayLevels(jsonParser, OrderType.ASK, currencyPair, null));
+    }
+  }
+}
@@ -4,7 +4,6 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 
 import javax.crypto.Mac;
 import javax.ws.rs.HeaderParam;
@@ -46,13 +45,8 @@ public class CryptoFacilitiesDigest extends BaseParamsDigest {
   @Override
   public String digestParams(RestInvocation restInvocation) {
 
-	MessageDigest sha256;
-    try {
-      sha256 = MessageDigest.getInstance("SHA-256");
-    } catch (NoSuchAlgorithmException e) {
-      throw new RuntimeException("Illegal algorithm for post body digest. Check the implementation.");
-    }
-    
+    MessageDigest sha256 = getMessageDigest("SHA-256");
+
     String decodedQuery = null;
     
     try {
@@ -61,13 +55,13 @@ public class CryptoFacilitiesDigest extends BaseParamsDigest {
 		throw new IllegalArgumentException("Unsupported query encoding", e);
 	}
     
-    sha256.update(decodedQuery.getBytes());    
-    sha256.update(restInvocation.getParamValue(HeaderParam.class, "Nonce").toString().getBytes());        
-    sha256.update((restInvocation.getPath()).getBytes());    
-        
+    update(sha256, decodedQuery);
+    updateNonce(sha256, restInvocation.getParamValue(HeaderParam.class, "Nonce"));
+    update(sha256, restInvocation.getPath());
+
     Mac mac512 = getMac();
-    mac512.update(sha256.digest());
+    updateDigest(mac512, sha256);
 
-    return Base64.encodeBytes(mac512.doFinal()).trim();
+    return doFinalBase64(mac512);
   }
 }
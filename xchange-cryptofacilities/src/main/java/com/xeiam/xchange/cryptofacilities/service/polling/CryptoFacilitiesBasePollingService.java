@@ -28,7 +28,8 @@ public class CryptoFacilitiesBasePollingService extends BaseExchangeService impl
 
     super(exchange);
 
-    cryptoFacilities = RestProxyFactory.createProxy(CryptoFacilitiesAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    cryptoFacilities = RestProxyFactory.createProxy(CryptoFacilitiesAuthenticated.class, exchange.getExchangeSpecification().getSslUri(),
+        exchange.createClientConfig());
     signatureCreator = CryptoFacilitiesDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
   }
 
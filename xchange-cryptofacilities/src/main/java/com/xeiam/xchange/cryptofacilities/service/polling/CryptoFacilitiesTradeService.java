@@ -1,9 +1,14 @@
 package com.xeiam.xchange.cryptofacilities.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.cryptofacilities.CryptoFacilitiesAdapters;
+import com.xeiam.xchange.cryptofacilities.dto.marketdata.CryptoFacilitiesCancel;
+import com.xeiam.xchange.currency.CurrencyPair;
 import com.xeiam.xchange.dto.trade.LimitOrder;
 import com.xeiam.xchange.dto.trade.MarketOrder;
 import com.xeiam.xchange.dto.trade.OpenOrders;
@@ -11,6 +16,7 @@ import com.xeiam.xchange.dto.trade.UserTrades;
 import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.exceptions.NotAvailableFromExchangeException;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+import com.xeiam.xchange.service.polling.trade.TradeServiceUtils;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
 
 /**
@@ -32,7 +38,9 @@ public class CryptoFacilitiesTradeService extends CryptoFacilitiesTradeServiceRa
   @Override
   public OpenOrders getOpenOrders() throws IOException {
 	  
-    return CryptoFacilitiesAdapters.adaptOpenOrders(super.getCryptoFacilitiesOpenOrders());
+    OpenOrders openOrders = CryptoFacilitiesAdapters.adaptOpenOrders(super.getCryptoFacilitiesOpenOrders());
+    exchange.getOrderRegistry().register(openOrders);
+    return openOrders;
     
   }
 
@@ -46,14 +54,40 @@ public class CryptoFacilitiesTradeService extends CryptoFacilitiesTradeServiceRa
   @Override
   public String placeLimitOrder(LimitOrder limitOrder) throws IOException {
 
-    return CryptoFacilitiesAdapters.adaptOrderId(super.placeCryptoFacilitiesLimitOrder(limitOrder));
+    String orderId = CryptoFacilitiesAdapters.adaptOrderId(super.placeCryptoFacilitiesLimitOrder(limitOrder));
+    exchange.getOrderRegistry().register(orderId, limitOrder.getCurrencyPair(), limitOrder.getType());
+    return orderId;
   }
 
+  /**
+   * The pair of the order is only looked up on the exchange if it was placed elsewhere
+   */
   @Override
-	public boolean cancelOrder(String orderId) throws IOException {
+  public boolean cancelOrder(String orderId) throws IOException {
+
+    CurrencyPair currencyPair = exchange.getOrderRegistry().getCurrencyPair(orderId);
+    if (currencyPair == null) {
+      getOpenOrders();
+      currencyPair = exchange.getOrderRegistry().getCurrencyPair(orderId);
+      if (currencyPair == null) {
+        throw new ExchangeException("Unable to find order " + orderId);
+      }
+    }
+    CryptoFacilitiesCancel cancel = cancelCryptoFacilitiesOrder(orderId, currencyPair);
+    exchange.getOrderRegistry().remove(orderId);
+    return cancel.isSuccess();
+  }
 
-	  throw new ExchangeException("You must use the specific cancelCryptoFacilitiesOrder(String uid, CurrencyPair currencyPair) method in the CryptoFacilitiesTradeService class");
-	  
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws IOException {
+
+    return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws IOException {
+
+    return TradeServiceUtils.cancelOrders(this, orderIds);
   }
 
   @Override
@@ -29,7 +29,7 @@ public class CryptonitBasePollingService extends BaseExchangeService implements
 
     super(exchange);
 
-    ClientConfig config = new ClientConfig();
+    ClientConfig config = exchange.createClientConfig();
     // cryptonit server disconnects immediately or raises "protocol version" if connected via these protocol versions
     config.setSslSocketFactory(CertHelper.createRestrictedSSLSocketFactory("SSLv2Hello", "TLSv1", "TLSv1.1"));
 
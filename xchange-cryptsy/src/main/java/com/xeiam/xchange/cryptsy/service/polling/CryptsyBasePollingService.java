@@ -21,7 +21,6 @@ import com.xeiam.xchange.service.BaseExchangeService;
 import com.xeiam.xchange.service.polling.BasePollingService;
 
 import si.mazi.rescu.ParamsDigest;
-import si.mazi.rescu.RestProxyFactory;
 
 /**
  * @author ObsessiveOrange
@@ -44,13 +43,12 @@ public class CryptsyBasePollingService extends BaseExchangeService implements Ba
     super(exchange);
 
     // for private API data (trade and account)
-    this.cryptsyAuthenticated = RestProxyFactory.createProxy(CryptsyAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.cryptsyAuthenticated = createPrivateProxy(CryptsyAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     this.apiKey = exchange.getExchangeSpecification().getApiKey();
     this.signatureCreator = CryptsyHmacPostBodyDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
 
     // for public API (market data)
-    this.cryptsy = RestProxyFactory.createProxy(Cryptsy.class,
-        (String) exchange.getExchangeSpecification().getParameter(CryptsyExchange.KEY_PUBLIC_API_URL));
+    this.cryptsy = createPublicProxy(Cryptsy.class, (String) exchange.getExchangeSpecification().getParameter(CryptsyExchange.KEY_PUBLIC_API_URL));
 
   }
 
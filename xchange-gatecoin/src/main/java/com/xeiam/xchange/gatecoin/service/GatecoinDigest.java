@@ -1,7 +1,6 @@
 package com.xeiam.xchange.gatecoin.service;
 
 import com.xeiam.xchange.service.BaseParamsDigest;
-import net.iharder.Base64;
 import si.mazi.rescu.RestInvocation;
 
 import javax.crypto.Mac;
@@ -29,12 +28,12 @@ public class GatecoinDigest extends BaseParamsDigest {
 
   String digest(String httpMethod, String invocationUrl, String reqContentType, String now) {
     Mac mac256 = getMac();
-    mac256.update(httpMethod.toLowerCase().getBytes());
-    mac256.update(invocationUrl.toLowerCase().getBytes());
+    update(mac256, httpMethod.toLowerCase());
+    update(mac256, invocationUrl.toLowerCase());
     if (!"GET".equals(httpMethod)) {
-      mac256.update(reqContentType.toLowerCase().getBytes());
+      update(mac256, reqContentType.toLowerCase());
     }
-    mac256.update(now.toLowerCase().getBytes());
-    return Base64.encodeBytes(mac256.doFinal());
+    update(mac256, now.toLowerCase());
+    return doFinalBase64(mac256);
   }
 }
\ No newline at end of file
@@ -25,7 +25,7 @@ public class GatecoinMarketDataServiceRaw extends GatecoinBasePollingService {
   public GatecoinMarketDataServiceRaw(Exchange exchange) {
 
     super(exchange);
-    this.gatecoin = RestProxyFactory.createProxy(Gatecoin.class, exchange.getExchangeSpecification().getSslUri());
+    this.gatecoin = RestProxyFactory.createProxy(Gatecoin.class, exchange.getExchangeSpecification().getSslUri(), exchange.createClientConfig());
   }
 
   public GatecoinTickerResult getGatecoinTicker() throws IOException {
@@ -16,6 +16,7 @@ import com.xeiam.xchange.gatecoin.dto.trade.Results.GatecoinCancelOrderResult;
 import com.xeiam.xchange.gatecoin.dto.trade.Results.GatecoinOrderResult;
 import com.xeiam.xchange.gatecoin.dto.trade.Results.GatecoinPlaceOrderResult;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+import com.xeiam.xchange.service.polling.trade.TradeServiceUtils;
 
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamPaging;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamTransactionId;
@@ -24,7 +25,9 @@ import com.xeiam.xchange.utils.DateUtils;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  *
@@ -107,6 +110,18 @@ public class GatecoinTradeService extends GatecoinTradeServiceRaw implements Pol
 
   }
 
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws IOException {
+
+    return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws IOException {
+
+    return TradeServiceUtils.cancelOrders(this, orderIds);
+  }
+
   /**
    * @param params Supported optional parameters: {@link TradeHistoryParamPaging#getPageLength()}, {@link TradeHistoryParamTransactionId}
    */
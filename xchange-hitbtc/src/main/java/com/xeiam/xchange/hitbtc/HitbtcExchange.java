@@ -12,6 +12,10 @@ import com.xeiam.xchange.hitbtc.service.polling.HitbtcAccountService;
 import com.xeiam.xchange.hitbtc.service.polling.HitbtcMarketDataService;
 import com.xeiam.xchange.hitbtc.service.polling.HitbtcMarketDataServiceRaw;
 import com.xeiam.xchange.hitbtc.service.polling.HitbtcTradeService;
+import com.xeiam.xchange.hitbtc.service.streaming.HitbtcStreamingMarketDataConfiguration;
+import com.xeiam.xchange.hitbtc.service.streaming.HitbtcStreamingMarketDataService;
+import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
+import com.xeiam.xchange.service.streaming.StreamingExchangeService;
 import com.xeiam.xchange.utils.nonce.CurrentTimeNonceFactory;
 
 import si.mazi.rescu.SynchronizedValueFactory;
@@ -39,6 +43,7 @@ public class HitbtcExchange extends BaseExchange implements Exchange {
   public void remoteInit() throws IOException {
     HitbtcSymbols hitbtcSymbols = ((HitbtcMarketDataServiceRaw) pollingMarketDataService).getHitbtcSymbols();
     metaData = HitbtcAdapters.adaptToExchangeMetaData(hitbtcSymbols, hitbtcMetaData);
+    super.remoteInit();
   }
 
   @Override
@@ -56,6 +61,12 @@ public class HitbtcExchange extends BaseExchange implements Exchange {
     return exchangeSpecification;
   }
 
+  @Override
+  public StreamingExchangeService getStreamingExchangeService(ExchangeStreamingConfiguration exchangeStreamingConfiguration) {
+
+    return new HitbtcStreamingMarketDataService(this, (HitbtcStreamingMarketDataConfiguration) exchangeStreamingConfiguration);
+  }
+
   @Override
   public SynchronizedValueFactory<Long> getNonceFactory() {
 
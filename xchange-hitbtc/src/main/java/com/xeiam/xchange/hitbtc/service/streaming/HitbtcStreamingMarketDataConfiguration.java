@@ -1,5 +1,6 @@
 package com.xeiam.xchange.hitbtc.service.streaming;
 
+import com.xeiam.xchange.service.streaming.EventQueueConfiguration;
 import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
 
 public class HitbtcStreamingMarketDataConfiguration implements ExchangeStreamingConfiguration { 
@@ -7,6 +8,7 @@ public class HitbtcStreamingMarketDataConfiguration implements ExchangeStreaming
   private final int maxReconnectAttempts;
   private final int reconnectWaitTimeInMs;
   private final int timeoutInMs;
+  private EventQueueConfiguration eventQueueConfiguration = EventQueueConfiguration.UNBOUNDED;
   
   /**
    * Constructor
@@ -57,5 +59,14 @@ public class HitbtcStreamingMarketDataConfiguration implements ExchangeStreaming
   public boolean keepAlive() {
     return true;
   }
+
+  @Override
+  public EventQueueConfiguration getEventQueueConfiguration() {
+    return eventQueueConfiguration;
+  }
+
+  public void setEventQueueConfiguration(EventQueueConfiguration eventQueueConfiguration) {
+    this.eventQueueConfiguration = eventQueueConfiguration;
+  }
 }
 
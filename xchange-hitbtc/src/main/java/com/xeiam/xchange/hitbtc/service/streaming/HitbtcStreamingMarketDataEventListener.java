@@ -0,0 +1,172 @@
+package com.xeiam.xchange.hitbtc.service.streaming;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.OrderBookUpdate;
+import com.xeiam.xchange.dto.marketdata.Trade;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.exceptions.ExchangeException;
+import com.xeiam.xchange.hitbtc.HitbtcAdapters;
+import com.xeiam.xchange.hitbtc.dto.marketdata.HitbtcIncrementalRefresh;
+import com.xeiam.xchange.hitbtc.dto.marketdata.HitbtcSnapshotFullRefresh;
+import com.xeiam.xchange.service.polling.AsyncPollingExecutor;
+import com.xeiam.xchange.service.streaming.DefaultExchangeEvent;
+import com.xeiam.xchange.service.streaming.ExchangeEvent;
+import com.xeiam.xchange.service.streaming.ExchangeEventType;
+import com.xeiam.xchange.service.streaming.StreamingExchangeService;
+
+/**
+ * <p>
+ * Listener of the HitBTC market data feed publishing core DTOs, providing the following:
+ * </p>
+ * <ul>
+ * <li>A book per symbol, replaced by each snapshot and updated by the incremental refreshes in seqNo order, published as a DEPTH event after each
+ * change</li>
+ * <li>A TRADE event per trade of the incremental refreshes</li>
+ * <li>Gap detection: a missed seqNo drops the book of the symbol, and the feed is disconnected, so that the reconnect service opens a new
+ * connection which receives new snapshots</li>
+ * </ul>
+ */
+public class HitbtcStreamingMarketDataEventListener extends HitbtcStreamingMarketDataRawEventListener {
+
+  private final Logger log = LoggerFactory.getLogger(HitbtcStreamingMarketDataEventListener.class);
+
+  private final StreamingExchangeService streamingExchangeService;
+  private final Map<String, SymbolBook> books = new ConcurrentHashMap<String, SymbolBook>();
+  private final AtomicBoolean resyncRequested = new AtomicBoolean();
+
+  /**
+   * @param consumerEventQueue
+   * @param streamingExchangeService the service disconnected on a gap, for its reconnect service to open a new connection
+   */
+  public HitbtcStreamingMarketDataEventListener(BlockingQueue<ExchangeEvent> consumerEventQueue, StreamingExchangeService streamingExchangeService) {
+
+    super(consumerEventQueue);
+
+    this.streamingExchangeService = streamingExchangeService;
+  }
+
+  @Override
+  public void handleEvent(ExchangeEvent event) throws ExchangeException {
+
+    if (event.getEventType() == ExchangeEventType.CONNECT) {
+      // the books of a former connection are kept until then, the new one starts with snapshots
+      books.clear();
+      resyncRequested.set(false);
+    }
+    super.handleEvent(event);
+  }
+
+  /**
+   * @return a copy of the book of the pair, null until its snapshot is received or after a gap
+   */
+  public OrderBook getOrderBook(CurrencyPair currencyPair) {
+
+    SymbolBook book = books.get(HitbtcAdapters.adaptCurrencyPair(currencyPair));
+    return book == null ? null : book.copy();
+  }
+
+  @Override
+  protected void handleSnapshotFullRefresh(String data, HitbtcSnapshotFullRefresh snapshotFullRefresh) {
+
+    OrderBook orderBook = HitbtcAdapters.adaptSnapshotFullRefresh(snapshotFullRefresh);
+    // the incremental updates find their level by binary search
+    Collections.sort(orderBook.getAsks());
+    Collections.sort(orderBook.getBids());
+
+    SymbolBook book = new SymbolBook(orderBook, snapshotFullRefresh.getSnapshotSeqNo());
+    books.put(snapshotFullRefresh.getSymbol(), book);
+
+    forwardEvent(new DefaultExchangeEvent(ExchangeEventType.DEPTH, data, book.copy()));
+  }
+
+  @Override
+  protected void handleIncrementalRefresh(String data, HitbtcIncrementalRefresh incrementalRefresh) {
+
+    String symbol = incrementalRefresh.getSymbol();
+    long seqNo = incrementalRefresh.getSeqNo();
+    SymbolBook book = books.get(symbol);
+
+    if (book != null) {
+      if (seqNo <= book.seqNo) {
+        // already in the book, trades included
+        return;
+      }
+      if (seqNo != book.seqNo + 1) {
+        log.warn("{} missed messages {} to {}, disconnecting to resync", symbol, book.seqNo + 1, seqNo - 1);
+        books.remove(symbol);
+        book = null;
+        requestResync();
+      }
+    }
+
+    if (book != null) {
+      List<OrderBookUpdate> updates = HitbtcAdapters.adaptIncrementalRefreshOrders(incrementalRefresh);
+      synchronized (book) {
+        for (OrderBookUpdate update : updates) {
+          book.orderBook.update(update);
+        }
+        book.seqNo = seqNo;
+      }
+      if (!updates.isEmpty()) {
+        forwardEvent(new DefaultExchangeEvent(ExchangeEventType.DEPTH, data, book.copy()));
+      }
+    }
+
+    for (Trade trade : HitbtcAdapters.adaptIncrementalRefreshTrades(incrementalRefresh).getTrades()) {
+      forwardEvent(new DefaultExchangeEvent(ExchangeEventType.TRADE, data, trade));
+    }
+  }
+
+  /**
+   * Snapshots are only sent on a new connection, disconnects once for any number of gaps. The DISCONNECT event makes the reconnect service open the
+   * new connection, which is not opened here so that there is only one.
+   */
+  private void requestResync() {
+
+    if (!resyncRequested.compareAndSet(false, true)) {
+      return;
+    }
+    AsyncPollingExecutor.getSharedExecutor().execute(new Runnable() {
+
+      @Override
+      public void run() {
+
+        try {
+          streamingExchangeService.disconnect();
+        } catch (Exception e) {
+          log.warn("Cannot disconnect: {}", e.getMessage());
+          resyncRequested.set(false);
+        }
+      }
+    });
+  }
+
+  private static final class SymbolBook {
+
+    private final OrderBook orderBook;
+    private long seqNo;
+
+    SymbolBook(OrderBook orderBook, long seqNo) {
+
+      this.orderBook = orderBook;
+      this.seqNo = seqNo;
+    }
+
+    synchronized OrderBook copy() {
+
+      return new OrderBook(orderBook.getTimeStamp(), new ArrayList<LimitOrder>(orderBook.getAsks()), new ArrayList<LimitOrder>(orderBook.getBids()));
+    }
+  }
+}
@@ -3,8 +3,11 @@ package com.xeiam.xchange.hitbtc.service.streaming;
 import java.io.IOException;
 import java.util.concurrent.BlockingQueue;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonMappingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.hitbtc.dto.marketdata.HitbtcIncrementalRefresh;
@@ -16,6 +19,11 @@ import com.xeiam.xchange.service.streaming.ExchangeEventType;
 
 public class HitbtcStreamingMarketDataRawEventListener extends ExchangeEventListener {
 
+  private static final String INCREMENTAL_REFRESH = "MarketDataIncrementalRefresh";
+  private static final String SNAPSHOT_FULL_REFRESH = "MarketDataSnapshotFullRefresh";
+
+  private final Logger log = LoggerFactory.getLogger(HitbtcStreamingMarketDataRawEventListener.class);
+
   private final BlockingQueue<ExchangeEvent> consumerEventQueue;
   private final ObjectMapper streamObjectMapper;
 
@@ -27,7 +35,6 @@ public class HitbtcStreamingMarketDataRawEventListener extends ExchangeEventList
     this.consumerEventQueue = consumerEventQueue;
 
     this.streamObjectMapper = new ObjectMapper();
-    this.streamObjectMapper.configure(DeserializationFeature.UNWRAP_ROOT_VALUE, true);
   }
 
   @Override
@@ -41,34 +48,43 @@ public class HitbtcStreamingMarketDataRawEventListener extends ExchangeEventList
 
       String data = event.getData();
 
-      HitbtcIncrementalRefresh incrementalRefresh;
       try {
-
-        incrementalRefresh = streamObjectMapper.readValue(data, HitbtcIncrementalRefresh.class);
-
-      } catch (JsonMappingException jme) {
-
-        HitbtcSnapshotFullRefresh snapshotFullRefresh;
+        JsonParser parser = streamObjectMapper.getFactory().createParser(data);
         try {
-
-          snapshotFullRefresh = streamObjectMapper.readValue(data, HitbtcSnapshotFullRefresh.class);
-
-        } catch (IOException e) {
-          throw new ExchangeException("JSON parse error", e);
+          // the root key names the message, its value is read as the matching DTO in the same pass
+          if (parser.nextToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME) {
+            throw new ExchangeException("Unexpected message: " + data);
+          }
+          String root = parser.getCurrentName();
+          parser.nextToken();
+
+          if (root.equals(INCREMENTAL_REFRESH)) {
+            handleIncrementalRefresh(data, streamObjectMapper.readValue(parser, HitbtcIncrementalRefresh.class));
+          } else if (root.equals(SNAPSHOT_FULL_REFRESH)) {
+            handleSnapshotFullRefresh(data, streamObjectMapper.readValue(parser, HitbtcSnapshotFullRefresh.class));
+          } else {
+            log.debug("Unknown message: {}", data);
+          }
+        } finally {
+          parser.close();
         }
-
-        handleDTO(data, snapshotFullRefresh);
-        return;
-
       } catch (IOException e) {
         throw new ExchangeException("JSON parse error", e);
       }
-
-      handleDTO(data, incrementalRefresh);
     }
   }
 
-  private void forwardEvent(ExchangeEvent event) {
+  protected void handleIncrementalRefresh(String data, HitbtcIncrementalRefresh incrementalRefresh) {
+
+    handleDTO(data, incrementalRefresh);
+  }
+
+  protected void handleSnapshotFullRefresh(String data, HitbtcSnapshotFullRefresh snapshotFullRefresh) {
+
+    handleDTO(data, snapshotFullRefresh);
+  }
+
+  protected void forwardEvent(ExchangeEvent event) {
 
     try {
       consumerEventQueue.put(event);
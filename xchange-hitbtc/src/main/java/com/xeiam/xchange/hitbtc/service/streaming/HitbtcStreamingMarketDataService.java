@@ -0,0 +1,42 @@
+package com.xeiam.xchange.hitbtc.service.streaming;
+
+import com.xeiam.xchange.Exchange;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+
+/**
+ * <p>
+ * Streaming market data service publishing core DTOs, providing the following:
+ * </p>
+ * <ul>
+ * <li>DEPTH events with the book of a symbol and TRADE events, see {@link HitbtcStreamingMarketDataEventListener}</li>
+ * <li>The current book of each symbol</li>
+ * </ul>
+ */
+public class HitbtcStreamingMarketDataService extends HitbtcStreamingMarketDataServiceRaw {
+
+  /**
+   * Constructor
+   *
+   * @param exchange
+   * @param configuration
+   */
+  public HitbtcStreamingMarketDataService(Exchange exchange, HitbtcStreamingMarketDataConfiguration configuration) {
+
+    super(exchange, configuration);
+  }
+
+  @Override
+  protected HitbtcStreamingMarketDataEventListener createEventListener() {
+
+    return new HitbtcStreamingMarketDataEventListener(consumerEventQueue, this);
+  }
+
+  /**
+   * @return a copy of the book of the pair, null until its snapshot is received or after a gap
+   */
+  public OrderBook getOrderBook(CurrencyPair currencyPair) {
+
+    return ((HitbtcStreamingMarketDataEventListener) getEventListener()).getOrderBook(currencyPair);
+  }
+}
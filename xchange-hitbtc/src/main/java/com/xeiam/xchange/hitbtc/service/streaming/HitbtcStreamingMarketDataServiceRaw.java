@@ -18,7 +18,22 @@ public class HitbtcStreamingMarketDataServiceRaw extends BaseWebSocketExchangeSe
 
     super(exchange, configuration);
 
-    this.exchangeEventListener = new HitbtcStreamingMarketDataRawEventListener(consumerEventQueue);
+    this.exchangeEventListener = createEventListener();
+  }
+
+  /**
+   * Called by the constructor once the consumer event queue is set
+   *
+   * @return the listener of the feed, publishing the raw DTOs as EVENTs
+   */
+  protected HitbtcStreamingMarketDataRawEventListener createEventListener() {
+
+    return new HitbtcStreamingMarketDataRawEventListener(consumerEventQueue);
+  }
+
+  protected HitbtcStreamingMarketDataRawEventListener getEventListener() {
+
+    return exchangeEventListener;
   }
 
   @Override
@@ -0,0 +1,151 @@
+package com.xeiam.xchange.hitbtc.service.streaming;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.java_websocket.WebSocket.READYSTATE;
+import org.junit.Test;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.Trade;
+import com.xeiam.xchange.hitbtc.dto.marketdata.HitbtcIncrementalRefresh;
+import com.xeiam.xchange.hitbtc.dto.marketdata.HitbtcSnapshotFullRefresh;
+import com.xeiam.xchange.service.streaming.DefaultExchangeEvent;
+import com.xeiam.xchange.service.streaming.ExchangeEvent;
+import com.xeiam.xchange.service.streaming.ExchangeEventType;
+import com.xeiam.xchange.service.streaming.StreamingExchangeService;
+
+public class HitbtcStreamingMarketDataEventListenerTest {
+
+  private static final String SNAPSHOT = "{\"MarketDataSnapshotFullRefresh\":{\"snapshotSeqNo\":10,\"symbol\":\"BTCUSD\",\"exchangeStatus\":\"working\","
+      + "\"ask\":[{\"price\":\"100\",\"size\":1},{\"price\":\"101\",\"size\":2}],\"bid\":[{\"price\":\"99\",\"size\":3}]}}";
+
+  private final BlockingQueue<ExchangeEvent> events = new LinkedBlockingQueue<ExchangeEvent>();
+  private final CountDownLatch disconnected = new CountDownLatch(1);
+  private final AtomicInteger connects = new AtomicInteger();
+
+  @Test
+  public void testRawEventsByRootKey() {
+
+    HitbtcStreamingMarketDataRawEventListener listener = new HitbtcStreamingMarketDataRawEventListener(events);
+
+    listener.handleEvent(new DefaultExchangeEvent(ExchangeEventType.MESSAGE, SNAPSHOT));
+    listener.handleEvent(new DefaultExchangeEvent(ExchangeEventType.MESSAGE, incrementalRefresh(11, "[]", "[]")));
+    listener.handleEvent(new DefaultExchangeEvent(ExchangeEventType.MESSAGE, "{\"Unknown\":{}}"));
+
+    assertThat(((HitbtcSnapshotFullRefresh) next(ExchangeEventType.EVENT).getPayload()).getSnapshotSeqNo()).isEqualTo(10L);
+    assertThat(((HitbtcIncrementalRefresh) next(ExchangeEventType.EVENT).getPayload()).getSeqNo()).isEqualTo(11L);
+    assertThat(events).isEmpty();
+  }
+
+  @Test
+  public void testBookAndTrades() throws InterruptedException {
+
+    HitbtcStreamingMarketDataEventListener listener = new HitbtcStreamingMarketDataEventListener(events, new ReconnectRecorder());
+
+    listener.handleEvent(new DefaultExchangeEvent(ExchangeEventType.CONNECT, "connected"));
+    next(ExchangeEventType.CONNECT);
+
+    listener.handleEvent(new DefaultExchangeEvent(ExchangeEventType.MESSAGE, SNAPSHOT));
+    OrderBook orderBook = (OrderBook) next(ExchangeEventType.DEPTH).getPayload();
+    assertThat(orderBook.getAsks()).hasSize(2);
+    assertThat(orderBook.getBids()).hasSize(1);
+
+    // a level removed, one added and a trade
+    listener.handleEvent(new DefaultExchangeEvent(ExchangeEventType.MESSAGE, incrementalRefresh(11, "[{\"price\":\"100\",\"size\":0}]",
+        "[{\"price\":\"99.5\",\"size\":4}]", "[{\"price\":\"100\",\"size\":1,\"tradeId\":5,\"timestamp\":1447559153368,\"side\":\"buy\"}]")));
+    orderBook = (OrderBook) next(ExchangeEventType.DEPTH).getPayload();
+    assertThat(orderBook.getAsks()).hasSize(1);
+    assertThat(orderBook.getAsks().get(0).getLimitPrice()).isEqualTo(new BigDecimal("101"));
+    assertThat(orderBook.getBids()).hasSize(2);
+    assertThat(orderBook.getBids().get(0).getLimitPrice()).isEqualTo(new BigDecimal("99.5"));
+    assertThat(orderBook.getBids().get(0).getTradableAmount()).isEqualTo(new BigDecimal("4"));
+    Trade trade = (Trade) next(ExchangeEventType.TRADE).getPayload();
+    assertThat(trade.getType()).isEqualTo(OrderType.BID);
+    assertThat(trade.getId()).isEqualTo("5");
+    assertThat(listener.getOrderBook(CurrencyPair.BTC_USD)).isEqualTo(orderBook);
+
+    // already applied
+    listener.handleEvent(new DefaultExchangeEvent(ExchangeEventType.MESSAGE, incrementalRefresh(11, "[]", "[{\"price\":\"98\",\"size\":1}]")));
+    assertThat(events).isEmpty();
+
+    // a gap drops the book and disconnects, the reconnect service opening the connection of the new snapshots
+    listener.handleEvent(new DefaultExchangeEvent(ExchangeEventType.MESSAGE, incrementalRefresh(13, "[]", "[{\"price\":\"98\",\"size\":1}]")));
+    assertThat(events).isEmpty();
+    assertThat(listener.getOrderBook(CurrencyPair.BTC_USD)).isNull();
+    assertThat(disconnected.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(connects.get()).isZero();
+  }
+
+  private static String incrementalRefresh(long seqNo, String ask, String bid) {
+
+    return incrementalRefresh(seqNo, ask, bid, "[]");
+  }
+
+  private static String incrementalRefresh(long seqNo, String ask, String bid, String trade) {
+
+    return "{\"MarketDataIncrementalRefresh\":{\"seqNo\":" + seqNo + ",\"symbol\":\"BTCUSD\",\"exchangeStatus\":\"working\",\"ask\":" + ask
+        + ",\"bid\":" + bid + ",\"trade\":" + trade + "}}";
+  }
+
+  private ExchangeEvent next(ExchangeEventType type) {
+
+    ExchangeEvent event = events.poll();
+    assertThat(event).isNotNull();
+    assertThat(event.getEventType()).isEqualTo(type);
+    return event;
+  }
+
+  private class ReconnectRecorder implements StreamingExchangeService {
+
+    @Override
+    public void connect() {
+
+      connects.incrementAndGet();
+    }
+
+    @Override
+    public void disconnect() {
+
+      disconnected.countDown();
+    }
+
+    @Override
+    public ExchangeEvent getNextEvent() throws InterruptedException {
+
+      return events.take();
+    }
+
+    @Override
+    public int countEventsAvailable() {
+
+      return events.size();
+    }
+
+    @Override
+    public int drainEvents(Collection<? super ExchangeEvent> drained, int maxEvents) {
+
+      return events.drainTo(drained, maxEvents);
+    }
+
+    @Override
+    public void send(String msg) {
+
+    }
+
+    @Override
+    public READYSTATE getWebSocketStatus() {
+
+      return READYSTATE.OPEN;
+    }
+  }
+}
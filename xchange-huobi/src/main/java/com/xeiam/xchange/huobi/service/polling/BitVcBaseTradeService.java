@@ -22,7 +22,7 @@ public class BitVcBaseTradeService extends HuobiBasePollingService {
     super(exchange);
 
     final String baseUrl = exchange.getExchangeSpecification().getSslUri();
-    bitvc = RestProxyFactory.createProxy(BitVc.class, baseUrl);
+    bitvc = RestProxyFactory.createProxy(BitVc.class, baseUrl, exchange.createClientConfig());
     accessKey = exchange.getExchangeSpecification().getApiKey();
     digest = new HuobiDigest(exchange.getExchangeSpecification().getSecretKey());
   }
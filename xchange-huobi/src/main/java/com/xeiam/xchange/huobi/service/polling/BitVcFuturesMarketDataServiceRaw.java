@@ -27,7 +27,7 @@ public class BitVcFuturesMarketDataServiceRaw extends HuobiBasePollingService {
 
     super(exchange);
 
-    this.bitvc = RestProxyFactory.createProxy(BitVcFutures.class, "http://market.bitvc.com/futures/");
+    this.bitvc = RestProxyFactory.createProxy(BitVcFutures.class, "http://market.bitvc.com/futures/", exchange.createClientConfig());
     this.contract = contract;
   }
 
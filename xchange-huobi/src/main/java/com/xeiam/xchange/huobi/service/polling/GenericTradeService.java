@@ -2,6 +2,7 @@ package com.xeiam.xchange.huobi.service.polling;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -22,6 +23,7 @@ import com.xeiam.xchange.huobi.dto.trade.HuobiPlaceOrderResult;
 import com.xeiam.xchange.huobi.service.TradeServiceRaw;
 import com.xeiam.xchange.service.BaseExchangeService;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+import com.xeiam.xchange.service.polling.trade.TradeServiceUtils;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
 
 public class GenericTradeService extends BaseExchangeService implements PollingTradeService {
@@ -61,7 +63,9 @@ public class GenericTradeService extends BaseExchangeService implements PollingT
       return noOpenOrders;
     }
 
-    return new OpenOrders(openOrders);
+    OpenOrders result = new OpenOrders(openOrders);
+    exchange.getOrderRegistry().register(result);
+    return result;
   }
 
   @Override
@@ -76,7 +80,9 @@ public class GenericTradeService extends BaseExchangeService implements PollingT
 
     HuobiPlaceOrderResult result = tradeServiceRaw.placeLimitOrder(limitOrder.getType(), coinTypes.get(limitOrder.getCurrencyPair()),
         limitOrder.getLimitPrice(), limitOrder.getTradableAmount());
-    return HuobiAdapters.adaptPlaceOrderResult(result);
+    String orderId = HuobiAdapters.adaptPlaceOrderResult(result);
+    exchange.getOrderRegistry().register(orderId, limitOrder.getCurrencyPair(), limitOrder.getType());
+    return orderId;
   }
 
   @Override
@@ -84,8 +90,13 @@ public class GenericTradeService extends BaseExchangeService implements PollingT
 
     final long id = Long.parseLong(orderId);
 
+    // the pair is only searched for if the order was placed elsewhere
+    CurrencyPair registeredPair = exchange.getOrderRegistry().getCurrencyPair(orderId);
+    Collection<CurrencyPair> currencyPairs = registeredPair == null ? exchange.getMetaData().getMarketMetaDataMap().keySet()
+        : Collections.singleton(registeredPair);
+
     HuobiCancelOrderResult result = null;
-    for (CurrencyPair currencyPair : exchange.getMetaData().getMarketMetaDataMap().keySet()) {
+    for (CurrencyPair currencyPair : currencyPairs) {
       result = tradeServiceRaw.cancelOrder(coinTypes.get(currencyPair), id);
 
       if (result.getCode() == 0) {
@@ -96,9 +107,22 @@ public class GenericTradeService extends BaseExchangeService implements PollingT
         break;
       }
     }
+    exchange.getOrderRegistry().remove(orderId);
     return result != null && "success".equals(result.getResult());
   }
 
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws IOException {
+
+    return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws IOException {
+
+    return TradeServiceUtils.cancelOrders(this, orderIds);
+  }
+
   @Override
   public UserTrades getTradeHistory(TradeHistoryParams params) throws IOException {
     throw new NotAvailableFromExchangeException();
@@ -0,0 +1,208 @@
+package com.xeiam.xchange.huobi.service.streaming;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.OrderBookUpdate;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.huobi.dto.streaming.dto.Depth;
+import com.xeiam.xchange.huobi.dto.streaming.dto.DepthDiff;
+import com.xeiam.xchange.huobi.dto.streaming.response.marketdata.payload.Update;
+
+/**
+ * Live market depth of one symbol, built from a depth snapshot and kept current by the version-checked depth diffs.
+ * <p>
+ * Huobi addresses levels by row, so each side is a gap buffer: inserts and deletes near the last edited row, where most of them happen, move only the
+ * levels in between instead of copying the whole side.
+ * </p>
+ */
+public class HuobiDepthBook {
+
+  private final String symbolId;
+  private final CurrencyPair currencyPair;
+  private final long time;
+  private final Levels bids;
+  private final Levels asks;
+
+  private long version;
+
+  public HuobiDepthBook(Depth depth) {
+    this.symbolId = depth.getSymbolId();
+    this.currencyPair = HuobiSocketIOAdapters.adaptCurrencyPair(symbolId);
+    this.time = depth.getTime();
+    this.version = depth.getVersion();
+    this.bids = new Levels(depth.getBidPrice(), depth.getBidAmount());
+    this.asks = new Levels(depth.getAskPrice(), depth.getAskAmount());
+  }
+
+  public String getSymbolId() {
+    return symbolId;
+  }
+
+  public synchronized long getVersion() {
+    return version;
+  }
+
+  /**
+   * Applies a diff, in the order of the Huobi payload merge: updates, inserts, then deletes of the bids, then of the asks.
+   *
+   * @return the changed levels, deleted ones with a zero volume
+   * @throws IllegalArgumentException if the diff does not follow the version of this book, which must then be requested again
+   */
+  public synchronized List<OrderBookUpdate> merge(DepthDiff diff) {
+    if (diff.getVersionOld() != version) {
+      throw new IllegalArgumentException("Mismatched version " + diff.getVersionOld() + " of " + symbolId + ", expected " + version);
+    }
+
+    List<OrderBookUpdate> changes = new ArrayList<OrderBookUpdate>();
+    merge(OrderType.BID, bids, diff.getBidUpdate(), diff.getBidInsert(), diff.getBidDelete(), changes);
+    merge(OrderType.ASK, asks, diff.getAskUpdate(), diff.getAskInsert(), diff.getAskDelete(), changes);
+    version = diff.getVersion();
+    return changes;
+  }
+
+  private void merge(OrderType type, Levels levels, Update updates, Update inserts, int[] deletes, List<OrderBookUpdate> changes) {
+    for (int i = 0, l = updates.getRow().length; i < l; i++) {
+      levels.set(updates.getRow()[i], updates.getPrice()[i], updates.getAmount()[i]);
+      changes.add(change(type, updates.getPrice()[i], updates.getAmount()[i]));
+    }
+    for (int i = 0, l = inserts.getRow().length; i < l; i++) {
+      levels.insert(inserts.getRow()[i], inserts.getPrice()[i], inserts.getAmount()[i]);
+      changes.add(change(type, inserts.getPrice()[i], inserts.getAmount()[i]));
+    }
+    for (int i = 0, l = deletes.length; i < l; i++) {
+      BigDecimal price = levels.remove(deletes[i]);
+      changes.add(change(type, price, BigDecimal.ZERO));
+    }
+  }
+
+  private OrderBookUpdate change(OrderType type, BigDecimal price, BigDecimal amount) {
+    return new OrderBookUpdate(type, amount, currencyPair, price, null, amount);
+  }
+
+  /**
+   * @return a copy of the current depth, asks ascending and bids descending as sent by Huobi
+   */
+  public synchronized OrderBook toOrderBook() {
+    return new OrderBook(new Date(time), asks.toOrders(OrderType.ASK, currencyPair), bids.toOrders(OrderType.BID, currencyPair));
+  }
+
+  /**
+   * The levels of one side, by row, with a movable gap of free slots at the last edited row
+   */
+  static final class Levels {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private BigDecimal[] prices;
+    private BigDecimal[] amounts;
+    private int gapStart;
+    private int gapEnd;
+
+    Levels(BigDecimal[] prices, BigDecimal[] amounts) {
+      int size = prices.length;
+      int capacity = Math.max(MIN_CAPACITY, size * 2);
+      this.prices = new BigDecimal[capacity];
+      this.amounts = new BigDecimal[capacity];
+      System.arraycopy(prices, 0, this.prices, 0, size);
+      System.arraycopy(amounts, 0, this.amounts, 0, size);
+      this.gapStart = size;
+      this.gapEnd = capacity;
+    }
+
+    int size() {
+      return prices.length - (gapEnd - gapStart);
+    }
+
+    void set(int row, BigDecimal price, BigDecimal amount) {
+      int index = index(row);
+      prices[index] = price;
+      amounts[index] = amount;
+    }
+
+    void insert(int row, BigDecimal price, BigDecimal amount) {
+      if (row < 0 || row > size()) {
+        throw new IllegalArgumentException("Row " + row + " out of " + size());
+      }
+      if (gapStart == gapEnd) {
+        grow();
+      }
+      moveGap(row);
+      prices[gapStart] = price;
+      amounts[gapStart] = amount;
+      gapStart++;
+    }
+
+    /**
+     * @return the price of the removed level
+     */
+    BigDecimal remove(int row) {
+      checkRow(row);
+      moveGap(row);
+      BigDecimal price = prices[gapEnd];
+      prices[gapEnd] = null;
+      amounts[gapEnd] = null;
+      gapEnd++;
+      return price;
+    }
+
+    List<LimitOrder> toOrders(OrderType type, CurrencyPair currencyPair) {
+      int size = size();
+      List<LimitOrder> orders = new ArrayList<LimitOrder>(size);
+      for (int row = 0; row < size; row++) {
+        int index = row < gapStart ? row : row + gapEnd - gapStart;
+        orders.add(new LimitOrder(type, amounts[index], currencyPair, null, null, prices[index]));
+      }
+      return orders;
+    }
+
+    private int index(int row) {
+      checkRow(row);
+      return row < gapStart ? row : row + gapEnd - gapStart;
+    }
+
+    private void checkRow(int row) {
+      if (row < 0 || row >= size()) {
+        throw new IllegalArgumentException("Row " + row + " out of " + size());
+      }
+    }
+
+    /**
+     * Moves the gap so it starts at the given row, shifting only the levels between the old and the new position
+     */
+    private void moveGap(int row) {
+      if (row < gapStart) {
+        int count = gapStart - row;
+        System.arraycopy(prices, row, prices, gapEnd - count, count);
+        System.arraycopy(amounts, row, amounts, gapEnd - count, count);
+        gapStart -= count;
+        gapEnd -= count;
+      } else if (row > gapStart) {
+        int count = row - gapStart;
+        System.arraycopy(prices, gapEnd, prices, gapStart, count);
+        System.arraycopy(amounts, gapEnd, amounts, gapStart, count);
+        gapStart += count;
+        gapEnd += count;
+      }
+    }
+
+    private void grow() {
+      int capacity = Math.max(MIN_CAPACITY, prices.length * 2);
+      int tail = prices.length - gapEnd;
+      BigDecimal[] newPrices = new BigDecimal[capacity];
+      BigDecimal[] newAmounts = new BigDecimal[capacity];
+      System.arraycopy(prices, 0, newPrices, 0, gapStart);
+      System.arraycopy(amounts, 0, newAmounts, 0, gapStart);
+      System.arraycopy(prices, gapEnd, newPrices, capacity - tail, tail);
+      System.arraycopy(amounts, gapEnd, newAmounts, capacity - tail, tail);
+      prices = newPrices;
+      amounts = newAmounts;
+      gapEnd = capacity - tail;
+    }
+  }
+}
@@ -4,14 +4,17 @@ import static com.xeiam.xchange.huobi.service.streaming.HuobiSocketIOAdapters.ad
 import static com.xeiam.xchange.service.streaming.ExchangeEventType.DEPTH;
 import static com.xeiam.xchange.service.streaming.ExchangeEventType.TICKER;
 
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.OrderBookUpdate;
 import com.xeiam.xchange.dto.marketdata.Trade;
-import com.xeiam.xchange.huobi.dto.streaming.dto.Depth;
 import com.xeiam.xchange.huobi.dto.streaming.dto.Percent;
 import com.xeiam.xchange.huobi.dto.streaming.response.Response;
 import com.xeiam.xchange.huobi.dto.streaming.response.historydata.ReqMarketDepthResponse;
@@ -21,19 +24,31 @@ import com.xeiam.xchange.huobi.dto.streaming.response.marketdata.MarketDepthDiff
 import com.xeiam.xchange.huobi.dto.streaming.response.marketdata.MarketDepthTopDiff;
 import com.xeiam.xchange.huobi.dto.streaming.response.marketdata.MarketOverview;
 import com.xeiam.xchange.huobi.dto.streaming.response.marketdata.TradeDetail;
+import com.xeiam.xchange.huobi.dto.streaming.response.marketdata.payload.MarketDepthDiffPayload;
 import com.xeiam.xchange.huobi.dto.streaming.response.payload.Payload;
 import com.xeiam.xchange.service.streaming.ExchangeEvent;
 import com.xeiam.xchange.service.streaming.ExchangeEventType;
 
+/**
+ * <p>
+ * Turns Huobi pushes into exchange events. Depth is kept per symbol, separately for the full depth and the top depth:
+ * </p>
+ * <ul>
+ * <li>a depth snapshot replaces the symbol's {@link HuobiDepthBook} and is published as a {@link ExchangeEventType#DEPTH} event with the whole
+ * {@link OrderBook}</li>
+ * <li>a depth diff is merged into that book and published as a {@link ExchangeEventType#DEPTH} event with the list of changed levels, as
+ * {@link OrderBookUpdate}s. The whole book is only built for snapshots, and on request by {@link #getOrderBook(String)}</li>
+ * <li>a diff with an unexpected version drops the book and requests a new snapshot</li>
+ * </ul>
+ */
 public class HuobiExchangeEventListener extends ResponseAdapter {
 
   private final Logger log = LoggerFactory.getLogger(HuobiExchangeEventListener.class);
   private final HuobiSocketClient client;
   private final BlockingQueue<ExchangeEvent> consumerEventQueue;
 
-  private volatile Depth depth;
-  private volatile Depth depthTop;
-  private volatile OrderBook orderBook;
+  private final ConcurrentMap<String, HuobiDepthBook> depths = new ConcurrentHashMap<String, HuobiDepthBook>();
+  private final ConcurrentMap<String, HuobiDepthBook> depthTops = new ConcurrentHashMap<String, HuobiDepthBook>();
 
   public HuobiExchangeEventListener(HuobiSocketClient client, BlockingQueue<ExchangeEvent> consumerEventQueue) {
     this.client = client;
@@ -48,32 +63,33 @@ public class HuobiExchangeEventListener extends ResponseAdapter {
       putEvent(event);
     } else if (response instanceof ReqMarketDepthResponse) {
       ReqMarketDepthResponse reqMarketDepthResponse = (ReqMarketDepthResponse) response;
-      depth = reqMarketDepthResponse.getPayload();
-      putDepthEvent(reqMarketDepthResponse);
+      putDepthEvent(reqMarketDepthResponse, depths, new HuobiDepthBook(reqMarketDepthResponse.getPayload()));
     } else if (response instanceof ReqMarketDepthTopResponse) {
       ReqMarketDepthTopResponse reqMarketDepthTopResponse = (ReqMarketDepthTopResponse) response;
-      depthTop = reqMarketDepthTopResponse.getPayload();
-      putDepthEvent(reqMarketDepthTopResponse);
+      putDepthEvent(reqMarketDepthTopResponse, depthTops, new HuobiDepthBook(reqMarketDepthTopResponse.getPayload()));
     } else if (response instanceof MarketDepthDiff) {
-      MarketDepthDiff marketDepthDiff = (MarketDepthDiff) response;
-      if (depth != null) {
+      MarketDepthDiffPayload diff = ((MarketDepthDiff) response).getPayload();
+      HuobiDepthBook book = depths.get(diff.getSymbolId());
+      if (book != null) {
         try {
-          depth.merge(marketDepthDiff.getPayload());
-          putDepthEvent(marketDepthDiff);
+          putDepthDiffEvent(response, book.merge(diff));
         } catch (IllegalArgumentException e) {
           log.debug("{}", e.getMessage());
-          client.reqMarketDepth(depth.getSymbolId(), Percent.PERCENT10);
+          depths.remove(diff.getSymbolId(), book);
+          client.reqMarketDepth(diff.getSymbolId(), diff.getPercent() == null ? Percent.PERCENT10 : diff.getPercent());
         }
       }
     } else if (response instanceof MarketDepthTopDiff) {
       MarketDepthTopDiff marketDepthTopDiff = (MarketDepthTopDiff) response;
-      if (depthTop != null) {
+      String symbolId = marketDepthTopDiff.getPayload().getSymbolId();
+      HuobiDepthBook book = depthTops.get(symbolId);
+      if (book != null) {
         try {
-          depthTop.merge(marketDepthTopDiff.getPayload());
-          putDepthEvent(marketDepthTopDiff);
+          putDepthDiffEvent(response, book.merge(marketDepthTopDiff.getPayload()));
         } catch (IllegalArgumentException e) {
           log.debug("{}", e.getMessage());
-          client.reqMarketDepthTop(depthTop.getSymbolId());
+          depthTops.remove(symbolId, book);
+          client.reqMarketDepthTop(symbolId);
         }
       }
     } else if (response instanceof ReqTradeDetailTopResponse) {
@@ -87,12 +103,34 @@ public class HuobiExchangeEventListener extends ResponseAdapter {
     }
   }
 
-  private void putDepthEvent(Response<? extends Payload> response) {
-    orderBook = HuobiSocketIOAdapters.adaptOrderBook(depth);
-    ExchangeEvent event = new HuobiExchangeEvent(DEPTH, response, orderBook);
+  /**
+   * @return the current full depth of the symbol, or null if no snapshot of it has been received
+   */
+  public OrderBook getOrderBook(String symbolId) {
+    HuobiDepthBook book = depths.get(symbolId);
+    return book == null ? null : book.toOrderBook();
+  }
+
+  /**
+   * @return the current top depth of the symbol, or null if no snapshot of it has been received
+   */
+  public OrderBook getOrderBookTop(String symbolId) {
+    HuobiDepthBook book = depthTops.get(symbolId);
+    return book == null ? null : book.toOrderBook();
+  }
+
+  private void putDepthEvent(Response<? extends Payload> response, ConcurrentMap<String, HuobiDepthBook> books, HuobiDepthBook book) {
+    books.put(book.getSymbolId(), book);
+    ExchangeEvent event = new HuobiExchangeEvent(DEPTH, response, book.toOrderBook());
     putEvent(event);
   }
 
+  private void putDepthDiffEvent(Response<? extends Payload> response, List<OrderBookUpdate> changes) {
+    if (!changes.isEmpty()) {
+      putEvent(new HuobiExchangeEvent(DEPTH, response, changes));
+    }
+  }
+
   private void putTradeEvent(Response<? extends Payload> response, com.xeiam.xchange.huobi.dto.streaming.dto.TradeDetail tradeDetail) {
     Trade[] trades = HuobiSocketIOAdapters.adaptTrades(tradeDetail);
     for (Trade trade : trades) {
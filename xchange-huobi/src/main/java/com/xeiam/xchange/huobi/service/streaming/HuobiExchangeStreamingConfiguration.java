@@ -1,11 +1,13 @@
 package com.xeiam.xchange.huobi.service.streaming;
 
 import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.service.streaming.EventQueueConfiguration;
 import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
 
 public class HuobiExchangeStreamingConfiguration implements ExchangeStreamingConfiguration {
 
   private final CurrencyPair[] marketDataCurrencyPairs;
+  private EventQueueConfiguration eventQueueConfiguration = EventQueueConfiguration.UNBOUNDED;
 
   public HuobiExchangeStreamingConfiguration() {
     marketDataCurrencyPairs = new CurrencyPair[] { CurrencyPair.BTC_CNY, CurrencyPair.LTC_CNY };
@@ -55,6 +57,23 @@ public class HuobiExchangeStreamingConfiguration implements ExchangeStreamingCon
     return false;
   }
 
+  @Override
+  public EventQueueConfiguration getEventQueueConfiguration() {
+    return eventQueueConfiguration;
+  }
+
+  /**
+   * @param eventQueueConfiguration the event queue to use; {@link EventQueueConfiguration#CONFLATING} is not supported, as the depth diffs are
+   *          published as incremental DEPTH events
+   * @throws IllegalArgumentException if the queue is conflating
+   */
+  public void setEventQueueConfiguration(EventQueueConfiguration eventQueueConfiguration) {
+    if (eventQueueConfiguration.isConflating()) {
+      throw new IllegalArgumentException("Huobi publishes incremental depth, which cannot be conflated");
+    }
+    this.eventQueueConfiguration = eventQueueConfiguration;
+  }
+
   public CurrencyPair[] getMarketDataCurrencyPairs() {
     return marketDataCurrencyPairs;
   }
@@ -2,16 +2,17 @@ package com.xeiam.xchange.huobi.service.streaming;
 
 import static com.xeiam.xchange.huobi.service.streaming.HuobiSocketIOAdapters.adaptSymbol;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import org.java_websocket.WebSocket.READYSTATE;
 
 import com.google.gson.Gson;
 import com.xeiam.xchange.ExchangeSpecification;
 import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
 import com.xeiam.xchange.huobi.dto.streaming.dto.Percent;
 import com.xeiam.xchange.huobi.dto.streaming.request.Request;
 import com.xeiam.xchange.huobi.dto.streaming.request.marketdata.Message;
@@ -28,11 +29,12 @@ public class HuobiStreamingExchangeService implements StreamingExchangeService {
   private HuobiSocketClient client = null;
   private Message message;
   private Gson gson = new Gson();
-  private BlockingQueue<ExchangeEvent> consumerEventQueue = new LinkedBlockingQueue<ExchangeEvent>();
+  private final BlockingQueue<ExchangeEvent> consumerEventQueue;
   private HuobiExchangeEventListener listener;
   private READYSTATE webSocketStatus = READYSTATE.NOT_YET_CONNECTED;
 
   public HuobiStreamingExchangeService(final ExchangeSpecification exchangeSpecification, final ExchangeStreamingConfiguration configuration) {
+    consumerEventQueue = configuration.getEventQueueConfiguration().newQueue();
     String sslUri = (String) exchangeSpecification.getExchangeSpecificParametersItem("Websocket_SslUri");
 
     try {
@@ -126,6 +128,13 @@ public class HuobiStreamingExchangeService implements StreamingExchangeService {
     return consumerEventQueue.take();
   }
 
+  /**
+   * @return the current depth of the currency pair as merged from the depth diffs, or null before its first snapshot
+   */
+  public OrderBook getOrderBook(CurrencyPair currencyPair) {
+    return listener.getOrderBook(adaptSymbol(currencyPair));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -158,4 +167,9 @@ public class HuobiStreamingExchangeService implements StreamingExchangeService {
   public int countEventsAvailable() {
     return consumerEventQueue.size();
   }
+
+  @Override
+  public int drainEvents(Collection<? super ExchangeEvent> events, int maxEvents) {
+    return consumerEventQueue.drainTo(events, maxEvents);
+  }
 }
@@ -0,0 +1,103 @@
+package com.xeiam.xchange.huobi.service.streaming;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.OrderBookUpdate;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.huobi.dto.streaming.response.marketdata.payload.MarketDepthTopDiffPayload;
+import com.xeiam.xchange.huobi.dto.streaming.response.marketdata.payload.Update;
+import com.xeiam.xchange.huobi.dto.streaming.response.payload.ReqMarketDepthTopPayload;
+
+public class HuobiDepthBookTest {
+
+  private static final Update NO_UPDATE = new Update(new BigDecimal[0], new BigDecimal[0], new int[0]);
+
+  @Test
+  public void testLevelsInsertAndRemove() {
+
+    HuobiDepthBook.Levels levels = new HuobiDepthBook.Levels(decimals("10", "9", "8"), decimals("1", "2", "3"));
+    List<BigDecimal> model = new ArrayList<BigDecimal>(Arrays.asList(decimals("10", "9", "8")));
+
+    // inserts and removes on both sides of the gap, past the initial capacity
+    Random random = new Random(42);
+    for (int i = 0; i < 1000; i++) {
+      if (model.isEmpty() || random.nextInt(3) > 0) {
+        int row = random.nextInt(model.size() + 1);
+        BigDecimal price = BigDecimal.valueOf(i);
+        levels.insert(row, price, BigDecimal.ONE);
+        model.add(row, price);
+      } else {
+        int row = random.nextInt(model.size());
+        assertThat(levels.remove(row)).isEqualTo(model.remove(row));
+      }
+      assertThat(levels.size()).isEqualTo(model.size());
+    }
+
+    List<LimitOrder> orders = levels.toOrders(OrderType.BID, CurrencyPair.BTC_CNY);
+    assertThat(orders).hasSize(model.size());
+    for (int row = 0; row < model.size(); row++) {
+      assertThat(orders.get(row).getLimitPrice()).isEqualTo(model.get(row));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLevelsRowOutOfRange() {
+
+    HuobiDepthBook.Levels levels = new HuobiDepthBook.Levels(decimals("10", "9"), decimals("1", "2"));
+    levels.remove(2);
+  }
+
+  @Test
+  public void testMergeAndVersionCheck() {
+
+    HuobiDepthBook book = new HuobiDepthBook(new ReqMarketDepthTopPayload("btccny", 0, 1, "bid", decimals("100", "99", "98"), null,
+        decimals("1", "2", "3"), "ask", decimals("101", "102"), null, decimals("4", "5")));
+
+    // bid row 1 resized, a bid inserted at the top, ask row 0 deleted
+    Update bidInsert = new Update(decimals("100.5"), decimals("6"), new int[] { 0 });
+    Update bidUpdate = new Update(decimals("99"), decimals("7"), new int[] { 1 });
+    List<OrderBookUpdate> changes = book.merge(new MarketDepthTopDiffPayload("btccny", 2, 1, bidInsert, new int[0], bidUpdate, NO_UPDATE,
+        new int[] { 0 }, NO_UPDATE));
+    assertThat(changes).hasSize(3);
+    assertThat(changes.get(2).getLimitOrder().getType()).isEqualTo(OrderType.ASK);
+    assertThat(changes.get(2).getTotalVolume()).isEqualTo(BigDecimal.ZERO);
+    assertThat(book.getVersion()).isEqualTo(2);
+
+    OrderBook orderBook = book.toOrderBook();
+    assertThat(orderBook.getBids()).hasSize(4);
+    assertThat(orderBook.getBids().get(0).getLimitPrice()).isEqualTo(new BigDecimal("100.5"));
+    assertThat(orderBook.getBids().get(2).getTradableAmount()).isEqualTo(new BigDecimal("7"));
+    assertThat(orderBook.getAsks()).hasSize(1);
+    assertThat(orderBook.getAsks().get(0).getLimitPrice()).isEqualTo(new BigDecimal("102"));
+
+    // a diff of another version is refused and leaves the book as it was
+    try {
+      book.merge(new MarketDepthTopDiffPayload("btccny", 3, 1, NO_UPDATE, new int[] { 0 }, NO_UPDATE, NO_UPDATE, new int[0], NO_UPDATE));
+      fail("a diff of version 1 was merged into version 2");
+    } catch (IllegalArgumentException e) {
+      assertThat(book.getVersion()).isEqualTo(2);
+      assertThat(book.toOrderBook().getBids()).hasSize(4);
+    }
+  }
+
+  private static BigDecimal[] decimals(String... values) {
+
+    BigDecimal[] decimals = new BigDecimal[values.length];
+    for (int i = 0; i < values.length; i++) {
+      decimals[i] = new BigDecimal(values[i]);
+    }
+    return decimals;
+  }
+}
@@ -1,6 +1,5 @@
 package com.xeiam.xchange.independentreserve.service;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -45,15 +44,15 @@ public class IndependentReserveDigest extends BaseParamsDigest {
 
     String url = ExchangeEndpoint.getUrlBasingOnEndpoint(sslUri, endpoint) + ",";
     logger.debug("digestParamsToString: url: {}", url);
-    mac256.update(url.getBytes());
+    update(mac256, url);
 
     String namedApiKey = "apiKey=" + apiKey + ",";
     logger.debug("digestParamsToString: apiKey: {}", namedApiKey);
-    mac256.update(namedApiKey.getBytes());
+    update(mac256, namedApiKey);
 
     String namedNonce = "nonce=" + nonce.toString();
     logger.debug("digestParamsToString: nonce: {}", namedNonce);
-    mac256.update(namedNonce.getBytes());
+    update(mac256, namedNonce);
 
     if (parameters != null && parameters.size() > 0) {
       List<String> namedParameters = new ArrayList<String>();
@@ -68,9 +67,9 @@ public class IndependentReserveDigest extends BaseParamsDigest {
       joinedNamedParameters = joinedNamedParameters.substring(0, joinedNamedParameters.length() - 1);
       if (!joinedNamedParameters.equals("")) {
         joinedNamedParameters = "," + joinedNamedParameters;
-        mac256.update(joinedNamedParameters.getBytes());
+        update(mac256, joinedNamedParameters);
       }
     }
-    return String.format("%064x", new BigInteger(1, mac256.doFinal())).toUpperCase();
+    return doFinalHex(mac256, true);
   }
 }
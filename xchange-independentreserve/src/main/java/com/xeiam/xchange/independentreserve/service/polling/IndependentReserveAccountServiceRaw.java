@@ -10,8 +10,6 @@ import com.xeiam.xchange.independentreserve.dto.auth.AuthAggregate;
 import com.xeiam.xchange.independentreserve.service.IndependentReserveDigest;
 import com.xeiam.xchange.independentreserve.util.ExchangeEndpoint;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * Author: Kamil Zbikowski Date: 4/10/15
  */
@@ -29,7 +27,7 @@ public class IndependentReserveAccountServiceRaw extends IndependentReserveBaseP
 
     super(exchange);
 
-    this.independentReserveAuthenticated = RestProxyFactory.createProxy(IndependentReserveAuthenticated.class,
+    this.independentReserveAuthenticated = createPrivateProxy(IndependentReserveAuthenticated.class,
         exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = IndependentReserveDigest.createInstance(exchange.getExchangeSpecification().getSecretKey(),
         exchange.getExchangeSpecification().getApiKey(), exchange.getExchangeSpecification().getSslUri());
@@ -6,8 +6,6 @@ import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.independentreserve.IndependentReserve;
 import com.xeiam.xchange.independentreserve.dto.marketdata.IndependentReserveOrderBook;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * Author: Kamil Zbikowski Date: 4/9/15
  */
@@ -16,7 +14,7 @@ public class IndependentReserveMarketDataServiceRaw extends IndependentReserveBa
 
   public IndependentReserveMarketDataServiceRaw(Exchange exchange) {
     super(exchange);
-    this.independentReserve = RestProxyFactory.createProxy(IndependentReserve.class, exchange.getExchangeSpecification().getSslUri());
+    this.independentReserve = createPublicProxy(IndependentReserve.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public IndependentReserveOrderBook getIndependentReserveOrderBook(String baseSymbol, String counterSymbol) throws IOException {
@@ -18,8 +18,6 @@ import com.xeiam.xchange.independentreserve.dto.trade.IndependentReserveTradeHis
 import com.xeiam.xchange.independentreserve.service.IndependentReserveDigest;
 import com.xeiam.xchange.independentreserve.util.ExchangeEndpoint;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * Author: Kamil Zbikowski Date: 4/13/15
  */
@@ -36,7 +34,7 @@ public class IndependentReserveTradeServiceRaw extends IndependentReserveBasePol
   protected IndependentReserveTradeServiceRaw(Exchange exchange) {
     super(exchange);
 
-    this.independentReserveAuthenticated = RestProxyFactory.createProxy(IndependentReserveAuthenticated.class,
+    this.independentReserveAuthenticated = createPrivateProxy(IndependentReserveAuthenticated.class,
         exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = IndependentReserveDigest.createInstance(exchange.getExchangeSpecification().getSecretKey(),
         exchange.getExchangeSpecification().getApiKey(), exchange.getExchangeSpecification().getSslUri());
@@ -28,11 +28,11 @@ public class ItBitBasePollingService extends BaseExchangeService implements Base
     super(exchange);
 
     this.itBitAuthenticated = RestProxyFactory.createProxy(ItBitAuthenticated.class,
-        (String) exchange.getExchangeSpecification().getExchangeSpecificParametersItem("authHost"));
+        (String) exchange.getExchangeSpecification().getExchangeSpecificParametersItem("authHost"), exchange.createClientConfig());
     this.apiKey = exchange.getExchangeSpecification().getApiKey();
     this.signatureCreator = ItBitHmacPostBodyDigest.createInstance(apiKey, exchange.getExchangeSpecification().getSecretKey());
 
-    this.itBitPublic = RestProxyFactory.createProxy(ItBit.class, exchange.getExchangeSpecification().getSslUri());
+    this.itBitPublic = RestProxyFactory.createProxy(ItBit.class, exchange.getExchangeSpecification().getSslUri(), exchange.createClientConfig());
 
   }
 }
@@ -26,6 +26,6 @@ public class JubiBasePollingService<T extends Jubi> extends BaseExchangeService
 
     super(exchange);
 
-    this.jubi = RestProxyFactory.createProxy(type, exchange.getExchangeSpecification().getSslUri());
+    this.jubi = RestProxyFactory.createProxy(type, exchange.getExchangeSpecification().getSslUri(), exchange.createClientConfig());
   }
 }
@@ -160,7 +160,7 @@ public class KrakenAdapters {
     Currency firstCurrency = adaptCurrency(krakenCurrencyPair.substring(0, 4));
     Currency secondCurrency = adaptCurrency(krakenCurrencyPair.substring(4));
 
-    return new CurrencyPair(firstCurrency, secondCurrency);
+    return CurrencyPair.getInstance(firstCurrency, secondCurrency);
   }
 
   public static OpenOrders adaptOpenOrders(Map<String, KrakenOrder> krakenOrders) {
@@ -191,7 +191,7 @@ public class KrakenAdapters {
     Currency transactionCurrency = adaptCurrency(orderDescription.getAssetPair().substring(3));
     Date timestamp = new Date((long) (krakenOrder.getOpenTimestamp() * 1000L));
 
-    return new LimitOrder(type, tradableAmount, new CurrencyPair(tradableIdentifier, transactionCurrency), id, timestamp,
+    return new LimitOrder(type, tradableAmount, CurrencyPair.getInstance(tradableIdentifier, transactionCurrency), id, timestamp,
         orderDescription.getPrice());
   }
 
@@ -216,7 +216,7 @@ public class KrakenAdapters {
     BigDecimal averagePrice = krakenTrade.getAverageClosePrice();
     BigDecimal price = (averagePrice == null) ? krakenTrade.getPrice() : averagePrice;
 
-    return new KrakenUserTrade(orderType, tradableAmount, new CurrencyPair(tradableIdentifier, transactionCurrency), price, timestamp, tradeId,
+    return new KrakenUserTrade(orderType, tradableAmount, CurrencyPair.getInstance(tradableIdentifier, transactionCurrency), price, timestamp, tradeId,
         krakenTrade.getOrderTxId(), krakenTrade.getFee(), transactionCurrency, krakenTrade.getCost());
   }
 
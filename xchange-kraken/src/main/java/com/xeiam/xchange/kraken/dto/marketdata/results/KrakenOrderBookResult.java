@@ -0,0 +1,118 @@
+package com.xeiam.xchange.kraken.dto.marketdata.results;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.kraken.dto.KrakenResult;
+import com.xeiam.xchange.kraken.dto.marketdata.results.KrakenOrderBookResult.KrakenOrderBookResultDeserializer;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
+
+/**
+ * The depth of one pair decoded straight into an {@link OrderBook}, the same one as {@link com.xeiam.xchange.kraken.KrakenAdapters#adaptOrderBook}
+ * builds from a {@link KrakenDepthResult}. The pair must be injected, see {@link OrderBookParser}.
+ */
+@JsonDeserialize(using = KrakenOrderBookResultDeserializer.class)
+public class KrakenOrderBookResult extends KrakenResult<OrderBook> {
+
+  /**
+   * Constructor
+   *
+   * @param error array of string error messages
+   * @param result the returned order book
+   */
+  public KrakenOrderBookResult(String[] error, OrderBook result) {
+
+    super(result, error);
+  }
+
+  static class KrakenOrderBookResultDeserializer extends JsonDeserializer<KrakenOrderBookResult> {
+
+    @Override
+    public KrakenOrderBookResult deserialize(JsonParser jsonParser, DeserializationContext ctxt) throws IOException {
+
+      CurrencyPair currencyPair = OrderBookParser.getCurrencyPair(ctxt);
+      String[] error = new String[0];
+      OrderBook orderBook = null;
+
+      OrderBookParser.checkToken(jsonParser, JsonToken.START_OBJECT);
+      while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = jsonParser.getCurrentName();
+        jsonParser.nextToken();
+        if (field.equals("error")) {
+          error = jsonParser.readValueAs(String[].class);
+        } else if (field.equals("result") && jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+          // keyed by the pair asked for, the only one
+          while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            jsonParser.nextToken();
+            orderBook = readOrderBook(jsonParser, currencyPair);
+          }
+        } else {
+          jsonParser.skipChildren();
+        }
+      }
+      return new KrakenOrderBookResult(error, orderBook);
+    }
+
+    private static OrderBook readOrderBook(JsonParser jsonParser, CurrencyPair currencyPair) throws IOException {
+
+      List<LimitOrder> asks = new ArrayList<LimitOrder>();
+      List<LimitOrder> bids = new ArrayList<LimitOrder>();
+      long asksTimestamp = Long.MIN_VALUE;
+      long bidsTimestamp = Long.MIN_VALUE;
+
+      OrderBookParser.checkToken(jsonParser, JsonToken.START_OBJECT);
+      while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = jsonParser.getCurrentName();
+        jsonParser.nextToken();
+        if (field.equals("asks")) {
+          asksTimestamp = readOrders(jsonParser, OrderType.ASK, currencyPair, asks);
+        } else if (field.equals("bids")) {
+          bidsTimestamp = readOrders(jsonParser, OrderType.BID, currencyPair, bids);
+        } else {
+          jsonParser.skipChildren();
+        }
+      }
+      return new OrderBook(new Date(Math.max(asksTimestamp, bidsTimestamp)), asks, bids);
+    }
+
+    /**
+     * Reads the [price, volume, timestamp] levels of one side
+     *
+     * @param jsonParser the parser on the start of the levels
+     * @return the latest timestamp of the side in ms, as {@link com.xeiam.xchange.kraken.KrakenAdapters#adaptOrders} computes it
+     */
+    private static long readOrders(JsonParser jsonParser, OrderType type, CurrencyPair currencyPair, List<LimitOrder> orders) throws IOException {
+
+      long maxTimestamp = -1 * Long.MAX_VALUE;
+      OrderBookParser.checkToken(jsonParser, JsonToken.START_ARRAY);
+      while (jsonParser.nextToken() == JsonToken.START_ARRAY) {
+        jsonParser.nextToken();
+        BigDecimal price = OrderBookParser.getDecimalValue(jsonParser);
+        jsonParser.nextToken();
+        BigDecimal volume = OrderBookParser.getDecimalValue(jsonParser);
+        jsonParser.nextToken();
+        long timestamp = jsonParser.getValueAsLong();
+        OrderBookParser.skipToEnd(jsonParser);
+
+        if (timestamp > maxTimestamp) {
+          maxTimestamp = timestamp;
+        }
+        orders.add(new LimitOrder(type, volume, currencyPair, "", new Date(timestamp * 1000), price));
+      }
+      OrderBookParser.checkToken(jsonParser, JsonToken.END_ARRAY);
+      return maxTimestamp * 1000;
+    }
+  }
+}
@@ -2,7 +2,6 @@ package com.xeiam.xchange.kraken.service;
 
 import java.io.IOException;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 
 import javax.crypto.Mac;
 import javax.ws.rs.FormParam;
@@ -42,20 +41,15 @@ public class KrakenDigest extends BaseParamsDigest {
   @Override
   public String digestParams(RestInvocation restInvocation) {
 
-    MessageDigest sha256;
-    try {
-      sha256 = MessageDigest.getInstance("SHA-256");
-    } catch (NoSuchAlgorithmException e) {
-      throw new RuntimeException("Illegal algorithm for post body digest. Check the implementation.");
-    }
-    sha256.update(restInvocation.getParamValue(FormParam.class, "nonce").toString().getBytes());
-    sha256.update(restInvocation.getRequestBody().getBytes());
+    MessageDigest sha256 = getMessageDigest("SHA-256");
+    updateNonce(sha256, restInvocation.getParamValue(FormParam.class, "nonce"));
+    update(sha256, restInvocation.getRequestBody());
 
     Mac mac512 = getMac();
-    mac512.update(("/" + restInvocation.getPath()).getBytes());
-    mac512.update(sha256.digest());
-
-    return Base64.encodeBytes(mac512.doFinal()).trim();
+    mac512.update((byte) '/');
+    update(mac512, restInvocation.getPath());
+    updateDigest(mac512, sha256);
 
+    return doFinalBase64(mac512);
   }
 }
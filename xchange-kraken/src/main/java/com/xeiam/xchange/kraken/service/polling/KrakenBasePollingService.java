@@ -14,6 +14,7 @@ import com.xeiam.xchange.dto.Order.IOrderFlags;
 import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.exceptions.FrequencyLimitExceededException;
 import com.xeiam.xchange.exceptions.NonceException;
+import com.xeiam.xchange.kraken.Kraken;
 import com.xeiam.xchange.kraken.KrakenAdapters;
 import com.xeiam.xchange.kraken.KrakenAuthenticated;
 import com.xeiam.xchange.kraken.dto.KrakenResult;
@@ -29,7 +30,6 @@ import com.xeiam.xchange.service.BaseExchangeService;
 import com.xeiam.xchange.service.polling.BasePollingService;
 
 import si.mazi.rescu.ParamsDigest;
-import si.mazi.rescu.RestProxyFactory;
 
 public class KrakenBasePollingService extends BaseExchangeService implements BasePollingService {
 
@@ -51,7 +51,8 @@ public class KrakenBasePollingService extends BaseExchangeService implements Bas
 
     super(exchange);
 
-    kraken = RestProxyFactory.createProxy(KrakenAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    // public methods are declared in Kraken, private ones in KrakenAuthenticated: each side waits for its own rate limit
+    kraken = createProxy(KrakenAuthenticated.class, exchange.getExchangeSpecification().getSslUri(), Kraken.class);
     signatureCreator = KrakenDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
   }
 
@@ -1,6 +1,9 @@
 package com.xeiam.xchange.kraken.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.currency.CurrencyPair;
@@ -9,8 +12,9 @@ import com.xeiam.xchange.dto.marketdata.Ticker;
 import com.xeiam.xchange.dto.marketdata.Trades;
 import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.kraken.KrakenAdapters;
-import com.xeiam.xchange.kraken.dto.marketdata.KrakenDepth;
 import com.xeiam.xchange.kraken.dto.marketdata.KrakenPublicTrades;
+import com.xeiam.xchange.kraken.dto.marketdata.KrakenTicker;
+import com.xeiam.xchange.service.polling.marketdata.MarketDataServiceUtils;
 import com.xeiam.xchange.service.polling.marketdata.PollingMarketDataService;
 
 public class KrakenMarketDataService extends KrakenMarketDataServiceRaw implements PollingMarketDataService {
@@ -47,9 +51,7 @@ public class KrakenMarketDataService extends KrakenMarketDataServiceRaw implemen
       }
     }
 
-    KrakenDepth krakenDepth = getKrakenDepth(currencyPair, count);
-
-    return KrakenAdapters.adaptOrderBook(krakenDepth, currencyPair);
+    return getKrakenOrderBook(currencyPair, count);
   }
 
   @Override
@@ -71,4 +73,33 @@ public class KrakenMarketDataService extends KrakenMarketDataServiceRaw implemen
     return trades;
   }
 
+  /**
+   * Fetches the tickers of all the pairs with one request
+   */
+  @Override
+  public Map<CurrencyPair, Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+    Map<CurrencyPair, Ticker> tickers = new LinkedHashMap<CurrencyPair, Ticker>();
+    if (currencyPairs.isEmpty()) {
+      return tickers;
+    }
+    Map<String, KrakenTicker> krakenTickers = getKrakenTicker(currencyPairs.toArray(new CurrencyPair[currencyPairs.size()]));
+    for (CurrencyPair currencyPair : currencyPairs) {
+      KrakenTicker krakenTicker = krakenTickers.get(createKrakenCurrencyPair(currencyPair));
+      if (krakenTicker != null) {
+        tickers.put(currencyPair, KrakenAdapters.adaptTicker(krakenTicker, currencyPair));
+      }
+    }
+    return tickers;
+  }
+
+  /**
+   * Kraken returns the depth of one pair per request
+   */
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+    return MarketDataServiceUtils.getOrderBooks(this, currencyPairs, args);
+  }
+
 }
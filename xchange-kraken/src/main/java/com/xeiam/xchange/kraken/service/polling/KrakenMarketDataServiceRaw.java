@@ -6,17 +6,24 @@ import java.util.Map;
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.currency.Currency;
 import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.kraken.Kraken;
 import com.xeiam.xchange.kraken.dto.marketdata.KrakenDepth;
 import com.xeiam.xchange.kraken.dto.marketdata.KrakenPublicTrades;
 import com.xeiam.xchange.kraken.dto.marketdata.KrakenSpreads;
 import com.xeiam.xchange.kraken.dto.marketdata.KrakenTicker;
 import com.xeiam.xchange.kraken.dto.marketdata.results.KrakenDepthResult;
+import com.xeiam.xchange.kraken.dto.marketdata.results.KrakenOrderBookResult;
 import com.xeiam.xchange.kraken.dto.marketdata.results.KrakenPublicTradesResult;
 import com.xeiam.xchange.kraken.dto.marketdata.results.KrakenSpreadsResult;
 import com.xeiam.xchange.kraken.dto.marketdata.results.KrakenTickerResult;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
 
 public class KrakenMarketDataServiceRaw extends KrakenBasePollingService {
 
+  /** decodes the books with the pair set by {@link OrderBookParser#setCurrentCurrencyPair(CurrencyPair)} */
+  private final Kraken pairKraken;
+
   /**
    * Constructor
    *
@@ -25,6 +32,7 @@ public class KrakenMarketDataServiceRaw extends KrakenBasePollingService {
   public KrakenMarketDataServiceRaw(Exchange exchange) {
 
     super(exchange);
+    this.pairKraken = createCurrencyPairProxy(Kraken.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public KrakenTicker getKrakenTicker(CurrencyPair currencyPair) throws IOException {
@@ -50,6 +58,22 @@ public class KrakenMarketDataServiceRaw extends KrakenBasePollingService {
     return checkResult(result).get(krakenCurrencyPair);
   }
 
+  /**
+   * Gets the depth decoded straight into an {@link OrderBook}, without the {@link KrakenDepth} in between
+   */
+  public OrderBook getKrakenOrderBook(CurrencyPair currencyPair, long count) throws IOException {
+
+    KrakenOrderBookResult result;
+    CurrencyPair previous = OrderBookParser.setCurrentCurrencyPair(currencyPair);
+    try {
+      result = pairKraken.getOrderBook(createKrakenCurrencyPair(currencyPair), count);
+    } finally {
+      OrderBookParser.setCurrentCurrencyPair(previous);
+    }
+
+    return checkResult(result);
+  }
+
   public KrakenPublicTrades getKrakenTrades(CurrencyPair currencyPair) throws IOException {
 
     return getKrakenTrades(currencyPair, null);
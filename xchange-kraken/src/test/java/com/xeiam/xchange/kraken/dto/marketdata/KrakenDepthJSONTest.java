@@ -11,7 +11,12 @@ import java.util.Map;
 import org.junit.Test;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.kraken.KrakenAdapters;
 import com.xeiam.xchange.kraken.dto.marketdata.results.KrakenDepthResult;
+import com.xeiam.xchange.kraken.dto.marketdata.results.KrakenOrderBookResult;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
 
 /**
  * Test KrakenDepth JSON parsing
@@ -38,4 +43,23 @@ public class KrakenDepthJSONTest {
     assertThat(krakenPublicOrder.getVolume()).isEqualTo(new BigDecimal("0.248"));
     assertThat(krakenPublicOrder.getTimestamp()).isEqualTo(1391825343L);
   }
+
+  @Test
+  public void testUnmarshalOrderBook() throws IOException {
+
+    ObjectMapper mapper = new ObjectMapper();
+    KrakenDepth krakenDepth = mapper.readValue(KrakenDepthJSONTest.class.getResourceAsStream("/marketdata/example-depth-data.json"),
+        KrakenDepthResult.class).getResult().get("XXBTZEUR");
+    OrderBook expected = KrakenAdapters.adaptOrderBook(krakenDepth, CurrencyPair.BTC_EUR);
+
+    OrderBookParser.injectCurrencyPair(mapper, CurrencyPair.BTC_EUR);
+    KrakenOrderBookResult result = mapper.readValue(KrakenDepthJSONTest.class.getResourceAsStream("/marketdata/example-depth-data.json"),
+        KrakenOrderBookResult.class);
+
+    assertThat(result.isSuccess()).isTrue();
+    OrderBook orderBook = result.getResult();
+    assertThat(orderBook.getAsks()).isEqualTo(expected.getAsks());
+    assertThat(orderBook.getBids()).isEqualTo(expected.getBids());
+    assertThat(orderBook.getTimeStamp()).isEqualTo(expected.getTimeStamp());
+  }
 }
@@ -6,7 +6,6 @@ import javax.crypto.spec.SecretKeySpec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.xeiam.xchange.lakebtc.LakeBTCUtil;
 import com.xeiam.xchange.lakebtc.dto.LakeBTCRequest;
 import com.xeiam.xchange.service.BaseParamsDigest;
 
@@ -66,9 +65,9 @@ public class LakeBTCDigest extends BaseParamsDigest {
     log.debug("signature message: {}", signature);
 
     Mac mac = getMac();
-    byte[] hash = mac.doFinal(signature.getBytes());
+    update(mac, signature);
 
-    BasicAuthCredentials auth = new BasicAuthCredentials(apiKey, LakeBTCUtil.bytesToHex(hash));
+    BasicAuthCredentials auth = new BasicAuthCredentials(apiKey, doFinalHex(mac, false));
 
     return auth.digestParams(restInvocation);
   }
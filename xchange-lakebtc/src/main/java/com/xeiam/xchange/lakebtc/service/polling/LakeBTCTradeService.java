@@ -1,6 +1,9 @@
 package com.xeiam.xchange.lakebtc.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.dto.trade.LimitOrder;
@@ -11,6 +14,7 @@ import com.xeiam.xchange.exceptions.NotYetImplementedForExchangeException;
 import com.xeiam.xchange.lakebtc.dto.trade.LakeBTCCancelResponse;
 import com.xeiam.xchange.lakebtc.dto.trade.LakeBTCOrderResponse;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+import com.xeiam.xchange.service.polling.trade.TradeServiceUtils;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
 
 public class LakeBTCTradeService extends LakeBTCTradeServiceRaw implements PollingTradeService {
@@ -48,6 +52,16 @@ public class LakeBTCTradeService extends LakeBTCTradeServiceRaw implements Polli
     return Boolean.valueOf(response.getResult());
   }
 
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws IOException {
+    return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws IOException {
+    return TradeServiceUtils.cancelOrders(this, orderIds);
+  }
+
   @Override
   public UserTrades getTradeHistory(TradeHistoryParams params) throws IOException {
     throw new NotYetImplementedForExchangeException();
@@ -7,7 +7,6 @@ import javax.ws.rs.FormParam;
 
 import com.xeiam.xchange.service.BaseParamsDigest;
 
-import net.iharder.Base64;
 import si.mazi.rescu.RestInvocation;
 
 public class LoyalbitDigest extends BaseParamsDigest {
@@ -32,11 +31,11 @@ public class LoyalbitDigest extends BaseParamsDigest {
   @Override
   public String digestParams(RestInvocation restInvocation) {
     Mac mac256 = getMac();
-    mac256.update(restInvocation.getInvocationUrl().getBytes());
-    mac256.update(restInvocation.getParamValue(FormParam.class, "nonce").toString().getBytes());
-    mac256.update(clientId.getBytes());
+    update(mac256, restInvocation.getInvocationUrl());
+    updateNonce(mac256, restInvocation.getParamValue(FormParam.class, "nonce"));
+    update(mac256, clientId);
     mac256.update(apiKey);
 
-    return Base64.encodeBytes(mac256.doFinal());
+    return doFinalBase64(mac256);
   }
 }
\ No newline at end of file
@@ -7,8 +7,6 @@ import com.xeiam.xchange.loyalbit.LoyalbitAuthenticated;
 import com.xeiam.xchange.loyalbit.dto.account.LoyalbitBalance;
 import com.xeiam.xchange.loyalbit.service.LoyalbitDigest;
 
-import si.mazi.rescu.RestProxyFactory;
-
 public class LoyalbitAccountServiceRaw extends LoyalbitBasePollingService {
 
   private final LoyalbitDigest signatureCreator;
@@ -23,7 +21,7 @@ public class LoyalbitAccountServiceRaw extends LoyalbitBasePollingService {
 
     super(exchange);
 
-    this.loyalbitAuthenticated = RestProxyFactory.createProxy(LoyalbitAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.loyalbitAuthenticated = createPrivateProxy(LoyalbitAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = LoyalbitDigest.createInstance(exchange.getExchangeSpecification().getSecretKey(),
         exchange.getExchangeSpecification().getUserName(), exchange.getExchangeSpecification().getApiKey());
   }
@@ -7,15 +7,13 @@ import com.xeiam.xchange.loyalbit.Loyalbit;
 import com.xeiam.xchange.loyalbit.dto.marketdata.LoyalbitOrderBook;
 import com.xeiam.xchange.loyalbit.dto.marketdata.LoyalbitTicker;
 
-import si.mazi.rescu.RestProxyFactory;
-
 public class LoyalbitMarketDataServiceRaw extends LoyalbitBasePollingService {
 
   private final Loyalbit loyalbit;
 
   public LoyalbitMarketDataServiceRaw(Exchange exchange) {
     super(exchange);
-    this.loyalbit = RestProxyFactory.createProxy(Loyalbit.class, exchange.getExchangeSpecification().getSslUri());
+    this.loyalbit = createPublicProxy(Loyalbit.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public LoyalbitOrderBook getLoyalbitOrderBook() throws IOException {
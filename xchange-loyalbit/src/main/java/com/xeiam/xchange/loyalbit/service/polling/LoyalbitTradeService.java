@@ -4,7 +4,9 @@ import static com.xeiam.xchange.dto.Order.OrderType.BID;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.dto.trade.LimitOrder;
@@ -18,6 +20,7 @@ import com.xeiam.xchange.loyalbit.dto.LoyalbitException;
 import com.xeiam.xchange.loyalbit.dto.trade.LoyalbitOrder;
 import com.xeiam.xchange.loyalbit.dto.trade.LoyalbitSubmitOrderResponse;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+import com.xeiam.xchange.service.polling.trade.TradeServiceUtils;
 import com.xeiam.xchange.service.polling.trade.params.DefaultTradeHistoryParamPagingSorted;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamPaging;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
@@ -61,6 +64,16 @@ public class LoyalbitTradeService extends LoyalbitTradeServiceRaw implements Pol
     return true;
   }
 
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws IOException, LoyalbitException {
+    return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws IOException, LoyalbitException {
+    return TradeServiceUtils.cancelOrders(this, orderIds);
+  }
+
   @Override
   public UserTrades getTradeHistory(TradeHistoryParams params) throws IOException {
     Integer offset = 0;
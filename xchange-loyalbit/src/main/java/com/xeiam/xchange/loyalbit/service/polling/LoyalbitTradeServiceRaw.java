@@ -12,8 +12,6 @@ import com.xeiam.xchange.loyalbit.dto.trade.LoyalbitSubmitOrderResponse;
 import com.xeiam.xchange.loyalbit.dto.trade.LoyalbitUserTransaction;
 import com.xeiam.xchange.loyalbit.service.LoyalbitDigest;
 
-import si.mazi.rescu.RestProxyFactory;
-
 public class LoyalbitTradeServiceRaw extends LoyalbitBasePollingService {
 
   private final LoyalbitAuthenticated loyalbitAuthenticated;
@@ -22,7 +20,7 @@ public class LoyalbitTradeServiceRaw extends LoyalbitBasePollingService {
   public LoyalbitTradeServiceRaw(Exchange exchange) {
     super(exchange);
     final ExchangeSpecification spec = exchange.getExchangeSpecification();
-    this.loyalbitAuthenticated = RestProxyFactory.createProxy(LoyalbitAuthenticated.class, spec.getSslUri());
+    this.loyalbitAuthenticated = createPrivateProxy(LoyalbitAuthenticated.class, spec.getSslUri());
     this.signatureCreator = LoyalbitDigest.createInstance(spec.getSecretKey(), spec.getUserName(), spec.getApiKey());
   }
 
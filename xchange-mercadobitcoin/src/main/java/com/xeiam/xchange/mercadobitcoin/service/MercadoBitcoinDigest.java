@@ -1,7 +1,5 @@
 package com.xeiam.xchange.mercadobitcoin.service;
 
-import java.math.BigInteger;
-
 import javax.crypto.Mac;
 
 import com.xeiam.xchange.service.BaseParamsDigest;
@@ -44,8 +42,8 @@ public class MercadoBitcoinDigest extends BaseParamsDigest {
     // <method>:<PIN>:<tonce>
     String message = this.method + ":" + this.pin + ":" + this.tonce;
 
-    hmac512.update(message.getBytes());
+    update(hmac512, message);
 
-    return String.format("%0128x", new BigInteger(1, hmac512.doFinal())).toLowerCase();
+    return doFinalHex(hmac512, false);
   }
 }
\ No newline at end of file
@@ -9,8 +9,6 @@ import com.xeiam.xchange.mercadobitcoin.dto.MercadoBitcoinBaseTradeApiResult;
 import com.xeiam.xchange.mercadobitcoin.dto.account.MercadoBitcoinAccountInfo;
 import com.xeiam.xchange.mercadobitcoin.service.MercadoBitcoinDigest;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * @author Felipe Micaroni Lalli
  */
@@ -29,7 +27,7 @@ public class MercadoBitcoinAccountServiceRaw extends MercadoBitcoinBasePollingSe
 
     super(exchange);
 
-    this.mercadoBitcoinAuthenticated = RestProxyFactory.createProxy(MercadoBitcoinAuthenticated.class,
+    this.mercadoBitcoinAuthenticated = createPrivateProxy(MercadoBitcoinAuthenticated.class,
         exchange.getExchangeSpecification().getSslUri());
   }
 
@@ -13,8 +13,6 @@ import com.xeiam.xchange.mercadobitcoin.dto.marketdata.MercadoBitcoinOrderBook;
 import com.xeiam.xchange.mercadobitcoin.dto.marketdata.MercadoBitcoinTicker;
 import com.xeiam.xchange.mercadobitcoin.dto.marketdata.MercadoBitcoinTransaction;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * @author Felipe Micaroni Lalli
  */
@@ -30,7 +28,7 @@ public class MercadoBitcoinMarketDataServiceRaw extends MercadoBitcoinBasePollin
   public MercadoBitcoinMarketDataServiceRaw(Exchange exchange) {
 
     super(exchange);
-    this.mercadoBitcoin = RestProxyFactory.createProxy(MercadoBitcoin.class, exchange.getExchangeSpecification().getSslUri());
+    this.mercadoBitcoin = createPublicProxy(MercadoBitcoin.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public MercadoBitcoinOrderBook getMercadoBitcoinOrderBook(CurrencyPair currencyPair) throws IOException {
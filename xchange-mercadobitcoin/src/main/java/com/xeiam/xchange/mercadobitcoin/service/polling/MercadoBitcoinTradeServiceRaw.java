@@ -15,8 +15,6 @@ import com.xeiam.xchange.mercadobitcoin.dto.trade.MercadoBitcoinPlaceLimitOrderR
 import com.xeiam.xchange.mercadobitcoin.dto.trade.MercadoBitcoinUserOrders;
 import com.xeiam.xchange.mercadobitcoin.service.MercadoBitcoinDigest;
 
-import si.mazi.rescu.RestProxyFactory;
-
 /**
  * @author Felipe Micaroni Lalli
  */
@@ -36,7 +34,7 @@ public class MercadoBitcoinTradeServiceRaw extends MercadoBitcoinBasePollingServ
   public MercadoBitcoinTradeServiceRaw(Exchange exchange) {
 
     super(exchange);
-    this.mercadoBitcoinAuthenticated = RestProxyFactory.createProxy(MercadoBitcoinAuthenticated.class,
+    this.mercadoBitcoinAuthenticated = createPrivateProxy(MercadoBitcoinAuthenticated.class,
         exchange.getExchangeSpecification().getSslUri());
   }
 
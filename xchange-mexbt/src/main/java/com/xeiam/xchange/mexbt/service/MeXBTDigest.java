@@ -1,7 +1,5 @@
 package com.xeiam.xchange.mexbt.service;
 
-import java.math.BigInteger;
-
 import javax.crypto.Mac;
 
 import com.xeiam.xchange.service.BaseParamsDigest;
@@ -30,10 +28,10 @@ public class MeXBTDigest extends BaseParamsDigest {
 
   public String digestParams(long nonce) {
     Mac mac = getMac();
-    mac.update(String.valueOf(nonce).toString().getBytes());
-    mac.update(userId.getBytes());
-    mac.update(publicKey.getBytes());
-    return String.format("%064x", new BigInteger(1, mac.doFinal())).toUpperCase();
+    updateNonce(mac, nonce);
+    update(mac, userId);
+    update(mac, publicKey);
+    return doFinalHex(mac, true);
   }
 
 }
\ No newline at end of file
@@ -18,7 +18,8 @@ public abstract class MeXBTAuthenticatedPollingService extends MeXBTBasePollingS
   protected MeXBTAuthenticatedPollingService(Exchange exchange) {
     super(exchange);
     this.meXBTAuthenticated = RestProxyFactory.createProxy(MeXBTAuthenticated.class,
-        (String) exchange.getExchangeSpecification().getExchangeSpecificParametersItem(MeXBTExchange.PRIVATE_API_URI_KEY));
+        (String) exchange.getExchangeSpecification().getExchangeSpecificParametersItem(MeXBTExchange.PRIVATE_API_URI_KEY),
+        exchange.createClientConfig());
     this.apiKey = exchange.getExchangeSpecification().getApiKey();
     this.nonceFactory = exchange.getNonceFactory();
     this.meXBTDigest = MeXBTDigest.createInstance(exchange.getExchangeSpecification().getSecretKey(),
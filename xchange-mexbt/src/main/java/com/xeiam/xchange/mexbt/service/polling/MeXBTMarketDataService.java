@@ -6,6 +6,8 @@ import static com.xeiam.xchange.mexbt.MeXBTAdapters.adaptTrades;
 import static com.xeiam.xchange.mexbt.MeXBTAdapters.toCurrencyPair;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.currency.CurrencyPair;
@@ -15,6 +17,7 @@ import com.xeiam.xchange.dto.marketdata.Trades;
 import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.exceptions.NotAvailableFromExchangeException;
 import com.xeiam.xchange.exceptions.NotYetImplementedForExchangeException;
+import com.xeiam.xchange.service.polling.marketdata.MarketDataServiceUtils;
 import com.xeiam.xchange.service.polling.marketdata.PollingMarketDataService;
 
 public class MeXBTMarketDataService extends MeXBTMarketDataServiceRaw implements PollingMarketDataService {
@@ -55,4 +58,16 @@ public class MeXBTMarketDataService extends MeXBTMarketDataServiceRaw implements
     return adaptTrades(currencyPair, getTrades(toCurrencyPair(currencyPair), since));
   }
 
+  @Override
+  public Map<CurrencyPair, Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+    return MarketDataServiceUtils.getTickers(this, currencyPairs);
+  }
+
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+    return MarketDataServiceUtils.getOrderBooks(this, currencyPairs, args);
+  }
+
 }
@@ -16,7 +16,7 @@ public class MeXBTMarketDataServiceRaw extends MeXBTBasePollingService {
 
   protected MeXBTMarketDataServiceRaw(Exchange exchange) {
     super(exchange);
-    this.meXBT = RestProxyFactory.createProxy(MeXBT.class, exchange.getExchangeSpecification().getSslUri());
+    this.meXBT = RestProxyFactory.createProxy(MeXBT.class, exchange.getExchangeSpecification().getSslUri(), exchange.createClientConfig());
   }
 
   public MeXBTOrderBook getOrderBook(String currencyPair) throws IOException {
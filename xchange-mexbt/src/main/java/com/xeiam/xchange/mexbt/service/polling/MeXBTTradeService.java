@@ -6,6 +6,9 @@ import static com.xeiam.xchange.mexbt.MeXBTAdapters.toCurrencyPair;
 import static com.xeiam.xchange.mexbt.MeXBTAdapters.toSide;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.currency.CurrencyPair;
@@ -16,6 +19,7 @@ import com.xeiam.xchange.dto.trade.UserTrades;
 import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.mexbt.dto.MeXBTException;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+import com.xeiam.xchange.service.polling.trade.TradeServiceUtils;
 import com.xeiam.xchange.service.polling.trade.params.DefaultTradeHistoryParamCurrencyPair;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamCurrencyPair;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamPaging;
@@ -32,7 +36,9 @@ public class MeXBTTradeService extends MeXBTTradeServiceRaw implements PollingTr
    */
   @Override
   public OpenOrders getOpenOrders() throws ExchangeException, IOException {
-    return adaptOpenOrders(getMeXBTOpenOrders());
+    OpenOrders openOrders = adaptOpenOrders(getMeXBTOpenOrders());
+    exchange.getOrderRegistry().register(openOrders);
+    return openOrders;
   }
 
   /**
@@ -52,6 +58,7 @@ public class MeXBTTradeService extends MeXBTTradeServiceRaw implements PollingTr
   public String placeLimitOrder(LimitOrder limitOrder) throws ExchangeException, IOException {
     long serverOrderId = createOrder(toCurrencyPair(limitOrder.getCurrencyPair()), toSide(limitOrder.getType()), 0, limitOrder.getTradableAmount(),
         limitOrder.getLimitPrice()).getServerOrderId();
+    exchange.getOrderRegistry().register(String.valueOf(serverOrderId), limitOrder.getCurrencyPair(), limitOrder.getType());
     return String.valueOf(serverOrderId);
   }
 
@@ -60,6 +67,18 @@ public class MeXBTTradeService extends MeXBTTradeServiceRaw implements PollingTr
    */
   @Override
   public boolean cancelOrder(String orderId) throws ExchangeException, IOException {
+    CurrencyPair registeredPair = exchange.getOrderRegistry().getCurrencyPair(orderId);
+    if (registeredPair != null) {
+      try {
+        cancelOrder(toCurrencyPair(registeredPair), orderId);
+        return true;
+      } catch (MeXBTException e) {
+        return false;
+      } finally {
+        exchange.getOrderRegistry().remove(orderId);
+      }
+    }
+
     boolean cancelled = false;
     for (CurrencyPair currencyPair : getExchangeSymbols()) {
       try {
@@ -72,6 +91,16 @@ public class MeXBTTradeService extends MeXBTTradeServiceRaw implements PollingTr
     return cancelled;
   }
 
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws ExchangeException, IOException {
+    return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws ExchangeException, IOException {
+    return TradeServiceUtils.cancelOrders(this, orderIds);
+  }
+
   /**
    * @param params Required types: {@link TradeHistoryParamCurrencyPair}, {@link TradeHistoryParamPaging}
    */
@@ -1,11 +1,13 @@
 package com.xeiam.xchange.mexbt.service.streaming;
 
+import com.xeiam.xchange.service.streaming.EventQueueConfiguration;
 import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
 
 public class MeXBTExchangeStreamingConfiguration implements ExchangeStreamingConfiguration {
 
   private final boolean subscribeTicker;
   private final String[] inses;
+  private EventQueueConfiguration eventQueueConfiguration = EventQueueConfiguration.UNBOUNDED;
 
   /**
    * Constructs a configuration.
@@ -58,6 +60,15 @@ public class MeXBTExchangeStreamingConfiguration implements ExchangeStreamingCon
     return false;
   }
 
+  @Override
+  public EventQueueConfiguration getEventQueueConfiguration() {
+    return eventQueueConfiguration;
+  }
+
+  public void setEventQueueConfiguration(EventQueueConfiguration eventQueueConfiguration) {
+    this.eventQueueConfiguration = eventQueueConfiguration;
+  }
+
   public boolean isSubscribeTicker() {
     return subscribeTicker;
   }
@@ -4,11 +4,11 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import javax.websocket.ContainerProvider;
 import javax.websocket.DeploymentException;
@@ -24,7 +24,7 @@ import com.xeiam.xchange.service.streaming.StreamingExchangeService;
 
 public class MeXBTStreamingService implements StreamingExchangeService {
 
-  private final BlockingQueue<ExchangeEvent> exchangeEvents = new LinkedBlockingQueue<ExchangeEvent>();
+  private final BlockingQueue<ExchangeEvent> exchangeEvents;
   private final Exchange exchange;
   private final MeXBTTickerClientEndpoint tickerClientEndpoint;
   private final Map<String, MeXBTTradesAndOrdersClientEndpoint> tradesAndOrdersClientEndpoints;
@@ -37,6 +37,7 @@ public class MeXBTStreamingService implements StreamingExchangeService {
 
   public MeXBTStreamingService(Exchange exchange, MeXBTExchangeStreamingConfiguration configuration) {
     this.exchange = exchange;
+    this.exchangeEvents = configuration.getEventQueueConfiguration().newQueue();
     this.tradesAndOrdersSessions = new HashMap<String, Session>(configuration.getInses().length);
     if (configuration.isSubscribeTicker()) {
       this.tickerClientEndpoint = new MeXBTTickerClientEndpoint(exchangeEvents);
@@ -107,6 +108,14 @@ public class MeXBTStreamingService implements StreamingExchangeService {
     return exchangeEvents.size();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int drainEvents(Collection<? super ExchangeEvent> events, int maxEvents) {
+    return exchangeEvents.drainTo(events, maxEvents);
+  }
+
   /**
    * {@inheritDoc}
    */
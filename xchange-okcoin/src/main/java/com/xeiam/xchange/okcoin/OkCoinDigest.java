@@ -1,8 +1,6 @@
 package com.xeiam.xchange.okcoin;
 
-import java.io.UnsupportedEncodingException;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -12,17 +10,15 @@ import java.util.Map.Entry;
 
 import javax.ws.rs.FormParam;
 
+import com.xeiam.xchange.service.BaseParamsDigest;
+
 import si.mazi.rescu.Params;
-import si.mazi.rescu.ParamsDigest;
 import si.mazi.rescu.RestInvocation;
 
-public class OkCoinDigest implements ParamsDigest {
-
-  private static final char[] DIGITS_UPPER = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F' };
+public class OkCoinDigest extends BaseParamsDigest {
 
   private final String apikey;
   private final String secretKey;
-  private final MessageDigest md;
   private final Comparator<Entry<String, String>> comparator = new Comparator<Map.Entry<String, String>>() {
 
     @Override
@@ -36,24 +32,6 @@ public class OkCoinDigest implements ParamsDigest {
 
     this.apikey = apikey;
     this.secretKey = secretKey;
-
-    try {
-      md = MessageDigest.getInstance("MD5");
-    } catch (NoSuchAlgorithmException e) {
-      throw new RuntimeException("Problem instantiating message digest.");
-    }
-  }
-
-  private static char[] encodeHex(byte[] data, char[] toDigits) {
-
-    int l = data.length;
-    char[] out = new char[l << 1];
-    // two characters form the hex value.
-    for (int i = 0, j = 0; i < l; i++) {
-      out[j++] = toDigits[(0xF0 & data[i]) >>> 4];
-      out[j++] = toDigits[0x0F & data[i]];
-    }
-    return out;
   }
 
   @Override
@@ -82,16 +60,11 @@ public class OkCoinDigest implements ParamsDigest {
       newParams.add(param.getKey(), param.getValue());
     }
 
-    final String message = newParams.asQueryString() + "&secret_key=" + secretKey;
-
-    try {
-      md.reset();
+    MessageDigest md5 = getMessageDigest("MD5");
+    update(md5, newParams.asQueryString());
+    update(md5, "&secret_key=");
+    update(md5, secretKey);
 
-      byte[] digest = md.digest(message.getBytes("UTF-8"));
-
-      return String.valueOf(encodeHex(digest, DIGITS_UPPER));
-    } catch (UnsupportedEncodingException e) {
-      throw new RuntimeException("Codec error", e);
-    }
+    return doFinalHex(md5, true);
   }
 }
@@ -7,8 +7,6 @@ import com.xeiam.xchange.okcoin.OkCoinDigest;
 import com.xeiam.xchange.okcoin.OkCoinUtils;
 import com.xeiam.xchange.okcoin.dto.trade.OkCoinErrorResult;
 
-import si.mazi.rescu.RestProxyFactory;
-
 public class OKCoinBaseTradePollingService extends OkCoinBasePollingService {
 
   protected final OkCoin okCoin;
@@ -25,7 +23,7 @@ public class OKCoinBaseTradePollingService extends OkCoinBasePollingService {
 
     super(exchange);
 
-    okCoin = RestProxyFactory.createProxy(OkCoin.class, exchange.getExchangeSpecification().getSslUri());
+    okCoin = createPrivateProxy(OkCoin.class, exchange.getExchangeSpecification().getSslUri());
     apikey = exchange.getExchangeSpecification().getApiKey();
     secretKey = exchange.getExchangeSpecification().getSecretKey();
 
@@ -11,8 +11,6 @@ import com.xeiam.xchange.okcoin.dto.marketdata.OkCoinDepth;
 import com.xeiam.xchange.okcoin.dto.marketdata.OkCoinTickerResponse;
 import com.xeiam.xchange.okcoin.dto.marketdata.OkCoinTrade;
 
-import si.mazi.rescu.RestProxyFactory;
-
 public class OkCoinMarketDataServiceRaw extends OkCoinBasePollingService {
 
   private final OkCoin okCoin;
@@ -26,7 +24,7 @@ public class OkCoinMarketDataServiceRaw extends OkCoinBasePollingService {
 
     super(exchange);
 
-    okCoin = RestProxyFactory.createProxy(OkCoin.class, exchange.getExchangeSpecification().getSslUri());
+    okCoin = createPublicProxy(OkCoin.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public OkCoinTickerResponse getTicker(CurrencyPair currencyPair) throws IOException {
@@ -2,8 +2,10 @@ package com.xeiam.xchange.okcoin.service.polling;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +23,7 @@ import com.xeiam.xchange.okcoin.OkCoinUtils;
 import com.xeiam.xchange.okcoin.dto.trade.OkCoinOrderResult;
 import com.xeiam.xchange.okcoin.dto.trade.OkCoinTradeResult;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+import com.xeiam.xchange.service.polling.trade.TradeServiceUtils;
 import com.xeiam.xchange.service.polling.trade.params.DefaultTradeHistoryParamPaging;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamCurrencyPair;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamPaging;
@@ -62,7 +65,9 @@ public class OkCoinTradeService extends OkCoinTradeServiceRaw implements Polling
       return noOpenOrders;
     }
 
-    return OkCoinAdapters.adaptOpenOrders(orderResults);
+    OpenOrders openOrders = OkCoinAdapters.adaptOpenOrders(orderResults);
+    exchange.getOrderRegistry().register(openOrders);
+    return openOrders;
   }
 
   @Override
@@ -91,6 +96,7 @@ public class OkCoinTradeService extends OkCoinTradeServiceRaw implements Polling
 
     long orderId = trade(OkCoinAdapters.adaptSymbol(limitOrder.getCurrencyPair()), limitOrder.getType() == OrderType.BID ? "buy" : "sell",
         limitOrder.getLimitPrice().toPlainString(), limitOrder.getTradableAmount().toPlainString()).getOrderId();
+    exchange.getOrderRegistry().register(String.valueOf(orderId), limitOrder.getCurrencyPair(), limitOrder.getType());
     return String.valueOf(orderId);
   }
 
@@ -100,7 +106,9 @@ public class OkCoinTradeService extends OkCoinTradeServiceRaw implements Polling
     boolean ret = false;
     long id = Long.valueOf(orderId);
 
-    List<CurrencyPair> exchangeSymbols = getExchangeSymbols();
+    // the pair is only searched for if the order was placed elsewhere
+    CurrencyPair registeredPair = exchange.getOrderRegistry().getCurrencyPair(orderId);
+    List<CurrencyPair> exchangeSymbols = registeredPair == null ? getExchangeSymbols() : Collections.singletonList(registeredPair);
     for (int i = 0; i < exchangeSymbols.size(); i++) {
       CurrencyPair symbol = exchangeSymbols.get(i);
       try {
@@ -117,9 +125,24 @@ public class OkCoinTradeService extends OkCoinTradeServiceRaw implements Polling
         }
       }
     }
+    if (ret) {
+      exchange.getOrderRegistry().remove(orderId);
+    }
     return ret;
   }
 
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws IOException {
+
+    return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws IOException {
+
+    return TradeServiceUtils.cancelOrders(this, orderIds);
+  }
+
   /**
    * Required parameters {@link TradeHistoryParamPaging} Supported parameters {@link TradeHistoryParamCurrencyPair}
    */
@@ -1,11 +1,13 @@
 package com.xeiam.xchange.okcoin.service.streaming;
 
 import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.service.streaming.EventQueueConfiguration;
 import com.xeiam.xchange.service.streaming.ExchangeStreamingConfiguration;
 
 public class OkCoinExchangeStreamingConfiguration implements ExchangeStreamingConfiguration {
 
   private final CurrencyPair[] marketDataCurrencyPairs;
+  private EventQueueConfiguration eventQueueConfiguration = EventQueueConfiguration.UNBOUNDED;
 
   public OkCoinExchangeStreamingConfiguration() {
     marketDataCurrencyPairs = new CurrencyPair[] { CurrencyPair.BTC_CNY };
@@ -40,6 +42,15 @@ public class OkCoinExchangeStreamingConfiguration implements ExchangeStreamingCo
     return false;
   }
 
+  @Override
+  public EventQueueConfiguration getEventQueueConfiguration() {
+    return eventQueueConfiguration;
+  }
+
+  public void setEventQueueConfiguration(EventQueueConfiguration eventQueueConfiguration) {
+    this.eventQueueConfiguration = eventQueueConfiguration;
+  }
+
   public CurrencyPair[] getMarketDataCurrencyPairs() {
     return marketDataCurrencyPairs;
   }
@@ -1,7 +1,7 @@
 package com.xeiam.xchange.okcoin.service.streaming;
 
+import java.util.Collection;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import org.java_websocket.WebSocket.READYSTATE;
 
@@ -14,12 +14,13 @@ import com.xeiam.xchange.service.streaming.StreamingExchangeService;
 
 public class OkCoinStreamingExchangeService implements StreamingExchangeService {
   private final WebSocketBase socketBase;
-  private final BlockingQueue<ExchangeEvent> eventQueue = new LinkedBlockingQueue<ExchangeEvent>();
+  private final BlockingQueue<ExchangeEvent> eventQueue;
   private final OkCoinExchangeStreamingConfiguration exchangeStreamingConfiguration;
   private final ChannelProvider channelProvider;
 
   public OkCoinStreamingExchangeService(ExchangeSpecification exchangeSpecification, ExchangeStreamingConfiguration exchangeStreamingConfiguration) {
     this.exchangeStreamingConfiguration = (OkCoinExchangeStreamingConfiguration) exchangeStreamingConfiguration;
+    this.eventQueue = exchangeStreamingConfiguration.getEventQueueConfiguration().newQueue();
 
     String sslUri = (String) exchangeSpecification.getExchangeSpecificParametersItem("Websocket_SslUri");
     boolean useFutures = (Boolean) exchangeSpecification.getExchangeSpecificParametersItem("Use_Futures");
@@ -60,6 +61,14 @@ public class OkCoinStreamingExchangeService implements StreamingExchangeService
     return eventQueue.size();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int drainEvents(Collection<? super ExchangeEvent> events, int maxEvents) {
+    return eventQueue.drainTo(events, maxEvents);
+  }
+
   @Override
   public void send(String msg) {
   }
@@ -1,17 +1,16 @@
 package com.xeiam.xchange.okcoin.service.streaming;
 
 import java.io.IOException;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.xeiam.xchange.currency.CurrencyPair;
 import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.okcoin.OkCoinAdapters;
@@ -22,37 +21,40 @@ import com.xeiam.xchange.okcoin.dto.marketdata.OkCoinStreamingTicker;
 import com.xeiam.xchange.service.streaming.ExchangeEvent;
 import com.xeiam.xchange.service.streaming.ExchangeEventType;
 
+/**
+ * Decodes OkCoin websocket frames in a single pass over the token stream. Each message is an array of <code>{"channel":..., "data":...}</code>
+ * objects; the channel is resolved through a map built once from the subscribed currency pairs, and <code>data</code> is bound straight from the
+ * parser into the DTO of that channel.
+ */
 public class OkCoinWebSocketService implements WebSocketService {
   private final ObjectMapper mapper = new ObjectMapper();
-  private final JsonFactory jsonFactory = new JsonFactory();
   private final BlockingQueue<ExchangeEvent> eventQueue;
-  private final CurrencyPair[] currencyPairs;
-  private final ChannelProvider channelProvider;
+  private final Map<String, Channel> channels = new HashMap<String, Channel>();
 
   public OkCoinWebSocketService(BlockingQueue<ExchangeEvent> eventQueue, ChannelProvider channelProvider, CurrencyPair[] currencyPairs) {
     this.eventQueue = eventQueue;
-    this.channelProvider = channelProvider;
-    this.currencyPairs = currencyPairs;
+
+    for (CurrencyPair currencyPair : currencyPairs) {
+      channels.put(channelProvider.getTicker(currencyPair), new Channel(currencyPair, ExchangeEventType.TICKER));
+      channels.put(channelProvider.getDepth(currencyPair), new Channel(currencyPair, ExchangeEventType.DEPTH));
+      channels.put(channelProvider.getTrades(currencyPair), new Channel(currencyPair, ExchangeEventType.TRADE));
+    }
   }
 
   @Override
   public void onReceive(String msg) {
     try {
-      JsonParser parser = jsonFactory.createParser(msg);
-      if (parser.nextToken() == JsonToken.START_ARRAY) {
-        ArrayNode readTree = (ArrayNode) mapper.readTree(msg);
-
-        Iterator<JsonNode> iterator = readTree.iterator();
-        while (iterator.hasNext()) {
-          JsonNode node = iterator.next();
-
-          // parse any requested channels
-          for (int i = 0; i < currencyPairs.length; i++) {
-            parseMarketData(node, currencyPairs[i]);
+      JsonParser parser = mapper.getFactory().createParser(msg);
+      try {
+        if (parser.nextToken() == JsonToken.START_ARRAY) {
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            parseMessage(parser);
           }
+        } else {
+          // only pong should be here
         }
-      } else {
-        // only pong should be here
+      } finally {
+        parser.close();
       }
 
     } catch (JsonParseException e) {
@@ -62,38 +64,67 @@ public class OkCoinWebSocketService implements WebSocketService {
     }
   }
 
-  /** Parse depth, trades, and ticker for a given currency pair */
-  private void parseMarketData(JsonNode node, CurrencyPair currencyPair) throws JsonParseException, JsonMappingException, IOException {
-    if (node.has("errorcode")) {
-      throw new ExchangeException(OkCoinStreamingUtils.getErrorMessage(node.get("errorcode").asInt()));
-    }
+  /** Parse one channel message; the parser is positioned on its START_OBJECT and is left on its END_OBJECT */
+  private void parseMessage(JsonParser parser) throws IOException {
 
-    if (node.get("channel").textValue().equals(channelProvider.getDepth(currencyPair))) {
-      parseDepth(node, currencyPair);
+    Channel channel = null;
+    TokenBuffer bufferedData = null;
+    boolean unknownChannel = false;
 
-    } else if (node.get("channel").textValue().equals(channelProvider.getTrades(currencyPair))) {
-      parseTrades(node, currencyPair);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      parser.nextToken();
 
-    } else if (node.get("channel").textValue().equals(channelProvider.getTicker(currencyPair))) {
-      parseTicker(node, currencyPair);
-    }
-  }
+      if ("channel".equals(field)) {
+        channel = channels.get(parser.getText());
+        unknownChannel = channel == null;
 
-  private void parseTicker(JsonNode node, CurrencyPair currencyPair) throws IOException, JsonParseException, JsonMappingException {
+      } else if ("errorcode".equals(field)) {
+        throw new ExchangeException(OkCoinStreamingUtils.getErrorMessage(parser.getValueAsInt()));
 
-    OkCoinStreamingTicker ticker = mapper.readValue(node.get("data").toString(), OkCoinStreamingTicker.class);
-    putEvent(ExchangeEventType.TICKER, OkCoinJsonAdapters.adaptTicker(ticker, currencyPair));
-  }
+      } else if ("data".equals(field) && !unknownChannel) {
+        if (channel != null) {
+          parseData(parser, channel);
+        } else {
+          // data came before the channel name, keep its tokens until we know how to bind them
+          bufferedData = new TokenBuffer(parser);
+          bufferedData.copyCurrentStructure(parser);
+        }
 
-  private void parseDepth(JsonNode node, CurrencyPair currencyPair) throws IOException, JsonParseException, JsonMappingException {
+      } else {
+        parser.skipChildren();
+      }
+    }
+
+    if (bufferedData != null && channel != null) {
+      JsonParser dataParser = bufferedData.asParser(mapper);
+      dataParser.nextToken();
+      parseData(dataParser, channel);
+    }
+  }
 
-    OkCoinDepth depth = mapper.readValue(node.get("data").toString(), OkCoinStreamingDepth.class);
-    putEvent(ExchangeEventType.DEPTH, OkCoinAdapters.adaptOrderBook(depth, currencyPair));
+  /** Parse depth, trades, or ticker data; the parser is positioned on the first token of the data value */
+  private void parseData(JsonParser parser, Channel channel) throws IOException {
+
+    switch (channel.eventType) {
+    case TICKER:
+      OkCoinStreamingTicker ticker = mapper.readValue(parser, OkCoinStreamingTicker.class);
+      putEvent(ExchangeEventType.TICKER, OkCoinJsonAdapters.adaptTicker(ticker, channel.currencyPair));
+      break;
+    case DEPTH:
+      OkCoinDepth depth = mapper.readValue(parser, OkCoinStreamingDepth.class);
+      putEvent(ExchangeEventType.DEPTH, OkCoinAdapters.adaptOrderBook(depth, channel.currencyPair));
+      break;
+    case TRADE:
+      parseTrades(mapper.<JsonNode> readTree(parser), channel.currencyPair);
+      break;
+    default:
+      parser.skipChildren();
+    }
   }
 
-  private void parseTrades(JsonNode node, CurrencyPair currencyPair) {
+  private void parseTrades(JsonNode jsonNode, CurrencyPair currencyPair) {
 
-    JsonNode jsonNode = node.get("data");
     for (int i = 0; i < jsonNode.size(); i++) {
       JsonNode trade = jsonNode.get(i);
       putEvent(ExchangeEventType.TRADE, OkCoinJsonAdapters.adaptTrade(trade, currencyPair));
@@ -112,4 +143,15 @@ public class OkCoinWebSocketService implements WebSocketService {
   public void onDisconnect() {
     putEvent(ExchangeEventType.DISCONNECT, new Object());
   }
+
+  /** The currency pair and kind of market data published on a subscribed channel */
+  private static final class Channel {
+    private final CurrencyPair currencyPair;
+    private final ExchangeEventType eventType;
+
+    private Channel(CurrencyPair currencyPair, ExchangeEventType eventType) {
+      this.currencyPair = currencyPair;
+      this.eventType = eventType;
+    }
+  }
 }
@@ -0,0 +1,49 @@
+package com.xeiam.xchange.okcoin.service.streaming;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.marketdata.Ticker;
+import com.xeiam.xchange.service.streaming.ExchangeEvent;
+import com.xeiam.xchange.service.streaming.ExchangeEventType;
+
+public class OkCoinWebSocketServiceTest {
+
+  @Test
+  public void testOnReceive() throws IOException {
+
+    BlockingQueue<ExchangeEvent> eventQueue = new LinkedBlockingQueue<ExchangeEvent>();
+    OkCoinWebSocketService service = new OkCoinWebSocketService(eventQueue, new SpotChannelProvider(), new CurrencyPair[] { CurrencyPair.BTC_USD });
+
+    InputStream is = OkCoinWebSocketServiceTest.class.getResourceAsStream("/streaming/example-websocket-data.json");
+    service.onReceive(IOUtils.toString(is, "UTF-8"));
+
+    // the LTC depth is not subscribed and the addChannel reply carries no data
+    assertThat(eventQueue.size()).isEqualTo(2);
+
+    ExchangeEvent tickerEvent = eventQueue.poll();
+    assertThat(tickerEvent.getEventType()).isEqualTo(ExchangeEventType.TICKER);
+    Ticker ticker = (Ticker) tickerEvent.getPayload();
+    assertThat(ticker.getCurrencyPair()).isEqualTo(CurrencyPair.BTC_USD);
+    assertThat(ticker.getBid()).isEqualTo(new BigDecimal("229.01"));
+    assertThat(ticker.getVolume()).isEqualTo(new BigDecimal("9126.12"));
+
+    // data precedes the channel name in this message
+    ExchangeEvent depthEvent = eventQueue.poll();
+    assertThat(depthEvent.getEventType()).isEqualTo(ExchangeEventType.DEPTH);
+    OrderBook orderBook = (OrderBook) depthEvent.getPayload();
+    assertThat(orderBook.getAsks()).hasSize(2);
+    assertThat(orderBook.getBids().get(0).getLimitPrice()).isEqualTo(new BigDecimal("229.01"));
+    assertThat(orderBook.getBids().get(0).getCurrencyPair()).isEqualTo(CurrencyPair.BTC_USD);
+  }
+}
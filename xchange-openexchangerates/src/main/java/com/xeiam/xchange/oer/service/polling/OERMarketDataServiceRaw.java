@@ -25,7 +25,8 @@ public class OERMarketDataServiceRaw extends OERBasePollingService {
   public OERMarketDataServiceRaw(Exchange exchange) {
 
     super(exchange);
-    this.openExchangeRates = RestProxyFactory.createProxy(OER.class, exchange.getExchangeSpecification().getPlainTextUri());
+    this.openExchangeRates = RestProxyFactory.createProxy(OER.class, exchange.getExchangeSpecification().getPlainTextUri(),
+        exchange.createClientConfig());
   }
 
   public OERRates getOERTicker() throws IOException {
@@ -17,6 +17,8 @@ import javax.ws.rs.core.MediaType;
 import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexCurrencyInfo;
 import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexDepth;
 import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexMarketData;
+import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexOrderBook;
+import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexOrderBooks;
 import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexPublicTrade;
 
 @Path("public")
@@ -37,6 +39,10 @@ public interface Poloniex {
   PoloniexDepth getOrderBook(@QueryParam("command") String command, @QueryParam("currencyPair") String currencyPair,
       @QueryParam("depth") Integer depth) throws PoloniexException, IOException;
 
+  @GET
+  PoloniexOrderBook getStreamedOrderBook(@QueryParam("command") String command, @QueryParam("currencyPair") String currencyPair,
+      @QueryParam("depth") Integer depth) throws PoloniexException, IOException;
+
   @GET
   PoloniexPublicTrade[] getTrades(@QueryParam("command") String command, @QueryParam("currencyPair") String currencyPair,
       @QueryParam("start") Long startTime, @QueryParam("end") Long endTime) throws PoloniexException, IOException;
@@ -45,4 +51,8 @@ public interface Poloniex {
   Map<String, PoloniexDepth> getAllOrderBooks(@QueryParam("command") String command, @QueryParam("currencyPair") String pair,
       @QueryParam("depth") Integer depth) throws PoloniexException, IOException;
 
+  @GET
+  PoloniexOrderBooks getAllStreamedOrderBooks(@QueryParam("command") String command, @QueryParam("currencyPair") String pair,
+      @QueryParam("depth") Integer depth) throws PoloniexException, IOException;
+
 }
@@ -40,6 +40,7 @@ public class PoloniexExchange extends BaseExchange implements Exchange {
     Map<String, PoloniexMarketData> poloniexMarketDataMap = poloniexMarketDataServiceRaw.getAllPoloniexTickers();
 
     metaData = PoloniexAdapters.adaptToExchangeMetaData(poloniexCurrencyInfoMap, poloniexMarketDataMap, metaData);
+    super.remoteInit();
   }
 
   @Override
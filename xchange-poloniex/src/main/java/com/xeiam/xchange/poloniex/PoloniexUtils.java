@@ -22,7 +22,7 @@ public class PoloniexUtils {
   public static CurrencyPair toCurrencyPair(String pair) {
 
     String[] currencies = pair.split("_");
-    return new CurrencyPair(currencies[1], currencies[0]);
+    return CurrencyPair.getInstance(currencies[1], currencies[0]);
   }
 
   public static Date stringToDate(String dateString) {
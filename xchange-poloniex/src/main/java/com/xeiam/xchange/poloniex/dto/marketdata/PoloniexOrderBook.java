@@ -0,0 +1,70 @@
+package com.xeiam.xchange.poloniex.dto.marketdata;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.dto.trade.LimitOrder;
+import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexOrderBook.PoloniexOrderBookDeserializer;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
+
+/**
+ * The order book of one market decoded straight into an {@link OrderBook}, the same one as
+ * {@link com.xeiam.xchange.poloniex.PoloniexAdapters#adaptPoloniexDepth} builds from a {@link PoloniexDepth}. The pair must be injected, see
+ * {@link OrderBookParser}.
+ */
+@JsonDeserialize(using = PoloniexOrderBookDeserializer.class)
+public class PoloniexOrderBook {
+
+  private final OrderBook orderBook;
+
+  public PoloniexOrderBook(OrderBook orderBook) {
+
+    this.orderBook = orderBook;
+  }
+
+  public OrderBook getOrderBook() {
+
+    return orderBook;
+  }
+
+  /**
+   * Reads the {"asks": [[price, amount], ...], "bids": [...], ...} object the parser is on
+   */
+  static OrderBook readOrderBook(JsonParser jsonParser, CurrencyPair currencyPair) throws IOException {
+
+    List<LimitOrder> asks = new ArrayList<LimitOrder>();
+    List<LimitOrder> bids = new ArrayList<LimitOrder>();
+
+    OrderBookParser.checkToken(jsonParser, JsonToken.START_OBJECT);
+    while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      if (field.equals("asks")) {
+        asks = OrderBookParser.readArrayLevels(jsonParser, OrderType.ASK, currencyPair, null);
+      } else if (field.equals("bids")) {
+        bids = OrderBookParser.readArrayLevels(jsonParser, OrderType.BID, currencyPair, null);
+      } else {
+        jsonParser.skipChildren();
+      }
+    }
+    return new OrderBook(null, asks, bids);
+  }
+
+  static class PoloniexOrderBookDeserializer extends JsonDeserializer<PoloniexOrderBook> {
+
+    @Override
+    public PoloniexOrderBook deserialize(JsonParser jsonParser, DeserializationContext ctxt) throws IOException {
+
+      return new PoloniexOrderBook(readOrderBook(jsonParser, OrderBookParser.getCurrencyPair(ctxt)));
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.xeiam.xchange.poloniex.dto.marketdata;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.poloniex.PoloniexUtils;
+import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexOrderBooks.PoloniexOrderBooksDeserializer;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
+
+/**
+ * The order books of all markets decoded straight into {@link OrderBook}s, each one read as soon as its market name is, so no
+ * {@link PoloniexDepth} is built for any of them
+ */
+@JsonDeserialize(using = PoloniexOrderBooksDeserializer.class)
+public class PoloniexOrderBooks {
+
+  private final Map<String, OrderBook> orderBooks;
+
+  public PoloniexOrderBooks(Map<String, OrderBook> orderBooks) {
+
+    this.orderBooks = orderBooks;
+  }
+
+  /**
+   * @return the order books by Poloniex market name, such as "BTC_LTC"
+   */
+  public Map<String, OrderBook> getOrderBooks() {
+
+    return orderBooks;
+  }
+
+  static class PoloniexOrderBooksDeserializer extends JsonDeserializer<PoloniexOrderBooks> {
+
+    @Override
+    public PoloniexOrderBooks deserialize(JsonParser jsonParser, DeserializationContext ctxt) throws IOException {
+
+      Map<String, OrderBook> orderBooks = new LinkedHashMap<String, OrderBook>();
+
+      OrderBookParser.checkToken(jsonParser, JsonToken.START_OBJECT);
+      while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+        String market = jsonParser.getCurrentName();
+        jsonParser.nextToken();
+        orderBooks.put(market, PoloniexOrderBook.readOrderBook(jsonParser, PoloniexUtils.toCurrencyPair(market)));
+      }
+      return new PoloniexOrderBooks(orderBooks);
+    }
+  }
+}
@@ -1,7 +1,5 @@
 package com.xeiam.xchange.poloniex.service;
 
-import java.math.BigInteger;
-
 import javax.crypto.Mac;
 
 import com.xeiam.xchange.service.BaseParamsDigest;
@@ -32,8 +30,8 @@ public class PoloniexDigest extends BaseParamsDigest {
     String postBody = restInvocation.getRequestBody();
 
     Mac mac = getMac();
-    mac.update(postBody.getBytes());
+    update(mac, postBody);
 
-    return String.format("%0128x", new BigInteger(1, mac.doFinal()));
+    return doFinalHex(mac, false);
   }
 }
@@ -21,7 +21,6 @@ import com.xeiam.xchange.service.BaseExchangeService;
 import com.xeiam.xchange.service.polling.BasePollingService;
 
 import si.mazi.rescu.ParamsDigest;
-import si.mazi.rescu.RestProxyFactory;
 
 public class PoloniexBasePollingService extends BaseExchangeService implements BasePollingService {
 
@@ -39,11 +38,11 @@ public class PoloniexBasePollingService extends BaseExchangeService implements B
   public PoloniexBasePollingService(Exchange exchange) {
 
     super(exchange);
-    this.poloniexAuthenticated = RestProxyFactory.createProxy(PoloniexAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.poloniexAuthenticated = createPrivateProxy(PoloniexAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     this.apiKey = exchange.getExchangeSpecification().getApiKey();
     this.signatureCreator = PoloniexDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
 
-    this.poloniex = RestProxyFactory.createProxy(Poloniex.class, exchange.getExchangeSpecification().getSslUri());
+    this.poloniex = createPublicProxy(Poloniex.class, exchange.getExchangeSpecification().getSslUri());
 
   }
 
@@ -1,6 +1,9 @@
 package com.xeiam.xchange.poloniex.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.currency.CurrencyPair;
@@ -9,7 +12,8 @@ import com.xeiam.xchange.dto.marketdata.Ticker;
 import com.xeiam.xchange.dto.marketdata.Trades;
 import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.poloniex.PoloniexAdapters;
-import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexDepth;
+import com.xeiam.xchange.poloniex.PoloniexUtils;
+import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexMarketData;
 import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexPublicTrade;
 import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexTicker;
 import com.xeiam.xchange.service.polling.marketdata.PollingMarketDataService;
@@ -41,21 +45,7 @@ public class PoloniexMarketDataService extends PoloniexMarketDataServiceRaw impl
   @Override
   public OrderBook getOrderBook(CurrencyPair currencyPair, Object... args) throws ExchangeException, IOException {
 
-    PoloniexDepth depth = null;
-
-    if (args != null && args.length > 0) {
-      if (args[0] instanceof Integer) {
-        int depthLimit = (Integer) args[0];
-        depth = getPoloniexDepth(currencyPair, depthLimit);
-      } else {
-        throw new ExchangeException("Orderbook size argument must be an Integer!");
-      }
-    }
-    if (depth == null) {
-      depth = getPoloniexDepth(currencyPair);
-    }
-    OrderBook orderBook = PoloniexAdapters.adaptPoloniexDepth(depth, currencyPair);
-    return orderBook;
+    return getPoloniexOrderBook(currencyPair, getDepthLimit(args));
   }
 
   @Override
@@ -86,4 +76,57 @@ public class PoloniexMarketDataService extends PoloniexMarketDataServiceRaw impl
     return trades;
   }
 
+  /**
+   * Fetches the tickers of all markets with one request
+   */
+  @Override
+  public Map<CurrencyPair, Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+    Map<CurrencyPair, Ticker> tickers = new LinkedHashMap<CurrencyPair, Ticker>();
+    if (currencyPairs.isEmpty()) {
+      return tickers;
+    }
+    Map<String, PoloniexMarketData> marketData = getAllPoloniexTickers();
+    for (CurrencyPair currencyPair : currencyPairs) {
+      PoloniexMarketData data = marketData.get(PoloniexUtils.toPairString(currencyPair));
+      if (data != null) {
+        tickers.put(currencyPair, PoloniexAdapters.adaptPoloniexTicker(new PoloniexTicker(data, currencyPair), currencyPair));
+      }
+    }
+    return tickers;
+  }
+
+  /**
+   * Fetches the order books of all markets with one request
+   *
+   * @param args Optional arguments, the same as for {@link #getOrderBook(CurrencyPair, Object...)}
+   */
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args) throws ExchangeException, IOException {
+
+    Map<CurrencyPair, OrderBook> orderBooks = new LinkedHashMap<CurrencyPair, OrderBook>();
+    if (currencyPairs.isEmpty()) {
+      return orderBooks;
+    }
+    Map<String, OrderBook> allOrderBooks = getAllPoloniexOrderBooks(getDepthLimit(args));
+    for (CurrencyPair currencyPair : currencyPairs) {
+      OrderBook orderBook = allOrderBooks.get(PoloniexUtils.toPairString(currencyPair));
+      if (orderBook != null) {
+        orderBooks.put(currencyPair, orderBook);
+      }
+    }
+    return orderBooks;
+  }
+
+  private static Integer getDepthLimit(Object... args) {
+
+    if (args == null || args.length == 0) {
+      return null;
+    }
+    if (!(args[0] instanceof Integer)) {
+      throw new ExchangeException("Orderbook size argument must be an Integer!");
+    }
+    return (Integer) args[0];
+  }
+
 }
@@ -6,17 +6,24 @@ import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
 import com.xeiam.xchange.exceptions.ExchangeException;
+import com.xeiam.xchange.poloniex.Poloniex;
 import com.xeiam.xchange.poloniex.PoloniexException;
 import com.xeiam.xchange.poloniex.PoloniexUtils;
 import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexCurrencyInfo;
 import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexDepth;
 import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexMarketData;
+import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexOrderBooks;
 import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexPublicTrade;
 import com.xeiam.xchange.poloniex.dto.marketdata.PoloniexTicker;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
 
 public class PoloniexMarketDataServiceRaw extends PoloniexBasePollingService {
 
+  /** decodes the books with the pair set by {@link OrderBookParser#setCurrentCurrencyPair(CurrencyPair)} */
+  private final Poloniex pairPoloniex;
+
   /**
    * Constructor
    *
@@ -25,6 +32,7 @@ public class PoloniexMarketDataServiceRaw extends PoloniexBasePollingService {
   public PoloniexMarketDataServiceRaw(Exchange exchange) {
 
     super(exchange);
+    this.pairPoloniex = createCurrencyPairProxy(Poloniex.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public Map<String, PoloniexCurrencyInfo> getPoloniexCurrencyInfo() throws IOException {
@@ -123,6 +131,43 @@ public class PoloniexMarketDataServiceRaw extends PoloniexBasePollingService {
     }
   }
 
+  /**
+   * Gets the order book decoded straight into an {@link OrderBook}, without the {@link PoloniexDepth} in between
+   *
+   * @param depth the number of levels per side, null for the default
+   */
+  public OrderBook getPoloniexOrderBook(CurrencyPair currencyPair, Integer depth) throws IOException {
+
+    String command = "returnOrderBook";
+    CurrencyPair previous = OrderBookParser.setCurrentCurrencyPair(currencyPair);
+
+    try {
+      return pairPoloniex.getStreamedOrderBook(command, PoloniexUtils.toPairString(currencyPair), depth).getOrderBook();
+    } catch (PoloniexException e) {
+      throw new ExchangeException(e.getError());
+    } finally {
+      OrderBookParser.setCurrentCurrencyPair(previous);
+    }
+  }
+
+  /**
+   * Gets the order books of all markets decoded straight into {@link OrderBook}s, without a {@link PoloniexDepth} in between
+   *
+   * @param depth the number of levels per side, null for the default
+   * @return the order books by Poloniex market name, such as "BTC_LTC"
+   */
+  public Map<String, OrderBook> getAllPoloniexOrderBooks(Integer depth) throws IOException {
+
+    String command = "returnOrderBook";
+
+    try {
+      PoloniexOrderBooks orderBooks = poloniex.getAllStreamedOrderBooks(command, "all", depth);
+      return orderBooks.getOrderBooks();
+    } catch (PoloniexException e) {
+      throw new ExchangeException(e.getError());
+    }
+  }
+
   public PoloniexPublicTrade[] getPoloniexPublicTrades(CurrencyPair currencyPair) throws IOException {
 
     String command = "returnTradeHistory";
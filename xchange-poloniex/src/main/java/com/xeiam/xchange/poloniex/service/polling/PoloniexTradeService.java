@@ -6,6 +6,7 @@ package com.xeiam.xchange.poloniex.service.polling;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -26,6 +27,7 @@ import com.xeiam.xchange.poloniex.PoloniexUtils;
 import com.xeiam.xchange.poloniex.dto.trade.PoloniexOpenOrder;
 import com.xeiam.xchange.poloniex.dto.trade.PoloniexUserTrade;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+import com.xeiam.xchange.service.polling.trade.TradeServiceUtils;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamCurrencyPair;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamsAll;
@@ -48,7 +50,9 @@ public class PoloniexTradeService extends PoloniexTradeServiceRaw implements Pol
   public OpenOrders getOpenOrders() throws IOException {
 
     HashMap<String, PoloniexOpenOrder[]> poloniexOpenOrders = returnOpenOrders();
-    return PoloniexAdapters.adaptPoloniexOpenOrders(poloniexOpenOrders);
+    OpenOrders openOrders = PoloniexAdapters.adaptPoloniexOpenOrders(poloniexOpenOrders);
+    exchange.getOrderRegistry().register(openOrders);
+    return openOrders;
   }
 
   @Override
@@ -73,6 +77,18 @@ public class PoloniexTradeService extends PoloniexTradeServiceRaw implements Pol
     return cancel(orderId);
   }
 
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws IOException {
+
+    return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws IOException {
+
+    return TradeServiceUtils.cancelOrders(this, orderIds);
+  }
+
   /**
    * @param params Can optionally implement {@link TradeHistoryParamCurrencyPair} and {@link TradeHistoryParamsTimeSpan}. All other TradeHistoryParams
    *        types will be ignored.
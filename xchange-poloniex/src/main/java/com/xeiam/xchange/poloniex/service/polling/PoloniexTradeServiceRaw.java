@@ -9,8 +9,8 @@ import java.util.HashMap;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.Order.OrderType;
 import com.xeiam.xchange.dto.trade.LimitOrder;
-import com.xeiam.xchange.dto.trade.OpenOrders;
 import com.xeiam.xchange.exceptions.ExchangeException;
 import com.xeiam.xchange.poloniex.PoloniexAdapters;
 import com.xeiam.xchange.poloniex.PoloniexException;
@@ -54,6 +54,7 @@ public class PoloniexTradeServiceRaw extends PoloniexBasePollingService {
       PoloniexTradeResponse response = poloniexAuthenticated.buy(apiKey, signatureCreator, exchange.getNonceFactory(),
           limitOrder.getTradableAmount().toPlainString(), limitOrder.getLimitPrice().toPlainString(),
           PoloniexUtils.toPairString(limitOrder.getCurrencyPair()));
+      exchange.getOrderRegistry().register(String.valueOf(response.getOrderNumber()), limitOrder.getCurrencyPair(), OrderType.BID);
       return response;
     } catch (PoloniexException e) {
       throw new ExchangeException(e.getError());
@@ -66,6 +67,7 @@ public class PoloniexTradeServiceRaw extends PoloniexBasePollingService {
       PoloniexTradeResponse response = poloniexAuthenticated.sell(apiKey, signatureCreator, exchange.getNonceFactory(),
           limitOrder.getTradableAmount().toPlainString(), limitOrder.getLimitPrice().toPlainString(),
           PoloniexUtils.toPairString(limitOrder.getCurrencyPair()));
+      exchange.getOrderRegistry().register(String.valueOf(response.getOrderNumber()), limitOrder.getCurrencyPair(), OrderType.ASK);
       return response;
     } catch (PoloniexException e) {
       throw new ExchangeException(e.getError());
@@ -75,23 +77,18 @@ public class PoloniexTradeServiceRaw extends PoloniexBasePollingService {
   public boolean cancel(String orderId) throws IOException {
 
     /*
-     * Need to look up CurrencyPair associated with orderId Poloniex is working on fixing this
+     * Need to look up CurrencyPair associated with orderId Poloniex is working on fixing this. Only orders placed elsewhere or forgotten by the
+     * registry need the open orders.
      */
-    OpenOrders openOrders = PoloniexAdapters.adaptPoloniexOpenOrders(returnOpenOrders());
-    for (LimitOrder order : openOrders.getOpenOrders()) {
-      if (order.getId().equals(orderId)) {
-        HashMap<String, String> response = poloniexAuthenticated.cancelOrder(apiKey, signatureCreator, exchange.getNonceFactory(), orderId,
-            PoloniexUtils.toPairString(order.getCurrencyPair()));
-        if (response.containsKey("error")) {
-          throw new ExchangeException(response.get("error"));
-        } else {
-          return response.get("success").toString().equals(new Integer(1).toString()) ? true : false;
-        }
+    CurrencyPair currencyPair = exchange.getOrderRegistry().getCurrencyPair(orderId);
+    if (currencyPair == null) {
+      exchange.getOrderRegistry().register(PoloniexAdapters.adaptPoloniexOpenOrders(returnOpenOrders()));
+      currencyPair = exchange.getOrderRegistry().getCurrencyPair(orderId);
+      if (currencyPair == null) {
+        throw new ExchangeException("Unable to find order #" + orderId);
       }
     }
-
-    throw new ExchangeException("Unable to find order #" + orderId);
-
+    return cancel(orderId, currencyPair);
   }
 
   public boolean cancel(String orderId, CurrencyPair currencyPair) throws IOException {
@@ -101,6 +98,8 @@ public class PoloniexTradeServiceRaw extends PoloniexBasePollingService {
      */
     HashMap<String, String> response = poloniexAuthenticated.cancelOrder(apiKey, signatureCreator, exchange.getNonceFactory(), orderId,
         PoloniexUtils.toPairString(currencyPair));
+    // cancelled, or not open any more
+    exchange.getOrderRegistry().remove(orderId);
     if (response.containsKey("error")) {
       throw new ExchangeException(response.get("error"));
     }
@@ -0,0 +1,59 @@
+package com.xeiam.xchange.poloniex.dto.marketdata;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xeiam.xchange.currency.CurrencyPair;
+import com.xeiam.xchange.dto.marketdata.OrderBook;
+import com.xeiam.xchange.poloniex.PoloniexAdapters;
+import com.xeiam.xchange.utils.jackson.OrderBookParser;
+
+public class PoloniexOrderBookTest {
+
+  private static final CurrencyPair XMR_BTC = new CurrencyPair("XMR", "BTC");
+
+  @Test
+  public void testUnmarshalAllOrderBooks() throws IOException {
+
+    ObjectMapper mapper = new ObjectMapper();
+    JavaType depthsType = mapper.getTypeFactory().constructMapType(Map.class, String.class, PoloniexDepth.class);
+    Map<String, PoloniexDepth> depths = mapper.readValue(PoloniexOrderBookTest.class.getResourceAsStream("/marketdata/order-books-all.json"),
+        depthsType);
+
+    PoloniexOrderBooks orderBooks = mapper.readValue(PoloniexOrderBookTest.class.getResourceAsStream("/marketdata/order-books-all.json"),
+        PoloniexOrderBooks.class);
+
+    assertThat(orderBooks.getOrderBooks().keySet()).containsExactly("BTC_NXT", "BTC_XMR");
+    assertSameOrderBook(orderBooks.getOrderBooks().get("BTC_NXT"), PoloniexAdapters.adaptPoloniexDepth(depths.get("BTC_NXT"), new CurrencyPair("NXT", "BTC")));
+    assertSameOrderBook(orderBooks.getOrderBooks().get("BTC_XMR"), PoloniexAdapters.adaptPoloniexDepth(depths.get("BTC_XMR"), XMR_BTC));
+    assertThat(orderBooks.getOrderBooks().get("BTC_NXT").getAsks().get(1).getTradableAmount()).isEqualTo(new BigDecimal("1300.5"));
+  }
+
+  @Test
+  public void testUnmarshalOrderBook() throws IOException {
+
+    ObjectMapper mapper = new ObjectMapper();
+    JsonNode json = mapper.readTree(PoloniexOrderBookTest.class.getResourceAsStream("/marketdata/order-books-all.json")).get("BTC_XMR");
+    PoloniexDepth depth = mapper.treeToValue(json, PoloniexDepth.class);
+
+    OrderBookParser.injectCurrencyPair(mapper, XMR_BTC);
+    PoloniexOrderBook orderBook = mapper.readValue(json.toString(), PoloniexOrderBook.class);
+
+    assertSameOrderBook(orderBook.getOrderBook(), PoloniexAdapters.adaptPoloniexDepth(depth, XMR_BTC));
+  }
+
+  private static void assertSameOrderBook(OrderBook orderBook, OrderBook expected) {
+
+    assertThat(orderBook.getAsks()).isEqualTo(expected.getAsks());
+    assertThat(orderBook.getBids()).isEqualTo(expected.getBids());
+    assertThat(orderBook.getTimeStamp()).isEqualTo(expected.getTimeStamp());
+  }
+}
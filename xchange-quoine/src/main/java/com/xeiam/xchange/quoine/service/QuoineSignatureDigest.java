@@ -1,8 +1,6 @@
 package com.xeiam.xchange.quoine.service;
 
-import java.io.UnsupportedEncodingException;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 
 import javax.crypto.Mac;
 import javax.ws.rs.HeaderParam;
@@ -45,24 +43,18 @@ public class QuoineSignatureDigest extends BaseParamsDigest {
             .append(nonce).toString();
 
     Mac mac = getMac();
-    byte[] hash = mac.doFinal(data.getBytes());
+    update(mac, data);
 
-    return new StringBuilder(64).append("APIAuth ").append(userID).append(":").append(Base64.encodeBytes(hash)).toString();
+    return new StringBuilder(64).append("APIAuth ").append(userID).append(":").append(doFinalBase64(mac)).toString();
   }
 
   private String getContentMD5(String content) {
     if (content == null || "".equals(content)) {
       return "";
     }
-    String digest = null;
-    try {
-      byte[] bytesOfMessage = content.getBytes("UTF-8");
-      MessageDigest md = MessageDigest.getInstance("MD5");
-      digest = Base64.encodeBytes(md.digest(bytesOfMessage));
-    } catch (NoSuchAlgorithmException | UnsupportedEncodingException e) {
-      e.printStackTrace();
-    }
-    return digest;
+    MessageDigest md = getMessageDigest("MD5");
+    update(md, content);
+    return Base64.encodeBytes(md.digest());
   }
 
   private class QuoineContentMD5Digest implements ParamsDigest {
@@ -1,6 +1,9 @@
 package com.xeiam.xchange.quoine.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.dto.Order.OrderType;
@@ -13,6 +16,7 @@ import com.xeiam.xchange.quoine.QuoineAdapters;
 import com.xeiam.xchange.quoine.dto.trade.QuoineOrderResponse;
 import com.xeiam.xchange.quoine.dto.trade.QuoineOrdersList;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+import com.xeiam.xchange.service.polling.trade.TradeServiceUtils;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
 
 /**
@@ -61,6 +65,18 @@ public class QuoineTradeService extends QuoineTradeServiceRaw implements Polling
     return quoineOrderResponse.getId() != null && (quoineOrderResponse.getId().equals(orderId));
   }
 
+  @Override
+  public List<String> placeLimitOrders(List<LimitOrder> limitOrders) throws IOException {
+
+    return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(Collection<String> orderIds) throws IOException {
+
+    return TradeServiceUtils.cancelOrders(this, orderIds);
+  }
+
   @Override
   public UserTrades getTradeHistory(TradeHistoryParams params) throws IOException {
 
@@ -1,5 +1,6 @@
 package com.xeiam.xchange.ripple;
 
+import java.io.File;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -27,6 +28,16 @@ public class RippleExchange extends BaseExchange implements Exchange {
 
   public static final String PARAMETER_STORE_TRADE_TRANSACTION_DETAILS = "store.trade.transaction.details";
 
+  public static final String PARAMETER_TRADE_TRANSACTION_CACHE_SIZE = "trade.transaction.cache.size";
+
+  public static final int DEFAULT_TRADE_TRANSACTION_CACHE_SIZE = 1000;
+
+  public static final String PARAMETER_TRADE_TRANSACTION_STORE_DIRECTORY = "trade.transaction.store.directory";
+
+  public static final String PARAMETER_TRADE_DETAIL_CONCURRENCY = "trade.detail.concurrency";
+
+  public static final int DEFAULT_TRADE_DETAIL_CONCURRENCY = 4;
+
   public static final String PARAMETER_VALIDATE_ORDER_REQUESTS = "validate.order.requests";
 
   public static final String PARAMETER_ROUNDING_SCALE = "rounding.scale";
@@ -63,6 +74,12 @@ public class RippleExchange extends BaseExchange implements Exchange {
     // Do not cache order detail queries by default to avoid running out of memory
     specification.setExchangeSpecificParametersItem(PARAMETER_STORE_TRADE_TRANSACTION_DETAILS, false);
 
+    // When stored, keep at most this many order details in memory, least recently used evicted first
+    specification.setExchangeSpecificParametersItem(PARAMETER_TRADE_TRANSACTION_CACHE_SIZE, DEFAULT_TRADE_TRANSACTION_CACHE_SIZE);
+
+    // Fetch up to this many order details of a notification page at once
+    specification.setExchangeSpecificParametersItem(PARAMETER_TRADE_DETAIL_CONCURRENCY, DEFAULT_TRADE_DETAIL_CONCURRENCY);
+
     // Wait for ledger consensus before confirming successful order entry or cancel
     specification.setExchangeSpecificParametersItem(PARAMETER_VALIDATE_ORDER_REQUESTS, true);
 
@@ -95,8 +112,27 @@ public class RippleExchange extends BaseExchange implements Exchange {
     return (Boolean) getExchangeSpecification().getExchangeSpecificParametersItem(PARAMETER_STORE_TRADE_TRANSACTION_DETAILS);
   }
 
+  public int getTradeTransactionCacheSize() {
+    return (Integer) getExchangeSpecification().getExchangeSpecificParametersItem(PARAMETER_TRADE_TRANSACTION_CACHE_SIZE);
+  }
+
+  /**
+   * @return the directory stored order details are also written to, so they are kept across runs, or null if not set
+   */
+  public File getTradeTransactionStoreDirectory() {
+    final Object directory = getExchangeSpecification().getExchangeSpecificParametersItem(PARAMETER_TRADE_TRANSACTION_STORE_DIRECTORY);
+    if (directory == null || directory instanceof File) {
+      return (File) directory;
+    }
+    return new File(directory.toString());
+  }
+
+  public int getTradeDetailConcurrency() {
+    return (Integer) getExchangeSpecification().getExchangeSpecificParametersItem(PARAMETER_TRADE_DETAIL_CONCURRENCY);
+  }
+
   public void clearOrderDetailsCache() {
-    ((RippleTradeService) pollingTradeService).clearOrderDetailsStore();
+    ((RippleTradeService) getPrimaryTradeService()).clearOrderDetailsStore();
   }
 
   /**
@@ -25,7 +25,7 @@ public class RippleBasePollingService extends BaseExchangeService implements Bas
     } else {
       throw new IllegalStateException("either SSL or plain text URI must be specified");
     }
-    ripplePublic = RestProxyFactory.createProxy(RipplePublic.class, uri);
-    rippleAuthenticated = RestProxyFactory.createProxy(RippleAuthenticated.class, uri);
+    ripplePublic = RestProxyFactory.createProxy(RipplePublic.class, uri, exchange.createClientConfig());
+    rippleAuthenticated = RestProxyFactory.createProxy(RippleAuthenticated.class, uri, exchange.createClientConfig());
   }
 }
@@ -1,7 +1,9 @@
 package com.xeiam.xchange.ripple.service.polling;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.xeiam.xchange.dto.trade.LimitOrder;
 import com.xeiam.xchange.dto.trade.MarketOrder;
@@ -19,6 +21,7 @@ import com.xeiam.xchange.ripple.service.polling.params.RippleTradeHistoryCount;
 import com.xeiam.xchange.ripple.service.polling.params.RippleTradeHistoryHashLimit;
 import com.xeiam.xchange.ripple.service.polling.params.RippleTradeHistoryParams;
 import com.xeiam.xchange.service.polling.trade.PollingTradeService;
+import com.xeiam.xchange.service.polling.trade.TradeServiceUtils;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamPaging;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamsTimeSpan;
@@ -71,6 +74,18 @@ public class RippleTradeService extends RippleTradeServiceRaw implements Polling
     return cancelOrder(orderId, ripple.validateOrderRequests());
   }
 
+  @Override
+  public List<String> placeLimitOrders(final List<LimitOrder> limitOrders)
+      throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException {
+    return TradeServiceUtils.placeLimitOrders(this, limitOrders);
+  }
+
+  @Override
+  public Map<String, Boolean> cancelOrders(final Collection<String> orderIds)
+      throws ExchangeException, NotAvailableFromExchangeException, NotYetImplementedForExchangeException, IOException {
+    return TradeServiceUtils.cancelOrders(this, orderIds);
+  }
+
   /**
    * Ripple trade history is a request intensive process. The REST API does not provide a simple single trade history query. Trades are retrieved by
    * querying account notifications and for those of type order details of the hash are then queried. These order detail queries could be order entry,
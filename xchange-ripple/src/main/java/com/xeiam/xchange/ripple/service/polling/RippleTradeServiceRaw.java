@@ -1,6 +1,7 @@
 package com.xeiam.xchange.ripple.service.polling;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -8,8 +9,9 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,8 +34,11 @@ import com.xeiam.xchange.ripple.dto.trade.RippleOrderCancelResponse;
 import com.xeiam.xchange.ripple.dto.trade.RippleOrderEntryRequest;
 import com.xeiam.xchange.ripple.dto.trade.RippleOrderEntryRequestBody;
 import com.xeiam.xchange.ripple.dto.trade.RippleOrderEntryResponse;
+import com.xeiam.xchange.ripple.dto.trade.RippleOrderTransaction;
+import com.xeiam.xchange.ripple.dto.trade.RipplePaymentTransaction;
 import com.xeiam.xchange.ripple.service.polling.params.RippleTradeHistoryCount;
 import com.xeiam.xchange.ripple.service.polling.params.RippleTradeHistoryHashLimit;
+import com.xeiam.xchange.service.polling.AsyncPollingExecutor;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamCurrencyPair;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParamPaging;
 import com.xeiam.xchange.service.polling.trade.params.TradeHistoryParams;
@@ -46,12 +51,16 @@ public class RippleTradeServiceRaw extends RippleBasePollingService {
   private static final Long START_LEDGER = null;
   private static final Long END_LEDGER = null;
 
+  private static final String VALIDATED = "validated";
+
   private final Logger logger = LoggerFactory.getLogger(getClass());
 
-  private final Map<String, Map<String, IRippleTradeTransaction>> rawTradeStore = new ConcurrentHashMap<String, Map<String, IRippleTradeTransaction>>();
+  private final RippleTradeTransactionCache rawTradeStore;
 
   public RippleTradeServiceRaw(final Exchange exchange) {
     super(exchange);
+    final RippleExchange ripple = (RippleExchange) exchange;
+    rawTradeStore = new RippleTradeTransactionCache(ripple.getTradeTransactionCacheSize(), ripple.getTradeTransactionStoreDirectory());
   }
 
   public String placeOrder(final RippleLimitOrder order, final boolean validate) throws RippleException, IOException {
@@ -123,26 +132,31 @@ public class RippleTradeServiceRaw extends RippleBasePollingService {
    */
   public IRippleTradeTransaction getTrade(final String account, final RippleNotification notification) throws RippleException, IOException {
     final RippleExchange ripple = (RippleExchange) exchange;
-    if (ripple.isStoreTradeTransactionDetails()) {
-      Map<String, IRippleTradeTransaction> cache = rawTradeStore.get(account);
-      if (cache == null) {
-        cache = new ConcurrentHashMap<String, IRippleTradeTransaction>();
-        rawTradeStore.put(account, cache);
-      }
-      if (cache.containsKey(notification.getHash())) {
-        return cache.get(notification.getHash());
+    final Class<? extends IRippleTradeTransaction> type;
+    if (notification.getType().equals("order")) {
+      type = RippleOrderTransaction.class;
+    } else if (notification.getType().equals("payment")) {
+      type = RipplePaymentTransaction.class;
+    } else {
+      throw new IllegalArgumentException(String.format("unexpected notification %s type for transaction[%s] and account[%s]",
+          notification.getType(), notification.getHash(), notification.getAccount()));
+    }
+
+    // only transactions of a validated ledger are final and safe to keep
+    final boolean store = ripple.isStoreTradeTransactionDetails() && VALIDATED.equals(notification.getState());
+    if (store) {
+      final IRippleTradeTransaction cached = rawTradeStore.get(account, notification.getHash(), type);
+      if (cached != null) {
+        return cached;
       }
     }
 
     final IRippleTradeTransaction trade;
     try {
-      if (notification.getType().equals("order")) {
+      if (type == RippleOrderTransaction.class) {
         trade = ripplePublic.orderTransaction(account, notification.getHash());
-      } else if (notification.getType().equals("payment")) {
-        trade = ripplePublic.paymentTransaction(account, notification.getHash());
       } else {
-        throw new IllegalArgumentException(String.format("unexpected notification %s type for transaction[%s] and account[%s]",
-            notification.getType(), notification.getHash(), notification.getAccount()));
+        trade = ripplePublic.paymentTransaction(account, notification.getHash());
       }
 
     } catch (final RippleException e) {
@@ -155,24 +169,65 @@ public class RippleTradeServiceRaw extends RippleBasePollingService {
         throw e;
       }
     }
-    if (ripple.isStoreTradeTransactionDetails()) {
-      rawTradeStore.get(account).put(notification.getHash(), trade);
+    if (store) {
+      rawTradeStore.put(account, trade);
     }
     return trade;
   }
 
-  public List<IRippleTradeTransaction> getTradesForAccount(final TradeHistoryParams params, final String account)
+  /**
+   * Retrieve the order details of several notifications, up to {@link RippleExchange#getTradeDetailConcurrency()} of them at once.
+   *
+   * @return the details in the order of the notifications, null where {@link #getTrade(String, RippleNotification)} returned null
+   */
+  public List<IRippleTradeTransaction> getTrades(final String account, final List<RippleNotification> notifications)
       throws RippleException, IOException {
-    final Integer pageLength;
-    final Integer pageNumber;
-    if (params instanceof TradeHistoryParamPaging) {
-      final TradeHistoryParamPaging pagingParams = (TradeHistoryParamPaging) params;
-      pageLength = pagingParams.getPageLength();
-      pageNumber = pagingParams.getPageNumber();
-    } else {
-      pageLength = pageNumber = null;
+    final List<IRippleTradeTransaction> trades = new ArrayList<IRippleTradeTransaction>(notifications.size());
+    final int concurrency = Math.max(1, ((RippleExchange) exchange).getTradeDetailConcurrency());
+    for (int from = 0; from < notifications.size(); from += concurrency) {
+      final List<FutureTask<IRippleTradeTransaction>> tasks = new ArrayList<FutureTask<IRippleTradeTransaction>>();
+      for (final RippleNotification notification : notifications.subList(from, Math.min(from + concurrency, notifications.size()))) {
+        final FutureTask<IRippleTradeTransaction> task = new FutureTask<IRippleTradeTransaction>(new Callable<IRippleTradeTransaction>() {
+          @Override
+          public IRippleTradeTransaction call() throws IOException {
+            return getTrade(account, notification);
+          }
+        });
+        if (!tasks.isEmpty()) {
+          AsyncPollingExecutor.getSharedExecutor().execute(task);
+        }
+        tasks.add(task);
+      }
+      // the calling thread runs any task not yet picked up by the shared pool, so a busy pool cannot stall the query
+      for (final FutureTask<IRippleTradeTransaction> task : tasks) {
+        task.run();
+        trades.add(getResult(task));
+      }
+    }
+    return trades;
+  }
+
+  private static IRippleTradeTransaction getResult(final FutureTask<IRippleTradeTransaction> task) throws IOException {
+    try {
+      return task.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while reading trade details");
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new ExchangeException("cannot read trade details", cause);
     }
+  }
 
+  public List<IRippleTradeTransaction> getTradesForAccount(final TradeHistoryParams params, final String account)
+      throws RippleException, IOException {
     final Collection<String> currencyFilter = new HashSet<String>();
     if (params instanceof TradeHistoryParamCurrencyPair) {
       final CurrencyPair pair = ((TradeHistoryParamCurrencyPair) params).getCurrencyPair();
@@ -207,29 +262,62 @@ public class RippleTradeServiceRaw extends RippleBasePollingService {
     }
 
     final List<IRippleTradeTransaction> trades = new ArrayList<IRippleTradeTransaction>();
+    while (true) {
+      final Integer pageLength;
+      final Integer pageNumber;
+      if (params instanceof TradeHistoryParamPaging) {
+        final TradeHistoryParamPaging pagingParams = (TradeHistoryParamPaging) params;
+        pageLength = pagingParams.getPageLength();
+        pageNumber = pagingParams.getPageNumber();
+      } else {
+        pageLength = pageNumber = null;
+      }
 
-    final RippleNotifications notifications = ripplePublic.notifications(account, EXCLUDE_FAILED, EARLIEST_FIRST, pageLength, pageNumber,
-        START_LEDGER, END_LEDGER);
-    if (rippleCount != null) {
-      rippleCount.incrementApiCallCount();
-    }
-    if (notifications.getNotifications().isEmpty()) {
-      return trades;
+      final RippleNotifications notifications = ripplePublic.notifications(account, EXCLUDE_FAILED, EARLIEST_FIRST, pageLength, pageNumber,
+          START_LEDGER, END_LEDGER);
+      if (rippleCount != null) {
+        rippleCount.incrementApiCallCount();
+      }
+      if (notifications.getNotifications().isEmpty()) {
+        return trades;
+      }
+
+      if (getTradesFromPage(account, notifications.getNotifications(), currencyFilter, startTime, endTime, rippleCount, hashLimit, trades)) {
+        return trades;
+      }
+
+      if (params instanceof TradeHistoryParamPaging && (hashLimit != null || startTime != null)) {
+        // Still looking for trades, if query was complete it would have returned above.
+        // Increment the page number and search next set of notifications.
+        final TradeHistoryParamPaging pagingParams = (TradeHistoryParamPaging) params;
+        final int currentPage;
+        if (pagingParams.getPageNumber() == null) {
+          currentPage = 1;
+        } else {
+          currentPage = pagingParams.getPageNumber();
+        }
+        pagingParams.setPageNumber(currentPage + 1);
+      } else {
+        return trades;
+      }
     }
+  }
 
+  /**
+   * Adds the trades of one page of notifications, fetching the details of several notifications at once but no more than the remaining API calls
+   * and trades allow.
+   *
+   * @return true if the query is complete and no further page should be searched
+   */
+  private boolean getTradesFromPage(final String account, final List<RippleNotification> page, final Collection<String> currencyFilter,
+      final Date startTime, final Date endTime, final RippleTradeHistoryCount rippleCount, final String hashLimit,
+      final List<IRippleTradeTransaction> trades) throws RippleException, IOException {
     // Notifications are returned with the most recent at bottom of the result page. Therefore,
     // in order to consider the most recent first, loop through using a reverse order iterator.
-    final ListIterator<RippleNotification> iterator = notifications.getNotifications().listIterator(notifications.getNotifications().size());
+    final List<RippleNotification> notifications = new ArrayList<RippleNotification>();
+    boolean reachedStartTime = false;
+    final ListIterator<RippleNotification> iterator = page.listIterator(page.size());
     while (iterator.hasPrevious()) {
-      if (rippleCount != null) {
-        if (rippleCount.getTradeCountLimit() > 0 && rippleCount.getTradeCount() >= rippleCount.getTradeCountLimit()) {
-          return trades; // found enough trades
-        }
-        if (rippleCount.getApiCallCountLimit() > 0 && rippleCount.getApiCallCount() >= rippleCount.getApiCallCountLimit()) {
-          return trades; // reached the query limit
-        }
-      }
-
       final RippleNotification notification = iterator.previous();
       if ((endTime != null) && notification.getTimestamp().after(endTime)) {
         // this trade is more recent than the end time - ignore it
@@ -237,7 +325,8 @@ public class RippleTradeServiceRaw extends RippleBasePollingService {
       }
       if ((startTime != null) && notification.getTimestamp().before(startTime)) {
         // this trade is older than the start time - stop searching
-        return trades;
+        reachedStartTime = true;
+        break;
       }
 
       if (notification.getType().equals("order")) {
@@ -247,50 +336,72 @@ public class RippleTradeServiceRaw extends RippleBasePollingService {
       } else {
         continue; // not a trade related notification
       }
+      notifications.add(notification);
+    }
 
-      final IRippleTradeTransaction trade = getTrade(account, notification);
+    final int concurrency = Math.max(1, ((RippleExchange) exchange).getTradeDetailConcurrency());
+    int index = 0;
+    while (index < notifications.size()) {
+      int batch = Math.min(concurrency, notifications.size() - index);
       if (rippleCount != null) {
-        rippleCount.incrementApiCallCount();
-      }
-      if (trade == null) {
-        continue;
+        if (rippleCount.getTradeCountLimit() > 0) {
+          if (rippleCount.getTradeCount() >= rippleCount.getTradeCountLimit()) {
+            return true; // found enough trades
+          }
+          batch = Math.min(batch, rippleCount.getTradeCountLimit() - rippleCount.getTradeCount());
+        }
+        if (rippleCount.getApiCallCountLimit() > 0) {
+          if (rippleCount.getApiCallCount() >= rippleCount.getApiCallCountLimit()) {
+            return true; // reached the query limit
+          }
+          batch = Math.min(batch, rippleCount.getApiCallCountLimit() - rippleCount.getApiCallCount());
+        }
       }
-
-      final List<RippleAmount> balanceChanges = trade.getBalanceChanges();
-      if (balanceChanges.size() < 2 || balanceChanges.size() > 3) {
-        continue; // this is not a trade - a trade will change 2 or 3 (including XRP fee) currency balances
+      for (int i = index; i < index + batch; i++) {
+        if (notifications.get(i).getHash().equals(hashLimit)) {
+          batch = i - index + 1; // no need to read beyond the last required trade
+          break;
+        }
       }
 
-      if (currencyFilter.isEmpty()
-          || (currencyFilter.contains(balanceChanges.get(0).getCurrency()) && currencyFilter.contains(balanceChanges.get(1).getCurrency()))) {
-        // no currency filter has been applied || currency filter match
-        trades.add(trade);
+      final List<IRippleTradeTransaction> details = getTrades(account, notifications.subList(index, index + batch));
+      index += batch;
+      for (final IRippleTradeTransaction trade : details) {
         if (rippleCount != null) {
-          rippleCount.incrementTradeCount();
+          rippleCount.incrementApiCallCount();
+        }
+        if (trade == null) {
+          continue;
+        }
+
+        final List<RippleAmount> balanceChanges = trade.getBalanceChanges();
+        if (balanceChanges.size() < 2 || balanceChanges.size() > 3) {
+          continue; // this is not a trade - a trade will change 2 or 3 (including XRP fee) currency balances
+        }
+
+        if (currencyFilter.isEmpty()
+            || (currencyFilter.contains(balanceChanges.get(0).getCurrency()) && currencyFilter.contains(balanceChanges.get(1).getCurrency()))) {
+          // no currency filter has been applied || currency filter match
+          trades.add(trade);
+          if (rippleCount != null) {
+            rippleCount.incrementTradeCount();
+          }
         }
-      }
 
-      if (trade.getHash().equals(hashLimit)) {
-        return trades; // found the last required trade - stop searching
+        if (trade.getHash().equals(hashLimit)) {
+          return true; // found the last required trade - stop searching
+        }
       }
     }
-
-    if (params instanceof TradeHistoryParamPaging && (hashLimit != null || startTime != null)) {
-      // Still looking for trades, if query was complete it would have returned in the
-      // loop above. Increment the page number and search next set of notifications.
-      final TradeHistoryParamPaging pagingParams = (TradeHistoryParamPaging) params;
-      final int currentPage;
-      if (pagingParams.getPageNumber() == null) {
-        currentPage = 1;
-      } else {
-        currentPage = pagingParams.getPageNumber();
+    if (rippleCount != null) {
+      if (rippleCount.getTradeCountLimit() > 0 && rippleCount.getTradeCount() >= rippleCount.getTradeCountLimit()) {
+        return true; // found enough trades
+      }
+      if (rippleCount.getApiCallCountLimit() > 0 && rippleCount.getApiCallCount() >= rippleCount.getApiCallCountLimit()) {
+        return true; // reached the query limit
       }
-      pagingParams.setPageNumber(currentPage + 1);
-      trades.addAll(getTradesForAccount(params, account));
     }
-
-    return trades;
-
+    return reachedStartTime;
   }
 
   /**
@@ -357,12 +468,9 @@ public class RippleTradeServiceRaw extends RippleBasePollingService {
   }
 
   /**
-   * Clear any stored order details to allow memory to be released.
+   * Clear any stored order details to allow memory to be released. Those written to the store directory are kept.
    */
   public void clearOrderDetailsStore() {
-    for (final Map<String, IRippleTradeTransaction> cache : rawTradeStore.values()) {
-      cache.clear();
-    }
     rawTradeStore.clear();
   }
 }
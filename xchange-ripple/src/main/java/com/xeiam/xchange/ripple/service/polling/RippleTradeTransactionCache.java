@@ -0,0 +1,123 @@
+package com.xeiam.xchange.ripple.service.polling;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xeiam.xchange.ripple.dto.trade.IRippleTradeTransaction;
+
+/**
+ * Size bounded least recently used cache of trade transaction details, optionally backed by a directory holding one JSON file per account and
+ * transaction hash. Transactions in a validated ledger never change, so they can be kept across runs; the caller is expected to only store those.
+ */
+public class RippleTradeTransactionCache {
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+
+  // derived getters are written out too, they must be neither rejected nor used to fill collections when read back
+  private final ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+      .configure(MapperFeature.USE_GETTERS_AS_SETTERS, false);
+
+  private final Map<String, IRippleTradeTransaction> transactions;
+
+  private final File directory;
+
+  /**
+   * @param maxSize the number of transactions kept in memory, the least recently used ones being evicted first
+   * @param directory where transactions are written to and read back from, or null to keep them in memory only
+   */
+  public RippleTradeTransactionCache(final int maxSize, final File directory) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be positive");
+    }
+    transactions = Collections.synchronizedMap(new LinkedHashMap<String, IRippleTradeTransaction>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String, IRippleTradeTransaction> eldest) {
+        return size() > maxSize;
+      }
+    });
+    this.directory = directory;
+  }
+
+  /**
+   * @param type the class the transaction was read as, used to read it back from disk
+   * @return the cached transaction or null if it is neither in memory nor on disk
+   */
+  public <T extends IRippleTradeTransaction> T get(final String account, final String hash, final Class<T> type) {
+    final String key = account + "/" + hash;
+    final IRippleTradeTransaction cached = transactions.get(key);
+    if (type.isInstance(cached)) {
+      return type.cast(cached);
+    }
+    if (directory == null) {
+      return null;
+    }
+
+    final File file = getFile(account, hash);
+    if (!file.isFile()) {
+      return null;
+    }
+    try {
+      final T transaction = mapper.readValue(file, type);
+      transactions.put(key, transaction);
+      return transaction;
+    } catch (final IOException e) {
+      // a partial or outdated file is simply fetched again
+      logger.warn("cannot read transaction[{}] for account[{}] from {}", hash, account, file, e);
+      return null;
+    }
+  }
+
+  public void put(final String account, final IRippleTradeTransaction transaction) {
+    transactions.put(account + "/" + transaction.getHash(), transaction);
+    if (directory == null) {
+      return;
+    }
+
+    final File file = getFile(account, transaction.getHash());
+    if (file.isFile()) {
+      return;
+    }
+    try {
+      final File accountDirectory = file.getParentFile();
+      if (!accountDirectory.isDirectory() && !accountDirectory.mkdirs() && !accountDirectory.isDirectory()) {
+        throw new IOException("cannot create " + accountDirectory);
+      }
+      // write aside then move so a reader never sees a partial file
+      final File temp = File.createTempFile(transaction.getHash(), ".tmp", accountDirectory);
+      try {
+        mapper.writeValue(temp, transaction);
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        temp.delete();
+      }
+    } catch (final IOException | RuntimeException e) {
+      logger.warn("cannot write transaction[{}] for account[{}] to {}", transaction.getHash(), account, file, e);
+    }
+  }
+
+  public int size() {
+    return transactions.size();
+  }
+
+  /**
+   * Clear the transactions held in memory, those on disk are kept.
+   */
+  public void clear() {
+    transactions.clear();
+  }
+
+  private File getFile(final String account, final String hash) {
+    return new File(new File(directory, account), hash + ".json");
+  }
+}
@@ -0,0 +1,79 @@
+package com.xeiam.xchange.ripple.service.polling;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xeiam.xchange.ripple.dto.trade.IRippleTradeTransaction;
+import com.xeiam.xchange.ripple.dto.trade.RippleOrderTransaction;
+import com.xeiam.xchange.ripple.dto.trade.RipplePaymentTransaction;
+
+public class RippleTradeTransactionCacheTest {
+
+  private static final String ACCOUNT = "rMwjYedjc7qqtKYVLiAccJSmCwih4LnE2q";
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void leastRecentlyUsedEvictionTest() throws IOException {
+    final RippleTradeTransactionCache cache = new RippleTradeTransactionCache(2, null);
+    final RippleOrderTransaction first = read("/trade/example-trade-buyXRP-sellBTC.json", RippleOrderTransaction.class);
+    final RippleOrderTransaction second = read("/trade/example-trade-sellXRP-buyBTC.json", RippleOrderTransaction.class);
+    final RippleOrderTransaction third = read("/trade/example-trade-buyBTC-sellBTC.json", RippleOrderTransaction.class);
+
+    cache.put(ACCOUNT, first);
+    cache.put(ACCOUNT, second);
+    assertThat(cache.get(ACCOUNT, first.getHash(), RippleOrderTransaction.class)).isSameAs(first);
+    cache.put(ACCOUNT, third);
+
+    // second was the least recently used
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get(ACCOUNT, second.getHash(), RippleOrderTransaction.class)).isNull();
+    assertThat(cache.get(ACCOUNT, first.getHash(), RippleOrderTransaction.class)).isSameAs(first);
+    assertThat(cache.get("rOtherAccount", first.getHash(), RippleOrderTransaction.class)).isNull();
+  }
+
+  @Test
+  public void storeDirectoryTest() throws IOException {
+    final RippleOrderTransaction order = read("/trade/example-trade-buyXRP-sellBTC.json", RippleOrderTransaction.class);
+    final RipplePaymentTransaction payment = read("/trade/example-payment-passthrough.json", RipplePaymentTransaction.class);
+    final RippleTradeTransactionCache cache = new RippleTradeTransactionCache(10, folder.getRoot());
+    cache.put(ACCOUNT, order);
+    cache.put(ACCOUNT, payment);
+
+    // a new cache, as after a restart, reads them back from disk
+    final RippleTradeTransactionCache restarted = new RippleTradeTransactionCache(10, folder.getRoot());
+    final RippleOrderTransaction storedOrder = restarted.get(ACCOUNT, order.getHash(), RippleOrderTransaction.class);
+    assertThat(storedOrder.toString()).isEqualTo(order.toString());
+    assertSameTrade(storedOrder, order);
+
+    final RipplePaymentTransaction storedPayment = restarted.get(ACCOUNT, payment.getHash(), RipplePaymentTransaction.class);
+    assertSameTrade(storedPayment, payment);
+    assertThat(storedPayment.getPayment().getDirection()).isEqualTo(payment.getPayment().getDirection());
+
+    assertThat(restarted.size()).isEqualTo(2);
+    restarted.clear();
+    assertThat(restarted.get(ACCOUNT, order.getHash(), RippleOrderTransaction.class)).isNotNull();
+  }
+
+  private static void assertSameTrade(final IRippleTradeTransaction actual, final IRippleTradeTransaction expected) {
+    assertThat(actual.getHash()).isEqualTo(expected.getHash());
+    assertThat(actual.getFee()).isEqualTo(expected.getFee());
+    assertThat(actual.getOrderId()).isEqualTo(expected.getOrderId());
+    assertThat(actual.getTimestamp()).isEqualTo(expected.getTimestamp());
+    assertThat(actual.getBalanceChanges()).hasSize(expected.getBalanceChanges().size());
+    for (int i = 0; i < expected.getBalanceChanges().size(); i++) {
+      assertThat(actual.getBalanceChanges().get(i).toString()).isEqualTo(expected.getBalanceChanges().get(i).toString());
+    }
+  }
+
+  private <T> T read(final String resource, final Class<T> type) throws IOException {
+    return new ObjectMapper().readValue(getClass().getResourceAsStream(resource), type);
+  }
+}
@@ -9,8 +9,6 @@ import com.xeiam.xchange.taurus.TaurusAuthenticated;
 import com.xeiam.xchange.taurus.dto.account.TaurusBalance;
 import com.xeiam.xchange.taurus.service.TaurusDigest;
 
-import si.mazi.rescu.RestProxyFactory;
-
 public class TaurusAccountServiceRaw extends TaurusBasePollingService {
 
   private final TaurusDigest signatureCreator;
@@ -19,7 +17,7 @@ public class TaurusAccountServiceRaw extends TaurusBasePollingService {
   protected TaurusAccountServiceRaw(Exchange exchange) {
     super(exchange);
 
-    this.taurusAuthenticated = RestProxyFactory.createProxy(TaurusAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.taurusAuthenticated = createPrivateProxy(TaurusAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = TaurusDigest.createInstance(exchange.getExchangeSpecification().getSecretKey(),
         exchange.getExchangeSpecification().getUserName(), exchange.getExchangeSpecification().getApiKey());
   }
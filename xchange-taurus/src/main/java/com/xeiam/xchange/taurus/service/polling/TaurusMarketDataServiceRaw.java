@@ -8,15 +8,13 @@ import com.xeiam.xchange.taurus.dto.marketdata.TaurusOrderBook;
 import com.xeiam.xchange.taurus.dto.marketdata.TaurusTicker;
 import com.xeiam.xchange.taurus.dto.marketdata.TaurusTransaction;
 
-import si.mazi.rescu.RestProxyFactory;
-
 public class TaurusMarketDataServiceRaw extends TaurusBasePollingService {
 
   private final Taurus taurus;
 
   public TaurusMarketDataServiceRaw(Exchange exchange) {
     super(exchange);
-    this.taurus = RestProxyFactory.createProxy(Taurus.class, exchange.getExchangeSpecification().getSslUri());
+    this.taurus = createPublicProxy(Taurus.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public TaurusTicker getTaurusTicker() throws IOException {
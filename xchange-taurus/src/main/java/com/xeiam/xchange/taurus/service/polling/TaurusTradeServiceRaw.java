@@ -10,8 +10,6 @@ import com.xeiam.xchange.taurus.dto.trade.TaurusOrder;
 import com.xeiam.xchange.taurus.dto.trade.TaurusUserTransaction;
 import com.xeiam.xchange.taurus.service.TaurusDigest;
 
-import si.mazi.rescu.RestProxyFactory;
-
 public class TaurusTradeServiceRaw extends TaurusBasePollingService {
 
   private final TaurusAuthenticated taurusAuthenticated;
@@ -19,7 +17,7 @@ public class TaurusTradeServiceRaw extends TaurusBasePollingService {
 
   public TaurusTradeServiceRaw(Exchange exchange) {
     super(exchange);
-    this.taurusAuthenticated = RestProxyFactory.createProxy(TaurusAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.taurusAuthenticated = createPrivateProxy(TaurusAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
     this.signatureCreator = TaurusDigest.createInstance(exchange.getExchangeSpecification().getSecretKey(),
         exchange.getExchangeSpecification().getUserName(), exchange.getExchangeSpecification().getApiKey());
   }
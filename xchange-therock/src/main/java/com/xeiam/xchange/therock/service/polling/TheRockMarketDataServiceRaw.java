@@ -2,8 +2,6 @@ package com.xeiam.xchange.therock.service.polling;
 
 import java.io.IOException;
 
-import si.mazi.rescu.RestProxyFactory;
-
 import com.xeiam.xchange.Exchange;
 import com.xeiam.xchange.therock.TheRock;
 import com.xeiam.xchange.therock.dto.TheRockException;
@@ -16,7 +14,7 @@ public class TheRockMarketDataServiceRaw extends TheRockBasePollingService {
 
   public TheRockMarketDataServiceRaw(Exchange exchange) {
     super(exchange);
-    this.theRock = RestProxyFactory.createProxy(TheRock.class, exchange.getExchangeSpecification().getSslUri());
+    this.theRock = createPublicProxy(TheRock.class, exchange.getExchangeSpecification().getSslUri());
   }
 
   public TheRockTicker getTheRockTicker(TheRock.Pair currencyPair) throws TheRockException, IOException {
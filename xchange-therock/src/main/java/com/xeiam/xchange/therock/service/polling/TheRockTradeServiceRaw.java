@@ -12,8 +12,6 @@ import com.xeiam.xchange.therock.dto.TheRockException;
 import com.xeiam.xchange.therock.dto.trade.TheRockOrder;
 import com.xeiam.xchange.therock.service.TheRockDigest;
 
-import si.mazi.rescu.RestProxyFactory;
-
 public class TheRockTradeServiceRaw extends TheRockBasePollingService {
 
   private final TheRockAuthenticated theRockAuthenticated;
@@ -22,7 +20,7 @@ public class TheRockTradeServiceRaw extends TheRockBasePollingService {
   public TheRockTradeServiceRaw(Exchange exchange) {
     super(exchange);
     final ExchangeSpecification spec = exchange.getExchangeSpecification();
-    this.theRockAuthenticated = RestProxyFactory.createProxy(TheRockAuthenticated.class, spec.getSslUri());
+    this.theRockAuthenticated = createPrivateProxy(TheRockAuthenticated.class, spec.getSslUri());
     this.signatureCreator = new TheRockDigest(spec.getSecretKey());
   }
 
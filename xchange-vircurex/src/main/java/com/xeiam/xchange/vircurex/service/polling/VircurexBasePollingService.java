@@ -5,8 +5,6 @@ import com.xeiam.xchange.service.BaseExchangeService;
 import com.xeiam.xchange.service.polling.BasePollingService;
 import com.xeiam.xchange.vircurex.VircurexAuthenticated;
 
-import si.mazi.rescu.RestProxyFactory;
-
 public class VircurexBasePollingService extends BaseExchangeService implements BasePollingService {
 
   protected VircurexAuthenticated vircurexAuthenticated;
@@ -19,6 +17,6 @@ public class VircurexBasePollingService extends BaseExchangeService implements B
   public VircurexBasePollingService(Exchange exchange) {
 
     super(exchange);
-    this.vircurexAuthenticated = RestProxyFactory.createProxy(VircurexAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
+    this.vircurexAuthenticated = createPrivateProxy(VircurexAuthenticated.class, exchange.getExchangeSpecification().getSslUri());
   }
 }
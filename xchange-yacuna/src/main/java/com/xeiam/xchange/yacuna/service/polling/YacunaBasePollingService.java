@@ -27,7 +27,7 @@ public class YacunaBasePollingService<T extends Yacuna> extends BaseExchangeServ
   protected YacunaBasePollingService(Class<T> type, Exchange exchange) {
 
     super(exchange);
-    this.yacuna = RestProxyFactory.createProxy(type, exchange.getExchangeSpecification().getSslUri());
+    this.yacuna = RestProxyFactory.createProxy(type, exchange.getExchangeSpecification().getSslUri(), exchange.createClientConfig());
   }
 
   protected HashMap<String, CurrencyPair> getCurrencyPairMap() throws IOException {